@@ -1,16 +1,21 @@
 package aws
 
 import (
+    "bytes"
+    "compress/gzip"
     "encoding/base64"
     "github.com/aws/aws-sdk-go/aws"
     "github.com/aws/aws-sdk-go/aws/session"
     "github.com/aws/aws-sdk-go/service/sqs"
     "log"
+    "strconv"
     "strings"
 )
 
 const MAX_MSG_SIZE = 250 * 1024
 const SHOULD_SEND_MSG_SIZE = 100 * 1024
+const COMPRESS_MIN_SIZE = 512 // Don't compress small messages
+const ENCODING_GZIP = "gz"
 var TAB_AS_BYTES = []byte("\t")
 
 type AwsSqs struct {
@@ -22,6 +27,7 @@ type AwsSqs struct {
     buffOut []byte
     buffErr []byte
     exit string
+    seq int64   // Message sequence number (the receiver uses it to write outputs in order)
 }
 
 // Append to STDOUT buffer
@@ -49,6 +55,18 @@ func (awssqs *AwsSqs) Delete() error {
     return err
 }
 
+// Compress bytes (gzip)
+func compressBytes(b []byte) []byte {
+    if b == nil {
+        return nil
+    }
+    var buf bytes.Buffer
+    zw := gzip.NewWriter(&buf)
+    zw.Write(b)
+    zw.Close()
+    return buf.Bytes()
+}
+
 // Encode bytes
 func encodeBytes(b []byte) string {
     if b == nil {
@@ -89,11 +107,25 @@ func NewSqs(qname string, taskId string) (*AwsSqs, error) {
 }
 
 // Send current buffers
+// Message format: taskId, stdout, stderr, exit, sequence, encoding (tab separated)
+// Outputs are compressed if they are large enough
 func (awssqs *AwsSqs) Send() {
-    sout := encodeBytes(awssqs.buffOut)
-    serr := encodeBytes(awssqs.buffErr)
+    if awssqs.buffOut == nil && awssqs.buffErr == nil && awssqs.exit == "" {
+        return // Nothing to send
+    }
+
+    encoding := ""
+    bout, berr := awssqs.buffOut, awssqs.buffErr
+    if (len(bout) + len(berr)) >= COMPRESS_MIN_SIZE {
+        bout, berr = compressBytes(bout), compressBytes(berr)
+        encoding = ENCODING_GZIP
+    }
+
+    sout := encodeBytes(bout)
+    serr := encodeBytes(berr)
     sexit := encodeString(awssqs.exit)
-    all := []string{awssqs.taskId, sout, serr, sexit}
+    sseq := strconv.FormatInt(awssqs.seq, 10)
+    all := []string{awssqs.taskId, sout, serr, sexit, sseq, encoding}
     msg := strings.Join(all, "\t")
 
     // Reset buffers
@@ -101,8 +133,8 @@ func (awssqs *AwsSqs) Send() {
 
     if len(msg) > MAX_MSG_SIZE {
         log.Printf("Error sending message: Message too long, dropping message. Message length %d, max length %d\n", len(msg), MAX_MSG_SIZE)
-    } else {
-        awssqs.SendString(msg)
+    } else if awssqs.SendString(msg) {
+        awssqs.seq++ // Only count messages actually sent, otherwise the receiver would wait for a missing message
     }
 }
 
@@ -117,8 +149,8 @@ func (awssqs *AwsSqs) SendExit(msg string) {
     awssqs.Send()
 }
 
-// Send string
-func (awssqs *AwsSqs) SendString(msgStr string) {
+// Send string, return true on success
+func (awssqs *AwsSqs) SendString(msgStr string) bool {
     msg := sqs.SendMessageInput {
         MessageBody: aws.String(msgStr),
         QueueUrl: &awssqs.queueUrl,
@@ -126,7 +158,9 @@ func (awssqs *AwsSqs) SendString(msgStr string) {
     _, err := awssqs.client.SendMessage(&msg)
     if err != nil {
         log.Printf("Error sending message to queue '%s': %v\n", awssqs.queueName, err)
+        return false
     }
+    return true
 }
 
 // Should we send a message?
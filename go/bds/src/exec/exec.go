@@ -36,6 +36,8 @@ type BdsExec struct {
 	command string			// Exec: Command to execute (path to a shell script)
 	outFile string			// Exec: Copy (tee) stdout to this file
 	errFile string			// Exec: Copy (tee) stderr to this file
+	outMaxSize int64		// Exec: Maximum size of stdout / stderr files, split into segments (non-positive means 'unlimited')
+	outGzip bool			// Exec: Compress stdout / stderr segments
 	exitFile string			// Exec: Write exit code to this file
 	timeSecs int			// Exec: Maximum execution time
 	exitCode int			// Exec: Command's Exit code
@@ -69,6 +71,8 @@ func NewBdsExec() *BdsExec {
 	be.errFile = ""
 	be.exitFile = ""
 	be.timeSecs = 0
+	be.outMaxSize = 0
+	be.outGzip = false
 	be.noCheckSum = false
 
 	// Bds
@@ -180,12 +180,12 @@ func (be *BdsExec) executeCommand() int {
 	}
 
 	// Copy stdout
-	stdout := tee.NewTee(be.outFile, stdoutCh, false)
+	stdout := tee.NewTeeSegments(be.outFile, stdoutCh, false, be.outMaxSize, be.outGzip)
 	defer stdout.Close()
 	be.cmd.Stdout = stdout
 
 	// Copy stderr
-	stderr := tee.NewTee(be.errFile, stderrCh, true)
+	stderr := tee.NewTeeSegments(be.errFile, stderrCh, true, be.outMaxSize, be.outGzip)
 	defer stderr.Close()
 	be.cmd.Stderr = stderr
 
@@ -114,6 +114,8 @@ func (be *BdsExec) parseCmdLineArgsExec() {
 	stdoutPtr := flagset.String("stdout", "-", "File to redirect STDOUT")
 	stderrPtr := flagset.String("stderr", "-", "File to redirect STDERR")
 	exitFilePtr := flagset.String("exit", "-", "File to write exit code")
+	outMaxSizePtr := flagset.Int64("outMaxSize", 0, "Maximum size of STDOUT / STDERR files (bytes), output is split into segments")
+	outGzipPtr := flagset.Bool("outGzip", false, "Compress STDOUT / STDERR segments")
 	taskIdPtr := flagset.String("taskId", "", "Task ID")
 	awsSqsNamePtr := flagset.String("awsSqsName", "", "AWS SQS queue name")
 	noCheckSumPtr := flagset.Bool("noCheckSum", false, "Disable checksum in command")
@@ -123,6 +125,7 @@ func (be *BdsExec) parseCmdLineArgsExec() {
 
 	// Parse command line options
 	be.outFile, be.errFile, be.exitFile, be.timeSecs = *stdoutPtr, *stderrPtr, *exitFilePtr, *timePtr
+	be.outMaxSize, be.outGzip = *outMaxSizePtr, *outGzipPtr
 	be.noCheckSum = *noCheckSumPtr
 	be.awsSqsName = *awsSqsNamePtr
 	be.taskId = *taskIdPtr
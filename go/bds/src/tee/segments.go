@@ -0,0 +1,175 @@
+package tee
+
+import (
+	"compress/gzip"
+	"fmt"
+	"io"
+	"os"
+	"path/filepath"
+	"strconv"
+	"strings"
+)
+
+//-----------------------------------------------------------------------------
+// SegmentWriter: Write output to rotating (optionally compressed) segments
+//
+// Segment files (same naming as 'TaskOutput.java'):
+//     file         : Live segment, latest output (never compressed)
+//     file.N[.gz]  : Rotated segments, N = 1, 2, 3, ...
+//
+// When the live segment reaches 'maxSize / SEGMENTS' bytes, it is rotated.
+// If the total size exceeds 'maxSize', the oldest rotated segments are
+// deleted, except for the first one (the beginning of the output is kept)
+//-----------------------------------------------------------------------------
+
+const SEGMENTS = 8 // Output is split into (at most) this many segments
+
+type SegmentWriter struct {
+	outFile string
+	maxSize int64
+	segmentSize int64
+	compress bool
+	out *os.File
+	liveSize int64
+	segmentNum int		// Number of the latest rotated segment
+	rotated []string	// Rotated segments (excluding segment number 1)
+	rotatedSizes []int64
+	rotatedSize int64	// Total size of rotated segments (including segment number 1)
+}
+
+// Initialize a SegmentWriter
+func NewSegmentWriter(outFile string, maxSize int64, compress bool) (*SegmentWriter, error) {
+	segmentSize := maxSize / SEGMENTS
+	if segmentSize <= 0 {
+		segmentSize = 1
+	}
+
+	sw := &SegmentWriter{outFile: outFile, maxSize: maxSize, segmentSize: segmentSize, compress: compress}
+	deleteSegments(outFile)
+	out, err := os.Create(outFile)
+	if err != nil {
+		return nil, err
+	}
+	sw.out = out
+	return sw, nil
+}
+
+// Close SegmentWriter
+func (sw *SegmentWriter) Close() error {
+	return sw.out.Close()
+}
+
+// Delete segments left by a previous run (e.g. a task being re-executed uses
+// the same output file names), they would be read as part of this output
+func deleteSegments(outFile string) {
+	files, err := filepath.Glob(outFile + ".[0-9]*")
+	if err != nil {
+		return
+	}
+
+	for _, file := range files {
+		num := strings.TrimSuffix(strings.TrimPrefix(file, outFile+"."), ".gz")
+		if _, err := strconv.Atoi(num); err == nil {
+			os.Remove(file)
+		}
+	}
+}
+
+// Delete oldest segments until we are below 'maxSize' (segment number 1 is never deleted)
+func (sw *SegmentWriter) limitSize() {
+	for len(sw.rotated) > 0 && sw.rotatedSize+sw.segmentSize > sw.maxSize {
+		os.Remove(sw.rotated[0])
+		sw.rotatedSize -= sw.rotatedSizes[0]
+		sw.rotated, sw.rotatedSizes = sw.rotated[1:], sw.rotatedSizes[1:]
+	}
+}
+
+// Rotate live segment
+func (sw *SegmentWriter) rotate() error {
+	if err := sw.out.Close(); err != nil {
+		return err
+	}
+
+	sw.segmentNum++
+	segment := fmt.Sprintf("%s.%d", sw.outFile, sw.segmentNum)
+	if sw.compress {
+		segment += ".gz"
+		if err := gzipFile(sw.outFile, segment); err != nil {
+			return err
+		}
+	} else if err := os.Rename(sw.outFile, segment); err != nil {
+		return err
+	}
+
+	// Update sizes
+	size := sw.liveSize
+	if fi, err := os.Stat(segment); err == nil {
+		size = fi.Size()
+	}
+	sw.rotatedSize += size
+	if sw.segmentNum > 1 {
+		sw.rotated = append(sw.rotated, segment)
+		sw.rotatedSizes = append(sw.rotatedSizes, size)
+	}
+	sw.limitSize()
+
+	// New live segment
+	out, err := os.Create(sw.outFile)
+	if err != nil {
+		return err
+	}
+	sw.out = out
+	sw.liveSize = 0
+	return nil
+}
+
+// Write to segments
+func (sw *SegmentWriter) Write(buf []byte) (n int, err error) {
+	for n < len(buf) {
+		if sw.liveSize >= sw.segmentSize {
+			if err = sw.rotate(); err != nil {
+				return n, err
+			}
+		}
+
+		end := len(buf)
+		if space := sw.segmentSize - sw.liveSize; int64(end-n) > space {
+			end = n + int(space)
+		}
+
+		written, err := sw.out.Write(buf[n:end])
+		n += written
+		sw.liveSize += int64(written)
+		if err != nil {
+			return n, err
+		}
+	}
+	return n, nil
+}
+
+// Compress 'inFile' into 'outFile' and delete 'inFile'
+func gzipFile(inFile, outFile string) error {
+	in, err := os.Open(inFile)
+	if err != nil {
+		return err
+	}
+	defer in.Close()
+
+	out, err := os.Create(outFile)
+	if err != nil {
+		return err
+	}
+
+	gz := gzip.NewWriter(out)
+	if _, err = io.Copy(gz, in); err == nil {
+		err = gz.Close()
+	}
+	if errClose := out.Close(); err == nil {
+		err = errClose
+	}
+	if err != nil {
+		return err
+	}
+
+	return os.Remove(inFile)
+}
@@ -1,6 +1,7 @@
 package tee
 
 import (
+	"io"
 	"log"
 	"os"
 )
@@ -13,7 +14,7 @@ type Tee struct {
 	outFile string
 	useStdErr bool
 	channel chan []byte
-	out *os.File
+	out io.WriteCloser
 }
 
 // Close Tee
@@ -27,12 +28,24 @@ func (t *Tee) Close() error {
 
 // Initialize a Tee
 func NewTee(outFile string, channel chan []byte, useStdErr bool) *Tee {
+	return NewTeeSegments(outFile, channel, useStdErr, 0, false)
+}
+
+// Initialize a Tee, output file is split into segments if 'maxSize' is positive (see SegmentWriter)
+func NewTeeSegments(outFile string, channel chan []byte, useStdErr bool, maxSize int64, compress bool) *Tee {
 	t := &Tee{outFile, useStdErr, channel, nil}
 
 	// Copy to STDOUT to file (or to stdout)
 	if (outFile == "") || (outFile == "-") {
 		t.outFile = ""
+	} else if maxSize > 0 {
+		out, err := NewSegmentWriter(outFile, maxSize, compress)
+		if err != nil {
+			log.Fatal(err)
+		}
+		t.out = out
 	} else {
+		deleteSegments(outFile) // Segments from a previous run
 		out, err := os.Create(outFile)
 		if err != nil {
 			log.Fatal(err)
@@ -26,6 +26,7 @@ type : 'bool'
      | type '[' ']'                                                                        # typeArray
      | type '{' '}'                                                                        # typeMap
      | type '{' type '}'                                                                   # typeMap
+     | ID '<' type '>'                                                                     # typeSet
      | ID                                                                                  # typeClass
      ;
 
@@ -130,6 +130,18 @@ public interface BigDataScriptListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitTypeBool(BigDataScriptParser.TypeBoolContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code typeSet}
+	 * labeled alternative in {@link BigDataScriptParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterTypeSet(BigDataScriptParser.TypeSetContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code typeSet}
+	 * labeled alternative in {@link BigDataScriptParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitTypeSet(BigDataScriptParser.TypeSetContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code typeVoid}
 	 * labeled alternative in {@link BigDataScriptParser#type}.
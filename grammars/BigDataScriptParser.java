@@ -45,16 +45,16 @@ public class BigDataScriptParser extends Parser {
 
 	private static final String[] _LITERAL_NAMES = {
 		null, "';'", "'\n'", "'include'", "','", "'bool'", "'int'", "'real'", 
-		"'string'", "'void'", "'['", "']'", "'{'", "'}'", "'='", "':='", "'('", 
-		"')'", "'class'", "'extends'", "'break'", "'breakpoint'", "'checkpoint'", 
-		"'continue'", "'debug'", "'exit'", "'print'", "'println'", "'warning'", 
-		"'error'", "'try'", "'catch'", "'finally'", "'throw'", "'for'", "':'", 
-		"'if'", "'else'", "'kill'", "'return'", "'wait'", "'switch'", "'case'", 
+		"'string'", "'void'", "'['", "']'", "'{'", "'}'", "'<'", "'>'", "'='", 
+		"':='", "'('", "')'", "'class'", "'extends'", "'break'", "'breakpoint'", 
+		"'checkpoint'", "'continue'", "'debug'", "'exit'", "'print'", "'println'", 
+		"'warning'", "'error'", "'try'", "'catch'", "'finally'", "'throw'", "'for'", 
+		"':'", "'if'", "'else'", "'kill'", "'return'", "'wait'", "'switch'", "'case'", 
 		"'default'", "'while'", "'.'", "'new'", "'++'", "'--'", "'~'", "'!'", 
-		"'*'", "'/'", "'%'", "'+'", "'-'", "'<'", "'<='", "'=='", "'!='", "'>='", 
-		"'>'", "'&'", "'|'", "'^'", "'&&'", "'||'", "'?'", "'<-'", "'=>'", "'task'", 
-		"'dep'", "'goal'", "'par'", "'parallel'", "'|='", "'&='", "'/='", "'*='", 
-		"'-='", "'+='", "'null'"
+		"'*'", "'/'", "'%'", "'+'", "'-'", "'<='", "'=='", "'!='", "'>='", "'&'", 
+		"'|'", "'^'", "'&&'", "'||'", "'?'", "'<-'", "'=>'", "'task'", "'dep'", 
+		"'goal'", "'par'", "'parallel'", "'|='", "'&='", "'/='", "'*='", "'-='", 
+		"'+='", "'null'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
@@ -182,7 +182,7 @@ public class BigDataScriptParser extends Parser {
 				setState(43); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__17) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__32) | (1L << T__33) | (1L << T__35) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__43) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (HELP_LITERAL - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0) );
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__19) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__34) | (1L << T__35) | (1L << T__37) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__45) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (HELP_LITERAL - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0) );
 			setState(45);
 			match(EOF);
 			}
@@ -473,6 +473,21 @@ public class BigDataScriptParser extends Parser {
 			if ( listener instanceof BigDataScriptListener ) ((BigDataScriptListener)listener).exitTypeBool(this);
 		}
 	}
+	public static class TypeSetContext extends TypeContext {
+		public TerminalNode ID() { return getToken(BigDataScriptParser.ID, 0); }
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public TypeSetContext(TypeContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof BigDataScriptListener ) ((BigDataScriptListener)listener).enterTypeSet(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof BigDataScriptListener ) ((BigDataScriptListener)listener).exitTypeSet(this);
+		}
+	}
 	public static class TypeVoidContext extends TypeContext {
 		public TypeVoidContext(TypeContext ctx) { copyFrom(ctx); }
 		@Override
@@ -500,10 +515,10 @@ public class BigDataScriptParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(71);
+			setState(76);
 			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__4:
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			case 1:
 				{
 				_localctx = new TypeBoolContext(_localctx);
 				_ctx = _localctx;
@@ -513,7 +528,7 @@ public class BigDataScriptParser extends Parser {
 				match(T__4);
 				}
 				break;
-			case T__5:
+			case 2:
 				{
 				_localctx = new TypeIntContext(_localctx);
 				_ctx = _localctx;
@@ -522,7 +537,7 @@ public class BigDataScriptParser extends Parser {
 				match(T__5);
 				}
 				break;
-			case T__6:
+			case 3:
 				{
 				_localctx = new TypeRealContext(_localctx);
 				_ctx = _localctx;
@@ -531,7 +546,7 @@ public class BigDataScriptParser extends Parser {
 				match(T__6);
 				}
 				break;
-			case T__7:
+			case 4:
 				{
 				_localctx = new TypeStringContext(_localctx);
 				_ctx = _localctx;
@@ -540,7 +555,7 @@ public class BigDataScriptParser extends Parser {
 				match(T__7);
 				}
 				break;
-			case T__8:
+			case 5:
 				{
 				_localctx = new TypeVoidContext(_localctx);
 				_ctx = _localctx;
@@ -549,20 +564,33 @@ public class BigDataScriptParser extends Parser {
 				match(T__8);
 				}
 				break;
-			case ID:
+			case 6:
 				{
-				_localctx = new TypeClassContext(_localctx);
+				_localctx = new TypeSetContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 				setState(70);
 				match(ID);
+				setState(71);
+				match(T__13);
+				setState(72);
+				type(0);
+				setState(73);
+				match(T__14);
+				}
+				break;
+			case 7:
+				{
+				_localctx = new TypeClassContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(75);
+				match(ID);
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(86);
+			setState(91);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -570,18 +598,18 @@ public class BigDataScriptParser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(84);
+					setState(89);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 					case 1:
 						{
 						_localctx = new TypeArrayContext(new TypeContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_type);
-						setState(73);
-						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(74);
+						setState(78);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(79);
 						match(T__9);
-						setState(75);
+						setState(80);
 						match(T__10);
 						}
 						break;
@@ -589,11 +617,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new TypeMapContext(new TypeContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_type);
-						setState(76);
-						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(77);
+						setState(81);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(82);
 						match(T__11);
-						setState(78);
+						setState(83);
 						match(T__12);
 						}
 						break;
@@ -601,20 +629,20 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new TypeMapContext(new TypeContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_type);
-						setState(79);
-						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(80);
+						setState(84);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(85);
 						match(T__11);
-						setState(81);
+						setState(86);
 						type(0);
-						setState(82);
+						setState(87);
 						match(T__12);
 						}
 						break;
 					}
 					} 
 				}
-				setState(88);
+				setState(93);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
 			}
@@ -663,31 +691,31 @@ public class BigDataScriptParser extends Parser {
 		enterRule(_localctx, 10, RULE_varDeclaration);
 		try {
 			int _alt;
-			setState(99);
+			setState(104);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(89);
+				setState(94);
 				type(0);
-				setState(90);
-				variableInit();
 				setState(95);
+				variableInit();
+				setState(100);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(91);
+						setState(96);
 						match(T__3);
-						setState(92);
+						setState(97);
 						variableInit();
 						}
 						} 
 					}
-					setState(97);
+					setState(102);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 				}
@@ -696,7 +724,7 @@ public class BigDataScriptParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(98);
+				setState(103);
 				variableInitImplicit();
 				}
 				break;
@@ -739,26 +767,26 @@ public class BigDataScriptParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(101);
+			setState(106);
 			match(ID);
-			setState(104);
+			setState(109);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
 			case 1:
 				{
-				setState(102);
-				match(T__13);
-				setState(103);
+				setState(107);
+				match(T__15);
+				setState(108);
 				expression(0);
 				}
 				break;
 			}
-			setState(107);
+			setState(112);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				{
-				setState(106);
+				setState(111);
 				match(HELP_LITERAL);
 				}
 				break;
@@ -802,18 +830,18 @@ public class BigDataScriptParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(109);
+			setState(114);
 			match(ID);
-			setState(110);
-			match(T__14);
-			setState(111);
+			setState(115);
+			match(T__16);
+			setState(116);
 			expression(0);
-			setState(113);
+			setState(118);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
 			case 1:
 				{
-				setState(112);
+				setState(117);
 				match(HELP_LITERAL);
 				}
 				break;
@@ -866,41 +894,41 @@ public class BigDataScriptParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(115);
+			setState(120);
 			type(0);
-			setState(116);
+			setState(121);
 			match(ID);
-			setState(117);
-			match(T__15);
-			setState(119);
+			setState(122);
+			match(T__17);
+			setState(124);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8))) != 0) || _la==ID) {
 				{
-				setState(118);
+				setState(123);
 				varDeclaration();
 				}
 			}
 
-			setState(125);
+			setState(130);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__3) {
 				{
 				{
-				setState(121);
+				setState(126);
 				match(T__3);
-				setState(122);
+				setState(127);
 				varDeclaration();
 				}
 				}
-				setState(127);
+				setState(132);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(128);
-			match(T__16);
-			setState(129);
+			setState(133);
+			match(T__18);
+			setState(134);
 			statement();
 			}
 		}
@@ -972,26 +1000,26 @@ public class BigDataScriptParser extends Parser {
 		enterRule(_localctx, 18, RULE_field);
 		int _la;
 		try {
-			setState(145);
+			setState(150);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 			case 1:
 				_localctx = new FieldDeclarationContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(131);
+				setState(136);
 				varDeclaration();
-				setState(135);
+				setState(140);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__0 || _la==T__1) {
 					{
 					{
-					setState(132);
+					setState(137);
 					eol();
 					}
 					}
-					setState(137);
+					setState(142);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1001,19 +1029,19 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new MethodDeclarationContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(138);
+				setState(143);
 				functionDeclaration();
-				setState(142);
+				setState(147);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__0 || _la==T__1) {
 					{
 					{
-					setState(139);
+					setState(144);
 					eol();
 					}
 					}
-					setState(144);
+					setState(149);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1071,83 +1099,83 @@ public class BigDataScriptParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(147);
-			match(T__17);
-			setState(148);
-			match(ID);
 			setState(152);
+			match(T__19);
+			setState(153);
+			match(ID);
+			setState(157);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(149);
+					setState(154);
 					eol();
 					}
 					} 
 				}
-				setState(154);
+				setState(159);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			}
-			setState(157);
+			setState(162);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__18) {
+			if (_la==T__20) {
 				{
-				setState(155);
-				match(T__18);
-				setState(156);
+				setState(160);
+				match(T__20);
+				setState(161);
 				match(ID);
 				}
 			}
 
-			setState(162);
+			setState(167);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0 || _la==T__1) {
 				{
 				{
-				setState(159);
+				setState(164);
 				eol();
 				}
 				}
-				setState(164);
+				setState(169);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(165);
+			setState(170);
 			match(T__11);
-			setState(169);
+			setState(174);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0 || _la==T__1) {
 				{
 				{
-				setState(166);
+				setState(171);
 				eol();
 				}
 				}
-				setState(171);
+				setState(176);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(175);
+			setState(180);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8))) != 0) || _la==ID) {
 				{
 				{
-				setState(172);
+				setState(177);
 				field();
 				}
 				}
-				setState(177);
+				setState(182);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(178);
+			setState(183);
 			match(T__12);
 			}
 		}
@@ -1767,30 +1795,30 @@ public class BigDataScriptParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(535);
+			setState(540);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
 			case 1:
 				_localctx = new BlockContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(180);
+				setState(185);
 				match(T__11);
-				setState(184);
+				setState(189);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__17) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__32) | (1L << T__33) | (1L << T__35) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__43) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (HELP_LITERAL - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__19) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__34) | (1L << T__35) | (1L << T__37) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__45) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (HELP_LITERAL - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 					{
 					{
-					setState(181);
+					setState(186);
 					statement();
 					}
 					}
-					setState(186);
+					setState(191);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(187);
+				setState(192);
 				match(T__12);
 				}
 				break;
@@ -1798,21 +1826,21 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new BreakContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(188);
-				match(T__19);
-				setState(192);
+				setState(193);
+				match(T__21);
+				setState(197);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(189);
+						setState(194);
 						eol();
 						}
 						} 
 					}
-					setState(194);
+					setState(199);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
 				}
@@ -1822,31 +1850,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new BreakpointContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(195);
-				match(T__20);
-				setState(197);
+				setState(200);
+				match(T__22);
+				setState(202);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
 				case 1:
 					{
-					setState(196);
+					setState(201);
 					expression(0);
 					}
 					break;
 				}
-				setState(202);
+				setState(207);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(199);
+						setState(204);
 						eol();
 						}
 						} 
 					}
-					setState(204);
+					setState(209);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
 				}
@@ -1856,31 +1884,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new CheckpointContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(205);
-				match(T__21);
-				setState(207);
+				setState(210);
+				match(T__23);
+				setState(212);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
 				case 1:
 					{
-					setState(206);
+					setState(211);
 					expression(0);
 					}
 					break;
 				}
-				setState(212);
+				setState(217);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(209);
+						setState(214);
 						eol();
 						}
 						} 
 					}
-					setState(214);
+					setState(219);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
 				}
@@ -1890,21 +1918,21 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ContinueContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(215);
-				match(T__22);
-				setState(219);
+				setState(220);
+				match(T__24);
+				setState(224);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(216);
+						setState(221);
 						eol();
 						}
 						} 
 					}
-					setState(221);
+					setState(226);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
 				}
@@ -1914,31 +1942,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new DebugContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(222);
-				match(T__23);
-				setState(224);
+				setState(227);
+				match(T__25);
+				setState(229);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
 				case 1:
 					{
-					setState(223);
+					setState(228);
 					expression(0);
 					}
 					break;
 				}
-				setState(229);
+				setState(234);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(226);
+						setState(231);
 						eol();
 						}
 						} 
 					}
-					setState(231);
+					setState(236);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
 				}
@@ -1948,31 +1976,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExitContext(_localctx);
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(232);
-				match(T__24);
-				setState(234);
+				setState(237);
+				match(T__26);
+				setState(239);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
 				case 1:
 					{
-					setState(233);
+					setState(238);
 					expression(0);
 					}
 					break;
 				}
-				setState(239);
+				setState(244);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(236);
+						setState(241);
 						eol();
 						}
 						} 
 					}
-					setState(241);
+					setState(246);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
 				}
@@ -1982,31 +2010,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new PrintContext(_localctx);
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(242);
-				match(T__25);
-				setState(244);
+				setState(247);
+				match(T__27);
+				setState(249);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
 				case 1:
 					{
-					setState(243);
+					setState(248);
 					expression(0);
 					}
 					break;
 				}
-				setState(249);
+				setState(254);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(246);
+						setState(251);
 						eol();
 						}
 						} 
 					}
-					setState(251);
+					setState(256);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
 				}
@@ -2016,31 +2044,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new PrintlnContext(_localctx);
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(252);
-				match(T__26);
-				setState(254);
+				setState(257);
+				match(T__28);
+				setState(259);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
 				case 1:
 					{
-					setState(253);
+					setState(258);
 					expression(0);
 					}
 					break;
 				}
-				setState(259);
+				setState(264);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(256);
+						setState(261);
 						eol();
 						}
 						} 
 					}
-					setState(261);
+					setState(266);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,36,_ctx);
 				}
@@ -2050,31 +2078,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new WarningContext(_localctx);
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(262);
-				match(T__27);
-				setState(264);
+				setState(267);
+				match(T__29);
+				setState(269);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
 				case 1:
 					{
-					setState(263);
+					setState(268);
 					expression(0);
 					}
 					break;
 				}
-				setState(269);
+				setState(274);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,38,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(266);
+						setState(271);
 						eol();
 						}
 						} 
 					}
-					setState(271);
+					setState(276);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,38,_ctx);
 				}
@@ -2084,31 +2112,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ErrorContext(_localctx);
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(272);
-				match(T__28);
-				setState(274);
+				setState(277);
+				match(T__30);
+				setState(279);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 				case 1:
 					{
-					setState(273);
+					setState(278);
 					expression(0);
 					}
 					break;
 				}
-				setState(279);
+				setState(284);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(276);
+						setState(281);
 						eol();
 						}
 						} 
 					}
-					setState(281);
+					setState(286);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
 				}
@@ -2118,90 +2146,90 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new TryCatchFinallyContext(_localctx);
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(282);
-				match(T__29);
-				setState(283);
-				statement();
 				setState(287);
+				match(T__31);
+				setState(288);
+				statement();
+				setState(292);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(284);
+						setState(289);
 						eol();
 						}
 						} 
 					}
-					setState(289);
+					setState(294);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 				}
-				setState(304);
+				setState(309);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(290);
-						match(T__30);
-						setState(291);
-						match(T__15);
-						setState(292);
+						setState(295);
+						match(T__32);
+						setState(296);
+						match(T__17);
+						setState(297);
 						type(0);
-						setState(293);
+						setState(298);
 						match(ID);
-						setState(294);
-						match(T__16);
-						setState(295);
-						statement();
 						setState(299);
+						match(T__18);
+						setState(300);
+						statement();
+						setState(304);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
 						while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 							if ( _alt==1 ) {
 								{
 								{
-								setState(296);
+								setState(301);
 								eol();
 								}
 								} 
 							}
-							setState(301);
+							setState(306);
 							_errHandler.sync(this);
 							_alt = getInterpreter().adaptivePredict(_input,42,_ctx);
 						}
 						}
 						} 
 					}
-					setState(306);
+					setState(311);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
 				}
-				setState(315);
+				setState(320);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
 				case 1:
 					{
-					setState(307);
-					match(T__31);
-					setState(308);
-					statement();
 					setState(312);
+					match(T__33);
+					setState(313);
+					statement();
+					setState(317);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,44,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(309);
+							setState(314);
 							eol();
 							}
 							} 
 						}
-						setState(314);
+						setState(319);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,44,_ctx);
 					}
@@ -2214,23 +2242,23 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ThrowContext(_localctx);
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(317);
-				match(T__32);
-				setState(318);
-				expression(0);
 				setState(322);
+				match(T__34);
+				setState(323);
+				expression(0);
+				setState(327);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,46,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(319);
+						setState(324);
 						eol();
 						}
 						} 
 					}
-					setState(324);
+					setState(329);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,46,_ctx);
 				}
@@ -2240,61 +2268,61 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ForLoopContext(_localctx);
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(325);
-				match(T__33);
-				setState(326);
-				match(T__15);
-				setState(328);
+				setState(330);
+				match(T__35);
+				setState(331);
+				match(T__17);
+				setState(333);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 					{
-					setState(327);
+					setState(332);
 					forInit();
 					}
 				}
 
-				setState(330);
+				setState(335);
 				match(T__0);
-				setState(332);
+				setState(337);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 					{
-					setState(331);
+					setState(336);
 					forCondition();
 					}
 				}
 
-				setState(334);
+				setState(339);
 				match(T__0);
-				setState(336);
+				setState(341);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 					{
-					setState(335);
+					setState(340);
 					((ForLoopContext)_localctx).end = forEnd();
 					}
 				}
 
-				setState(338);
-				match(T__16);
-				setState(339);
-				statement();
 				setState(343);
+				match(T__18);
+				setState(344);
+				statement();
+				setState(348);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(340);
+						setState(345);
 						eol();
 						}
 						} 
 					}
-					setState(345);
+					setState(350);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
 				}
@@ -2304,33 +2332,33 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ForLoopListContext(_localctx);
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(346);
-				match(T__33);
-				setState(347);
-				match(T__15);
-				setState(348);
-				varDeclaration();
-				setState(349);
-				match(T__34);
-				setState(350);
-				expression(0);
 				setState(351);
-				match(T__16);
+				match(T__35);
 				setState(352);
-				statement();
+				match(T__17);
+				setState(353);
+				varDeclaration();
+				setState(354);
+				match(T__36);
+				setState(355);
+				expression(0);
 				setState(356);
+				match(T__18);
+				setState(357);
+				statement();
+				setState(361);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,51,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(353);
+						setState(358);
 						eol();
 						}
 						} 
 					}
-					setState(358);
+					setState(363);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,51,_ctx);
 				}
@@ -2340,54 +2368,54 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new IfContext(_localctx);
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(359);
-				match(T__35);
-				setState(360);
-				match(T__15);
-				setState(361);
+				setState(364);
+				match(T__37);
+				setState(365);
+				match(T__17);
+				setState(366);
 				expression(0);
-				setState(362);
-				match(T__16);
-				setState(363);
-				statement();
 				setState(367);
+				match(T__18);
+				setState(368);
+				statement();
+				setState(372);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,52,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(364);
+						setState(369);
 						eol();
 						}
 						} 
 					}
-					setState(369);
+					setState(374);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,52,_ctx);
 				}
-				setState(378);
+				setState(383);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
 				case 1:
 					{
-					setState(370);
-					match(T__36);
-					setState(371);
-					statement();
 					setState(375);
+					match(T__38);
+					setState(376);
+					statement();
+					setState(380);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,53,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(372);
+							setState(377);
 							eol();
 							}
 							} 
 						}
-						setState(377);
+						setState(382);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,53,_ctx);
 					}
@@ -2400,23 +2428,23 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new KillContext(_localctx);
 				enterOuterAlt(_localctx, 17);
 				{
-				setState(380);
-				match(T__37);
-				setState(381);
-				expression(0);
 				setState(385);
+				match(T__39);
+				setState(386);
+				expression(0);
+				setState(390);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,55,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(382);
+						setState(387);
 						eol();
 						}
 						} 
 					}
-					setState(387);
+					setState(392);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,55,_ctx);
 				}
@@ -2426,31 +2454,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ReturnContext(_localctx);
 				enterOuterAlt(_localctx, 18);
 				{
-				setState(388);
-				match(T__38);
-				setState(390);
+				setState(393);
+				match(T__40);
+				setState(395);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
 				case 1:
 					{
-					setState(389);
+					setState(394);
 					expression(0);
 					}
 					break;
 				}
-				setState(395);
+				setState(400);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(392);
+						setState(397);
 						eol();
 						}
 						} 
 					}
-					setState(397);
+					setState(402);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
 				}
@@ -2460,49 +2488,49 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new WaitContext(_localctx);
 				enterOuterAlt(_localctx, 19);
 				{
-				setState(398);
-				match(T__39);
-				setState(407);
+				setState(403);
+				match(T__41);
+				setState(412);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
 				case 1:
 					{
-					setState(399);
-					expression(0);
 					setState(404);
+					expression(0);
+					setState(409);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(400);
+							setState(405);
 							match(T__3);
-							setState(401);
+							setState(406);
 							expression(0);
 							}
 							} 
 						}
-						setState(406);
+						setState(411);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
 					}
 					}
 					break;
 				}
-				setState(412);
+				setState(417);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,60,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(409);
+						setState(414);
 						eol();
 						}
 						} 
 					}
-					setState(414);
+					setState(419);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,60,_ctx);
 				}
@@ -2512,177 +2540,177 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new SwitchContext(_localctx);
 				enterOuterAlt(_localctx, 20);
 				{
-				setState(415);
-				match(T__40);
-				setState(416);
-				match(T__15);
-				setState(418);
+				setState(420);
+				match(T__42);
+				setState(421);
+				match(T__17);
+				setState(423);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 					{
-					setState(417);
+					setState(422);
 					expression(0);
 					}
 				}
 
-				setState(420);
-				match(T__16);
-				setState(421);
-				match(T__11);
 				setState(425);
+				match(T__18);
+				setState(426);
+				match(T__11);
+				setState(430);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__0 || _la==T__1) {
 					{
 					{
-					setState(422);
+					setState(427);
 					eol();
 					}
 					}
-					setState(427);
+					setState(432);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(445);
+				setState(450);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(428);
-						match(T__41);
-						setState(429);
-						expression(0);
-						setState(430);
-						match(T__34);
+						setState(433);
+						match(T__43);
 						setState(434);
+						expression(0);
+						setState(435);
+						match(T__36);
+						setState(439);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
 						while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 							if ( _alt==1 ) {
 								{
 								{
-								setState(431);
+								setState(436);
 								statement();
 								}
 								} 
 							}
-							setState(436);
+							setState(441);
 							_errHandler.sync(this);
 							_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
 						}
-						setState(440);
+						setState(445);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						while (_la==T__0 || _la==T__1) {
 							{
 							{
-							setState(437);
+							setState(442);
 							eol();
 							}
 							}
-							setState(442);
+							setState(447);
 							_errHandler.sync(this);
 							_la = _input.LA(1);
 						}
 						}
 						} 
 					}
-					setState(447);
+					setState(452);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
 				}
-				setState(456);
+				setState(461);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (_la==T__42) {
+				if (_la==T__44) {
 					{
-					setState(448);
-					match(T__42);
-					setState(449);
-					match(T__34);
 					setState(453);
+					match(T__44);
+					setState(454);
+					match(T__36);
+					setState(458);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
-					while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__17) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__32) | (1L << T__33) | (1L << T__35) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__43) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (HELP_LITERAL - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+					while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__0) | (1L << T__1) | (1L << T__2) | (1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7) | (1L << T__8) | (1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__19) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24) | (1L << T__25) | (1L << T__26) | (1L << T__27) | (1L << T__28) | (1L << T__29) | (1L << T__30) | (1L << T__31) | (1L << T__34) | (1L << T__35) | (1L << T__37) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__45) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (HELP_LITERAL - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 						{
 						{
-						setState(450);
+						setState(455);
 						statement();
 						}
 						}
-						setState(455);
+						setState(460);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(475);
+				setState(480);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__41) {
+				while (_la==T__43) {
 					{
 					{
-					setState(458);
-					match(T__41);
-					setState(459);
-					expression(0);
-					setState(460);
-					match(T__34);
+					setState(463);
+					match(T__43);
 					setState(464);
+					expression(0);
+					setState(465);
+					match(T__36);
+					setState(469);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,68,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(461);
+							setState(466);
 							statement();
 							}
 							} 
 						}
-						setState(466);
+						setState(471);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,68,_ctx);
 					}
-					setState(470);
+					setState(475);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__0 || _la==T__1) {
 						{
 						{
-						setState(467);
+						setState(472);
 						eol();
 						}
 						}
-						setState(472);
+						setState(477);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 					}
-					setState(477);
+					setState(482);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(478);
+				setState(483);
 				match(T__12);
-				setState(482);
+				setState(487);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(479);
+						setState(484);
 						eol();
 						}
 						} 
 					}
-					setState(484);
+					setState(489);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
 				}
@@ -2692,37 +2720,37 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new WhileContext(_localctx);
 				enterOuterAlt(_localctx, 21);
 				{
-				setState(485);
-				match(T__43);
-				setState(486);
-				match(T__15);
-				setState(488);
+				setState(490);
+				match(T__45);
+				setState(491);
+				match(T__17);
+				setState(493);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 					{
-					setState(487);
+					setState(492);
 					expression(0);
 					}
 				}
 
-				setState(490);
-				match(T__16);
-				setState(491);
-				statement();
 				setState(495);
+				match(T__18);
+				setState(496);
+				statement();
+				setState(500);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,73,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(492);
+						setState(497);
 						eol();
 						}
 						} 
 					}
-					setState(497);
+					setState(502);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,73,_ctx);
 				}
@@ -2732,21 +2760,21 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new StatementFunctionDeclarationContext(_localctx);
 				enterOuterAlt(_localctx, 22);
 				{
-				setState(498);
+				setState(503);
 				functionDeclaration();
-				setState(502);
+				setState(507);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(499);
+						setState(504);
 						eol();
 						}
 						} 
 					}
-					setState(504);
+					setState(509);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
 				}
@@ -2756,21 +2784,21 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new StatementVarDeclarationContext(_localctx);
 				enterOuterAlt(_localctx, 23);
 				{
-				setState(505);
+				setState(510);
 				varDeclaration();
-				setState(509);
+				setState(514);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,75,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(506);
+						setState(511);
 						eol();
 						}
 						} 
 					}
-					setState(511);
+					setState(516);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,75,_ctx);
 				}
@@ -2780,21 +2808,21 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ClassDeclarationContext(_localctx);
 				enterOuterAlt(_localctx, 24);
 				{
-				setState(512);
+				setState(517);
 				classDef();
-				setState(516);
+				setState(521);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,76,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(513);
+						setState(518);
 						eol();
 						}
 						} 
 					}
-					setState(518);
+					setState(523);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,76,_ctx);
 				}
@@ -2804,21 +2832,21 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new StatementExprContext(_localctx);
 				enterOuterAlt(_localctx, 25);
 				{
-				setState(519);
+				setState(524);
 				expression(0);
-				setState(523);
+				setState(528);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(520);
+						setState(525);
 						eol();
 						}
 						} 
 					}
-					setState(525);
+					setState(530);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
 				}
@@ -2828,21 +2856,21 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new StatementIncludeContext(_localctx);
 				enterOuterAlt(_localctx, 26);
 				{
-				setState(526);
+				setState(531);
 				includeFile();
-				setState(530);
+				setState(535);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,78,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(527);
+						setState(532);
 						eol();
 						}
 						} 
 					}
-					setState(532);
+					setState(537);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,78,_ctx);
 				}
@@ -2852,7 +2880,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new HelpContext(_localctx);
 				enterOuterAlt(_localctx, 27);
 				{
-				setState(533);
+				setState(538);
 				match(HELP_LITERAL);
 				}
 				break;
@@ -2860,7 +2888,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new StatmentEolContext(_localctx);
 				enterOuterAlt(_localctx, 28);
 				{
-				setState(534);
+				setState(539);
 				eol();
 				}
 				break;
@@ -2902,20 +2930,20 @@ public class BigDataScriptParser extends Parser {
 		ForInitContext _localctx = new ForInitContext(_ctx, getState());
 		enterRule(_localctx, 24, RULE_forInit);
 		try {
-			setState(539);
+			setState(544);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(537);
+				setState(542);
 				varDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(538);
+				setState(543);
 				expressionList();
 				}
 				break;
@@ -2956,7 +2984,7 @@ public class BigDataScriptParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(541);
+			setState(546);
 			expression(0);
 			}
 		}
@@ -2995,7 +3023,7 @@ public class BigDataScriptParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(543);
+			setState(548);
 			expressionList();
 			}
 		}
@@ -3745,7 +3773,7 @@ public class BigDataScriptParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(689);
+			setState(694);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,93,_ctx) ) {
 			case 1:
@@ -3754,7 +3782,7 @@ public class BigDataScriptParser extends Parser {
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(546);
+				setState(551);
 				match(NULL_LITERAL);
 				}
 				break;
@@ -3763,7 +3791,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralBoolContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(547);
+				setState(552);
 				match(BOOL_LITERAL);
 				}
 				break;
@@ -3772,7 +3800,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralIntContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(548);
+				setState(553);
 				match(INT_LITERAL);
 				}
 				break;
@@ -3781,7 +3809,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralRealContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(549);
+				setState(554);
 				match(REAL_LITERAL);
 				}
 				break;
@@ -3790,7 +3818,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralStringContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(550);
+				setState(555);
 				match(STRING_LITERAL);
 				}
 				break;
@@ -3799,7 +3827,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralStringContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(551);
+				setState(556);
 				match(STRING_LITERAL_SINGLE);
 				}
 				break;
@@ -3808,13 +3836,13 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionCastContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(552);
-				match(T__15);
-				setState(553);
+				setState(557);
+				match(T__17);
+				setState(558);
 				match(ID);
-				setState(554);
-				match(T__16);
-				setState(555);
+				setState(559);
+				match(T__18);
+				setState(560);
 				expression(39);
 				}
 				break;
@@ -3823,40 +3851,40 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionNewContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(556);
-				match(T__45);
-				setState(557);
+				setState(561);
+				match(T__47);
+				setState(562);
 				match(ID);
-				setState(558);
-				match(T__15);
-				setState(567);
+				setState(563);
+				match(T__17);
+				setState(572);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 					{
-					setState(559);
-					expression(0);
 					setState(564);
+					expression(0);
+					setState(569);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__3) {
 						{
 						{
-						setState(560);
+						setState(565);
 						match(T__3);
-						setState(561);
+						setState(566);
 						expression(0);
 						}
 						}
-						setState(566);
+						setState(571);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(569);
-				match(T__16);
+				setState(574);
+				match(T__18);
 				}
 				break;
 			case 9:
@@ -3864,38 +3892,38 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new FunctionCallContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(570);
+				setState(575);
 				match(ID);
-				setState(571);
-				match(T__15);
-				setState(580);
+				setState(576);
+				match(T__17);
+				setState(585);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 					{
-					setState(572);
-					expression(0);
 					setState(577);
+					expression(0);
+					setState(582);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__3) {
 						{
 						{
-						setState(573);
+						setState(578);
 						match(T__3);
-						setState(574);
+						setState(579);
 						expression(0);
 						}
 						}
-						setState(579);
+						setState(584);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(582);
-				match(T__16);
+				setState(587);
+				match(T__18);
 				}
 				break;
 			case 10:
@@ -3903,7 +3931,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ReferenceVarContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(583);
+				setState(588);
 				match(ID);
 				}
 				break;
@@ -3912,10 +3940,10 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new PreContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(584);
+				setState(589);
 				((PreContext)_localctx).op = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__46 || _la==T__47) ) {
+				if ( !(_la==T__48 || _la==T__49) ) {
 					((PreContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 				}
 				else {
@@ -3923,7 +3951,7 @@ public class BigDataScriptParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(585);
+				setState(590);
 				expression(32);
 				}
 				break;
@@ -3932,9 +3960,9 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionBitNegationContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(586);
-				match(T__48);
-				setState(587);
+				setState(591);
+				match(T__50);
+				setState(592);
 				expression(30);
 				}
 				break;
@@ -3943,9 +3971,9 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionLogicNotContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(588);
-				match(T__49);
-				setState(589);
+				setState(593);
+				match(T__51);
+				setState(594);
 				expression(29);
 				}
 				break;
@@ -3954,10 +3982,10 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionUnaryPlusMinusContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(590);
+				setState(595);
 				((ExpressionUnaryPlusMinusContext)_localctx).op = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__53 || _la==T__54) ) {
+				if ( !(_la==T__55 || _la==T__56) ) {
 					((ExpressionUnaryPlusMinusContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 				}
 				else {
@@ -3965,7 +3993,7 @@ public class BigDataScriptParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(591);
+				setState(596);
 				expression(25);
 				}
 				break;
@@ -3974,12 +4002,12 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionParenContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(592);
-				match(T__15);
-				setState(593);
+				setState(597);
+				match(T__17);
+				setState(598);
 				expression(0);
-				setState(594);
-				match(T__16);
+				setState(599);
+				match(T__18);
 				}
 				break;
 			case 16:
@@ -3987,9 +4015,9 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralListEmptyContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(596);
+				setState(601);
 				match(T__9);
-				setState(597);
+				setState(602);
 				match(T__10);
 				}
 				break;
@@ -3998,27 +4026,27 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralListContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(598);
+				setState(603);
 				match(T__9);
-				setState(599);
-				expression(0);
 				setState(604);
+				expression(0);
+				setState(609);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__3) {
 					{
 					{
-					setState(600);
+					setState(605);
 					match(T__3);
-					setState(601);
+					setState(606);
 					expression(0);
 					}
 					}
-					setState(606);
+					setState(611);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(607);
+				setState(612);
 				match(T__10);
 				}
 				break;
@@ -4027,9 +4055,9 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralMapEmptyContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(609);
+				setState(614);
 				match(T__11);
-				setState(610);
+				setState(615);
 				match(T__12);
 				}
 				break;
@@ -4038,35 +4066,35 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new LiteralMapContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(611);
+				setState(616);
 				match(T__11);
-				setState(612);
+				setState(617);
 				expression(0);
-				setState(613);
+				setState(618);
 				match(T__68);
-				setState(614);
+				setState(619);
 				expression(0);
-				setState(622);
+				setState(627);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__3) {
 					{
 					{
-					setState(615);
+					setState(620);
 					match(T__3);
-					setState(616);
+					setState(621);
 					expression(0);
-					setState(617);
+					setState(622);
 					match(T__68);
-					setState(618);
+					setState(623);
 					expression(0);
 					}
 					}
-					setState(624);
+					setState(629);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(625);
+				setState(630);
 				match(T__12);
 				}
 				break;
@@ -4075,7 +4103,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionSysContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(627);
+				setState(632);
 				match(SYS_LITERAL);
 				}
 				break;
@@ -4084,7 +4112,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionTaskLiteralContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(628);
+				setState(633);
 				match(TASK_LITERAL);
 				}
 				break;
@@ -4093,39 +4121,39 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionTaskContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(629);
+				setState(634);
 				match(T__69);
-				setState(641);
+				setState(646);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,88,_ctx) ) {
 				case 1:
 					{
-					setState(630);
-					match(T__15);
-					setState(631);
-					expression(0);
+					setState(635);
+					match(T__17);
 					setState(636);
+					expression(0);
+					setState(641);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__3) {
 						{
 						{
-						setState(632);
+						setState(637);
 						match(T__3);
-						setState(633);
+						setState(638);
 						expression(0);
 						}
 						}
-						setState(638);
+						setState(643);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
-					setState(639);
-					match(T__16);
+					setState(644);
+					match(T__18);
 					}
 					break;
 				}
-				setState(643);
+				setState(648);
 				statement();
 				}
 				break;
@@ -4134,31 +4162,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionDepContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(644);
+				setState(649);
 				match(T__70);
-				setState(645);
-				match(T__15);
-				setState(646);
-				expression(0);
+				setState(650);
+				match(T__17);
 				setState(651);
+				expression(0);
+				setState(656);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__3) {
 					{
 					{
-					setState(647);
+					setState(652);
 					match(T__3);
-					setState(648);
+					setState(653);
 					expression(0);
 					}
 					}
-					setState(653);
+					setState(658);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(654);
-				match(T__16);
-				setState(655);
+				setState(659);
+				match(T__18);
+				setState(660);
 				statement();
 				}
 				break;
@@ -4167,9 +4195,9 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionGoalContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(657);
+				setState(662);
 				match(T__71);
-				setState(658);
+				setState(663);
 				expression(11);
 				}
 				break;
@@ -4178,7 +4206,7 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionParallelContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(659);
+				setState(664);
 				_la = _input.LA(1);
 				if ( !(_la==T__72 || _la==T__73) ) {
 				_errHandler.recoverInline(this);
@@ -4188,37 +4216,37 @@ public class BigDataScriptParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(671);
+				setState(676);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,91,_ctx) ) {
 				case 1:
 					{
-					setState(660);
-					match(T__15);
-					setState(661);
-					expression(0);
+					setState(665);
+					match(T__17);
 					setState(666);
+					expression(0);
+					setState(671);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__3) {
 						{
 						{
-						setState(662);
+						setState(667);
 						match(T__3);
-						setState(663);
+						setState(668);
 						expression(0);
 						}
 						}
-						setState(668);
+						setState(673);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
-					setState(669);
-					match(T__16);
+					setState(674);
+					match(T__18);
 					}
 					break;
 				}
-				setState(673);
+				setState(678);
 				statement();
 				}
 				break;
@@ -4227,31 +4255,31 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionAssignmentListContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(674);
-				match(T__15);
-				setState(675);
+				setState(679);
+				match(T__17);
+				setState(680);
 				expression(0);
-				setState(678); 
+				setState(683); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(676);
+					setState(681);
 					match(T__3);
-					setState(677);
+					setState(682);
 					expression(0);
 					}
 					}
-					setState(680); 
+					setState(685); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==T__3 );
-				setState(682);
-				match(T__16);
-				setState(683);
-				match(T__13);
-				setState(684);
+				setState(687);
+				match(T__18);
+				setState(688);
+				match(T__15);
+				setState(689);
 				expression(3);
 				}
 				break;
@@ -4260,17 +4288,17 @@ public class BigDataScriptParser extends Parser {
 				_localctx = new ExpressionVariableInitImplicitContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(686);
+				setState(691);
 				match(ID);
-				setState(687);
-				match(T__14);
-				setState(688);
+				setState(692);
+				match(T__16);
+				setState(693);
 				expression(1);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(768);
+			setState(773);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,97,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -4278,19 +4306,19 @@ public class BigDataScriptParser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(766);
+					setState(771);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,96,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ExpressionTimesDivModContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(691);
+						setState(696);
 						if (!(precpred(_ctx, 28))) throw new FailedPredicateException(this, "precpred(_ctx, 28)");
-						setState(692);
+						setState(697);
 						((ExpressionTimesDivModContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__50) | (1L << T__51) | (1L << T__52))) != 0)) ) {
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__52) | (1L << T__53) | (1L << T__54))) != 0)) ) {
 							((ExpressionTimesDivModContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
@@ -4298,7 +4326,7 @@ public class BigDataScriptParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(693);
+						setState(698);
 						expression(29);
 						}
 						break;
@@ -4306,12 +4334,12 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionPlusMinusContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(694);
+						setState(699);
 						if (!(precpred(_ctx, 27))) throw new FailedPredicateException(this, "precpred(_ctx, 27)");
-						setState(695);
+						setState(700);
 						((ExpressionPlusMinusContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(_la==T__53 || _la==T__54) ) {
+						if ( !(_la==T__55 || _la==T__56) ) {
 							((ExpressionPlusMinusContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
@@ -4319,7 +4347,7 @@ public class BigDataScriptParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(696);
+						setState(701);
 						expression(28);
 						}
 						break;
@@ -4327,12 +4355,12 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionCompContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(697);
+						setState(702);
 						if (!(precpred(_ctx, 26))) throw new FailedPredicateException(this, "precpred(_ctx, 26)");
-						setState(698);
+						setState(703);
 						((ExpressionCompContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__55) | (1L << T__56) | (1L << T__57) | (1L << T__58) | (1L << T__59) | (1L << T__60))) != 0)) ) {
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__13) | (1L << T__14) | (1L << T__57) | (1L << T__58) | (1L << T__59) | (1L << T__60))) != 0)) ) {
 							((ExpressionCompContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
@@ -4340,7 +4368,7 @@ public class BigDataScriptParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(699);
+						setState(704);
 						expression(27);
 						}
 						break;
@@ -4348,9 +4376,9 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionBitOpContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(700);
+						setState(705);
 						if (!(precpred(_ctx, 24))) throw new FailedPredicateException(this, "precpred(_ctx, 24)");
-						setState(701);
+						setState(706);
 						((ExpressionBitOpContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(((((_la - 62)) & ~0x3f) == 0 && ((1L << (_la - 62)) & ((1L << (T__61 - 62)) | (1L << (T__62 - 62)) | (1L << (T__63 - 62)))) != 0)) ) {
@@ -4361,7 +4389,7 @@ public class BigDataScriptParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(702);
+						setState(707);
 						expression(25);
 						}
 						break;
@@ -4369,9 +4397,9 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionLogicOpContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(703);
+						setState(708);
 						if (!(precpred(_ctx, 23))) throw new FailedPredicateException(this, "precpred(_ctx, 23)");
-						setState(704);
+						setState(709);
 						((ExpressionLogicOpContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==T__64 || _la==T__65) ) {
@@ -4382,7 +4410,7 @@ public class BigDataScriptParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(705);
+						setState(710);
 						expression(24);
 						}
 						break;
@@ -4390,15 +4418,15 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionCondContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(706);
+						setState(711);
 						if (!(precpred(_ctx, 21))) throw new FailedPredicateException(this, "precpred(_ctx, 21)");
-						setState(707);
+						setState(712);
 						match(T__66);
-						setState(708);
+						setState(713);
 						expression(0);
-						setState(709);
-						match(T__34);
-						setState(710);
+						setState(714);
+						match(T__36);
+						setState(715);
 						expression(22);
 						}
 						break;
@@ -4406,11 +4434,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionDepOperatorContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(712);
+						setState(717);
 						if (!(precpred(_ctx, 20))) throw new FailedPredicateException(this, "precpred(_ctx, 20)");
-						setState(713);
+						setState(718);
 						match(T__67);
-						setState(714);
+						setState(719);
 						expression(21);
 						}
 						break;
@@ -4418,11 +4446,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionAssignmentBitOrContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(715);
+						setState(720);
 						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
-						setState(716);
+						setState(721);
 						match(T__74);
-						setState(717);
+						setState(722);
 						expression(10);
 						}
 						break;
@@ -4430,11 +4458,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionAssignmentBitAndContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(718);
+						setState(723);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(719);
+						setState(724);
 						match(T__75);
-						setState(720);
+						setState(725);
 						expression(9);
 						}
 						break;
@@ -4442,11 +4470,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionAssignmentDivContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(721);
+						setState(726);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(722);
+						setState(727);
 						match(T__76);
-						setState(723);
+						setState(728);
 						expression(8);
 						}
 						break;
@@ -4454,11 +4482,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionAssignmentMultContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(724);
+						setState(729);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(725);
+						setState(730);
 						match(T__77);
-						setState(726);
+						setState(731);
 						expression(7);
 						}
 						break;
@@ -4466,11 +4494,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionAssignmentMinusContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(727);
+						setState(732);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(728);
+						setState(733);
 						match(T__78);
-						setState(729);
+						setState(734);
 						expression(6);
 						}
 						break;
@@ -4478,11 +4506,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionAssignmentPlusContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(730);
+						setState(735);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(731);
+						setState(736);
 						match(T__79);
-						setState(732);
+						setState(737);
 						expression(5);
 						}
 						break;
@@ -4490,11 +4518,11 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ExpressionAssignmentContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(733);
+						setState(738);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(734);
-						match(T__13);
-						setState(735);
+						setState(739);
+						match(T__15);
+						setState(740);
 						expression(3);
 						}
 						break;
@@ -4502,53 +4530,53 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new MethodCallContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(736);
+						setState(741);
 						if (!(precpred(_ctx, 40))) throw new FailedPredicateException(this, "precpred(_ctx, 40)");
-						setState(737);
-						match(T__44);
-						setState(738);
+						setState(742);
+						match(T__46);
+						setState(743);
 						match(ID);
-						setState(739);
-						match(T__15);
-						setState(748);
+						setState(744);
+						match(T__17);
+						setState(753);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
-						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__15) | (1L << T__45) | (1L << T__46) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__53) | (1L << T__54))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__11) | (1L << T__17) | (1L << T__47) | (1L << T__48) | (1L << T__49) | (1L << T__50) | (1L << T__51) | (1L << T__55) | (1L << T__56))) != 0) || ((((_la - 70)) & ~0x3f) == 0 && ((1L << (_la - 70)) & ((1L << (T__69 - 70)) | (1L << (T__70 - 70)) | (1L << (T__71 - 70)) | (1L << (T__72 - 70)) | (1L << (T__73 - 70)) | (1L << (NULL_LITERAL - 70)) | (1L << (BOOL_LITERAL - 70)) | (1L << (INT_LITERAL - 70)) | (1L << (REAL_LITERAL - 70)) | (1L << (STRING_LITERAL - 70)) | (1L << (STRING_LITERAL_SINGLE - 70)) | (1L << (SYS_LITERAL - 70)) | (1L << (TASK_LITERAL - 70)) | (1L << (ID - 70)))) != 0)) {
 							{
-							setState(740);
-							expression(0);
 							setState(745);
+							expression(0);
+							setState(750);
 							_errHandler.sync(this);
 							_la = _input.LA(1);
 							while (_la==T__3) {
 								{
 								{
-								setState(741);
+								setState(746);
 								match(T__3);
-								setState(742);
+								setState(747);
 								expression(0);
 								}
 								}
-								setState(747);
+								setState(752);
 								_errHandler.sync(this);
 								_la = _input.LA(1);
 							}
 							}
 						}
 
-						setState(750);
-						match(T__16);
+						setState(755);
+						match(T__18);
 						}
 						break;
 					case 16:
 						{
 						_localctx = new ReferenceFieldContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(751);
+						setState(756);
 						if (!(precpred(_ctx, 36))) throw new FailedPredicateException(this, "precpred(_ctx, 36)");
-						setState(752);
-						match(T__44);
-						setState(753);
+						setState(757);
+						match(T__46);
+						setState(758);
 						match(ID);
 						}
 						break;
@@ -4556,13 +4584,13 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ReferenceListContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(754);
+						setState(759);
 						if (!(precpred(_ctx, 34))) throw new FailedPredicateException(this, "precpred(_ctx, 34)");
-						setState(755);
+						setState(760);
 						match(T__9);
-						setState(756);
+						setState(761);
 						expression(0);
-						setState(757);
+						setState(762);
 						match(T__10);
 						}
 						break;
@@ -4570,13 +4598,13 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new ReferenceMapContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(759);
+						setState(764);
 						if (!(precpred(_ctx, 33))) throw new FailedPredicateException(this, "precpred(_ctx, 33)");
-						setState(760);
+						setState(765);
 						match(T__11);
-						setState(761);
+						setState(766);
 						expression(0);
-						setState(762);
+						setState(767);
 						match(T__12);
 						}
 						break;
@@ -4584,12 +4612,12 @@ public class BigDataScriptParser extends Parser {
 						{
 						_localctx = new PostContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(764);
+						setState(769);
 						if (!(precpred(_ctx, 31))) throw new FailedPredicateException(this, "precpred(_ctx, 31)");
-						setState(765);
+						setState(770);
 						((PostContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(_la==T__46 || _la==T__47) ) {
+						if ( !(_la==T__48 || _la==T__49) ) {
 							((PostContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
@@ -4602,7 +4630,7 @@ public class BigDataScriptParser extends Parser {
 					}
 					} 
 				}
-				setState(770);
+				setState(775);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,97,_ctx);
 			}
@@ -4647,21 +4675,21 @@ public class BigDataScriptParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(771);
-			expression(0);
 			setState(776);
+			expression(0);
+			setState(781);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__3) {
 				{
 				{
-				setState(772);
+				setState(777);
 				match(T__3);
-				setState(773);
+				setState(778);
 				expression(0);
 				}
 				}
-				setState(778);
+				setState(783);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4690,11 +4718,11 @@ public class BigDataScriptParser extends Parser {
 	private boolean type_sempred(TypeContext _localctx, int predIndex) {
 		switch (predIndex) {
 		case 0:
-			return precpred(_ctx, 4);
+			return precpred(_ctx, 5);
 		case 1:
-			return precpred(_ctx, 3);
+			return precpred(_ctx, 4);
 		case 2:
-			return precpred(_ctx, 2);
+			return precpred(_ctx, 3);
 		}
 		return true;
 	}
@@ -4743,329 +4771,331 @@ public class BigDataScriptParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3`\u030e\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3`\u0313\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\3\2\7\2&\n\2\f\2\16\2)\13\2\3\2\6\2,\n\2\r\2\16\2-\3\2\3\2\3\3\6\3\63"+
 		"\n\3\r\3\16\3\64\3\4\3\4\3\4\3\4\3\5\3\5\3\5\7\5>\n\5\f\5\16\5A\13\5\3"+
-		"\6\3\6\3\6\3\6\3\6\3\6\3\6\5\6J\n\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3"+
-		"\6\3\6\3\6\7\6W\n\6\f\6\16\6Z\13\6\3\7\3\7\3\7\3\7\7\7`\n\7\f\7\16\7c"+
-		"\13\7\3\7\5\7f\n\7\3\b\3\b\3\b\5\bk\n\b\3\b\5\bn\n\b\3\t\3\t\3\t\3\t\5"+
-		"\tt\n\t\3\n\3\n\3\n\3\n\5\nz\n\n\3\n\3\n\7\n~\n\n\f\n\16\n\u0081\13\n"+
-		"\3\n\3\n\3\n\3\13\3\13\7\13\u0088\n\13\f\13\16\13\u008b\13\13\3\13\3\13"+
-		"\7\13\u008f\n\13\f\13\16\13\u0092\13\13\5\13\u0094\n\13\3\f\3\f\3\f\7"+
-		"\f\u0099\n\f\f\f\16\f\u009c\13\f\3\f\3\f\5\f\u00a0\n\f\3\f\7\f\u00a3\n"+
-		"\f\f\f\16\f\u00a6\13\f\3\f\3\f\7\f\u00aa\n\f\f\f\16\f\u00ad\13\f\3\f\7"+
-		"\f\u00b0\n\f\f\f\16\f\u00b3\13\f\3\f\3\f\3\r\3\r\7\r\u00b9\n\r\f\r\16"+
-		"\r\u00bc\13\r\3\r\3\r\3\r\7\r\u00c1\n\r\f\r\16\r\u00c4\13\r\3\r\3\r\5"+
-		"\r\u00c8\n\r\3\r\7\r\u00cb\n\r\f\r\16\r\u00ce\13\r\3\r\3\r\5\r\u00d2\n"+
-		"\r\3\r\7\r\u00d5\n\r\f\r\16\r\u00d8\13\r\3\r\3\r\7\r\u00dc\n\r\f\r\16"+
-		"\r\u00df\13\r\3\r\3\r\5\r\u00e3\n\r\3\r\7\r\u00e6\n\r\f\r\16\r\u00e9\13"+
-		"\r\3\r\3\r\5\r\u00ed\n\r\3\r\7\r\u00f0\n\r\f\r\16\r\u00f3\13\r\3\r\3\r"+
-		"\5\r\u00f7\n\r\3\r\7\r\u00fa\n\r\f\r\16\r\u00fd\13\r\3\r\3\r\5\r\u0101"+
-		"\n\r\3\r\7\r\u0104\n\r\f\r\16\r\u0107\13\r\3\r\3\r\5\r\u010b\n\r\3\r\7"+
-		"\r\u010e\n\r\f\r\16\r\u0111\13\r\3\r\3\r\5\r\u0115\n\r\3\r\7\r\u0118\n"+
-		"\r\f\r\16\r\u011b\13\r\3\r\3\r\3\r\7\r\u0120\n\r\f\r\16\r\u0123\13\r\3"+
-		"\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u012c\n\r\f\r\16\r\u012f\13\r\7\r\u0131"+
-		"\n\r\f\r\16\r\u0134\13\r\3\r\3\r\3\r\7\r\u0139\n\r\f\r\16\r\u013c\13\r"+
-		"\5\r\u013e\n\r\3\r\3\r\3\r\7\r\u0143\n\r\f\r\16\r\u0146\13\r\3\r\3\r\3"+
-		"\r\5\r\u014b\n\r\3\r\3\r\5\r\u014f\n\r\3\r\3\r\5\r\u0153\n\r\3\r\3\r\3"+
-		"\r\7\r\u0158\n\r\f\r\16\r\u015b\13\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7"+
-		"\r\u0165\n\r\f\r\16\r\u0168\13\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u0170\n\r"+
-		"\f\r\16\r\u0173\13\r\3\r\3\r\3\r\7\r\u0178\n\r\f\r\16\r\u017b\13\r\5\r"+
-		"\u017d\n\r\3\r\3\r\3\r\7\r\u0182\n\r\f\r\16\r\u0185\13\r\3\r\3\r\5\r\u0189"+
-		"\n\r\3\r\7\r\u018c\n\r\f\r\16\r\u018f\13\r\3\r\3\r\3\r\3\r\7\r\u0195\n"+
-		"\r\f\r\16\r\u0198\13\r\5\r\u019a\n\r\3\r\7\r\u019d\n\r\f\r\16\r\u01a0"+
-		"\13\r\3\r\3\r\3\r\5\r\u01a5\n\r\3\r\3\r\3\r\7\r\u01aa\n\r\f\r\16\r\u01ad"+
-		"\13\r\3\r\3\r\3\r\3\r\7\r\u01b3\n\r\f\r\16\r\u01b6\13\r\3\r\7\r\u01b9"+
-		"\n\r\f\r\16\r\u01bc\13\r\7\r\u01be\n\r\f\r\16\r\u01c1\13\r\3\r\3\r\3\r"+
-		"\7\r\u01c6\n\r\f\r\16\r\u01c9\13\r\5\r\u01cb\n\r\3\r\3\r\3\r\3\r\7\r\u01d1"+
-		"\n\r\f\r\16\r\u01d4\13\r\3\r\7\r\u01d7\n\r\f\r\16\r\u01da\13\r\7\r\u01dc"+
-		"\n\r\f\r\16\r\u01df\13\r\3\r\3\r\7\r\u01e3\n\r\f\r\16\r\u01e6\13\r\3\r"+
-		"\3\r\3\r\5\r\u01eb\n\r\3\r\3\r\3\r\7\r\u01f0\n\r\f\r\16\r\u01f3\13\r\3"+
-		"\r\3\r\7\r\u01f7\n\r\f\r\16\r\u01fa\13\r\3\r\3\r\7\r\u01fe\n\r\f\r\16"+
-		"\r\u0201\13\r\3\r\3\r\7\r\u0205\n\r\f\r\16\r\u0208\13\r\3\r\3\r\7\r\u020c"+
-		"\n\r\f\r\16\r\u020f\13\r\3\r\3\r\7\r\u0213\n\r\f\r\16\r\u0216\13\r\3\r"+
-		"\3\r\5\r\u021a\n\r\3\16\3\16\5\16\u021e\n\16\3\17\3\17\3\20\3\20\3\21"+
-		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
-		"\3\21\3\21\7\21\u0235\n\21\f\21\16\21\u0238\13\21\5\21\u023a\n\21\3\21"+
-		"\3\21\3\21\3\21\3\21\3\21\7\21\u0242\n\21\f\21\16\21\u0245\13\21\5\21"+
-		"\u0247\n\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
-		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u025d\n\21\f\21\16\21\u0260"+
-		"\13\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
-		"\7\21\u026f\n\21\f\21\16\21\u0272\13\21\3\21\3\21\3\21\3\21\3\21\3\21"+
-		"\3\21\3\21\3\21\7\21\u027d\n\21\f\21\16\21\u0280\13\21\3\21\3\21\5\21"+
-		"\u0284\n\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u028c\n\21\f\21\16\21\u028f"+
-		"\13\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u029b\n"+
-		"\21\f\21\16\21\u029e\13\21\3\21\3\21\5\21\u02a2\n\21\3\21\3\21\3\21\3"+
-		"\21\3\21\6\21\u02a9\n\21\r\21\16\21\u02aa\3\21\3\21\3\21\3\21\3\21\3\21"+
-		"\3\21\5\21\u02b4\n\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\5\6O\n\6\3\6\3\6\3\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\7\6\\\n\6\f\6\16\6_\13\6\3\7\3\7\3\7\3"+
+		"\7\7\7e\n\7\f\7\16\7h\13\7\3\7\5\7k\n\7\3\b\3\b\3\b\5\bp\n\b\3\b\5\bs"+
+		"\n\b\3\t\3\t\3\t\3\t\5\ty\n\t\3\n\3\n\3\n\3\n\5\n\177\n\n\3\n\3\n\7\n"+
+		"\u0083\n\n\f\n\16\n\u0086\13\n\3\n\3\n\3\n\3\13\3\13\7\13\u008d\n\13\f"+
+		"\13\16\13\u0090\13\13\3\13\3\13\7\13\u0094\n\13\f\13\16\13\u0097\13\13"+
+		"\5\13\u0099\n\13\3\f\3\f\3\f\7\f\u009e\n\f\f\f\16\f\u00a1\13\f\3\f\3\f"+
+		"\5\f\u00a5\n\f\3\f\7\f\u00a8\n\f\f\f\16\f\u00ab\13\f\3\f\3\f\7\f\u00af"+
+		"\n\f\f\f\16\f\u00b2\13\f\3\f\7\f\u00b5\n\f\f\f\16\f\u00b8\13\f\3\f\3\f"+
+		"\3\r\3\r\7\r\u00be\n\r\f\r\16\r\u00c1\13\r\3\r\3\r\3\r\7\r\u00c6\n\r\f"+
+		"\r\16\r\u00c9\13\r\3\r\3\r\5\r\u00cd\n\r\3\r\7\r\u00d0\n\r\f\r\16\r\u00d3"+
+		"\13\r\3\r\3\r\5\r\u00d7\n\r\3\r\7\r\u00da\n\r\f\r\16\r\u00dd\13\r\3\r"+
+		"\3\r\7\r\u00e1\n\r\f\r\16\r\u00e4\13\r\3\r\3\r\5\r\u00e8\n\r\3\r\7\r\u00eb"+
+		"\n\r\f\r\16\r\u00ee\13\r\3\r\3\r\5\r\u00f2\n\r\3\r\7\r\u00f5\n\r\f\r\16"+
+		"\r\u00f8\13\r\3\r\3\r\5\r\u00fc\n\r\3\r\7\r\u00ff\n\r\f\r\16\r\u0102\13"+
+		"\r\3\r\3\r\5\r\u0106\n\r\3\r\7\r\u0109\n\r\f\r\16\r\u010c\13\r\3\r\3\r"+
+		"\5\r\u0110\n\r\3\r\7\r\u0113\n\r\f\r\16\r\u0116\13\r\3\r\3\r\5\r\u011a"+
+		"\n\r\3\r\7\r\u011d\n\r\f\r\16\r\u0120\13\r\3\r\3\r\3\r\7\r\u0125\n\r\f"+
+		"\r\16\r\u0128\13\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u0131\n\r\f\r\16\r"+
+		"\u0134\13\r\7\r\u0136\n\r\f\r\16\r\u0139\13\r\3\r\3\r\3\r\7\r\u013e\n"+
+		"\r\f\r\16\r\u0141\13\r\5\r\u0143\n\r\3\r\3\r\3\r\7\r\u0148\n\r\f\r\16"+
+		"\r\u014b\13\r\3\r\3\r\3\r\5\r\u0150\n\r\3\r\3\r\5\r\u0154\n\r\3\r\3\r"+
+		"\5\r\u0158\n\r\3\r\3\r\3\r\7\r\u015d\n\r\f\r\16\r\u0160\13\r\3\r\3\r\3"+
+		"\r\3\r\3\r\3\r\3\r\3\r\7\r\u016a\n\r\f\r\16\r\u016d\13\r\3\r\3\r\3\r\3"+
+		"\r\3\r\3\r\7\r\u0175\n\r\f\r\16\r\u0178\13\r\3\r\3\r\3\r\7\r\u017d\n\r"+
+		"\f\r\16\r\u0180\13\r\5\r\u0182\n\r\3\r\3\r\3\r\7\r\u0187\n\r\f\r\16\r"+
+		"\u018a\13\r\3\r\3\r\5\r\u018e\n\r\3\r\7\r\u0191\n\r\f\r\16\r\u0194\13"+
+		"\r\3\r\3\r\3\r\3\r\7\r\u019a\n\r\f\r\16\r\u019d\13\r\5\r\u019f\n\r\3\r"+
+		"\7\r\u01a2\n\r\f\r\16\r\u01a5\13\r\3\r\3\r\3\r\5\r\u01aa\n\r\3\r\3\r\3"+
+		"\r\7\r\u01af\n\r\f\r\16\r\u01b2\13\r\3\r\3\r\3\r\3\r\7\r\u01b8\n\r\f\r"+
+		"\16\r\u01bb\13\r\3\r\7\r\u01be\n\r\f\r\16\r\u01c1\13\r\7\r\u01c3\n\r\f"+
+		"\r\16\r\u01c6\13\r\3\r\3\r\3\r\7\r\u01cb\n\r\f\r\16\r\u01ce\13\r\5\r\u01d0"+
+		"\n\r\3\r\3\r\3\r\3\r\7\r\u01d6\n\r\f\r\16\r\u01d9\13\r\3\r\7\r\u01dc\n"+
+		"\r\f\r\16\r\u01df\13\r\7\r\u01e1\n\r\f\r\16\r\u01e4\13\r\3\r\3\r\7\r\u01e8"+
+		"\n\r\f\r\16\r\u01eb\13\r\3\r\3\r\3\r\5\r\u01f0\n\r\3\r\3\r\3\r\7\r\u01f5"+
+		"\n\r\f\r\16\r\u01f8\13\r\3\r\3\r\7\r\u01fc\n\r\f\r\16\r\u01ff\13\r\3\r"+
+		"\3\r\7\r\u0203\n\r\f\r\16\r\u0206\13\r\3\r\3\r\7\r\u020a\n\r\f\r\16\r"+
+		"\u020d\13\r\3\r\3\r\7\r\u0211\n\r\f\r\16\r\u0214\13\r\3\r\3\r\7\r\u0218"+
+		"\n\r\f\r\16\r\u021b\13\r\3\r\3\r\5\r\u021f\n\r\3\16\3\16\5\16\u0223\n"+
+		"\16\3\17\3\17\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3"+
+		"\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u023a\n\21\f\21\16\21\u023d"+
+		"\13\21\5\21\u023f\n\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u0247\n\21\f"+
+		"\21\16\21\u024a\13\21\5\21\u024c\n\21\3\21\3\21\3\21\3\21\3\21\3\21\3"+
+		"\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\7"+
+		"\21\u0262\n\21\f\21\16\21\u0265\13\21\3\21\3\21\3\21\3\21\3\21\3\21\3"+
+		"\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u0274\n\21\f\21\16\21\u0277\13"+
+		"\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u0282\n\21\f\21"+
+		"\16\21\u0285\13\21\3\21\3\21\5\21\u0289\n\21\3\21\3\21\3\21\3\21\3\21"+
+		"\3\21\7\21\u0291\n\21\f\21\16\21\u0294\13\21\3\21\3\21\3\21\3\21\3\21"+
+		"\3\21\3\21\3\21\3\21\3\21\7\21\u02a0\n\21\f\21\16\21\u02a3\13\21\3\21"+
+		"\3\21\5\21\u02a7\n\21\3\21\3\21\3\21\3\21\3\21\6\21\u02ae\n\21\r\21\16"+
+		"\21\u02af\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u02b9\n\21\3\21\3\21"+
 		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
 		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
 		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
-		"\7\21\u02ea\n\21\f\21\16\21\u02ed\13\21\5\21\u02ef\n\21\3\21\3\21\3\21"+
-		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21"+
-		"\u0301\n\21\f\21\16\21\u0304\13\21\3\22\3\22\3\22\7\22\u0309\n\22\f\22"+
-		"\16\22\u030c\13\22\3\22\2\4\n \23\2\4\6\b\n\f\16\20\22\24\26\30\32\34"+
-		"\36 \"\2\13\3\2\3\4\3\2WX\3\2\61\62\3\289\3\2KL\3\2\65\67\3\2:?\3\2@B"+
-		"\3\2CD\2\u03a8\2\'\3\2\2\2\4\62\3\2\2\2\6\66\3\2\2\2\b:\3\2\2\2\nI\3\2"+
-		"\2\2\fe\3\2\2\2\16g\3\2\2\2\20o\3\2\2\2\22u\3\2\2\2\24\u0093\3\2\2\2\26"+
-		"\u0095\3\2\2\2\30\u0219\3\2\2\2\32\u021d\3\2\2\2\34\u021f\3\2\2\2\36\u0221"+
-		"\3\2\2\2 \u02b3\3\2\2\2\"\u0305\3\2\2\2$&\5\4\3\2%$\3\2\2\2&)\3\2\2\2"+
-		"\'%\3\2\2\2\'(\3\2\2\2(+\3\2\2\2)\'\3\2\2\2*,\5\30\r\2+*\3\2\2\2,-\3\2"+
-		"\2\2-+\3\2\2\2-.\3\2\2\2./\3\2\2\2/\60\7\2\2\3\60\3\3\2\2\2\61\63\t\2"+
-		"\2\2\62\61\3\2\2\2\63\64\3\2\2\2\64\62\3\2\2\2\64\65\3\2\2\2\65\5\3\2"+
-		"\2\2\66\67\7\5\2\2\678\t\3\2\289\5\4\3\29\7\3\2\2\2:?\5\n\6\2;<\7\6\2"+
-		"\2<>\5\n\6\2=;\3\2\2\2>A\3\2\2\2?=\3\2\2\2?@\3\2\2\2@\t\3\2\2\2A?\3\2"+
-		"\2\2BC\b\6\1\2CJ\7\7\2\2DJ\7\b\2\2EJ\7\t\2\2FJ\7\n\2\2GJ\7\13\2\2HJ\7"+
-		"_\2\2IB\3\2\2\2ID\3\2\2\2IE\3\2\2\2IF\3\2\2\2IG\3\2\2\2IH\3\2\2\2JX\3"+
-		"\2\2\2KL\f\6\2\2LM\7\f\2\2MW\7\r\2\2NO\f\5\2\2OP\7\16\2\2PW\7\17\2\2Q"+
-		"R\f\4\2\2RS\7\16\2\2ST\5\n\6\2TU\7\17\2\2UW\3\2\2\2VK\3\2\2\2VN\3\2\2"+
-		"\2VQ\3\2\2\2WZ\3\2\2\2XV\3\2\2\2XY\3\2\2\2Y\13\3\2\2\2ZX\3\2\2\2[\\\5"+
-		"\n\6\2\\a\5\16\b\2]^\7\6\2\2^`\5\16\b\2_]\3\2\2\2`c\3\2\2\2a_\3\2\2\2"+
-		"ab\3\2\2\2bf\3\2\2\2ca\3\2\2\2df\5\20\t\2e[\3\2\2\2ed\3\2\2\2f\r\3\2\2"+
-		"\2gj\7_\2\2hi\7\20\2\2ik\5 \21\2jh\3\2\2\2jk\3\2\2\2km\3\2\2\2ln\7Y\2"+
-		"\2ml\3\2\2\2mn\3\2\2\2n\17\3\2\2\2op\7_\2\2pq\7\21\2\2qs\5 \21\2rt\7Y"+
-		"\2\2sr\3\2\2\2st\3\2\2\2t\21\3\2\2\2uv\5\n\6\2vw\7_\2\2wy\7\22\2\2xz\5"+
-		"\f\7\2yx\3\2\2\2yz\3\2\2\2z\177\3\2\2\2{|\7\6\2\2|~\5\f\7\2}{\3\2\2\2"+
-		"~\u0081\3\2\2\2\177}\3\2\2\2\177\u0080\3\2\2\2\u0080\u0082\3\2\2\2\u0081"+
-		"\177\3\2\2\2\u0082\u0083\7\23\2\2\u0083\u0084\5\30\r\2\u0084\23\3\2\2"+
-		"\2\u0085\u0089\5\f\7\2\u0086\u0088\5\4\3\2\u0087\u0086\3\2\2\2\u0088\u008b"+
-		"\3\2\2\2\u0089\u0087\3\2\2\2\u0089\u008a\3\2\2\2\u008a\u0094\3\2\2\2\u008b"+
-		"\u0089\3\2\2\2\u008c\u0090\5\22\n\2\u008d\u008f\5\4\3\2\u008e\u008d\3"+
-		"\2\2\2\u008f\u0092\3\2\2\2\u0090\u008e\3\2\2\2\u0090\u0091\3\2\2\2\u0091"+
-		"\u0094\3\2\2\2\u0092\u0090\3\2\2\2\u0093\u0085\3\2\2\2\u0093\u008c\3\2"+
-		"\2\2\u0094\25\3\2\2\2\u0095\u0096\7\24\2\2\u0096\u009a\7_\2\2\u0097\u0099"+
-		"\5\4\3\2\u0098\u0097\3\2\2\2\u0099\u009c\3\2\2\2\u009a\u0098\3\2\2\2\u009a"+
-		"\u009b\3\2\2\2\u009b\u009f\3\2\2\2\u009c\u009a\3\2\2\2\u009d\u009e\7\25"+
-		"\2\2\u009e\u00a0\7_\2\2\u009f\u009d\3\2\2\2\u009f\u00a0\3\2\2\2\u00a0"+
-		"\u00a4\3\2\2\2\u00a1\u00a3\5\4\3\2\u00a2\u00a1\3\2\2\2\u00a3\u00a6\3\2"+
-		"\2\2\u00a4\u00a2\3\2\2\2\u00a4\u00a5\3\2\2\2\u00a5\u00a7\3\2\2\2\u00a6"+
-		"\u00a4\3\2\2\2\u00a7\u00ab\7\16\2\2\u00a8\u00aa\5\4\3\2\u00a9\u00a8\3"+
-		"\2\2\2\u00aa\u00ad\3\2\2\2\u00ab\u00a9\3\2\2\2\u00ab\u00ac\3\2\2\2\u00ac"+
-		"\u00b1\3\2\2\2\u00ad\u00ab\3\2\2\2\u00ae\u00b0\5\24\13\2\u00af\u00ae\3"+
-		"\2\2\2\u00b0\u00b3\3\2\2\2\u00b1\u00af\3\2\2\2\u00b1\u00b2\3\2\2\2\u00b2"+
-		"\u00b4\3\2\2\2\u00b3\u00b1\3\2\2\2\u00b4\u00b5\7\17\2\2\u00b5\27\3\2\2"+
-		"\2\u00b6\u00ba\7\16\2\2\u00b7\u00b9\5\30\r\2\u00b8\u00b7\3\2\2\2\u00b9"+
-		"\u00bc\3\2\2\2\u00ba\u00b8\3\2\2\2\u00ba\u00bb\3\2\2\2\u00bb\u00bd\3\2"+
-		"\2\2\u00bc\u00ba\3\2\2\2\u00bd\u021a\7\17\2\2\u00be\u00c2\7\26\2\2\u00bf"+
-		"\u00c1\5\4\3\2\u00c0\u00bf\3\2\2\2\u00c1\u00c4\3\2\2\2\u00c2\u00c0\3\2"+
-		"\2\2\u00c2\u00c3\3\2\2\2\u00c3\u021a\3\2\2\2\u00c4\u00c2\3\2\2\2\u00c5"+
-		"\u00c7\7\27\2\2\u00c6\u00c8\5 \21\2\u00c7\u00c6\3\2\2\2\u00c7\u00c8\3"+
-		"\2\2\2\u00c8\u00cc\3\2\2\2\u00c9\u00cb\5\4\3\2\u00ca\u00c9\3\2\2\2\u00cb"+
-		"\u00ce\3\2\2\2\u00cc\u00ca\3\2\2\2\u00cc\u00cd\3\2\2\2\u00cd\u021a\3\2"+
-		"\2\2\u00ce\u00cc\3\2\2\2\u00cf\u00d1\7\30\2\2\u00d0\u00d2\5 \21\2\u00d1"+
-		"\u00d0\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d6\3\2\2\2\u00d3\u00d5\5\4"+
-		"\3\2\u00d4\u00d3\3\2\2\2\u00d5\u00d8\3\2\2\2\u00d6\u00d4\3\2\2\2\u00d6"+
-		"\u00d7\3\2\2\2\u00d7\u021a\3\2\2\2\u00d8\u00d6\3\2\2\2\u00d9\u00dd\7\31"+
-		"\2\2\u00da\u00dc\5\4\3\2\u00db\u00da\3\2\2\2\u00dc\u00df\3\2\2\2\u00dd"+
-		"\u00db\3\2\2\2\u00dd\u00de\3\2\2\2\u00de\u021a\3\2\2\2\u00df\u00dd\3\2"+
-		"\2\2\u00e0\u00e2\7\32\2\2\u00e1\u00e3\5 \21\2\u00e2\u00e1\3\2\2\2\u00e2"+
-		"\u00e3\3\2\2\2\u00e3\u00e7\3\2\2\2\u00e4\u00e6\5\4\3\2\u00e5\u00e4\3\2"+
-		"\2\2\u00e6\u00e9\3\2\2\2\u00e7\u00e5\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8"+
-		"\u021a\3\2\2\2\u00e9\u00e7\3\2\2\2\u00ea\u00ec\7\33\2\2\u00eb\u00ed\5"+
-		" \21\2\u00ec\u00eb\3\2\2\2\u00ec\u00ed\3\2\2\2\u00ed\u00f1\3\2\2\2\u00ee"+
-		"\u00f0\5\4\3\2\u00ef\u00ee\3\2\2\2\u00f0\u00f3\3\2\2\2\u00f1\u00ef\3\2"+
-		"\2\2\u00f1\u00f2\3\2\2\2\u00f2\u021a\3\2\2\2\u00f3\u00f1\3\2\2\2\u00f4"+
-		"\u00f6\7\34\2\2\u00f5\u00f7\5 \21\2\u00f6\u00f5\3\2\2\2\u00f6\u00f7\3"+
-		"\2\2\2\u00f7\u00fb\3\2\2\2\u00f8\u00fa\5\4\3\2\u00f9\u00f8\3\2\2\2\u00fa"+
-		"\u00fd\3\2\2\2\u00fb\u00f9\3\2\2\2\u00fb\u00fc\3\2\2\2\u00fc\u021a\3\2"+
-		"\2\2\u00fd\u00fb\3\2\2\2\u00fe\u0100\7\35\2\2\u00ff\u0101\5 \21\2\u0100"+
-		"\u00ff\3\2\2\2\u0100\u0101\3\2\2\2\u0101\u0105\3\2\2\2\u0102\u0104\5\4"+
-		"\3\2\u0103\u0102\3\2\2\2\u0104\u0107\3\2\2\2\u0105\u0103\3\2\2\2\u0105"+
-		"\u0106\3\2\2\2\u0106\u021a\3\2\2\2\u0107\u0105\3\2\2\2\u0108\u010a\7\36"+
-		"\2\2\u0109\u010b\5 \21\2\u010a\u0109\3\2\2\2\u010a\u010b\3\2\2\2\u010b"+
-		"\u010f\3\2\2\2\u010c\u010e\5\4\3\2\u010d\u010c\3\2\2\2\u010e\u0111\3\2"+
-		"\2\2\u010f\u010d\3\2\2\2\u010f\u0110\3\2\2\2\u0110\u021a\3\2\2\2\u0111"+
-		"\u010f\3\2\2\2\u0112\u0114\7\37\2\2\u0113\u0115\5 \21\2\u0114\u0113\3"+
-		"\2\2\2\u0114\u0115\3\2\2\2\u0115\u0119\3\2\2\2\u0116\u0118\5\4\3\2\u0117"+
-		"\u0116\3\2\2\2\u0118\u011b\3\2\2\2\u0119\u0117\3\2\2\2\u0119\u011a\3\2"+
-		"\2\2\u011a\u021a\3\2\2\2\u011b\u0119\3\2\2\2\u011c\u011d\7 \2\2\u011d"+
-		"\u0121\5\30\r\2\u011e\u0120\5\4\3\2\u011f\u011e\3\2\2\2\u0120\u0123\3"+
-		"\2\2\2\u0121\u011f\3\2\2\2\u0121\u0122\3\2\2\2\u0122\u0132\3\2\2\2\u0123"+
-		"\u0121\3\2\2\2\u0124\u0125\7!\2\2\u0125\u0126\7\22\2\2\u0126\u0127\5\n"+
-		"\6\2\u0127\u0128\7_\2\2\u0128\u0129\7\23\2\2\u0129\u012d\5\30\r\2\u012a"+
-		"\u012c\5\4\3\2\u012b\u012a\3\2\2\2\u012c\u012f\3\2\2\2\u012d\u012b\3\2"+
-		"\2\2\u012d\u012e\3\2\2\2\u012e\u0131\3\2\2\2\u012f\u012d\3\2\2\2\u0130"+
-		"\u0124\3\2\2\2\u0131\u0134\3\2\2\2\u0132\u0130\3\2\2\2\u0132\u0133\3\2"+
-		"\2\2\u0133\u013d\3\2\2\2\u0134\u0132\3\2\2\2\u0135\u0136\7\"\2\2\u0136"+
-		"\u013a\5\30\r\2\u0137\u0139\5\4\3\2\u0138\u0137\3\2\2\2\u0139\u013c\3"+
-		"\2\2\2\u013a\u0138\3\2\2\2\u013a\u013b\3\2\2\2\u013b\u013e\3\2\2\2\u013c"+
-		"\u013a\3\2\2\2\u013d\u0135\3\2\2\2\u013d\u013e\3\2\2\2\u013e\u021a\3\2"+
-		"\2\2\u013f\u0140\7#\2\2\u0140\u0144\5 \21\2\u0141\u0143\5\4\3\2\u0142"+
-		"\u0141\3\2\2\2\u0143\u0146\3\2\2\2\u0144\u0142\3\2\2\2\u0144\u0145\3\2"+
-		"\2\2\u0145\u021a\3\2\2\2\u0146\u0144\3\2\2\2\u0147\u0148\7$\2\2\u0148"+
-		"\u014a\7\22\2\2\u0149\u014b\5\32\16\2\u014a\u0149\3\2\2\2\u014a\u014b"+
-		"\3\2\2\2\u014b\u014c\3\2\2\2\u014c\u014e\7\3\2\2\u014d\u014f\5\34\17\2"+
-		"\u014e\u014d\3\2\2\2\u014e\u014f\3\2\2\2\u014f\u0150\3\2\2\2\u0150\u0152"+
-		"\7\3\2\2\u0151\u0153\5\36\20\2\u0152\u0151\3\2\2\2\u0152\u0153\3\2\2\2"+
-		"\u0153\u0154\3\2\2\2\u0154\u0155\7\23\2\2\u0155\u0159\5\30\r\2\u0156\u0158"+
-		"\5\4\3\2\u0157\u0156\3\2\2\2\u0158\u015b\3\2\2\2\u0159\u0157\3\2\2\2\u0159"+
-		"\u015a\3\2\2\2\u015a\u021a\3\2\2\2\u015b\u0159\3\2\2\2\u015c\u015d\7$"+
-		"\2\2\u015d\u015e\7\22\2\2\u015e\u015f\5\f\7\2\u015f\u0160\7%\2\2\u0160"+
-		"\u0161\5 \21\2\u0161\u0162\7\23\2\2\u0162\u0166\5\30\r\2\u0163\u0165\5"+
-		"\4\3\2\u0164\u0163\3\2\2\2\u0165\u0168\3\2\2\2\u0166\u0164\3\2\2\2\u0166"+
-		"\u0167\3\2\2\2\u0167\u021a\3\2\2\2\u0168\u0166\3\2\2\2\u0169\u016a\7&"+
-		"\2\2\u016a\u016b\7\22\2\2\u016b\u016c\5 \21\2\u016c\u016d\7\23\2\2\u016d"+
-		"\u0171\5\30\r\2\u016e\u0170\5\4\3\2\u016f\u016e\3\2\2\2\u0170\u0173\3"+
-		"\2\2\2\u0171\u016f\3\2\2\2\u0171\u0172\3\2\2\2\u0172\u017c\3\2\2\2\u0173"+
-		"\u0171\3\2\2\2\u0174\u0175\7\'\2\2\u0175\u0179\5\30\r\2\u0176\u0178\5"+
-		"\4\3\2\u0177\u0176\3\2\2\2\u0178\u017b\3\2\2\2\u0179\u0177\3\2\2\2\u0179"+
-		"\u017a\3\2\2\2\u017a\u017d\3\2\2\2\u017b\u0179\3\2\2\2\u017c\u0174\3\2"+
-		"\2\2\u017c\u017d\3\2\2\2\u017d\u021a\3\2\2\2\u017e\u017f\7(\2\2\u017f"+
-		"\u0183\5 \21\2\u0180\u0182\5\4\3\2\u0181\u0180\3\2\2\2\u0182\u0185\3\2"+
-		"\2\2\u0183\u0181\3\2\2\2\u0183\u0184\3\2\2\2\u0184\u021a\3\2\2\2\u0185"+
-		"\u0183\3\2\2\2\u0186\u0188\7)\2\2\u0187\u0189\5 \21\2\u0188\u0187\3\2"+
-		"\2\2\u0188\u0189\3\2\2\2\u0189\u018d\3\2\2\2\u018a\u018c\5\4\3\2\u018b"+
-		"\u018a\3\2\2\2\u018c\u018f\3\2\2\2\u018d\u018b\3\2\2\2\u018d\u018e\3\2"+
-		"\2\2\u018e\u021a\3\2\2\2\u018f\u018d\3\2\2\2\u0190\u0199\7*\2\2\u0191"+
-		"\u0196\5 \21\2\u0192\u0193\7\6\2\2\u0193\u0195\5 \21\2\u0194\u0192\3\2"+
-		"\2\2\u0195\u0198\3\2\2\2\u0196\u0194\3\2\2\2\u0196\u0197\3\2\2\2\u0197"+
-		"\u019a\3\2\2\2\u0198\u0196\3\2\2\2\u0199\u0191\3\2\2\2\u0199\u019a\3\2"+
-		"\2\2\u019a\u019e\3\2\2\2\u019b\u019d\5\4\3\2\u019c\u019b\3\2\2\2\u019d"+
-		"\u01a0\3\2\2\2\u019e\u019c\3\2\2\2\u019e\u019f\3\2\2\2\u019f\u021a\3\2"+
-		"\2\2\u01a0\u019e\3\2\2\2\u01a1\u01a2\7+\2\2\u01a2\u01a4\7\22\2\2\u01a3"+
-		"\u01a5\5 \21\2\u01a4\u01a3\3\2\2\2\u01a4\u01a5\3\2\2\2\u01a5\u01a6\3\2"+
-		"\2\2\u01a6\u01a7\7\23\2\2\u01a7\u01ab\7\16\2\2\u01a8\u01aa\5\4\3\2\u01a9"+
-		"\u01a8\3\2\2\2\u01aa\u01ad\3\2\2\2\u01ab\u01a9\3\2\2\2\u01ab\u01ac\3\2"+
-		"\2\2\u01ac\u01bf\3\2\2\2\u01ad\u01ab\3\2\2\2\u01ae\u01af\7,\2\2\u01af"+
-		"\u01b0\5 \21\2\u01b0\u01b4\7%\2\2\u01b1\u01b3\5\30\r\2\u01b2\u01b1\3\2"+
-		"\2\2\u01b3\u01b6\3\2\2\2\u01b4\u01b2\3\2\2\2\u01b4\u01b5\3\2\2\2\u01b5"+
-		"\u01ba\3\2\2\2\u01b6\u01b4\3\2\2\2\u01b7\u01b9\5\4\3\2\u01b8\u01b7\3\2"+
-		"\2\2\u01b9\u01bc\3\2\2\2\u01ba\u01b8\3\2\2\2\u01ba\u01bb\3\2\2\2\u01bb"+
-		"\u01be\3\2\2\2\u01bc\u01ba\3\2\2\2\u01bd\u01ae\3\2\2\2\u01be\u01c1\3\2"+
-		"\2\2\u01bf\u01bd\3\2\2\2\u01bf\u01c0\3\2\2\2\u01c0\u01ca\3\2\2\2\u01c1"+
-		"\u01bf\3\2\2\2\u01c2\u01c3\7-\2\2\u01c3\u01c7\7%\2\2\u01c4\u01c6\5\30"+
-		"\r\2\u01c5\u01c4\3\2\2\2\u01c6\u01c9\3\2\2\2\u01c7\u01c5\3\2\2\2\u01c7"+
-		"\u01c8\3\2\2\2\u01c8\u01cb\3\2\2\2\u01c9\u01c7\3\2\2\2\u01ca\u01c2\3\2"+
-		"\2\2\u01ca\u01cb\3\2\2\2\u01cb\u01dd\3\2\2\2\u01cc\u01cd\7,\2\2\u01cd"+
-		"\u01ce\5 \21\2\u01ce\u01d2\7%\2\2\u01cf\u01d1\5\30\r\2\u01d0\u01cf\3\2"+
-		"\2\2\u01d1\u01d4\3\2\2\2\u01d2\u01d0\3\2\2\2\u01d2\u01d3\3\2\2\2\u01d3"+
-		"\u01d8\3\2\2\2\u01d4\u01d2\3\2\2\2\u01d5\u01d7\5\4\3\2\u01d6\u01d5\3\2"+
-		"\2\2\u01d7\u01da\3\2\2\2\u01d8\u01d6\3\2\2\2\u01d8\u01d9\3\2\2\2\u01d9"+
-		"\u01dc\3\2\2\2\u01da\u01d8\3\2\2\2\u01db\u01cc\3\2\2\2\u01dc\u01df\3\2"+
-		"\2\2\u01dd\u01db\3\2\2\2\u01dd\u01de\3\2\2\2\u01de\u01e0\3\2\2\2\u01df"+
-		"\u01dd\3\2\2\2\u01e0\u01e4\7\17\2\2\u01e1\u01e3\5\4\3\2\u01e2\u01e1\3"+
-		"\2\2\2\u01e3\u01e6\3\2\2\2\u01e4\u01e2\3\2\2\2\u01e4\u01e5\3\2\2\2\u01e5"+
-		"\u021a\3\2\2\2\u01e6\u01e4\3\2\2\2\u01e7\u01e8\7.\2\2\u01e8\u01ea\7\22"+
-		"\2\2\u01e9\u01eb\5 \21\2\u01ea\u01e9\3\2\2\2\u01ea\u01eb\3\2\2\2\u01eb"+
-		"\u01ec\3\2\2\2\u01ec\u01ed\7\23\2\2\u01ed\u01f1\5\30\r\2\u01ee\u01f0\5"+
-		"\4\3\2\u01ef\u01ee\3\2\2\2\u01f0\u01f3\3\2\2\2\u01f1\u01ef\3\2\2\2\u01f1"+
-		"\u01f2\3\2\2\2\u01f2\u021a\3\2\2\2\u01f3\u01f1\3\2\2\2\u01f4\u01f8\5\22"+
-		"\n\2\u01f5\u01f7\5\4\3\2\u01f6\u01f5\3\2\2\2\u01f7\u01fa\3\2\2\2\u01f8"+
-		"\u01f6\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9\u021a\3\2\2\2\u01fa\u01f8\3\2"+
-		"\2\2\u01fb\u01ff\5\f\7\2\u01fc\u01fe\5\4\3\2\u01fd\u01fc\3\2\2\2\u01fe"+
-		"\u0201\3\2\2\2\u01ff\u01fd\3\2\2\2\u01ff\u0200\3\2\2\2\u0200\u021a\3\2"+
-		"\2\2\u0201\u01ff\3\2\2\2\u0202\u0206\5\26\f\2\u0203\u0205\5\4\3\2\u0204"+
-		"\u0203\3\2\2\2\u0205\u0208\3\2\2\2\u0206\u0204\3\2\2\2\u0206\u0207\3\2"+
-		"\2\2\u0207\u021a\3\2\2\2\u0208\u0206\3\2\2\2\u0209\u020d\5 \21\2\u020a"+
-		"\u020c\5\4\3\2\u020b\u020a\3\2\2\2\u020c\u020f\3\2\2\2\u020d\u020b\3\2"+
-		"\2\2\u020d\u020e\3\2\2\2\u020e\u021a\3\2\2\2\u020f\u020d\3\2\2\2\u0210"+
-		"\u0214\5\6\4\2\u0211\u0213\5\4\3\2\u0212\u0211\3\2\2\2\u0213\u0216\3\2"+
-		"\2\2\u0214\u0212\3\2\2\2\u0214\u0215\3\2\2\2\u0215\u021a\3\2\2\2\u0216"+
-		"\u0214\3\2\2\2\u0217\u021a\7Y\2\2\u0218\u021a\5\4\3\2\u0219\u00b6\3\2"+
-		"\2\2\u0219\u00be\3\2\2\2\u0219\u00c5\3\2\2\2\u0219\u00cf\3\2\2\2\u0219"+
-		"\u00d9\3\2\2\2\u0219\u00e0\3\2\2\2\u0219\u00ea\3\2\2\2\u0219\u00f4\3\2"+
-		"\2\2\u0219\u00fe\3\2\2\2\u0219\u0108\3\2\2\2\u0219\u0112\3\2\2\2\u0219"+
-		"\u011c\3\2\2\2\u0219\u013f\3\2\2\2\u0219\u0147\3\2\2\2\u0219\u015c\3\2"+
-		"\2\2\u0219\u0169\3\2\2\2\u0219\u017e\3\2\2\2\u0219\u0186\3\2\2\2\u0219"+
-		"\u0190\3\2\2\2\u0219\u01a1\3\2\2\2\u0219\u01e7\3\2\2\2\u0219\u01f4\3\2"+
-		"\2\2\u0219\u01fb\3\2\2\2\u0219\u0202\3\2\2\2\u0219\u0209\3\2\2\2\u0219"+
-		"\u0210\3\2\2\2\u0219\u0217\3\2\2\2\u0219\u0218\3\2\2\2\u021a\31\3\2\2"+
-		"\2\u021b\u021e\5\f\7\2\u021c\u021e\5\"\22\2\u021d\u021b\3\2\2\2\u021d"+
-		"\u021c\3\2\2\2\u021e\33\3\2\2\2\u021f\u0220\5 \21\2\u0220\35\3\2\2\2\u0221"+
-		"\u0222\5\"\22\2\u0222\37\3\2\2\2\u0223\u0224\b\21\1\2\u0224\u02b4\7S\2"+
-		"\2\u0225\u02b4\7T\2\2\u0226\u02b4\7U\2\2\u0227\u02b4\7V\2\2\u0228\u02b4"+
-		"\7W\2\2\u0229\u02b4\7X\2\2\u022a\u022b\7\22\2\2\u022b\u022c\7_\2\2\u022c"+
-		"\u022d\7\23\2\2\u022d\u02b4\5 \21)\u022e\u022f\7\60\2\2\u022f\u0230\7"+
-		"_\2\2\u0230\u0239\7\22\2\2\u0231\u0236\5 \21\2\u0232\u0233\7\6\2\2\u0233"+
-		"\u0235\5 \21\2\u0234\u0232\3\2\2\2\u0235\u0238\3\2\2\2\u0236\u0234\3\2"+
-		"\2\2\u0236\u0237\3\2\2\2\u0237\u023a\3\2\2\2\u0238\u0236\3\2\2\2\u0239"+
-		"\u0231\3\2\2\2\u0239\u023a\3\2\2\2\u023a\u023b\3\2\2\2\u023b\u02b4\7\23"+
-		"\2\2\u023c\u023d\7_\2\2\u023d\u0246\7\22\2\2\u023e\u0243\5 \21\2\u023f"+
-		"\u0240\7\6\2\2\u0240\u0242\5 \21\2\u0241\u023f\3\2\2\2\u0242\u0245\3\2"+
-		"\2\2\u0243\u0241\3\2\2\2\u0243\u0244\3\2\2\2\u0244\u0247\3\2\2\2\u0245"+
-		"\u0243\3\2\2\2\u0246\u023e\3\2\2\2\u0246\u0247\3\2\2\2\u0247\u0248\3\2"+
-		"\2\2\u0248\u02b4\7\23\2\2\u0249\u02b4\7_\2\2\u024a\u024b\t\4\2\2\u024b"+
-		"\u02b4\5 \21\"\u024c\u024d\7\63\2\2\u024d\u02b4\5 \21 \u024e\u024f\7\64"+
-		"\2\2\u024f\u02b4\5 \21\37\u0250\u0251\t\5\2\2\u0251\u02b4\5 \21\33\u0252"+
-		"\u0253\7\22\2\2\u0253\u0254\5 \21\2\u0254\u0255\7\23\2\2\u0255\u02b4\3"+
-		"\2\2\2\u0256\u0257\7\f\2\2\u0257\u02b4\7\r\2\2\u0258\u0259\7\f\2\2\u0259"+
-		"\u025e\5 \21\2\u025a\u025b\7\6\2\2\u025b\u025d\5 \21\2\u025c\u025a\3\2"+
-		"\2\2\u025d\u0260\3\2\2\2\u025e\u025c\3\2\2\2\u025e\u025f\3\2\2\2\u025f"+
-		"\u0261\3\2\2\2\u0260\u025e\3\2\2\2\u0261\u0262\7\r\2\2\u0262\u02b4\3\2"+
-		"\2\2\u0263\u0264\7\16\2\2\u0264\u02b4\7\17\2\2\u0265\u0266\7\16\2\2\u0266"+
-		"\u0267\5 \21\2\u0267\u0268\7G\2\2\u0268\u0270\5 \21\2\u0269\u026a\7\6"+
-		"\2\2\u026a\u026b\5 \21\2\u026b\u026c\7G\2\2\u026c\u026d\5 \21\2\u026d"+
-		"\u026f\3\2\2\2\u026e\u0269\3\2\2\2\u026f\u0272\3\2\2\2\u0270\u026e\3\2"+
-		"\2\2\u0270\u0271\3\2\2\2\u0271\u0273\3\2\2\2\u0272\u0270\3\2\2\2\u0273"+
-		"\u0274\7\17\2\2\u0274\u02b4\3\2\2\2\u0275\u02b4\7Z\2\2\u0276\u02b4\7["+
-		"\2\2\u0277\u0283\7H\2\2\u0278\u0279\7\22\2\2\u0279\u027e\5 \21\2\u027a"+
-		"\u027b\7\6\2\2\u027b\u027d\5 \21\2\u027c\u027a\3\2\2\2\u027d\u0280\3\2"+
-		"\2\2\u027e\u027c\3\2\2\2\u027e\u027f\3\2\2\2\u027f\u0281\3\2\2\2\u0280"+
-		"\u027e\3\2\2\2\u0281\u0282\7\23\2\2\u0282\u0284\3\2\2\2\u0283\u0278\3"+
-		"\2\2\2\u0283\u0284\3\2\2\2\u0284\u0285\3\2\2\2\u0285\u02b4\5\30\r\2\u0286"+
-		"\u0287\7I\2\2\u0287\u0288\7\22\2\2\u0288\u028d\5 \21\2\u0289\u028a\7\6"+
-		"\2\2\u028a\u028c\5 \21\2\u028b\u0289\3\2\2\2\u028c\u028f\3\2\2\2\u028d"+
-		"\u028b\3\2\2\2\u028d\u028e\3\2\2\2\u028e\u0290\3\2\2\2\u028f\u028d\3\2"+
-		"\2\2\u0290\u0291\7\23\2\2\u0291\u0292\5\30\r\2\u0292\u02b4\3\2\2\2\u0293"+
-		"\u0294\7J\2\2\u0294\u02b4\5 \21\r\u0295\u02a1\t\6\2\2\u0296\u0297\7\22"+
-		"\2\2\u0297\u029c\5 \21\2\u0298\u0299\7\6\2\2\u0299\u029b\5 \21\2\u029a"+
-		"\u0298\3\2\2\2\u029b\u029e\3\2\2\2\u029c\u029a\3\2\2\2\u029c\u029d\3\2"+
-		"\2\2\u029d\u029f\3\2\2\2\u029e\u029c\3\2\2\2\u029f\u02a0\7\23\2\2\u02a0"+
-		"\u02a2\3\2\2\2\u02a1\u0296\3\2\2\2\u02a1\u02a2\3\2\2\2\u02a2\u02a3\3\2"+
-		"\2\2\u02a3\u02b4\5\30\r\2\u02a4\u02a5\7\22\2\2\u02a5\u02a8\5 \21\2\u02a6"+
-		"\u02a7\7\6\2\2\u02a7\u02a9\5 \21\2\u02a8\u02a6\3\2\2\2\u02a9\u02aa\3\2"+
-		"\2\2\u02aa\u02a8\3\2\2\2\u02aa\u02ab\3\2\2\2\u02ab\u02ac\3\2\2\2\u02ac"+
-		"\u02ad\7\23\2\2\u02ad\u02ae\7\20\2\2\u02ae\u02af\5 \21\5\u02af\u02b4\3"+
-		"\2\2\2\u02b0\u02b1\7_\2\2\u02b1\u02b2\7\21\2\2\u02b2\u02b4\5 \21\3\u02b3"+
-		"\u0223\3\2\2\2\u02b3\u0225\3\2\2\2\u02b3\u0226\3\2\2\2\u02b3\u0227\3\2"+
-		"\2\2\u02b3\u0228\3\2\2\2\u02b3\u0229\3\2\2\2\u02b3\u022a\3\2\2\2\u02b3"+
-		"\u022e\3\2\2\2\u02b3\u023c\3\2\2\2\u02b3\u0249\3\2\2\2\u02b3\u024a\3\2"+
-		"\2\2\u02b3\u024c\3\2\2\2\u02b3\u024e\3\2\2\2\u02b3\u0250\3\2\2\2\u02b3"+
-		"\u0252\3\2\2\2\u02b3\u0256\3\2\2\2\u02b3\u0258\3\2\2\2\u02b3\u0263\3\2"+
-		"\2\2\u02b3\u0265\3\2\2\2\u02b3\u0275\3\2\2\2\u02b3\u0276\3\2\2\2\u02b3"+
-		"\u0277\3\2\2\2\u02b3\u0286\3\2\2\2\u02b3\u0293\3\2\2\2\u02b3\u0295\3\2"+
-		"\2\2\u02b3\u02a4\3\2\2\2\u02b3\u02b0\3\2\2\2\u02b4\u0302\3\2\2\2\u02b5"+
-		"\u02b6\f\36\2\2\u02b6\u02b7\t\7\2\2\u02b7\u0301\5 \21\37\u02b8\u02b9\f"+
-		"\35\2\2\u02b9\u02ba\t\5\2\2\u02ba\u0301\5 \21\36\u02bb\u02bc\f\34\2\2"+
-		"\u02bc\u02bd\t\b\2\2\u02bd\u0301\5 \21\35\u02be\u02bf\f\32\2\2\u02bf\u02c0"+
-		"\t\t\2\2\u02c0\u0301\5 \21\33\u02c1\u02c2\f\31\2\2\u02c2\u02c3\t\n\2\2"+
-		"\u02c3\u0301\5 \21\32\u02c4\u02c5\f\27\2\2\u02c5\u02c6\7E\2\2\u02c6\u02c7"+
-		"\5 \21\2\u02c7\u02c8\7%\2\2\u02c8\u02c9\5 \21\30\u02c9\u0301\3\2\2\2\u02ca"+
-		"\u02cb\f\26\2\2\u02cb\u02cc\7F\2\2\u02cc\u0301\5 \21\27\u02cd\u02ce\f"+
-		"\13\2\2\u02ce\u02cf\7M\2\2\u02cf\u0301\5 \21\f\u02d0\u02d1\f\n\2\2\u02d1"+
-		"\u02d2\7N\2\2\u02d2\u0301\5 \21\13\u02d3\u02d4\f\t\2\2\u02d4\u02d5\7O"+
-		"\2\2\u02d5\u0301\5 \21\n\u02d6\u02d7\f\b\2\2\u02d7\u02d8\7P\2\2\u02d8"+
-		"\u0301\5 \21\t\u02d9\u02da\f\7\2\2\u02da\u02db\7Q\2\2\u02db\u0301\5 \21"+
-		"\b\u02dc\u02dd\f\6\2\2\u02dd\u02de\7R\2\2\u02de\u0301\5 \21\7\u02df\u02e0"+
-		"\f\4\2\2\u02e0\u02e1\7\20\2\2\u02e1\u0301\5 \21\5\u02e2\u02e3\f*\2\2\u02e3"+
-		"\u02e4\7/\2\2\u02e4\u02e5\7_\2\2\u02e5\u02ee\7\22\2\2\u02e6\u02eb\5 \21"+
-		"\2\u02e7\u02e8\7\6\2\2\u02e8\u02ea\5 \21\2\u02e9\u02e7\3\2\2\2\u02ea\u02ed"+
-		"\3\2\2\2\u02eb\u02e9\3\2\2\2\u02eb\u02ec\3\2\2\2\u02ec\u02ef\3\2\2\2\u02ed"+
-		"\u02eb\3\2\2\2\u02ee\u02e6\3\2\2\2\u02ee\u02ef\3\2\2\2\u02ef\u02f0\3\2"+
-		"\2\2\u02f0\u0301\7\23\2\2\u02f1\u02f2\f&\2\2\u02f2\u02f3\7/\2\2\u02f3"+
-		"\u0301\7_\2\2\u02f4\u02f5\f$\2\2\u02f5\u02f6\7\f\2\2\u02f6\u02f7\5 \21"+
-		"\2\u02f7\u02f8\7\r\2\2\u02f8\u0301\3\2\2\2\u02f9\u02fa\f#\2\2\u02fa\u02fb"+
-		"\7\16\2\2\u02fb\u02fc\5 \21\2\u02fc\u02fd\7\17\2\2\u02fd\u0301\3\2\2\2"+
-		"\u02fe\u02ff\f!\2\2\u02ff\u0301\t\4\2\2\u0300\u02b5\3\2\2\2\u0300\u02b8"+
-		"\3\2\2\2\u0300\u02bb\3\2\2\2\u0300\u02be\3\2\2\2\u0300\u02c1\3\2\2\2\u0300"+
-		"\u02c4\3\2\2\2\u0300\u02ca\3\2\2\2\u0300\u02cd\3\2\2\2\u0300\u02d0\3\2"+
-		"\2\2\u0300\u02d3\3\2\2\2\u0300\u02d6\3\2\2\2\u0300\u02d9\3\2\2\2\u0300"+
-		"\u02dc\3\2\2\2\u0300\u02df\3\2\2\2\u0300\u02e2\3\2\2\2\u0300\u02f1\3\2"+
-		"\2\2\u0300\u02f4\3\2\2\2\u0300\u02f9\3\2\2\2\u0300\u02fe\3\2\2\2\u0301"+
-		"\u0304\3\2\2\2\u0302\u0300\3\2\2\2\u0302\u0303\3\2\2\2\u0303!\3\2\2\2"+
-		"\u0304\u0302\3\2\2\2\u0305\u030a\5 \21\2\u0306\u0307\7\6\2\2\u0307\u0309"+
-		"\5 \21\2\u0308\u0306\3\2\2\2\u0309\u030c\3\2\2\2\u030a\u0308\3\2\2\2\u030a"+
-		"\u030b\3\2\2\2\u030b#\3\2\2\2\u030c\u030a\3\2\2\2e\'-\64?IVXaejmsy\177"+
-		"\u0089\u0090\u0093\u009a\u009f\u00a4\u00ab\u00b1\u00ba\u00c2\u00c7\u00cc"+
-		"\u00d1\u00d6\u00dd\u00e2\u00e7\u00ec\u00f1\u00f6\u00fb\u0100\u0105\u010a"+
-		"\u010f\u0114\u0119\u0121\u012d\u0132\u013a\u013d\u0144\u014a\u014e\u0152"+
-		"\u0159\u0166\u0171\u0179\u017c\u0183\u0188\u018d\u0196\u0199\u019e\u01a4"+
-		"\u01ab\u01b4\u01ba\u01bf\u01c7\u01ca\u01d2\u01d8\u01dd\u01e4\u01ea\u01f1"+
-		"\u01f8\u01ff\u0206\u020d\u0214\u0219\u021d\u0236\u0239\u0243\u0246\u025e"+
-		"\u0270\u027e\u0283\u028d\u029c\u02a1\u02aa\u02b3\u02eb\u02ee\u0300\u0302"+
-		"\u030a";
+		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u02ef\n\21\f\21\16\21\u02f2"+
+		"\13\21\5\21\u02f4\n\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3"+
+		"\21\3\21\3\21\3\21\3\21\3\21\3\21\7\21\u0306\n\21\f\21\16\21\u0309\13"+
+		"\21\3\22\3\22\3\22\7\22\u030e\n\22\f\22\16\22\u0311\13\22\3\22\2\4\n "+
+		"\23\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"\2\13\3\2\3\4\3\2WX\3\2\63"+
+		"\64\3\2:;\3\2KL\3\2\679\4\2\20\21<?\3\2@B\3\2CD\2\u03ae\2\'\3\2\2\2\4"+
+		"\62\3\2\2\2\6\66\3\2\2\2\b:\3\2\2\2\nN\3\2\2\2\fj\3\2\2\2\16l\3\2\2\2"+
+		"\20t\3\2\2\2\22z\3\2\2\2\24\u0098\3\2\2\2\26\u009a\3\2\2\2\30\u021e\3"+
+		"\2\2\2\32\u0222\3\2\2\2\34\u0224\3\2\2\2\36\u0226\3\2\2\2 \u02b8\3\2\2"+
+		"\2\"\u030a\3\2\2\2$&\5\4\3\2%$\3\2\2\2&)\3\2\2\2\'%\3\2\2\2\'(\3\2\2\2"+
+		"(+\3\2\2\2)\'\3\2\2\2*,\5\30\r\2+*\3\2\2\2,-\3\2\2\2-+\3\2\2\2-.\3\2\2"+
+		"\2./\3\2\2\2/\60\7\2\2\3\60\3\3\2\2\2\61\63\t\2\2\2\62\61\3\2\2\2\63\64"+
+		"\3\2\2\2\64\62\3\2\2\2\64\65\3\2\2\2\65\5\3\2\2\2\66\67\7\5\2\2\678\t"+
+		"\3\2\289\5\4\3\29\7\3\2\2\2:?\5\n\6\2;<\7\6\2\2<>\5\n\6\2=;\3\2\2\2>A"+
+		"\3\2\2\2?=\3\2\2\2?@\3\2\2\2@\t\3\2\2\2A?\3\2\2\2BC\b\6\1\2CO\7\7\2\2"+
+		"DO\7\b\2\2EO\7\t\2\2FO\7\n\2\2GO\7\13\2\2HI\7_\2\2IJ\7\20\2\2JK\5\n\6"+
+		"\2KL\7\21\2\2LO\3\2\2\2MO\7_\2\2NB\3\2\2\2ND\3\2\2\2NE\3\2\2\2NF\3\2\2"+
+		"\2NG\3\2\2\2NH\3\2\2\2NM\3\2\2\2O]\3\2\2\2PQ\f\7\2\2QR\7\f\2\2R\\\7\r"+
+		"\2\2ST\f\6\2\2TU\7\16\2\2U\\\7\17\2\2VW\f\5\2\2WX\7\16\2\2XY\5\n\6\2Y"+
+		"Z\7\17\2\2Z\\\3\2\2\2[P\3\2\2\2[S\3\2\2\2[V\3\2\2\2\\_\3\2\2\2][\3\2\2"+
+		"\2]^\3\2\2\2^\13\3\2\2\2_]\3\2\2\2`a\5\n\6\2af\5\16\b\2bc\7\6\2\2ce\5"+
+		"\16\b\2db\3\2\2\2eh\3\2\2\2fd\3\2\2\2fg\3\2\2\2gk\3\2\2\2hf\3\2\2\2ik"+
+		"\5\20\t\2j`\3\2\2\2ji\3\2\2\2k\r\3\2\2\2lo\7_\2\2mn\7\22\2\2np\5 \21\2"+
+		"om\3\2\2\2op\3\2\2\2pr\3\2\2\2qs\7Y\2\2rq\3\2\2\2rs\3\2\2\2s\17\3\2\2"+
+		"\2tu\7_\2\2uv\7\23\2\2vx\5 \21\2wy\7Y\2\2xw\3\2\2\2xy\3\2\2\2y\21\3\2"+
+		"\2\2z{\5\n\6\2{|\7_\2\2|~\7\24\2\2}\177\5\f\7\2~}\3\2\2\2~\177\3\2\2\2"+
+		"\177\u0084\3\2\2\2\u0080\u0081\7\6\2\2\u0081\u0083\5\f\7\2\u0082\u0080"+
+		"\3\2\2\2\u0083\u0086\3\2\2\2\u0084\u0082\3\2\2\2\u0084\u0085\3\2\2\2\u0085"+
+		"\u0087\3\2\2\2\u0086\u0084\3\2\2\2\u0087\u0088\7\25\2\2\u0088\u0089\5"+
+		"\30\r\2\u0089\23\3\2\2\2\u008a\u008e\5\f\7\2\u008b\u008d\5\4\3\2\u008c"+
+		"\u008b\3\2\2\2\u008d\u0090\3\2\2\2\u008e\u008c\3\2\2\2\u008e\u008f\3\2"+
+		"\2\2\u008f\u0099\3\2\2\2\u0090\u008e\3\2\2\2\u0091\u0095\5\22\n\2\u0092"+
+		"\u0094\5\4\3\2\u0093\u0092\3\2\2\2\u0094\u0097\3\2\2\2\u0095\u0093\3\2"+
+		"\2\2\u0095\u0096\3\2\2\2\u0096\u0099\3\2\2\2\u0097\u0095\3\2\2\2\u0098"+
+		"\u008a\3\2\2\2\u0098\u0091\3\2\2\2\u0099\25\3\2\2\2\u009a\u009b\7\26\2"+
+		"\2\u009b\u009f\7_\2\2\u009c\u009e\5\4\3\2\u009d\u009c\3\2\2\2\u009e\u00a1"+
+		"\3\2\2\2\u009f\u009d\3\2\2\2\u009f\u00a0\3\2\2\2\u00a0\u00a4\3\2\2\2\u00a1"+
+		"\u009f\3\2\2\2\u00a2\u00a3\7\27\2\2\u00a3\u00a5\7_\2\2\u00a4\u00a2\3\2"+
+		"\2\2\u00a4\u00a5\3\2\2\2\u00a5\u00a9\3\2\2\2\u00a6\u00a8\5\4\3\2\u00a7"+
+		"\u00a6\3\2\2\2\u00a8\u00ab\3\2\2\2\u00a9\u00a7\3\2\2\2\u00a9\u00aa\3\2"+
+		"\2\2\u00aa\u00ac\3\2\2\2\u00ab\u00a9\3\2\2\2\u00ac\u00b0\7\16\2\2\u00ad"+
+		"\u00af\5\4\3\2\u00ae\u00ad\3\2\2\2\u00af\u00b2\3\2\2\2\u00b0\u00ae\3\2"+
+		"\2\2\u00b0\u00b1\3\2\2\2\u00b1\u00b6\3\2\2\2\u00b2\u00b0\3\2\2\2\u00b3"+
+		"\u00b5\5\24\13\2\u00b4\u00b3\3\2\2\2\u00b5\u00b8\3\2\2\2\u00b6\u00b4\3"+
+		"\2\2\2\u00b6\u00b7\3\2\2\2\u00b7\u00b9\3\2\2\2\u00b8\u00b6\3\2\2\2\u00b9"+
+		"\u00ba\7\17\2\2\u00ba\27\3\2\2\2\u00bb\u00bf\7\16\2\2\u00bc\u00be\5\30"+
+		"\r\2\u00bd\u00bc\3\2\2\2\u00be\u00c1\3\2\2\2\u00bf\u00bd\3\2\2\2\u00bf"+
+		"\u00c0\3\2\2\2\u00c0\u00c2\3\2\2\2\u00c1\u00bf\3\2\2\2\u00c2\u021f\7\17"+
+		"\2\2\u00c3\u00c7\7\30\2\2\u00c4\u00c6\5\4\3\2\u00c5\u00c4\3\2\2\2\u00c6"+
+		"\u00c9\3\2\2\2\u00c7\u00c5\3\2\2\2\u00c7\u00c8\3\2\2\2\u00c8\u021f\3\2"+
+		"\2\2\u00c9\u00c7\3\2\2\2\u00ca\u00cc\7\31\2\2\u00cb\u00cd\5 \21\2\u00cc"+
+		"\u00cb\3\2\2\2\u00cc\u00cd\3\2\2\2\u00cd\u00d1\3\2\2\2\u00ce\u00d0\5\4"+
+		"\3\2\u00cf\u00ce\3\2\2\2\u00d0\u00d3\3\2\2\2\u00d1\u00cf\3\2\2\2\u00d1"+
+		"\u00d2\3\2\2\2\u00d2\u021f\3\2\2\2\u00d3\u00d1\3\2\2\2\u00d4\u00d6\7\32"+
+		"\2\2\u00d5\u00d7\5 \21\2\u00d6\u00d5\3\2\2\2\u00d6\u00d7\3\2\2\2\u00d7"+
+		"\u00db\3\2\2\2\u00d8\u00da\5\4\3\2\u00d9\u00d8\3\2\2\2\u00da\u00dd\3\2"+
+		"\2\2\u00db\u00d9\3\2\2\2\u00db\u00dc\3\2\2\2\u00dc\u021f\3\2\2\2\u00dd"+
+		"\u00db\3\2\2\2\u00de\u00e2\7\33\2\2\u00df\u00e1\5\4\3\2\u00e0\u00df\3"+
+		"\2\2\2\u00e1\u00e4\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2\u00e3\3\2\2\2\u00e3"+
+		"\u021f\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e5\u00e7\7\34\2\2\u00e6\u00e8\5"+
+		" \21\2\u00e7\u00e6\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00ec\3\2\2\2\u00e9"+
+		"\u00eb\5\4\3\2\u00ea\u00e9\3\2\2\2\u00eb\u00ee\3\2\2\2\u00ec\u00ea\3\2"+
+		"\2\2\u00ec\u00ed\3\2\2\2\u00ed\u021f\3\2\2\2\u00ee\u00ec\3\2\2\2\u00ef"+
+		"\u00f1\7\35\2\2\u00f0\u00f2\5 \21\2\u00f1\u00f0\3\2\2\2\u00f1\u00f2\3"+
+		"\2\2\2\u00f2\u00f6\3\2\2\2\u00f3\u00f5\5\4\3\2\u00f4\u00f3\3\2\2\2\u00f5"+
+		"\u00f8\3\2\2\2\u00f6\u00f4\3\2\2\2\u00f6\u00f7\3\2\2\2\u00f7\u021f\3\2"+
+		"\2\2\u00f8\u00f6\3\2\2\2\u00f9\u00fb\7\36\2\2\u00fa\u00fc\5 \21\2\u00fb"+
+		"\u00fa\3\2\2\2\u00fb\u00fc\3\2\2\2\u00fc\u0100\3\2\2\2\u00fd\u00ff\5\4"+
+		"\3\2\u00fe\u00fd\3\2\2\2\u00ff\u0102\3\2\2\2\u0100\u00fe\3\2\2\2\u0100"+
+		"\u0101\3\2\2\2\u0101\u021f\3\2\2\2\u0102\u0100\3\2\2\2\u0103\u0105\7\37"+
+		"\2\2\u0104\u0106\5 \21\2\u0105\u0104\3\2\2\2\u0105\u0106\3\2\2\2\u0106"+
+		"\u010a\3\2\2\2\u0107\u0109\5\4\3\2\u0108\u0107\3\2\2\2\u0109\u010c\3\2"+
+		"\2\2\u010a\u0108\3\2\2\2\u010a\u010b\3\2\2\2\u010b\u021f\3\2\2\2\u010c"+
+		"\u010a\3\2\2\2\u010d\u010f\7 \2\2\u010e\u0110\5 \21\2\u010f\u010e\3\2"+
+		"\2\2\u010f\u0110\3\2\2\2\u0110\u0114\3\2\2\2\u0111\u0113\5\4\3\2\u0112"+
+		"\u0111\3\2\2\2\u0113\u0116\3\2\2\2\u0114\u0112\3\2\2\2\u0114\u0115\3\2"+
+		"\2\2\u0115\u021f\3\2\2\2\u0116\u0114\3\2\2\2\u0117\u0119\7!\2\2\u0118"+
+		"\u011a\5 \21\2\u0119\u0118\3\2\2\2\u0119\u011a\3\2\2\2\u011a\u011e\3\2"+
+		"\2\2\u011b\u011d\5\4\3\2\u011c\u011b\3\2\2\2\u011d\u0120\3\2\2\2\u011e"+
+		"\u011c\3\2\2\2\u011e\u011f\3\2\2\2\u011f\u021f\3\2\2\2\u0120\u011e\3\2"+
+		"\2\2\u0121\u0122\7\"\2\2\u0122\u0126\5\30\r\2\u0123\u0125\5\4\3\2\u0124"+
+		"\u0123\3\2\2\2\u0125\u0128\3\2\2\2\u0126\u0124\3\2\2\2\u0126\u0127\3\2"+
+		"\2\2\u0127\u0137\3\2\2\2\u0128\u0126\3\2\2\2\u0129\u012a\7#\2\2\u012a"+
+		"\u012b\7\24\2\2\u012b\u012c\5\n\6\2\u012c\u012d\7_\2\2\u012d\u012e\7\25"+
+		"\2\2\u012e\u0132\5\30\r\2\u012f\u0131\5\4\3\2\u0130\u012f\3\2\2\2\u0131"+
+		"\u0134\3\2\2\2\u0132\u0130\3\2\2\2\u0132\u0133\3\2\2\2\u0133\u0136\3\2"+
+		"\2\2\u0134\u0132\3\2\2\2\u0135\u0129\3\2\2\2\u0136\u0139\3\2\2\2\u0137"+
+		"\u0135\3\2\2\2\u0137\u0138\3\2\2\2\u0138\u0142\3\2\2\2\u0139\u0137\3\2"+
+		"\2\2\u013a\u013b\7$\2\2\u013b\u013f\5\30\r\2\u013c\u013e\5\4\3\2\u013d"+
+		"\u013c\3\2\2\2\u013e\u0141\3\2\2\2\u013f\u013d\3\2\2\2\u013f\u0140\3\2"+
+		"\2\2\u0140\u0143\3\2\2\2\u0141\u013f\3\2\2\2\u0142\u013a\3\2\2\2\u0142"+
+		"\u0143\3\2\2\2\u0143\u021f\3\2\2\2\u0144\u0145\7%\2\2\u0145\u0149\5 \21"+
+		"\2\u0146\u0148\5\4\3\2\u0147\u0146\3\2\2\2\u0148\u014b\3\2\2\2\u0149\u0147"+
+		"\3\2\2\2\u0149\u014a\3\2\2\2\u014a\u021f\3\2\2\2\u014b\u0149\3\2\2\2\u014c"+
+		"\u014d\7&\2\2\u014d\u014f\7\24\2\2\u014e\u0150\5\32\16\2\u014f\u014e\3"+
+		"\2\2\2\u014f\u0150\3\2\2\2\u0150\u0151\3\2\2\2\u0151\u0153\7\3\2\2\u0152"+
+		"\u0154\5\34\17\2\u0153\u0152\3\2\2\2\u0153\u0154\3\2\2\2\u0154\u0155\3"+
+		"\2\2\2\u0155\u0157\7\3\2\2\u0156\u0158\5\36\20\2\u0157\u0156\3\2\2\2\u0157"+
+		"\u0158\3\2\2\2\u0158\u0159\3\2\2\2\u0159\u015a\7\25\2\2\u015a\u015e\5"+
+		"\30\r\2\u015b\u015d\5\4\3\2\u015c\u015b\3\2\2\2\u015d\u0160\3\2\2\2\u015e"+
+		"\u015c\3\2\2\2\u015e\u015f\3\2\2\2\u015f\u021f\3\2\2\2\u0160\u015e\3\2"+
+		"\2\2\u0161\u0162\7&\2\2\u0162\u0163\7\24\2\2\u0163\u0164\5\f\7\2\u0164"+
+		"\u0165\7\'\2\2\u0165\u0166\5 \21\2\u0166\u0167\7\25\2\2\u0167\u016b\5"+
+		"\30\r\2\u0168\u016a\5\4\3\2\u0169\u0168\3\2\2\2\u016a\u016d\3\2\2\2\u016b"+
+		"\u0169\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u021f\3\2\2\2\u016d\u016b\3\2"+
+		"\2\2\u016e\u016f\7(\2\2\u016f\u0170\7\24\2\2\u0170\u0171\5 \21\2\u0171"+
+		"\u0172\7\25\2\2\u0172\u0176\5\30\r\2\u0173\u0175\5\4\3\2\u0174\u0173\3"+
+		"\2\2\2\u0175\u0178\3\2\2\2\u0176\u0174\3\2\2\2\u0176\u0177\3\2\2\2\u0177"+
+		"\u0181\3\2\2\2\u0178\u0176\3\2\2\2\u0179\u017a\7)\2\2\u017a\u017e\5\30"+
+		"\r\2\u017b\u017d\5\4\3\2\u017c\u017b\3\2\2\2\u017d\u0180\3\2\2\2\u017e"+
+		"\u017c\3\2\2\2\u017e\u017f\3\2\2\2\u017f\u0182\3\2\2\2\u0180\u017e\3\2"+
+		"\2\2\u0181\u0179\3\2\2\2\u0181\u0182\3\2\2\2\u0182\u021f\3\2\2\2\u0183"+
+		"\u0184\7*\2\2\u0184\u0188\5 \21\2\u0185\u0187\5\4\3\2\u0186\u0185\3\2"+
+		"\2\2\u0187\u018a\3\2\2\2\u0188\u0186\3\2\2\2\u0188\u0189\3\2\2\2\u0189"+
+		"\u021f\3\2\2\2\u018a\u0188\3\2\2\2\u018b\u018d\7+\2\2\u018c\u018e\5 \21"+
+		"\2\u018d\u018c\3\2\2\2\u018d\u018e\3\2\2\2\u018e\u0192\3\2\2\2\u018f\u0191"+
+		"\5\4\3\2\u0190\u018f\3\2\2\2\u0191\u0194\3\2\2\2\u0192\u0190\3\2\2\2\u0192"+
+		"\u0193\3\2\2\2\u0193\u021f\3\2\2\2\u0194\u0192\3\2\2\2\u0195\u019e\7,"+
+		"\2\2\u0196\u019b\5 \21\2\u0197\u0198\7\6\2\2\u0198\u019a\5 \21\2\u0199"+
+		"\u0197\3\2\2\2\u019a\u019d\3\2\2\2\u019b\u0199\3\2\2\2\u019b\u019c\3\2"+
+		"\2\2\u019c\u019f\3\2\2\2\u019d\u019b\3\2\2\2\u019e\u0196\3\2\2\2\u019e"+
+		"\u019f\3\2\2\2\u019f\u01a3\3\2\2\2\u01a0\u01a2\5\4\3\2\u01a1\u01a0\3\2"+
+		"\2\2\u01a2\u01a5\3\2\2\2\u01a3\u01a1\3\2\2\2\u01a3\u01a4\3\2\2\2\u01a4"+
+		"\u021f\3\2\2\2\u01a5\u01a3\3\2\2\2\u01a6\u01a7\7-\2\2\u01a7\u01a9\7\24"+
+		"\2\2\u01a8\u01aa\5 \21\2\u01a9\u01a8\3\2\2\2\u01a9\u01aa\3\2\2\2\u01aa"+
+		"\u01ab\3\2\2\2\u01ab\u01ac\7\25\2\2\u01ac\u01b0\7\16\2\2\u01ad\u01af\5"+
+		"\4\3\2\u01ae\u01ad\3\2\2\2\u01af\u01b2\3\2\2\2\u01b0\u01ae\3\2\2\2\u01b0"+
+		"\u01b1\3\2\2\2\u01b1\u01c4\3\2\2\2\u01b2\u01b0\3\2\2\2\u01b3\u01b4\7."+
+		"\2\2\u01b4\u01b5\5 \21\2\u01b5\u01b9\7\'\2\2\u01b6\u01b8\5\30\r\2\u01b7"+
+		"\u01b6\3\2\2\2\u01b8\u01bb\3\2\2\2\u01b9\u01b7\3\2\2\2\u01b9\u01ba\3\2"+
+		"\2\2\u01ba\u01bf\3\2\2\2\u01bb\u01b9\3\2\2\2\u01bc\u01be\5\4\3\2\u01bd"+
+		"\u01bc\3\2\2\2\u01be\u01c1\3\2\2\2\u01bf\u01bd\3\2\2\2\u01bf\u01c0\3\2"+
+		"\2\2\u01c0\u01c3\3\2\2\2\u01c1\u01bf\3\2\2\2\u01c2\u01b3\3\2\2\2\u01c3"+
+		"\u01c6\3\2\2\2\u01c4\u01c2\3\2\2\2\u01c4\u01c5\3\2\2\2\u01c5\u01cf\3\2"+
+		"\2\2\u01c6\u01c4\3\2\2\2\u01c7\u01c8\7/\2\2\u01c8\u01cc\7\'\2\2\u01c9"+
+		"\u01cb\5\30\r\2\u01ca\u01c9\3\2\2\2\u01cb\u01ce\3\2\2\2\u01cc\u01ca\3"+
+		"\2\2\2\u01cc\u01cd\3\2\2\2\u01cd\u01d0\3\2\2\2\u01ce\u01cc\3\2\2\2\u01cf"+
+		"\u01c7\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0\u01e2\3\2\2\2\u01d1\u01d2\7."+
+		"\2\2\u01d2\u01d3\5 \21\2\u01d3\u01d7\7\'\2\2\u01d4\u01d6\5\30\r\2\u01d5"+
+		"\u01d4\3\2\2\2\u01d6\u01d9\3\2\2\2\u01d7\u01d5\3\2\2\2\u01d7\u01d8\3\2"+
+		"\2\2\u01d8\u01dd\3\2\2\2\u01d9\u01d7\3\2\2\2\u01da\u01dc\5\4\3\2\u01db"+
+		"\u01da\3\2\2\2\u01dc\u01df\3\2\2\2\u01dd\u01db\3\2\2\2\u01dd\u01de\3\2"+
+		"\2\2\u01de\u01e1\3\2\2\2\u01df\u01dd\3\2\2\2\u01e0\u01d1\3\2\2\2\u01e1"+
+		"\u01e4\3\2\2\2\u01e2\u01e0\3\2\2\2\u01e2\u01e3\3\2\2\2\u01e3\u01e5\3\2"+
+		"\2\2\u01e4\u01e2\3\2\2\2\u01e5\u01e9\7\17\2\2\u01e6\u01e8\5\4\3\2\u01e7"+
+		"\u01e6\3\2\2\2\u01e8\u01eb\3\2\2\2\u01e9\u01e7\3\2\2\2\u01e9\u01ea\3\2"+
+		"\2\2\u01ea\u021f\3\2\2\2\u01eb\u01e9\3\2\2\2\u01ec\u01ed\7\60\2\2\u01ed"+
+		"\u01ef\7\24\2\2\u01ee\u01f0\5 \21\2\u01ef\u01ee\3\2\2\2\u01ef\u01f0\3"+
+		"\2\2\2\u01f0\u01f1\3\2\2\2\u01f1\u01f2\7\25\2\2\u01f2\u01f6\5\30\r\2\u01f3"+
+		"\u01f5\5\4\3\2\u01f4\u01f3\3\2\2\2\u01f5\u01f8\3\2\2\2\u01f6\u01f4\3\2"+
+		"\2\2\u01f6\u01f7\3\2\2\2\u01f7\u021f\3\2\2\2\u01f8\u01f6\3\2\2\2\u01f9"+
+		"\u01fd\5\22\n\2\u01fa\u01fc\5\4\3\2\u01fb\u01fa\3\2\2\2\u01fc\u01ff\3"+
+		"\2\2\2\u01fd\u01fb\3\2\2\2\u01fd\u01fe\3\2\2\2\u01fe\u021f\3\2\2\2\u01ff"+
+		"\u01fd\3\2\2\2\u0200\u0204\5\f\7\2\u0201\u0203\5\4\3\2\u0202\u0201\3\2"+
+		"\2\2\u0203\u0206\3\2\2\2\u0204\u0202\3\2\2\2\u0204\u0205\3\2\2\2\u0205"+
+		"\u021f\3\2\2\2\u0206\u0204\3\2\2\2\u0207\u020b\5\26\f\2\u0208\u020a\5"+
+		"\4\3\2\u0209\u0208\3\2\2\2\u020a\u020d\3\2\2\2\u020b\u0209\3\2\2\2\u020b"+
+		"\u020c\3\2\2\2\u020c\u021f\3\2\2\2\u020d\u020b\3\2\2\2\u020e\u0212\5 "+
+		"\21\2\u020f\u0211\5\4\3\2\u0210\u020f\3\2\2\2\u0211\u0214\3\2\2\2\u0212"+
+		"\u0210\3\2\2\2\u0212\u0213\3\2\2\2\u0213\u021f\3\2\2\2\u0214\u0212\3\2"+
+		"\2\2\u0215\u0219\5\6\4\2\u0216\u0218\5\4\3\2\u0217\u0216\3\2\2\2\u0218"+
+		"\u021b\3\2\2\2\u0219\u0217\3\2\2\2\u0219\u021a\3\2\2\2\u021a\u021f\3\2"+
+		"\2\2\u021b\u0219\3\2\2\2\u021c\u021f\7Y\2\2\u021d\u021f\5\4\3\2\u021e"+
+		"\u00bb\3\2\2\2\u021e\u00c3\3\2\2\2\u021e\u00ca\3\2\2\2\u021e\u00d4\3\2"+
+		"\2\2\u021e\u00de\3\2\2\2\u021e\u00e5\3\2\2\2\u021e\u00ef\3\2\2\2\u021e"+
+		"\u00f9\3\2\2\2\u021e\u0103\3\2\2\2\u021e\u010d\3\2\2\2\u021e\u0117\3\2"+
+		"\2\2\u021e\u0121\3\2\2\2\u021e\u0144\3\2\2\2\u021e\u014c\3\2\2\2\u021e"+
+		"\u0161\3\2\2\2\u021e\u016e\3\2\2\2\u021e\u0183\3\2\2\2\u021e\u018b\3\2"+
+		"\2\2\u021e\u0195\3\2\2\2\u021e\u01a6\3\2\2\2\u021e\u01ec\3\2\2\2\u021e"+
+		"\u01f9\3\2\2\2\u021e\u0200\3\2\2\2\u021e\u0207\3\2\2\2\u021e\u020e\3\2"+
+		"\2\2\u021e\u0215\3\2\2\2\u021e\u021c\3\2\2\2\u021e\u021d\3\2\2\2\u021f"+
+		"\31\3\2\2\2\u0220\u0223\5\f\7\2\u0221\u0223\5\"\22\2\u0222\u0220\3\2\2"+
+		"\2\u0222\u0221\3\2\2\2\u0223\33\3\2\2\2\u0224\u0225\5 \21\2\u0225\35\3"+
+		"\2\2\2\u0226\u0227\5\"\22\2\u0227\37\3\2\2\2\u0228\u0229\b\21\1\2\u0229"+
+		"\u02b9\7S\2\2\u022a\u02b9\7T\2\2\u022b\u02b9\7U\2\2\u022c\u02b9\7V\2\2"+
+		"\u022d\u02b9\7W\2\2\u022e\u02b9\7X\2\2\u022f\u0230\7\24\2\2\u0230\u0231"+
+		"\7_\2\2\u0231\u0232\7\25\2\2\u0232\u02b9\5 \21)\u0233\u0234\7\62\2\2\u0234"+
+		"\u0235\7_\2\2\u0235\u023e\7\24\2\2\u0236\u023b\5 \21\2\u0237\u0238\7\6"+
+		"\2\2\u0238\u023a\5 \21\2\u0239\u0237\3\2\2\2\u023a\u023d\3\2\2\2\u023b"+
+		"\u0239\3\2\2\2\u023b\u023c\3\2\2\2\u023c\u023f\3\2\2\2\u023d\u023b\3\2"+
+		"\2\2\u023e\u0236\3\2\2\2\u023e\u023f\3\2\2\2\u023f\u0240\3\2\2\2\u0240"+
+		"\u02b9\7\25\2\2\u0241\u0242\7_\2\2\u0242\u024b\7\24\2\2\u0243\u0248\5"+
+		" \21\2\u0244\u0245\7\6\2\2\u0245\u0247\5 \21\2\u0246\u0244\3\2\2\2\u0247"+
+		"\u024a\3\2\2\2\u0248\u0246\3\2\2\2\u0248\u0249\3\2\2\2\u0249\u024c\3\2"+
+		"\2\2\u024a\u0248\3\2\2\2\u024b\u0243\3\2\2\2\u024b\u024c\3\2\2\2\u024c"+
+		"\u024d\3\2\2\2\u024d\u02b9\7\25\2\2\u024e\u02b9\7_\2\2\u024f\u0250\t\4"+
+		"\2\2\u0250\u02b9\5 \21\"\u0251\u0252\7\65\2\2\u0252\u02b9\5 \21 \u0253"+
+		"\u0254\7\66\2\2\u0254\u02b9\5 \21\37\u0255\u0256\t\5\2\2\u0256\u02b9\5"+
+		" \21\33\u0257\u0258\7\24\2\2\u0258\u0259\5 \21\2\u0259\u025a\7\25\2\2"+
+		"\u025a\u02b9\3\2\2\2\u025b\u025c\7\f\2\2\u025c\u02b9\7\r\2\2\u025d\u025e"+
+		"\7\f\2\2\u025e\u0263\5 \21\2\u025f\u0260\7\6\2\2\u0260\u0262\5 \21\2\u0261"+
+		"\u025f\3\2\2\2\u0262\u0265\3\2\2\2\u0263\u0261\3\2\2\2\u0263\u0264\3\2"+
+		"\2\2\u0264\u0266\3\2\2\2\u0265\u0263\3\2\2\2\u0266\u0267\7\r\2\2\u0267"+
+		"\u02b9\3\2\2\2\u0268\u0269\7\16\2\2\u0269\u02b9\7\17\2\2\u026a\u026b\7"+
+		"\16\2\2\u026b\u026c\5 \21\2\u026c\u026d\7G\2\2\u026d\u0275\5 \21\2\u026e"+
+		"\u026f\7\6\2\2\u026f\u0270\5 \21\2\u0270\u0271\7G\2\2\u0271\u0272\5 \21"+
+		"\2\u0272\u0274\3\2\2\2\u0273\u026e\3\2\2\2\u0274\u0277\3\2\2\2\u0275\u0273"+
+		"\3\2\2\2\u0275\u0276\3\2\2\2\u0276\u0278\3\2\2\2\u0277\u0275\3\2\2\2\u0278"+
+		"\u0279\7\17\2\2\u0279\u02b9\3\2\2\2\u027a\u02b9\7Z\2\2\u027b\u02b9\7["+
+		"\2\2\u027c\u0288\7H\2\2\u027d\u027e\7\24\2\2\u027e\u0283\5 \21\2\u027f"+
+		"\u0280\7\6\2\2\u0280\u0282\5 \21\2\u0281\u027f\3\2\2\2\u0282\u0285\3\2"+
+		"\2\2\u0283\u0281\3\2\2\2\u0283\u0284\3\2\2\2\u0284\u0286\3\2\2\2\u0285"+
+		"\u0283\3\2\2\2\u0286\u0287\7\25\2\2\u0287\u0289\3\2\2\2\u0288\u027d\3"+
+		"\2\2\2\u0288\u0289\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u02b9\5\30\r\2\u028b"+
+		"\u028c\7I\2\2\u028c\u028d\7\24\2\2\u028d\u0292\5 \21\2\u028e\u028f\7\6"+
+		"\2\2\u028f\u0291\5 \21\2\u0290\u028e\3\2\2\2\u0291\u0294\3\2\2\2\u0292"+
+		"\u0290\3\2\2\2\u0292\u0293\3\2\2\2\u0293\u0295\3\2\2\2\u0294\u0292\3\2"+
+		"\2\2\u0295\u0296\7\25\2\2\u0296\u0297\5\30\r\2\u0297\u02b9\3\2\2\2\u0298"+
+		"\u0299\7J\2\2\u0299\u02b9\5 \21\r\u029a\u02a6\t\6\2\2\u029b\u029c\7\24"+
+		"\2\2\u029c\u02a1\5 \21\2\u029d\u029e\7\6\2\2\u029e\u02a0\5 \21\2\u029f"+
+		"\u029d\3\2\2\2\u02a0\u02a3\3\2\2\2\u02a1\u029f\3\2\2\2\u02a1\u02a2\3\2"+
+		"\2\2\u02a2\u02a4\3\2\2\2\u02a3\u02a1\3\2\2\2\u02a4\u02a5\7\25\2\2\u02a5"+
+		"\u02a7\3\2\2\2\u02a6\u029b\3\2\2\2\u02a6\u02a7\3\2\2\2\u02a7\u02a8\3\2"+
+		"\2\2\u02a8\u02b9\5\30\r\2\u02a9\u02aa\7\24\2\2\u02aa\u02ad\5 \21\2\u02ab"+
+		"\u02ac\7\6\2\2\u02ac\u02ae\5 \21\2\u02ad\u02ab\3\2\2\2\u02ae\u02af\3\2"+
+		"\2\2\u02af\u02ad\3\2\2\2\u02af\u02b0\3\2\2\2\u02b0\u02b1\3\2\2\2\u02b1"+
+		"\u02b2\7\25\2\2\u02b2\u02b3\7\22\2\2\u02b3\u02b4\5 \21\5\u02b4\u02b9\3"+
+		"\2\2\2\u02b5\u02b6\7_\2\2\u02b6\u02b7\7\23\2\2\u02b7\u02b9\5 \21\3\u02b8"+
+		"\u0228\3\2\2\2\u02b8\u022a\3\2\2\2\u02b8\u022b\3\2\2\2\u02b8\u022c\3\2"+
+		"\2\2\u02b8\u022d\3\2\2\2\u02b8\u022e\3\2\2\2\u02b8\u022f\3\2\2\2\u02b8"+
+		"\u0233\3\2\2\2\u02b8\u0241\3\2\2\2\u02b8\u024e\3\2\2\2\u02b8\u024f\3\2"+
+		"\2\2\u02b8\u0251\3\2\2\2\u02b8\u0253\3\2\2\2\u02b8\u0255\3\2\2\2\u02b8"+
+		"\u0257\3\2\2\2\u02b8\u025b\3\2\2\2\u02b8\u025d\3\2\2\2\u02b8\u0268\3\2"+
+		"\2\2\u02b8\u026a\3\2\2\2\u02b8\u027a\3\2\2\2\u02b8\u027b\3\2\2\2\u02b8"+
+		"\u027c\3\2\2\2\u02b8\u028b\3\2\2\2\u02b8\u0298\3\2\2\2\u02b8\u029a\3\2"+
+		"\2\2\u02b8\u02a9\3\2\2\2\u02b8\u02b5\3\2\2\2\u02b9\u0307\3\2\2\2\u02ba"+
+		"\u02bb\f\36\2\2\u02bb\u02bc\t\7\2\2\u02bc\u0306\5 \21\37\u02bd\u02be\f"+
+		"\35\2\2\u02be\u02bf\t\5\2\2\u02bf\u0306\5 \21\36\u02c0\u02c1\f\34\2\2"+
+		"\u02c1\u02c2\t\b\2\2\u02c2\u0306\5 \21\35\u02c3\u02c4\f\32\2\2\u02c4\u02c5"+
+		"\t\t\2\2\u02c5\u0306\5 \21\33\u02c6\u02c7\f\31\2\2\u02c7\u02c8\t\n\2\2"+
+		"\u02c8\u0306\5 \21\32\u02c9\u02ca\f\27\2\2\u02ca\u02cb\7E\2\2\u02cb\u02cc"+
+		"\5 \21\2\u02cc\u02cd\7\'\2\2\u02cd\u02ce\5 \21\30\u02ce\u0306\3\2\2\2"+
+		"\u02cf\u02d0\f\26\2\2\u02d0\u02d1\7F\2\2\u02d1\u0306\5 \21\27\u02d2\u02d3"+
+		"\f\13\2\2\u02d3\u02d4\7M\2\2\u02d4\u0306\5 \21\f\u02d5\u02d6\f\n\2\2\u02d6"+
+		"\u02d7\7N\2\2\u02d7\u0306\5 \21\13\u02d8\u02d9\f\t\2\2\u02d9\u02da\7O"+
+		"\2\2\u02da\u0306\5 \21\n\u02db\u02dc\f\b\2\2\u02dc\u02dd\7P\2\2\u02dd"+
+		"\u0306\5 \21\t\u02de\u02df\f\7\2\2\u02df\u02e0\7Q\2\2\u02e0\u0306\5 \21"+
+		"\b\u02e1\u02e2\f\6\2\2\u02e2\u02e3\7R\2\2\u02e3\u0306\5 \21\7\u02e4\u02e5"+
+		"\f\4\2\2\u02e5\u02e6\7\22\2\2\u02e6\u0306\5 \21\5\u02e7\u02e8\f*\2\2\u02e8"+
+		"\u02e9\7\61\2\2\u02e9\u02ea\7_\2\2\u02ea\u02f3\7\24\2\2\u02eb\u02f0\5"+
+		" \21\2\u02ec\u02ed\7\6\2\2\u02ed\u02ef\5 \21\2\u02ee\u02ec\3\2\2\2\u02ef"+
+		"\u02f2\3\2\2\2\u02f0\u02ee\3\2\2\2\u02f0\u02f1\3\2\2\2\u02f1\u02f4\3\2"+
+		"\2\2\u02f2\u02f0\3\2\2\2\u02f3\u02eb\3\2\2\2\u02f3\u02f4\3\2\2\2\u02f4"+
+		"\u02f5\3\2\2\2\u02f5\u0306\7\25\2\2\u02f6\u02f7\f&\2\2\u02f7\u02f8\7\61"+
+		"\2\2\u02f8\u0306\7_\2\2\u02f9\u02fa\f$\2\2\u02fa\u02fb\7\f\2\2\u02fb\u02fc"+
+		"\5 \21\2\u02fc\u02fd\7\r\2\2\u02fd\u0306\3\2\2\2\u02fe\u02ff\f#\2\2\u02ff"+
+		"\u0300\7\16\2\2\u0300\u0301\5 \21\2\u0301\u0302\7\17\2\2\u0302\u0306\3"+
+		"\2\2\2\u0303\u0304\f!\2\2\u0304\u0306\t\4\2\2\u0305\u02ba\3\2\2\2\u0305"+
+		"\u02bd\3\2\2\2\u0305\u02c0\3\2\2\2\u0305\u02c3\3\2\2\2\u0305\u02c6\3\2"+
+		"\2\2\u0305\u02c9\3\2\2\2\u0305\u02cf\3\2\2\2\u0305\u02d2\3\2\2\2\u0305"+
+		"\u02d5\3\2\2\2\u0305\u02d8\3\2\2\2\u0305\u02db\3\2\2\2\u0305\u02de\3\2"+
+		"\2\2\u0305\u02e1\3\2\2\2\u0305\u02e4\3\2\2\2\u0305\u02e7\3\2\2\2\u0305"+
+		"\u02f6\3\2\2\2\u0305\u02f9\3\2\2\2\u0305\u02fe\3\2\2\2\u0305\u0303\3\2"+
+		"\2\2\u0306\u0309\3\2\2\2\u0307\u0305\3\2\2\2\u0307\u0308\3\2\2\2\u0308"+
+		"!\3\2\2\2\u0309\u0307\3\2\2\2\u030a\u030f\5 \21\2\u030b\u030c\7\6\2\2"+
+		"\u030c\u030e\5 \21\2\u030d\u030b\3\2\2\2\u030e\u0311\3\2\2\2\u030f\u030d"+
+		"\3\2\2\2\u030f\u0310\3\2\2\2\u0310#\3\2\2\2\u0311\u030f\3\2\2\2e\'-\64"+
+		"?N[]fjorx~\u0084\u008e\u0095\u0098\u009f\u00a4\u00a9\u00b0\u00b6\u00bf"+
+		"\u00c7\u00cc\u00d1\u00d6\u00db\u00e2\u00e7\u00ec\u00f1\u00f6\u00fb\u0100"+
+		"\u0105\u010a\u010f\u0114\u0119\u011e\u0126\u0132\u0137\u013f\u0142\u0149"+
+		"\u014f\u0153\u0157\u015e\u016b\u0176\u017e\u0181\u0188\u018d\u0192\u019b"+
+		"\u019e\u01a3\u01a9\u01b0\u01b9\u01bf\u01c4\u01cc\u01cf\u01d7\u01dd\u01e2"+
+		"\u01e9\u01ef\u01f6\u01fd\u0204\u020b\u0212\u0219\u021e\u0222\u023b\u023e"+
+		"\u0248\u024b\u0263\u0275\u0283\u0288\u0292\u02a1\u02a6\u02af\u02b8\u02f0"+
+		"\u02f3\u0305\u0307\u030f";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -33,6 +33,7 @@ public class Bds implements BdsLog {
 	Boolean noCheckpoint; // Do not create checkpoint files
 	Boolean noRmOnExit; // Do not remove temp files on exit
 	String pidFile; // File to store PIDs
+	boolean profile; // Profile bds code
 	String programFileName; // Program file name
 	String queue; // Queue name
 	boolean quiet; // Quiet mode
@@ -69,6 +70,7 @@ public class Bds implements BdsLog {
 		config.setExtractSource(extractSource);
 		config.setLog(log);
 		config.setDryRun(dryRun);
+		config.setProfile(profile);
 		config.setQuiet(quiet);
 		config.setReportFileName(reportFileName);
 		config.setTaskFailCount(taskFailCount);
@@ -116,7 +118,7 @@ public class Bds implements BdsLog {
 			return true;
 		}
 
-		return remote.download(local);
+		return remote.downloadCached(local);
 	}
 
 	/**
@@ -275,6 +277,10 @@ public class Bds implements BdsLog {
 					else usage("Option '-pid' without file argument");
 					break;
 
+				case "-profile":
+					profile = true;
+					break;
+
 				case "-q":
 				case "-queue":
 					// Queue name
@@ -460,6 +466,7 @@ public class Bds implements BdsLog {
 		System.err.println("  -noReportHtml                  : Do not create HTML reports.");
 		System.err.println("  -noReportYaml                  : Do not create YAML reports.");
 		System.err.println("  -noRmOnExit                    : Do not remove files marked for deletion on exit (rmOnExit).");
+		System.err.println("  -profile                       : Sample bds threads and create profile files (time per source line and flame-graph compatible stacks).");
 		System.err.println("  [-q | -queue  ] queueName      : Set default queue name.");
 		System.err.println("  -quiet                         : Do not show any messages or tasks outputs on STDOUT. Default: " + quiet + ".");
 		System.err.println("  -reportHtml                    : Create HTML report.");
@@ -15,6 +15,9 @@ import java.util.Properties;
 import org.bds.executioner.Executioners.ExecutionerType;
 import org.bds.executioner.MonitorTask;
 import org.bds.executioner.TaskLogger;
+import org.bds.executioner.TaskPlacement;
+import org.bds.executioner.TaskPlacementBestFit;
+import org.bds.run.Profiler;
 import org.bds.scope.GlobalScope;
 import org.bds.task.Tail;
 import org.bds.task.TailFile;
@@ -31,6 +34,7 @@ public class Config implements Serializable, BdsLog {
 
 	public static String BDS_HOME = Gpr.HOME + "/.bds"; // Bds home directory
 	public static final String BDS_INCLUDE_PATH = "BDS_PATH"; // BDS include path (colon separated list of directories to look for include files)
+	public static final String CHECKPOINT_ASYNC = "checkpointAsync"; // Write checkpoint files in the background
 	public static final String CLUSTER_GENERIC_KILL = "clusterGenericKill"; // Cluster: Generic cluster
 	public static final String CLUSTER_GENERIC_POSTMORTEMINFO = "clusterGenericPostMortemInfo";
 	public static final String CLUSTER_GENERIC_RUN = "clusterGenericRun";
@@ -46,12 +50,19 @@ public class Config implements Serializable, BdsLog {
 	public static final String CLUSTER_SGE_TIMEOUT_SOFT = "sge.timeoutSoft";
 	public static final String CLUSTER_SSH_NODES = "ssh.nodes"; // Cluster ssh
 	public static final String CLUSTER_STAT_ADDITIONAL_ARGUMENTS = "clusterStatAdditionalArgs"; // Cluster additional command line arguments (when requesting information about all tasks)
+	public static final String CLUSTER_SUBMIT_MAX_LATENCY = "clusterSubmitMaxLatency"; // Cluster: Submissions slower than this reduce concurrency (milliseconds)
+	public static final String CLUSTER_SUBMIT_THREADS = "clusterSubmitThreads"; // Cluster: Maximum number of concurrent submissions (e.g. 'qsub' commands)
 	private static Config configInstance = null; // Config is some kind of singleton because we want to make it accessible from everywhere
+	public static final String DATA_CACHE_DIR = "dataCacheDir"; // Shared (cross-run) cache directory for remote data files
+	public static final String DATA_CACHE_MAX_SIZE = "dataCacheMaxSize"; // Maximum size of the shared data cache
 	public static final String DEFAULT_CONFIG_BASENAME = "bds.config"; // We want to put bds.config together with bds executable
 	public static final String DEFAULT_CONFIG_DIR = BDS_HOME; // by default BDS_HOME == HOME
 	public static final String DEFAULT_CONFIG_FILE = DEFAULT_CONFIG_DIR + "/" + DEFAULT_CONFIG_BASENAME;
+	public static final String DEFAULT_DATA_CACHE_MAX_SIZE = "100G";
+	public static final long DEFAULT_HOST_LOAD_SAMPLE_TIME = 5;
 	public static final String DEFAULT_INCLUDE_DIR = DEFAULT_CONFIG_DIR + "/include";
 	public static final int DEFAULT_MAX_NUMBER_OF_RUNNING_THREADS = 512;
+	public static final String DEFAULT_TASK_CACHE_MAX_SIZE = "100G";
 	public static final String DEFAULT_TMP_DIR = "/tmp";
 	public static int DEFAULT_WAIT_AFTER_TASK_RUN = 0;
 	public static int DEFAULT_WAIT_FILE_CHECK = -1;
@@ -60,20 +71,31 @@ public class Config implements Serializable, BdsLog {
 	public static final String DISABLE_RM_ON_EXIT = "disableRmOnExit";
 	public static final String[] EMPTY_STRING_ARRAY = new String[0];
 	public static final String FILTER_OUT_TASK_HINT = "filterOutTaskHint"; // Lines to filter out from task hint
+	public static final String HOST_LOAD_SAMPLE_TIME = "hostLoadSampleTime"; // Seconds between samples of the local host's real load
 	public static final String MAX_NUMBER_OF_RUNNING_THREADS = "maxThreads";
 	public static final int MAX_NUMBER_OF_RUNNING_THREADS_MIN_VALUE = 50; // If maxThreads in configuration file is too small, we'll consider it an error and use this number
 	public static final String PID_CHECK_TASK_RUNNING_COLUMN = "pidColumnCheckTaskRunning"; // Regex used for checking PID
 	public static final String PID_CHECK_TASK_RUNNING_REGEX = "pidRegexCheckTaskRunning"; // Regex used for checking PID
 	public static final String PID_REGEX = "pidRegex"; // Regex used for PID
+	public static final String PROFILE_INTERVAL = "profileInterval"; // Milliseconds between profiler samples
 	public static final String QUEUE = "queue";
 	public static final String REPORT_HTML = "reportHtml"; // Create an HTML report
 	public static final String REPORT_YAML = "reportYaml"; // Create a YAML report
 	private static final long serialVersionUID = 6558109289073244716L;
 	public static final String SHOW_TASK_CODE = "showTaskCode"; // Always show task's code (sys commands)
+	public static final String SYS_COPROCESS = "sysCoprocess"; // Run 'sys' commands using a long-lived shell process
 	public static final String SYS_SHELL = "sysShell"; // Sys's shell
 	public static String SYS_SHELL_DEFAULT = "/bin/bash -euo pipefail -c"; // Note: This executes a script, so it requires the "-c" right before script name
 	public static final String TAIL_LINES = "tailLines"; // Number of lie to use in 'tail'
+	public static final String TASK_AGING_TIME = "taskAgingTime"; // Seconds waiting in the queue to increase a task's priority by one
+	public static final String TASK_CACHE_DIR = "taskCacheDir"; // Shared (cross-run) cache directory for task results
+	public static final String TASK_CACHE_MAX_SIZE = "taskCacheMaxSize"; // Maximum size of the task results cache
+	public static final String TASK_CPU_PINNING = "taskCpuPinning"; // Pin local tasks to their own CPUs
+	public static final String TASK_DIR_SHARDS = "taskDirShards"; // Number of sub-directories for task files
 	public static final String TASK_MAX_HINT_LEN = "taskMaxHintLen";
+	public static final String TASK_OUTPUT_COMPRESS = "taskOutputCompress"; // Compress task's STDOUT / STDERR segments
+	public static final String TASK_OUTPUT_MAX_SIZE = "taskOutputMaxSize"; // Maximum size of task's STDOUT / STDERR files
+	public static final String TASK_PLACEMENT = "taskPlacement"; // Task placement policy
 	public static final String TASK_PRELUDE = "taskPrelude"; // Task prelude
 	public static final String TASK_SHELL = "taskShell"; // Task's shell
 	public static final String TASK_SHELL_DEFAULT = "/bin/bash -eu\nset -o pipefail"; // Use '-euo pipefail' so that shell script stops after first error
@@ -82,13 +104,17 @@ public class Config implements Serializable, BdsLog {
 	public static final String WAIT_FILE_CHECK = "waitFileCheck";
 	public static final String WAIT_TEXT_FILE_BUSY = "waitTextFileBusy";
 
+	boolean checkpointAsync = true; // Write checkpoint files in the background ('checkpoint' statements)
 	String configDirName;
 	String configFileName;
 	boolean coverage; // Perform coverage analysis (only when test cases are run)
+	String dataCacheDir; // Shared data cache directory (empty means 'no cache')
+	long dataCacheMaxSize; // Shared data cache maximum size in bytes (non-positive means 'unlimited')
 	boolean debug = false; // Debug mode?
 	boolean dryRun = false; // Is this a dry run? (i.e. don't run commands, just show what they do).
 	boolean extractSource = false; // Extract source code from checkpoint file
 	ArrayList<String> filterOutTaskHint;
+	long hostLoadSampleTime = DEFAULT_HOST_LOAD_SAMPLE_TIME; // Seconds between samples of the local host's real load (non-positive means 'do not sample')
 	ArrayList<String> includePath;
 	boolean log = false; // Log all commands?
 	int maxThreads = -1; // Maximum number of simultaneous threads (e.g. when running 'qsub' commands)
@@ -98,6 +124,8 @@ public class Config implements Serializable, BdsLog {
 	String pidFile = "pidFile" + (new Date()).getTime() + ".txt"; // Default PID file
 	String pidRegex; // Regex used to extract PID from cluster command (e.g. qsub).
 	String pidRegexCheckTaskRunning; // Regex to match PID when bds checks that tasks are running in the cluster
+	boolean profile; // Profile bds code (sample threads)
+	long profileInterval = Profiler.DEFAULT_INTERVAL; // Milliseconds between profiler samples
 	Properties properties;
 	String queue; // Queue name
 	boolean quiet = false; // Quiet mode?
@@ -105,13 +133,22 @@ public class Config implements Serializable, BdsLog {
 	boolean reportHtml = false; // Use HTML report format
 	boolean reportYaml = false; // Use YAML report format
 	boolean showTaskCode; // Always show task's code (sys statements)
+	boolean sysCoprocess; // Run 'sys' commands using a long-lived shell process (one per bdsThread)
 	String sysShell; // System shell
 	String system; // System type
 	Tail tail;
 	int tailLines; // Number of lines to use in 'tail'
+	long taskAgingTime = TaskPlacementBestFit.DEFAULT_AGING_TIME; // Seconds waiting in the queue to increase a task's priority by one
+	boolean taskCpuPinning; // Pin local tasks to their own CPUs
+	int taskDirShards; // Number of sub-directories used for task files (non-positive means 'no sub-directories')
+	String taskCacheDir; // Task results cache directory (empty means 'no cache')
+	long taskCacheMaxSize; // Task results cache maximum size in bytes (non-positive means 'unlimited')
 	int taskFailCount = 0; // Number of times a task is allowed to fail (i.e. number of re-tries)
 	TaskLogger taskLogger;
 	Integer taskMaxHintLen; // Max number of characters to use in tasks's "hint"
+	boolean taskOutputCompress; // Compress task's STDOUT / STDERR segments
+	long taskOutputMaxSize; // Maximum size of task's STDOUT / STDERR files, output is split into segments (non-positive means 'unlimited')
+	String taskPlacement = TaskPlacement.FIRST_FIT; // Task placement policy
 	String taskPrelude; // Task prelude
 	String taskShell; // Task shell
 	String tmpDir; // Tmp directory
@@ -199,6 +236,14 @@ public class Config implements Serializable, BdsLog {
 		return configFileName;
 	}
 
+	public String getDataCacheDir() {
+		return dataCacheDir;
+	}
+
+	public long getDataCacheMaxSize() {
+		return dataCacheMaxSize;
+	}
+
 	/**
 	 * Get a property as a double
 	 */
@@ -212,6 +257,10 @@ public class Config implements Serializable, BdsLog {
 		return filterOutTaskHint;
 	}
 
+	public long getHostLoadSampleTime() {
+		return hostLoadSampleTime;
+	}
+
 	/**
 	 * A collection of strings showing where to search for include files
 	 */
@@ -280,6 +329,10 @@ public class Config implements Serializable, BdsLog {
 		return pidRegex;
 	}
 
+	public long getProfileInterval() {
+		return profileInterval;
+	}
+
 	public String getPidRegexCheckTasksRunning(String defaultPidRegex) {
 		if (pidRegexCheckTaskRunning == null || pidRegexCheckTaskRunning.isEmpty()) return defaultPidRegex;
 		return pidRegexCheckTaskRunning;
@@ -358,6 +411,8 @@ public class Config implements Serializable, BdsLog {
 			tail.setVerbose(isVerbose());
 			tail.setQuiet(isQuiet());
 			tail.start(); // Create a 'tail' process (to show STDOUT & STDERR from all processes)
+		} else if (tail.getState() == Thread.State.NEW) {
+			tail.start(); // Restored from a checkpoint, not running yet
 		}
 		return tail;
 	}
@@ -366,6 +421,22 @@ public class Config implements Serializable, BdsLog {
 		return tailLines;
 	}
 
+	public long getTaskAgingTime() {
+		return taskAgingTime;
+	}
+
+	public String getTaskCacheDir() {
+		return taskCacheDir;
+	}
+
+	public long getTaskCacheMaxSize() {
+		return taskCacheMaxSize;
+	}
+
+	public int getTaskDirShards() {
+		return taskDirShards;
+	}
+
 	public int getTaskFailCount() {
 		return taskFailCount;
 	}
@@ -381,6 +452,14 @@ public class Config implements Serializable, BdsLog {
 		return taskMaxHintLen;
 	}
 
+	public long getTaskOutputMaxSize() {
+		return taskOutputMaxSize;
+	}
+
+	public String getTaskPlacement() {
+		return taskPlacement;
+	}
+
 	public String getTaskPrelude() {
 		return taskPrelude;
 	}
@@ -405,6 +484,10 @@ public class Config implements Serializable, BdsLog {
 		return waitTextFileBusy;
 	}
 
+	public boolean isCheckpointAsync() {
+		return checkpointAsync;
+	}
+
 	public boolean isCoverage() {
 		return coverage;
 	}
@@ -435,6 +518,10 @@ public class Config implements Serializable, BdsLog {
 		return noRmOnExit;
 	}
 
+	public boolean isProfile() {
+		return profile;
+	}
+
 	public boolean isQuiet() {
 		return quiet;
 	}
@@ -451,6 +538,18 @@ public class Config implements Serializable, BdsLog {
 		return showTaskCode;
 	}
 
+	public boolean isSysCoprocess() {
+		return sysCoprocess;
+	}
+
+	public boolean isTaskCpuPinning() {
+		return taskCpuPinning;
+	}
+
+	public boolean isTaskOutputCompress() {
+		return taskOutputCompress;
+	}
+
 	@Override
 	public boolean isVerbose() {
 		return verbose;
@@ -477,20 +576,34 @@ public class Config implements Serializable, BdsLog {
 	 * Parse some values
 	 */
 	void parse() {
+		dataCacheDir = getString(DATA_CACHE_DIR, "");
+		dataCacheMaxSize = Gpr.parseMemSafe(getString(DATA_CACHE_MAX_SIZE, DEFAULT_DATA_CACHE_MAX_SIZE));
+		hostLoadSampleTime = getLong(HOST_LOAD_SAMPLE_TIME, DEFAULT_HOST_LOAD_SAMPLE_TIME);
 		maxThreads = (int) getLong(MAX_NUMBER_OF_RUNNING_THREADS, DEFAULT_MAX_NUMBER_OF_RUNNING_THREADS);
+		checkpointAsync = getBool(CHECKPOINT_ASYNC, true);
 		noCheckpoint = getBool(DISABLE_CHECKPOINT_CREATE, false);
 		noRmOnExit = getBool(DISABLE_RM_ON_EXIT, false);
 		pidRegex = getString(PID_REGEX, "").trim();
 		pidRegexCheckTaskRunning = getString(PID_CHECK_TASK_RUNNING_REGEX, "").trim();
+		profileInterval = getLong(PROFILE_INTERVAL, Profiler.DEFAULT_INTERVAL);
 		queue = getString(QUEUE, "");
 		showTaskCode = getBool(SHOW_TASK_CODE, false);
+		sysCoprocess = getBool(SYS_COPROCESS, false);
 		sysShell = getString(Config.SYS_SHELL, Config.SYS_SHELL_DEFAULT);
 		tailLines = (int) getLong(TAIL_LINES, TailFile.DEFAULT_TAIL);
 		reportHtml = getBool(REPORT_HTML, false);
 		reportYaml = getBool(REPORT_YAML, false);
 		system = getString(GlobalScope.GLOBAL_VAR_TASK_OPTION_SYSTEM, ExecutionerType.LOCAL.toString().toLowerCase());
+		taskAgingTime = getLong(TASK_AGING_TIME, TaskPlacementBestFit.DEFAULT_AGING_TIME);
+		taskCacheDir = getString(TASK_CACHE_DIR, "");
+		taskCacheMaxSize = Gpr.parseMemSafe(getString(TASK_CACHE_MAX_SIZE, DEFAULT_TASK_CACHE_MAX_SIZE));
+		taskCpuPinning = getBool(TASK_CPU_PINNING, false);
+		taskDirShards = getInt(TASK_DIR_SHARDS, 0);
 		taskFailCount = getInt(GlobalScope.GLOBAL_VAR_TASK_OPTION_RETRY, 0);
 		taskMaxHintLen = Gpr.parseIntSafe(properties.getProperty(TASK_MAX_HINT_LEN, Task.MAX_HINT_LEN + ""));
+		taskOutputCompress = getBool(TASK_OUTPUT_COMPRESS, false);
+		taskOutputMaxSize = Gpr.parseMemSafe(getString(TASK_OUTPUT_MAX_SIZE, "0"));
+		taskPlacement = getString(TASK_PLACEMENT, TaskPlacement.FIRST_FIT);
 		taskPrelude = getString(TASK_PRELUDE, "");
 		taskShell = getString(Config.TASK_SHELL, Config.TASK_SHELL_DEFAULT);
 		tmpDir = getString(TMP_DIR, DEFAULT_TMP_DIR);
@@ -560,10 +673,22 @@ public class Config implements Serializable, BdsLog {
 		properties.setProperty(propertyName, value);
 	}
 
+	public void setCheckpointAsync(boolean checkpointAsync) {
+		this.checkpointAsync = checkpointAsync;
+	}
+
 	public void setCoverage(boolean coverage) {
 		this.coverage = coverage;
 	}
 
+	public void setDataCacheDir(String dataCacheDir) {
+		this.dataCacheDir = dataCacheDir;
+	}
+
+	public void setDataCacheMaxSize(long dataCacheMaxSize) {
+		this.dataCacheMaxSize = dataCacheMaxSize;
+	}
+
 	public void setDebug(boolean debug) {
 		this.debug = debug;
 	}
@@ -592,6 +717,14 @@ public class Config implements Serializable, BdsLog {
 		this.pidFile = pidFile;
 	}
 
+	public void setProfile(boolean profile) {
+		this.profile = profile;
+	}
+
+	public void setProfileInterval(long profileInterval) {
+		this.profileInterval = profileInterval;
+	}
+
 	public void setQueue(String queue) {
 		this.queue = queue;
 	}
@@ -616,6 +749,10 @@ public class Config implements Serializable, BdsLog {
 		this.showTaskCode = showTaskCode;
 	}
 
+	public void setSysCoprocess(boolean sysCoprocess) {
+		this.sysCoprocess = sysCoprocess;
+	}
+
 	public void setSystem(String system) {
 		this.system = system;
 	}
@@ -624,10 +761,38 @@ public class Config implements Serializable, BdsLog {
 		this.tailLines = tailLines;
 	}
 
+	public void setTaskAgingTime(long taskAgingTime) {
+		this.taskAgingTime = taskAgingTime;
+	}
+
+	public void setTaskCacheDir(String taskCacheDir) {
+		this.taskCacheDir = taskCacheDir;
+	}
+
+	public void setTaskCacheMaxSize(long taskCacheMaxSize) {
+		this.taskCacheMaxSize = taskCacheMaxSize;
+	}
+
+	public void setTaskDirShards(int taskDirShards) {
+		this.taskDirShards = taskDirShards;
+	}
+
 	public void setTaskFailCount(int taskFailCount) {
 		this.taskFailCount = taskFailCount;
 	}
 
+	public void setTaskOutputCompress(boolean taskOutputCompress) {
+		this.taskOutputCompress = taskOutputCompress;
+	}
+
+	public void setTaskOutputMaxSize(long taskOutputMaxSize) {
+		this.taskOutputMaxSize = taskOutputMaxSize;
+	}
+
+	public void setTaskPlacement(String taskPlacement) {
+		this.taskPlacement = taskPlacement;
+	}
+
 	public void setTaskPrelude(String taskPrelude) {
 		this.taskPrelude = taskPrelude;
 	}
@@ -59,16 +59,16 @@ public class BigDataScriptLexer extends Lexer {
 
 	private static final String[] _LITERAL_NAMES = {
 		null, "';'", "'\n'", "'include'", "','", "'bool'", "'int'", "'real'", 
-		"'string'", "'void'", "'['", "']'", "'{'", "'}'", "'='", "':='", "'('", 
-		"')'", "'class'", "'extends'", "'break'", "'breakpoint'", "'checkpoint'", 
-		"'continue'", "'debug'", "'exit'", "'print'", "'println'", "'warning'", 
-		"'error'", "'try'", "'catch'", "'finally'", "'throw'", "'for'", "':'", 
-		"'if'", "'else'", "'kill'", "'return'", "'wait'", "'switch'", "'case'", 
+		"'string'", "'void'", "'['", "']'", "'{'", "'}'", "'<'", "'>'", "'='", 
+		"':='", "'('", "')'", "'class'", "'extends'", "'break'", "'breakpoint'", 
+		"'checkpoint'", "'continue'", "'debug'", "'exit'", "'print'", "'println'", 
+		"'warning'", "'error'", "'try'", "'catch'", "'finally'", "'throw'", "'for'", 
+		"':'", "'if'", "'else'", "'kill'", "'return'", "'wait'", "'switch'", "'case'", 
 		"'default'", "'while'", "'.'", "'new'", "'++'", "'--'", "'~'", "'!'", 
-		"'*'", "'/'", "'%'", "'+'", "'-'", "'<'", "'<='", "'=='", "'!='", "'>='", 
-		"'>'", "'&'", "'|'", "'^'", "'&&'", "'||'", "'?'", "'<-'", "'=>'", "'task'", 
-		"'dep'", "'goal'", "'par'", "'parallel'", "'|='", "'&='", "'/='", "'*='", 
-		"'-='", "'+='", "'null'"
+		"'*'", "'/'", "'%'", "'+'", "'-'", "'<='", "'=='", "'!='", "'>='", "'&'", 
+		"'|'", "'^'", "'&&'", "'||'", "'?'", "'<-'", "'=>'", "'task'", "'dep'", 
+		"'goal'", "'par'", "'parallel'", "'|='", "'&='", "'/='", "'*='", "'-='", 
+		"'+='", "'null'"
 	};
 	private static final String[] _SYMBOLIC_NAMES = {
 		null, null, null, null, null, null, null, null, null, null, null, null, 
@@ -200,159 +200,158 @@ public class BigDataScriptLexer extends Lexer {
 		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\3\2\3\2\3\3\3\3\3\4\3\4"+
 		"\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3"+
 		"\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\13"+
-		"\3\13\3\f\3\f\3\r\3\r\3\16\3\16\3\17\3\17\3\20\3\20\3\20\3\21\3\21\3\22"+
-		"\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24"+
-		"\3\24\3\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\26\3\26"+
-		"\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27"+
-		"\3\27\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31"+
-		"\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33\3\34"+
-		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35"+
-		"\3\35\3\36\3\36\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3"+
-		" \3 \3!\3!\3!\3!\3!\3!\3!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3$\3"+
-		"$\3%\3%\3%\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\3(\3(\3(\3(\3(\3(\3(\3)"+
-		"\3)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3*\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,"+
-		"\3,\3-\3-\3-\3-\3-\3-\3.\3.\3/\3/\3/\3/\3\60\3\60\3\60\3\61\3\61\3\61"+
-		"\3\62\3\62\3\63\3\63\3\64\3\64\3\65\3\65\3\66\3\66\3\67\3\67\38\38\39"+
-		"\39\3:\3:\3:\3;\3;\3;\3<\3<\3<\3=\3=\3=\3>\3>\3?\3?\3@\3@\3A\3A\3B\3B"+
-		"\3B\3C\3C\3C\3D\3D\3E\3E\3E\3F\3F\3F\3G\3G\3G\3G\3G\3H\3H\3H\3H\3I\3I"+
-		"\3I\3I\3I\3J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3K\3K\3K\3L\3L\3L\3M\3M\3M\3N"+
-		"\3N\3N\3O\3O\3O\3P\3P\3P\3Q\3Q\3Q\3R\3R\3R\7R\u0222\nR\fR\16R\u0225\13"+
-		"R\3R\3R\6R\u0229\nR\rR\16R\u022a\3R\3R\6R\u022f\nR\rR\16R\u0230\5R\u0233"+
-		"\nR\3S\3S\3S\3S\3S\3S\3S\3S\5S\u023d\nS\3T\3T\3T\3T\5T\u0243\nT\3U\3U"+
-		"\5U\u0247\nU\3U\6U\u024a\nU\rU\16U\u024b\3V\3V\3V\3V\5V\u0252\nV\3W\3"+
-		"W\3X\6X\u0257\nX\rX\16X\u0258\3X\3X\7X\u025d\nX\fX\16X\u0260\13X\3X\5"+
-		"X\u0263\nX\3X\3X\6X\u0267\nX\rX\16X\u0268\3X\5X\u026c\nX\3X\6X\u026f\n"+
-		"X\rX\16X\u0270\3X\3X\6X\u0275\nX\rX\16X\u0276\5X\u0279\nX\3Y\3Y\7Y\u027d"+
-		"\nY\fY\16Y\u0280\13Y\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3[\3[\3[\3[\3[\5[\u0290"+
-		"\n[\3\\\3\\\3]\3]\3^\3^\3^\3^\7^\u029a\n^\f^\16^\u029d\13^\3^\3^\3_\3"+
-		"_\7_\u02a3\n_\f_\16_\u02a6\13_\3_\3_\3`\3`\3`\3`\3`\3`\6`\u02b0\n`\r`"+
-		"\16`\u02b1\3`\3`\3a\3a\3a\3a\3a\6a\u02bb\na\ra\16a\u02bc\3a\3a\3b\3b\3"+
-		"b\3b\3b\3b\6b\u02c7\nb\rb\16b\u02c8\3b\3b\3b\3c\3c\3c\3c\7c\u02d2\nc\f"+
-		"c\16c\u02d5\13c\3c\3c\3c\3c\3c\3d\3d\3d\3d\7d\u02e0\nd\fd\16d\u02e3\13"+
-		"d\3d\3d\3e\3e\7e\u02e9\ne\fe\16e\u02ec\13e\3e\3e\3f\3f\7f\u02f2\nf\ff"+
-		"\16f\u02f5\13f\3g\3g\3g\3g\3g\3g\3g\5g\u02fe\ng\3g\3g\3\u02d3\2h\3\3\5"+
-		"\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21"+
-		"!\22#\23%\24\'\25)\26+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!"+
-		"A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s"+
-		";u<w=y>{?}@\177A\u0081B\u0083C\u0085D\u0087E\u0089F\u008bG\u008dH\u008f"+
-		"I\u0091J\u0093K\u0095L\u0097M\u0099N\u009bO\u009dP\u009fQ\u00a1R\u00a3"+
-		"\2\u00a5\2\u00a7\2\u00a9\2\u00ab\2\u00ad\2\u00af\2\u00b1\2\u00b3S\u00b5"+
-		"T\u00b7U\u00b9V\u00bbW\u00bdX\u00bfY\u00c1Z\u00c3[\u00c5\\\u00c7]\u00c9"+
-		"^\u00cb_\u00cd`\3\2\16\n\2$$))^^ddhhppttvv\4\2\f\f\17\17\4\2GGgg\4\2-"+
-		"-//\5\2\62;CHch\4\2$$^^\3\2))\4\2\13\13\"\"\6\2\f\f\17\17**}}\5\2C\\a"+
-		"ac|\6\2\62;C\\aac|\5\2\13\13\17\17\"\"\2\u031f\2\3\3\2\2\2\2\5\3\2\2\2"+
-		"\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3"+
-		"\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2"+
-		"\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2"+
-		"\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2"+
-		"\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2"+
-		"\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2"+
-		"\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y"+
-		"\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2"+
-		"\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2"+
-		"\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177"+
-		"\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2"+
-		"\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091"+
-		"\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2"+
-		"\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00b3"+
-		"\3\2\2\2\2\u00b5\3\2\2\2\2\u00b7\3\2\2\2\2\u00b9\3\2\2\2\2\u00bb\3\2\2"+
-		"\2\2\u00bd\3\2\2\2\2\u00bf\3\2\2\2\2\u00c1\3\2\2\2\2\u00c3\3\2\2\2\2\u00c5"+
-		"\3\2\2\2\2\u00c7\3\2\2\2\2\u00c9\3\2\2\2\2\u00cb\3\2\2\2\2\u00cd\3\2\2"+
-		"\2\3\u00cf\3\2\2\2\5\u00d1\3\2\2\2\7\u00d3\3\2\2\2\t\u00db\3\2\2\2\13"+
-		"\u00dd\3\2\2\2\r\u00e2\3\2\2\2\17\u00e6\3\2\2\2\21\u00eb\3\2\2\2\23\u00f2"+
-		"\3\2\2\2\25\u00f7\3\2\2\2\27\u00f9\3\2\2\2\31\u00fb\3\2\2\2\33\u00fd\3"+
-		"\2\2\2\35\u00ff\3\2\2\2\37\u0101\3\2\2\2!\u0104\3\2\2\2#\u0106\3\2\2\2"+
-		"%\u0108\3\2\2\2\'\u010e\3\2\2\2)\u0116\3\2\2\2+\u011c\3\2\2\2-\u0127\3"+
-		"\2\2\2/\u0132\3\2\2\2\61\u013b\3\2\2\2\63\u0141\3\2\2\2\65\u0146\3\2\2"+
-		"\2\67\u014c\3\2\2\29\u0154\3\2\2\2;\u015c\3\2\2\2=\u0162\3\2\2\2?\u0166"+
-		"\3\2\2\2A\u016c\3\2\2\2C\u0174\3\2\2\2E\u017a\3\2\2\2G\u017e\3\2\2\2I"+
-		"\u0180\3\2\2\2K\u0183\3\2\2\2M\u0188\3\2\2\2O\u018d\3\2\2\2Q\u0194\3\2"+
-		"\2\2S\u0199\3\2\2\2U\u01a0\3\2\2\2W\u01a5\3\2\2\2Y\u01ad\3\2\2\2[\u01b3"+
-		"\3\2\2\2]\u01b5\3\2\2\2_\u01b9\3\2\2\2a\u01bc\3\2\2\2c\u01bf\3\2\2\2e"+
-		"\u01c1\3\2\2\2g\u01c3\3\2\2\2i\u01c5\3\2\2\2k\u01c7\3\2\2\2m\u01c9\3\2"+
-		"\2\2o\u01cb\3\2\2\2q\u01cd\3\2\2\2s\u01cf\3\2\2\2u\u01d2\3\2\2\2w\u01d5"+
-		"\3\2\2\2y\u01d8\3\2\2\2{\u01db\3\2\2\2}\u01dd\3\2\2\2\177\u01df\3\2\2"+
-		"\2\u0081\u01e1\3\2\2\2\u0083\u01e3\3\2\2\2\u0085\u01e6\3\2\2\2\u0087\u01e9"+
-		"\3\2\2\2\u0089\u01eb\3\2\2\2\u008b\u01ee\3\2\2\2\u008d\u01f1\3\2\2\2\u008f"+
-		"\u01f6\3\2\2\2\u0091\u01fa\3\2\2\2\u0093\u01ff\3\2\2\2\u0095\u0203\3\2"+
-		"\2\2\u0097\u020c\3\2\2\2\u0099\u020f\3\2\2\2\u009b\u0212\3\2\2\2\u009d"+
-		"\u0215\3\2\2\2\u009f\u0218\3\2\2\2\u00a1\u021b\3\2\2\2\u00a3\u0232\3\2"+
-		"\2\2\u00a5\u0234\3\2\2\2\u00a7\u023e\3\2\2\2\u00a9\u0244\3\2\2\2\u00ab"+
-		"\u0251\3\2\2\2\u00ad\u0253\3\2\2\2\u00af\u0278\3\2\2\2\u00b1\u027e\3\2"+
-		"\2\2\u00b3\u0281\3\2\2\2\u00b5\u028f\3\2\2\2\u00b7\u0291\3\2\2\2\u00b9"+
-		"\u0293\3\2\2\2\u00bb\u0295\3\2\2\2\u00bd\u02a0\3\2\2\2\u00bf\u02a9\3\2"+
-		"\2\2\u00c1\u02b5\3\2\2\2\u00c3\u02c0\3\2\2\2\u00c5\u02cd\3\2\2\2\u00c7"+
-		"\u02db\3\2\2\2\u00c9\u02e6\3\2\2\2\u00cb\u02ef\3\2\2\2\u00cd\u02fd\3\2"+
-		"\2\2\u00cf\u00d0\7=\2\2\u00d0\4\3\2\2\2\u00d1\u00d2\7\f\2\2\u00d2\6\3"+
-		"\2\2\2\u00d3\u00d4\7k\2\2\u00d4\u00d5\7p\2\2\u00d5\u00d6\7e\2\2\u00d6"+
-		"\u00d7\7n\2\2\u00d7\u00d8\7w\2\2\u00d8\u00d9\7f\2\2\u00d9\u00da\7g\2\2"+
-		"\u00da\b\3\2\2\2\u00db\u00dc\7.\2\2\u00dc\n\3\2\2\2\u00dd\u00de\7d\2\2"+
-		"\u00de\u00df\7q\2\2\u00df\u00e0\7q\2\2\u00e0\u00e1\7n\2\2\u00e1\f\3\2"+
-		"\2\2\u00e2\u00e3\7k\2\2\u00e3\u00e4\7p\2\2\u00e4\u00e5\7v\2\2\u00e5\16"+
-		"\3\2\2\2\u00e6\u00e7\7t\2\2\u00e7\u00e8\7g\2\2\u00e8\u00e9\7c\2\2\u00e9"+
-		"\u00ea\7n\2\2\u00ea\20\3\2\2\2\u00eb\u00ec\7u\2\2\u00ec\u00ed\7v\2\2\u00ed"+
-		"\u00ee\7t\2\2\u00ee\u00ef\7k\2\2\u00ef\u00f0\7p\2\2\u00f0\u00f1\7i\2\2"+
-		"\u00f1\22\3\2\2\2\u00f2\u00f3\7x\2\2\u00f3\u00f4\7q\2\2\u00f4\u00f5\7"+
-		"k\2\2\u00f5\u00f6\7f\2\2\u00f6\24\3\2\2\2\u00f7\u00f8\7]\2\2\u00f8\26"+
-		"\3\2\2\2\u00f9\u00fa\7_\2\2\u00fa\30\3\2\2\2\u00fb\u00fc\7}\2\2\u00fc"+
-		"\32\3\2\2\2\u00fd\u00fe\7\177\2\2\u00fe\34\3\2\2\2\u00ff\u0100\7?\2\2"+
-		"\u0100\36\3\2\2\2\u0101\u0102\7<\2\2\u0102\u0103\7?\2\2\u0103 \3\2\2\2"+
-		"\u0104\u0105\7*\2\2\u0105\"\3\2\2\2\u0106\u0107\7+\2\2\u0107$\3\2\2\2"+
-		"\u0108\u0109\7e\2\2\u0109\u010a\7n\2\2\u010a\u010b\7c\2\2\u010b\u010c"+
-		"\7u\2\2\u010c\u010d\7u\2\2\u010d&\3\2\2\2\u010e\u010f\7g\2\2\u010f\u0110"+
-		"\7z\2\2\u0110\u0111\7v\2\2\u0111\u0112\7g\2\2\u0112\u0113\7p\2\2\u0113"+
-		"\u0114\7f\2\2\u0114\u0115\7u\2\2\u0115(\3\2\2\2\u0116\u0117\7d\2\2\u0117"+
-		"\u0118\7t\2\2\u0118\u0119\7g\2\2\u0119\u011a\7c\2\2\u011a\u011b\7m\2\2"+
-		"\u011b*\3\2\2\2\u011c\u011d\7d\2\2\u011d\u011e\7t\2\2\u011e\u011f\7g\2"+
-		"\2\u011f\u0120\7c\2\2\u0120\u0121\7m\2\2\u0121\u0122\7r\2\2\u0122\u0123"+
-		"\7q\2\2\u0123\u0124\7k\2\2\u0124\u0125\7p\2\2\u0125\u0126\7v\2\2\u0126"+
-		",\3\2\2\2\u0127\u0128\7e\2\2\u0128\u0129\7j\2\2\u0129\u012a\7g\2\2\u012a"+
-		"\u012b\7e\2\2\u012b\u012c\7m\2\2\u012c\u012d\7r\2\2\u012d\u012e\7q\2\2"+
-		"\u012e\u012f\7k\2\2\u012f\u0130\7p\2\2\u0130\u0131\7v\2\2\u0131.\3\2\2"+
-		"\2\u0132\u0133\7e\2\2\u0133\u0134\7q\2\2\u0134\u0135\7p\2\2\u0135\u0136"+
-		"\7v\2\2\u0136\u0137\7k\2\2\u0137\u0138\7p\2\2\u0138\u0139\7w\2\2\u0139"+
-		"\u013a\7g\2\2\u013a\60\3\2\2\2\u013b\u013c\7f\2\2\u013c\u013d\7g\2\2\u013d"+
-		"\u013e\7d\2\2\u013e\u013f\7w\2\2\u013f\u0140\7i\2\2\u0140\62\3\2\2\2\u0141"+
-		"\u0142\7g\2\2\u0142\u0143\7z\2\2\u0143\u0144\7k\2\2\u0144\u0145\7v\2\2"+
-		"\u0145\64\3\2\2\2\u0146\u0147\7r\2\2\u0147\u0148\7t\2\2\u0148\u0149\7"+
-		"k\2\2\u0149\u014a\7p\2\2\u014a\u014b\7v\2\2\u014b\66\3\2\2\2\u014c\u014d"+
-		"\7r\2\2\u014d\u014e\7t\2\2\u014e\u014f\7k\2\2\u014f\u0150\7p\2\2\u0150"+
-		"\u0151\7v\2\2\u0151\u0152\7n\2\2\u0152\u0153\7p\2\2\u01538\3\2\2\2\u0154"+
-		"\u0155\7y\2\2\u0155\u0156\7c\2\2\u0156\u0157\7t\2\2\u0157\u0158\7p\2\2"+
-		"\u0158\u0159\7k\2\2\u0159\u015a\7p\2\2\u015a\u015b\7i\2\2\u015b:\3\2\2"+
-		"\2\u015c\u015d\7g\2\2\u015d\u015e\7t\2\2\u015e\u015f\7t\2\2\u015f\u0160"+
-		"\7q\2\2\u0160\u0161\7t\2\2\u0161<\3\2\2\2\u0162\u0163\7v\2\2\u0163\u0164"+
-		"\7t\2\2\u0164\u0165\7{\2\2\u0165>\3\2\2\2\u0166\u0167\7e\2\2\u0167\u0168"+
-		"\7c\2\2\u0168\u0169\7v\2\2\u0169\u016a\7e\2\2\u016a\u016b\7j\2\2\u016b"+
-		"@\3\2\2\2\u016c\u016d\7h\2\2\u016d\u016e\7k\2\2\u016e\u016f\7p\2\2\u016f"+
-		"\u0170\7c\2\2\u0170\u0171\7n\2\2\u0171\u0172\7n\2\2\u0172\u0173\7{\2\2"+
-		"\u0173B\3\2\2\2\u0174\u0175\7v\2\2\u0175\u0176\7j\2\2\u0176\u0177\7t\2"+
-		"\2\u0177\u0178\7q\2\2\u0178\u0179\7y\2\2\u0179D\3\2\2\2\u017a\u017b\7"+
-		"h\2\2\u017b\u017c\7q\2\2\u017c\u017d\7t\2\2\u017dF\3\2\2\2\u017e\u017f"+
-		"\7<\2\2\u017fH\3\2\2\2\u0180\u0181\7k\2\2\u0181\u0182\7h\2\2\u0182J\3"+
-		"\2\2\2\u0183\u0184\7g\2\2\u0184\u0185\7n\2\2\u0185\u0186\7u\2\2\u0186"+
-		"\u0187\7g\2\2\u0187L\3\2\2\2\u0188\u0189\7m\2\2\u0189\u018a\7k\2\2\u018a"+
-		"\u018b\7n\2\2\u018b\u018c\7n\2\2\u018cN\3\2\2\2\u018d\u018e\7t\2\2\u018e"+
-		"\u018f\7g\2\2\u018f\u0190\7v\2\2\u0190\u0191\7w\2\2\u0191\u0192\7t\2\2"+
-		"\u0192\u0193\7p\2\2\u0193P\3\2\2\2\u0194\u0195\7y\2\2\u0195\u0196\7c\2"+
-		"\2\u0196\u0197\7k\2\2\u0197\u0198\7v\2\2\u0198R\3\2\2\2\u0199\u019a\7"+
-		"u\2\2\u019a\u019b\7y\2\2\u019b\u019c\7k\2\2\u019c\u019d\7v\2\2\u019d\u019e"+
-		"\7e\2\2\u019e\u019f\7j\2\2\u019fT\3\2\2\2\u01a0\u01a1\7e\2\2\u01a1\u01a2"+
-		"\7c\2\2\u01a2\u01a3\7u\2\2\u01a3\u01a4\7g\2\2\u01a4V\3\2\2\2\u01a5\u01a6"+
-		"\7f\2\2\u01a6\u01a7\7g\2\2\u01a7\u01a8\7h\2\2\u01a8\u01a9\7c\2\2\u01a9"+
-		"\u01aa\7w\2\2\u01aa\u01ab\7n\2\2\u01ab\u01ac\7v\2\2\u01acX\3\2\2\2\u01ad"+
-		"\u01ae\7y\2\2\u01ae\u01af\7j\2\2\u01af\u01b0\7k\2\2\u01b0\u01b1\7n\2\2"+
-		"\u01b1\u01b2\7g\2\2\u01b2Z\3\2\2\2\u01b3\u01b4\7\60\2\2\u01b4\\\3\2\2"+
-		"\2\u01b5\u01b6\7p\2\2\u01b6\u01b7\7g\2\2\u01b7\u01b8\7y\2\2\u01b8^\3\2"+
-		"\2\2\u01b9\u01ba\7-\2\2\u01ba\u01bb\7-\2\2\u01bb`\3\2\2\2\u01bc\u01bd"+
-		"\7/\2\2\u01bd\u01be\7/\2\2\u01beb\3\2\2\2\u01bf\u01c0\7\u0080\2\2\u01c0"+
-		"d\3\2\2\2\u01c1\u01c2\7#\2\2\u01c2f\3\2\2\2\u01c3\u01c4\7,\2\2\u01c4h"+
-		"\3\2\2\2\u01c5\u01c6\7\61\2\2\u01c6j\3\2\2\2\u01c7\u01c8\7\'\2\2\u01c8"+
-		"l\3\2\2\2\u01c9\u01ca\7-\2\2\u01can\3\2\2\2\u01cb\u01cc\7/\2\2\u01ccp"+
-		"\3\2\2\2\u01cd\u01ce\7>\2\2\u01cer\3\2\2\2\u01cf\u01d0\7>\2\2\u01d0\u01d1"+
-		"\7?\2\2\u01d1t\3\2\2\2\u01d2\u01d3\7?\2\2\u01d3\u01d4\7?\2\2\u01d4v\3"+
-		"\2\2\2\u01d5\u01d6\7#\2\2\u01d6\u01d7\7?\2\2\u01d7x\3\2\2\2\u01d8\u01d9"+
-		"\7@\2\2\u01d9\u01da\7?\2\2\u01daz\3\2\2\2\u01db\u01dc\7@\2\2\u01dc|\3"+
+		"\3\13\3\f\3\f\3\r\3\r\3\16\3\16\3\17\3\17\3\20\3\20\3\21\3\21\3\22\3\22"+
+		"\3\22\3\23\3\23\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26"+
+		"\3\26\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30"+
+		"\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31"+
+		"\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32"+
+		"\3\33\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\37\3\37\3\37"+
+		"\3\37\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3 \3!\3!\3!\3!\3\"\3\"\3\"\3"+
+		"\"\3\"\3\"\3#\3#\3#\3#\3#\3#\3#\3#\3$\3$\3$\3$\3$\3$\3%\3%\3%\3%\3&\3"+
+		"&\3\'\3\'\3\'\3(\3(\3(\3(\3(\3)\3)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3*\3+\3"+
+		"+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,\3-\3-\3-\3-\3-\3.\3.\3.\3.\3.\3.\3.\3"+
+		".\3/\3/\3/\3/\3/\3/\3\60\3\60\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\63"+
+		"\3\63\3\63\3\64\3\64\3\65\3\65\3\66\3\66\3\67\3\67\38\38\39\39\3:\3:\3"+
+		";\3;\3;\3<\3<\3<\3=\3=\3=\3>\3>\3>\3?\3?\3@\3@\3A\3A\3B\3B\3B\3C\3C\3"+
+		"C\3D\3D\3E\3E\3E\3F\3F\3F\3G\3G\3G\3G\3G\3H\3H\3H\3H\3I\3I\3I\3I\3I\3"+
+		"J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3K\3K\3K\3L\3L\3L\3M\3M\3M\3N\3N\3N\3O\3"+
+		"O\3O\3P\3P\3P\3Q\3Q\3Q\3R\3R\3R\7R\u0222\nR\fR\16R\u0225\13R\3R\3R\6R"+
+		"\u0229\nR\rR\16R\u022a\3R\3R\6R\u022f\nR\rR\16R\u0230\5R\u0233\nR\3S\3"+
+		"S\3S\3S\3S\3S\3S\3S\5S\u023d\nS\3T\3T\3T\3T\5T\u0243\nT\3U\3U\5U\u0247"+
+		"\nU\3U\6U\u024a\nU\rU\16U\u024b\3V\3V\3V\3V\5V\u0252\nV\3W\3W\3X\6X\u0257"+
+		"\nX\rX\16X\u0258\3X\3X\7X\u025d\nX\fX\16X\u0260\13X\3X\5X\u0263\nX\3X"+
+		"\3X\6X\u0267\nX\rX\16X\u0268\3X\5X\u026c\nX\3X\6X\u026f\nX\rX\16X\u0270"+
+		"\3X\3X\6X\u0275\nX\rX\16X\u0276\5X\u0279\nX\3Y\3Y\7Y\u027d\nY\fY\16Y\u0280"+
+		"\13Y\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3[\3[\3[\3[\3[\5[\u0290\n[\3\\\3\\\3]"+
+		"\3]\3^\3^\3^\3^\7^\u029a\n^\f^\16^\u029d\13^\3^\3^\3_\3_\7_\u02a3\n_\f"+
+		"_\16_\u02a6\13_\3_\3_\3`\3`\3`\3`\3`\3`\6`\u02b0\n`\r`\16`\u02b1\3`\3"+
+		"`\3a\3a\3a\3a\3a\6a\u02bb\na\ra\16a\u02bc\3a\3a\3b\3b\3b\3b\3b\3b\6b\u02c7"+
+		"\nb\rb\16b\u02c8\3b\3b\3b\3c\3c\3c\3c\7c\u02d2\nc\fc\16c\u02d5\13c\3c"+
+		"\3c\3c\3c\3c\3d\3d\3d\3d\7d\u02e0\nd\fd\16d\u02e3\13d\3d\3d\3e\3e\7e\u02e9"+
+		"\ne\fe\16e\u02ec\13e\3e\3e\3f\3f\7f\u02f2\nf\ff\16f\u02f5\13f\3g\3g\3"+
+		"g\3g\3g\3g\3g\5g\u02fe\ng\3g\3g\3\u02d3\2h\3\3\5\4\7\5\t\6\13\7\r\b\17"+
+		"\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+"+
+		"\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+"+
+		"U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w=y>{?}@\177A\u0081"+
+		"B\u0083C\u0085D\u0087E\u0089F\u008bG\u008dH\u008fI\u0091J\u0093K\u0095"+
+		"L\u0097M\u0099N\u009bO\u009dP\u009fQ\u00a1R\u00a3\2\u00a5\2\u00a7\2\u00a9"+
+		"\2\u00ab\2\u00ad\2\u00af\2\u00b1\2\u00b3S\u00b5T\u00b7U\u00b9V\u00bbW"+
+		"\u00bdX\u00bfY\u00c1Z\u00c3[\u00c5\\\u00c7]\u00c9^\u00cb_\u00cd`\3\2\16"+
+		"\n\2$$))^^ddhhppttvv\4\2\f\f\17\17\4\2GGgg\4\2--//\5\2\62;CHch\4\2$$^"+
+		"^\3\2))\4\2\13\13\"\"\6\2\f\f\17\17**}}\5\2C\\aac|\6\2\62;C\\aac|\5\2"+
+		"\13\13\17\17\"\"\2\u031f\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2"+
+		"\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25"+
+		"\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2"+
+		"\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2"+
+		"\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3"+
+		"\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2"+
+		"\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2"+
+		"Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3"+
+		"\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2"+
+		"\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2"+
+		"w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2"+
+		"\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b"+
+		"\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2"+
+		"\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d"+
+		"\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00b3\3\2\2\2\2\u00b5\3\2\2"+
+		"\2\2\u00b7\3\2\2\2\2\u00b9\3\2\2\2\2\u00bb\3\2\2\2\2\u00bd\3\2\2\2\2\u00bf"+
+		"\3\2\2\2\2\u00c1\3\2\2\2\2\u00c3\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7\3\2\2"+
+		"\2\2\u00c9\3\2\2\2\2\u00cb\3\2\2\2\2\u00cd\3\2\2\2\3\u00cf\3\2\2\2\5\u00d1"+
+		"\3\2\2\2\7\u00d3\3\2\2\2\t\u00db\3\2\2\2\13\u00dd\3\2\2\2\r\u00e2\3\2"+
+		"\2\2\17\u00e6\3\2\2\2\21\u00eb\3\2\2\2\23\u00f2\3\2\2\2\25\u00f7\3\2\2"+
+		"\2\27\u00f9\3\2\2\2\31\u00fb\3\2\2\2\33\u00fd\3\2\2\2\35\u00ff\3\2\2\2"+
+		"\37\u0101\3\2\2\2!\u0103\3\2\2\2#\u0105\3\2\2\2%\u0108\3\2\2\2\'\u010a"+
+		"\3\2\2\2)\u010c\3\2\2\2+\u0112\3\2\2\2-\u011a\3\2\2\2/\u0120\3\2\2\2\61"+
+		"\u012b\3\2\2\2\63\u0136\3\2\2\2\65\u013f\3\2\2\2\67\u0145\3\2\2\29\u014a"+
+		"\3\2\2\2;\u0150\3\2\2\2=\u0158\3\2\2\2?\u0160\3\2\2\2A\u0166\3\2\2\2C"+
+		"\u016a\3\2\2\2E\u0170\3\2\2\2G\u0178\3\2\2\2I\u017e\3\2\2\2K\u0182\3\2"+
+		"\2\2M\u0184\3\2\2\2O\u0187\3\2\2\2Q\u018c\3\2\2\2S\u0191\3\2\2\2U\u0198"+
+		"\3\2\2\2W\u019d\3\2\2\2Y\u01a4\3\2\2\2[\u01a9\3\2\2\2]\u01b1\3\2\2\2_"+
+		"\u01b7\3\2\2\2a\u01b9\3\2\2\2c\u01bd\3\2\2\2e\u01c0\3\2\2\2g\u01c3\3\2"+
+		"\2\2i\u01c5\3\2\2\2k\u01c7\3\2\2\2m\u01c9\3\2\2\2o\u01cb\3\2\2\2q\u01cd"+
+		"\3\2\2\2s\u01cf\3\2\2\2u\u01d1\3\2\2\2w\u01d4\3\2\2\2y\u01d7\3\2\2\2{"+
+		"\u01da\3\2\2\2}\u01dd\3\2\2\2\177\u01df\3\2\2\2\u0081\u01e1\3\2\2\2\u0083"+
+		"\u01e3\3\2\2\2\u0085\u01e6\3\2\2\2\u0087\u01e9\3\2\2\2\u0089\u01eb\3\2"+
+		"\2\2\u008b\u01ee\3\2\2\2\u008d\u01f1\3\2\2\2\u008f\u01f6\3\2\2\2\u0091"+
+		"\u01fa\3\2\2\2\u0093\u01ff\3\2\2\2\u0095\u0203\3\2\2\2\u0097\u020c\3\2"+
+		"\2\2\u0099\u020f\3\2\2\2\u009b\u0212\3\2\2\2\u009d\u0215\3\2\2\2\u009f"+
+		"\u0218\3\2\2\2\u00a1\u021b\3\2\2\2\u00a3\u0232\3\2\2\2\u00a5\u0234\3\2"+
+		"\2\2\u00a7\u023e\3\2\2\2\u00a9\u0244\3\2\2\2\u00ab\u0251\3\2\2\2\u00ad"+
+		"\u0253\3\2\2\2\u00af\u0278\3\2\2\2\u00b1\u027e\3\2\2\2\u00b3\u0281\3\2"+
+		"\2\2\u00b5\u028f\3\2\2\2\u00b7\u0291\3\2\2\2\u00b9\u0293\3\2\2\2\u00bb"+
+		"\u0295\3\2\2\2\u00bd\u02a0\3\2\2\2\u00bf\u02a9\3\2\2\2\u00c1\u02b5\3\2"+
+		"\2\2\u00c3\u02c0\3\2\2\2\u00c5\u02cd\3\2\2\2\u00c7\u02db\3\2\2\2\u00c9"+
+		"\u02e6\3\2\2\2\u00cb\u02ef\3\2\2\2\u00cd\u02fd\3\2\2\2\u00cf\u00d0\7="+
+		"\2\2\u00d0\4\3\2\2\2\u00d1\u00d2\7\f\2\2\u00d2\6\3\2\2\2\u00d3\u00d4\7"+
+		"k\2\2\u00d4\u00d5\7p\2\2\u00d5\u00d6\7e\2\2\u00d6\u00d7\7n\2\2\u00d7\u00d8"+
+		"\7w\2\2\u00d8\u00d9\7f\2\2\u00d9\u00da\7g\2\2\u00da\b\3\2\2\2\u00db\u00dc"+
+		"\7.\2\2\u00dc\n\3\2\2\2\u00dd\u00de\7d\2\2\u00de\u00df\7q\2\2\u00df\u00e0"+
+		"\7q\2\2\u00e0\u00e1\7n\2\2\u00e1\f\3\2\2\2\u00e2\u00e3\7k\2\2\u00e3\u00e4"+
+		"\7p\2\2\u00e4\u00e5\7v\2\2\u00e5\16\3\2\2\2\u00e6\u00e7\7t\2\2\u00e7\u00e8"+
+		"\7g\2\2\u00e8\u00e9\7c\2\2\u00e9\u00ea\7n\2\2\u00ea\20\3\2\2\2\u00eb\u00ec"+
+		"\7u\2\2\u00ec\u00ed\7v\2\2\u00ed\u00ee\7t\2\2\u00ee\u00ef\7k\2\2\u00ef"+
+		"\u00f0\7p\2\2\u00f0\u00f1\7i\2\2\u00f1\22\3\2\2\2\u00f2\u00f3\7x\2\2\u00f3"+
+		"\u00f4\7q\2\2\u00f4\u00f5\7k\2\2\u00f5\u00f6\7f\2\2\u00f6\24\3\2\2\2\u00f7"+
+		"\u00f8\7]\2\2\u00f8\26\3\2\2\2\u00f9\u00fa\7_\2\2\u00fa\30\3\2\2\2\u00fb"+
+		"\u00fc\7}\2\2\u00fc\32\3\2\2\2\u00fd\u00fe\7\177\2\2\u00fe\34\3\2\2\2"+
+		"\u00ff\u0100\7>\2\2\u0100\36\3\2\2\2\u0101\u0102\7@\2\2\u0102 \3\2\2\2"+
+		"\u0103\u0104\7?\2\2\u0104\"\3\2\2\2\u0105\u0106\7<\2\2\u0106\u0107\7?"+
+		"\2\2\u0107$\3\2\2\2\u0108\u0109\7*\2\2\u0109&\3\2\2\2\u010a\u010b\7+\2"+
+		"\2\u010b(\3\2\2\2\u010c\u010d\7e\2\2\u010d\u010e\7n\2\2\u010e\u010f\7"+
+		"c\2\2\u010f\u0110\7u\2\2\u0110\u0111\7u\2\2\u0111*\3\2\2\2\u0112\u0113"+
+		"\7g\2\2\u0113\u0114\7z\2\2\u0114\u0115\7v\2\2\u0115\u0116\7g\2\2\u0116"+
+		"\u0117\7p\2\2\u0117\u0118\7f\2\2\u0118\u0119\7u\2\2\u0119,\3\2\2\2\u011a"+
+		"\u011b\7d\2\2\u011b\u011c\7t\2\2\u011c\u011d\7g\2\2\u011d\u011e\7c\2\2"+
+		"\u011e\u011f\7m\2\2\u011f.\3\2\2\2\u0120\u0121\7d\2\2\u0121\u0122\7t\2"+
+		"\2\u0122\u0123\7g\2\2\u0123\u0124\7c\2\2\u0124\u0125\7m\2\2\u0125\u0126"+
+		"\7r\2\2\u0126\u0127\7q\2\2\u0127\u0128\7k\2\2\u0128\u0129\7p\2\2\u0129"+
+		"\u012a\7v\2\2\u012a\60\3\2\2\2\u012b\u012c\7e\2\2\u012c\u012d\7j\2\2\u012d"+
+		"\u012e\7g\2\2\u012e\u012f\7e\2\2\u012f\u0130\7m\2\2\u0130\u0131\7r\2\2"+
+		"\u0131\u0132\7q\2\2\u0132\u0133\7k\2\2\u0133\u0134\7p\2\2\u0134\u0135"+
+		"\7v\2\2\u0135\62\3\2\2\2\u0136\u0137\7e\2\2\u0137\u0138\7q\2\2\u0138\u0139"+
+		"\7p\2\2\u0139\u013a\7v\2\2\u013a\u013b\7k\2\2\u013b\u013c\7p\2\2\u013c"+
+		"\u013d\7w\2\2\u013d\u013e\7g\2\2\u013e\64\3\2\2\2\u013f\u0140\7f\2\2\u0140"+
+		"\u0141\7g\2\2\u0141\u0142\7d\2\2\u0142\u0143\7w\2\2\u0143\u0144\7i\2\2"+
+		"\u0144\66\3\2\2\2\u0145\u0146\7g\2\2\u0146\u0147\7z\2\2\u0147\u0148\7"+
+		"k\2\2\u0148\u0149\7v\2\2\u01498\3\2\2\2\u014a\u014b\7r\2\2\u014b\u014c"+
+		"\7t\2\2\u014c\u014d\7k\2\2\u014d\u014e\7p\2\2\u014e\u014f\7v\2\2\u014f"+
+		":\3\2\2\2\u0150\u0151\7r\2\2\u0151\u0152\7t\2\2\u0152\u0153\7k\2\2\u0153"+
+		"\u0154\7p\2\2\u0154\u0155\7v\2\2\u0155\u0156\7n\2\2\u0156\u0157\7p\2\2"+
+		"\u0157<\3\2\2\2\u0158\u0159\7y\2\2\u0159\u015a\7c\2\2\u015a\u015b\7t\2"+
+		"\2\u015b\u015c\7p\2\2\u015c\u015d\7k\2\2\u015d\u015e\7p\2\2\u015e\u015f"+
+		"\7i\2\2\u015f>\3\2\2\2\u0160\u0161\7g\2\2\u0161\u0162\7t\2\2\u0162\u0163"+
+		"\7t\2\2\u0163\u0164\7q\2\2\u0164\u0165\7t\2\2\u0165@\3\2\2\2\u0166\u0167"+
+		"\7v\2\2\u0167\u0168\7t\2\2\u0168\u0169\7{\2\2\u0169B\3\2\2\2\u016a\u016b"+
+		"\7e\2\2\u016b\u016c\7c\2\2\u016c\u016d\7v\2\2\u016d\u016e\7e\2\2\u016e"+
+		"\u016f\7j\2\2\u016fD\3\2\2\2\u0170\u0171\7h\2\2\u0171\u0172\7k\2\2\u0172"+
+		"\u0173\7p\2\2\u0173\u0174\7c\2\2\u0174\u0175\7n\2\2\u0175\u0176\7n\2\2"+
+		"\u0176\u0177\7{\2\2\u0177F\3\2\2\2\u0178\u0179\7v\2\2\u0179\u017a\7j\2"+
+		"\2\u017a\u017b\7t\2\2\u017b\u017c\7q\2\2\u017c\u017d\7y\2\2\u017dH\3\2"+
+		"\2\2\u017e\u017f\7h\2\2\u017f\u0180\7q\2\2\u0180\u0181\7t\2\2\u0181J\3"+
+		"\2\2\2\u0182\u0183\7<\2\2\u0183L\3\2\2\2\u0184\u0185\7k\2\2\u0185\u0186"+
+		"\7h\2\2\u0186N\3\2\2\2\u0187\u0188\7g\2\2\u0188\u0189\7n\2\2\u0189\u018a"+
+		"\7u\2\2\u018a\u018b\7g\2\2\u018bP\3\2\2\2\u018c\u018d\7m\2\2\u018d\u018e"+
+		"\7k\2\2\u018e\u018f\7n\2\2\u018f\u0190\7n\2\2\u0190R\3\2\2\2\u0191\u0192"+
+		"\7t\2\2\u0192\u0193\7g\2\2\u0193\u0194\7v\2\2\u0194\u0195\7w\2\2\u0195"+
+		"\u0196\7t\2\2\u0196\u0197\7p\2\2\u0197T\3\2\2\2\u0198\u0199\7y\2\2\u0199"+
+		"\u019a\7c\2\2\u019a\u019b\7k\2\2\u019b\u019c\7v\2\2\u019cV\3\2\2\2\u019d"+
+		"\u019e\7u\2\2\u019e\u019f\7y\2\2\u019f\u01a0\7k\2\2\u01a0\u01a1\7v\2\2"+
+		"\u01a1\u01a2\7e\2\2\u01a2\u01a3\7j\2\2\u01a3X\3\2\2\2\u01a4\u01a5\7e\2"+
+		"\2\u01a5\u01a6\7c\2\2\u01a6\u01a7\7u\2\2\u01a7\u01a8\7g\2\2\u01a8Z\3\2"+
+		"\2\2\u01a9\u01aa\7f\2\2\u01aa\u01ab\7g\2\2\u01ab\u01ac\7h\2\2\u01ac\u01ad"+
+		"\7c\2\2\u01ad\u01ae\7w\2\2\u01ae\u01af\7n\2\2\u01af\u01b0\7v\2\2\u01b0"+
+		"\\\3\2\2\2\u01b1\u01b2\7y\2\2\u01b2\u01b3\7j\2\2\u01b3\u01b4\7k\2\2\u01b4"+
+		"\u01b5\7n\2\2\u01b5\u01b6\7g\2\2\u01b6^\3\2\2\2\u01b7\u01b8\7\60\2\2\u01b8"+
+		"`\3\2\2\2\u01b9\u01ba\7p\2\2\u01ba\u01bb\7g\2\2\u01bb\u01bc\7y\2\2\u01bc"+
+		"b\3\2\2\2\u01bd\u01be\7-\2\2\u01be\u01bf\7-\2\2\u01bfd\3\2\2\2\u01c0\u01c1"+
+		"\7/\2\2\u01c1\u01c2\7/\2\2\u01c2f\3\2\2\2\u01c3\u01c4\7\u0080\2\2\u01c4"+
+		"h\3\2\2\2\u01c5\u01c6\7#\2\2\u01c6j\3\2\2\2\u01c7\u01c8\7,\2\2\u01c8l"+
+		"\3\2\2\2\u01c9\u01ca\7\61\2\2\u01can\3\2\2\2\u01cb\u01cc\7\'\2\2\u01cc"+
+		"p\3\2\2\2\u01cd\u01ce\7-\2\2\u01cer\3\2\2\2\u01cf\u01d0\7/\2\2\u01d0t"+
+		"\3\2\2\2\u01d1\u01d2\7>\2\2\u01d2\u01d3\7?\2\2\u01d3v\3\2\2\2\u01d4\u01d5"+
+		"\7?\2\2\u01d5\u01d6\7?\2\2\u01d6x\3\2\2\2\u01d7\u01d8\7#\2\2\u01d8\u01d9"+
+		"\7?\2\2\u01d9z\3\2\2\2\u01da\u01db\7@\2\2\u01db\u01dc\7?\2\2\u01dc|\3"+
 		"\2\2\2\u01dd\u01de\7(\2\2\u01de~\3\2\2\2\u01df\u01e0\7~\2\2\u01e0\u0080"+
 		"\3\2\2\2\u01e1\u01e2\7`\2\2\u01e2\u0082\3\2\2\2\u01e3\u01e4\7(\2\2\u01e4"+
 		"\u01e5\7(\2\2\u01e5\u0084\3\2\2\2\u01e6\u01e7\7~\2\2\u01e7\u01e8\7~\2"+
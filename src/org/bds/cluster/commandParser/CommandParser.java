@@ -124,6 +124,8 @@ public class CommandParser implements BdsLog {
 		else if (command.startsWith("who")) cp = new CommandParserWho(host);
 		else if (command.startsWith("cat_/proc/meminfo")) cp = new CommandParserMemInfo(host);
 		else if (command.startsWith("cat_/proc/cpuinfo")) cp = new CommandParserCpuInfo(host);
+		else if (command.startsWith("cat_/proc/loadavg")) cp = new CommandParserLoadAvg(host);
+		else if (command.startsWith("head_-n_1_/proc/stat")) cp = new CommandParserStat(host);
 		else throw new RuntimeException("Unknown parser for command '" + command + "'");
 
 		// Parse
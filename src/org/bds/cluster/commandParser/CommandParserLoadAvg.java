@@ -0,0 +1,22 @@
+package org.bds.cluster.commandParser;
+
+import org.bds.cluster.host.HostSsh;
+
+/**
+ * A command parser for 'cat /proc/loadavg' command
+ *
+ * @author pcingola@mcgill.ca
+ */
+public class CommandParserLoadAvg extends CommandParser {
+
+	public CommandParserLoadAvg(HostSsh host) {
+		super(host, "cat /proc/loadavg");
+	}
+
+	@Override
+	public void parse(String cmdResult[]) {
+		if (cmdResult.length <= 0) return;
+		host.getLoadSampled().parseLoadAvg(cmdResult[0]);
+		host.getHealth().setLoadAvg(host.getLoad().getLoadAvg());
+	}
+}
@@ -24,8 +24,8 @@ public class CommandParserMemInfo extends CommandParser {
 		for (int line = 0; line < cmdResult.length; line++) {
 			String fields[] = cmdResult[line].replace(':', ' ').split("\\s+");
 			if (fields[0].equalsIgnoreCase("MemTotal")) {
-				mem = Gpr.parseIntSafe(fields[1]);
-				host.getResources().setMem(mem);
+				mem = Gpr.parseLongSafe(fields[1]);
+				host.getResources().setMem(mem * 1024L); // Note: Values are in KB
 			}
 			if (fields[0].equalsIgnoreCase("MemFree")) memFree = Gpr.parseLongSafe(fields[1]);
 			if (fields[0].equalsIgnoreCase("SwapTotal")) swap = Gpr.parseLongSafe(fields[1]);
@@ -38,6 +38,9 @@ public class CommandParserMemInfo extends CommandParser {
 			}
 		}
 
+		// Update host load
+		host.getLoadSampled().parseMemInfo(String.join("\n", cmdResult));
+
 		// Calculate swap usage
 		debug("swap" + swap + " swapFree:" + swapFree);
 		if ((swap > 0) && (swapFree >= 0)) {
@@ -0,0 +1,20 @@
+package org.bds.cluster.commandParser;
+
+import org.bds.cluster.host.HostSsh;
+
+/**
+ * A command parser for 'head -n 1 /proc/stat' command (aggregated cpu times)
+ *
+ * @author pcingola@mcgill.ca
+ */
+public class CommandParserStat extends CommandParser {
+
+	public CommandParserStat(HostSsh host) {
+		super(host, "head -n 1 /proc/stat");
+	}
+
+	@Override
+	public void parse(String cmdResult[]) {
+		host.getLoadSampled().parseStat(String.join("\n", cmdResult));
+	}
+}
@@ -0,0 +1,159 @@
+package org.bds.cluster.host;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bds.util.Gpr;
+
+/**
+ * CPU topology: Logical CPUs and NUMA nodes, read from
+ * '/sys/devices/system/cpu' and '/sys/devices/system/node'
+ *
+ * Only CPUs this process is allowed to run on ('Cpus_allowed_list'
+ * in '/proc/self/status', e.g. set by cgroups or 'taskset') are used.
+ *
+ * If NUMA information is not available, all CPUs belong to node 0.
+ *
+ * @author pcingola
+ */
+public class CpuTopology {
+
+	public static final String CPUS_ALLOWED_LIST = "Cpus_allowed_list:";
+	public static final String PROC_SELF_STATUS = "/proc/self/status";
+	public static final String SYS_CPU_ONLINE = "/sys/devices/system/cpu/online";
+	public static final String SYS_NODE_DIR = "/sys/devices/system/node";
+
+	List<List<Integer>> cpusByNode; // Logical CPUs in each NUMA node
+
+	/**
+	 * Read topology from '/sys', return null if not available
+	 */
+	public static CpuTopology read() {
+		return read(SYS_CPU_ONLINE, SYS_NODE_DIR, PROC_SELF_STATUS);
+	}
+
+	public static CpuTopology read(String cpuOnlineFile, String nodeDir, String statusFile) {
+		if (!new File(cpuOnlineFile).canRead()) return null;
+		List<Integer> online = parseCpuList(Gpr.readFile(cpuOnlineFile, false));
+
+		// Only use CPUs this process is allowed to run on
+		if (new File(statusFile).canRead()) {
+			List<Integer> allowed = parseCpusAllowed(Gpr.readFile(statusFile, false));
+			if (allowed != null) online.retainAll(allowed);
+		}
+		if (online.isEmpty()) return null;
+
+		CpuTopology topology = new CpuTopology();
+
+		// NUMA nodes
+		File[] nodes = new File(nodeDir).listFiles((dir, name) -> name.matches("node\\d+"));
+		if (nodes != null) {
+			Arrays.sort(nodes, (n1, n2) -> Integer.compare(nodeNum(n1), nodeNum(n2)));
+			for (File node : nodes) {
+				List<Integer> cpus = parseCpuList(Gpr.readFile(new File(node, "cpulist").getPath(), false));
+				cpus.retainAll(online);
+				if (!cpus.isEmpty()) topology.cpusByNode.add(cpus);
+			}
+		}
+
+		// No NUMA information: A single node having all CPUs
+		if (topology.cpusByNode.isEmpty()) topology.cpusByNode.add(online);
+		return topology;
+	}
+
+	static int nodeNum(File node) {
+		return Gpr.parseIntSafe(node.getName().substring("node".length()));
+	}
+
+	/**
+	 * Parse CPUs allowed from '/proc/self/status'
+	 * @return A list of CPUs or null if not available
+	 */
+	public static List<Integer> parseCpusAllowed(String status) {
+		if (status == null) return null;
+		for (String line : status.split("\n"))
+			if (line.startsWith(CPUS_ALLOWED_LIST)) return parseCpuList(line.substring(CPUS_ALLOWED_LIST.length()));
+		return null;
+	}
+
+	/**
+	 * Parse a CPU list, such as "0-3,8,10-11"
+	 */
+	public static List<Integer> parseCpuList(String cpuList) {
+		List<Integer> cpus = new ArrayList<>();
+		if (cpuList == null) return cpus;
+
+		for (String range : cpuList.trim().split(",")) {
+			range = range.trim();
+			if (range.isEmpty()) continue;
+
+			int idx = range.indexOf('-');
+			if (idx < 0) {
+				cpus.add(Gpr.parseIntSafe(range));
+			} else {
+				int start = Gpr.parseIntSafe(range.substring(0, idx));
+				int end = Gpr.parseIntSafe(range.substring(idx + 1));
+				for (int cpu = start; cpu <= end; cpu++)
+					cpus.add(cpu);
+			}
+		}
+		return cpus;
+	}
+
+	/**
+	 * Create a CPU list string, such as "0-3,8,10-11"
+	 */
+	public static String toCpuList(List<Integer> cpus) {
+		List<Integer> sorted = new ArrayList<>(cpus);
+		sorted.sort(null);
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < sorted.size();) {
+			int start = sorted.get(i), end = start;
+			for (i++; i < sorted.size() && sorted.get(i) == end + 1; i++)
+				end++;
+
+			if (sb.length() > 0) sb.append(',');
+			sb.append(start);
+			if (end > start) sb.append("-" + end);
+		}
+		return sb.toString();
+	}
+
+	public CpuTopology() {
+		cpusByNode = new ArrayList<>();
+	}
+
+	/**
+	 * Add a NUMA node
+	 */
+	public void add(List<Integer> cpus) {
+		cpusByNode.add(new ArrayList<>(cpus));
+	}
+
+	public List<Integer> getCpus(int node) {
+		return cpusByNode.get(node);
+	}
+
+	public int getCpusCount() {
+		int count = 0;
+		for (List<Integer> cpus : cpusByNode)
+			count += cpus.size();
+		return count;
+	}
+
+	public int getNodesCount() {
+		return cpusByNode.size();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < cpusByNode.size(); i++)
+			sb.append((i > 0 ? ", " : "") + "node" + i + ": " + toCpuList(cpusByNode.get(i)));
+		return sb.toString();
+	}
+
+}
@@ -20,6 +20,7 @@ public class Host implements Comparable<Host> {
 	String userName; // Username
 	String hostName; // Host name (or IP address)
 	int port = DEFAULT_PORT; // Ssh port
+	HostLoad load; // Real host load, including processes not started by bds (null if not sampled)
 	HostResources resources; // Host resources (all cpus, memory, etc)
 	HostResources resourcesAvaialble; // Available resources
 	Set<Task> tasksRunning; // A list of tasks running in this host
@@ -50,6 +51,10 @@ public class Host implements Comparable<Host> {
 		return hostName;
 	}
 
+	public HostLoad getLoad() {
+		return load;
+	}
+
 	public int getPort() {
 		return port;
 	}
@@ -79,6 +84,10 @@ public class Host implements Comparable<Host> {
 		return getResourcesAvaialble().compareTo(hr) >= 0;
 	}
 
+	public synchronized boolean hasTasksRunning() {
+		return !tasksRunning.isEmpty();
+	}
+
 	void init(ComputerSystem cluster, String hostName) {
 		resources = new HostResources();
 
@@ -106,6 +115,30 @@ public class Host implements Comparable<Host> {
 		return true;
 	}
 
+	/**
+	 * Cpus used by processes other than bds tasks
+	 * @param avail : Resources available (considering only bds tasks)
+	 */
+	int loadCpus(Resources avail) {
+		if (load == null || resources.getCpus() <= 0) return 0;
+		double busy = load.getCpusBusy(resources.getCpus());
+		if (busy < 0) return 0;
+		int reserved = resources.getCpus() - Math.max(0, avail.getCpus());
+		return (int) Math.floor(busy - reserved);
+	}
+
+	/**
+	 * Memory used by processes other than bds tasks
+	 * @param avail : Resources available (considering only bds tasks)
+	 */
+	long loadMem(Resources avail) {
+		if (load == null || resources.getMem() <= 0) return 0;
+		long used = load.getMemUsed();
+		if (used < 0) return 0;
+		long reserved = resources.getMem() - Math.max(0, avail.getMem());
+		return used - reserved;
+	}
+
 	/**
 	 * Remove task from this host
 	 */
@@ -118,12 +151,33 @@ public class Host implements Comparable<Host> {
 		return (userName.isEmpty() ? "" : userName + "@") + hostName + ((port > 0) && (port != DEFAULT_PORT) ? ":" + port : "");
 	}
 
+	/**
+	 * Sample host's real load (if supported)
+	 */
+	public void sampleLoad() {
+	}
+
+	public void setLoad(HostLoad load) {
+		this.load = load;
+	}
+
 	/**
 	 * Update 'resources available'
+	 *
+	 * If the host's real load is known, resources used by other processes
+	 * (e.g. other users) are not available either. Note: Tasks that do not
+	 * fit in any host can still run on an idle host (see TaskPlacement.select)
 	 */
 	public synchronized void updateResourcesAvailable() {
 		resourcesAvaialble = (HostResources) resources.clone();
 		for (Task t : tasksRunning)
 			resourcesAvaialble.consume(t.getResources());
+
+		if (load != null && !(resources instanceof HostResourcesInf)) {
+			Resources external = new Resources();
+			external.setCpus(Math.max(0, loadCpus(resourcesAvaialble)));
+			external.setMem(Math.max(0, loadMem(resourcesAvaialble)));
+			resourcesAvaialble.consume(external);
+		}
 	}
 }
@@ -85,13 +85,21 @@ public class HostHealthUpdater extends Thread implements BdsLog {
 
 		// Select which command parsers to run depending on system type
 		CommandParser commandParser = null;
-		if (systemType.equalsIgnoreCase("Linux")) commandParser = new CommandParser(host, "uptime;df;who;uname -a;cat /proc/meminfo");
+		// Note: On Linux, all information (including host load) is obtained in a single ssh connection
+		if (systemType.equalsIgnoreCase("Linux")) commandParser = new CommandParser(host, "cat /proc/loadavg;head -n 1 /proc/stat;cat /proc/meminfo;df;who");
 		else if (systemType.equalsIgnoreCase("Darwin")) commandParser = new CommandParser(host, "uptime;df;who;uname -a;top -l 1");
 		else return;
 
 		// Run command parser (updates host health)
 		commandParser.parse();
 
+		// Update host load time series and available resources
+		HostLoad load = host.getLoad();
+		if (load != null) {
+			load.addSample(System.currentTimeMillis());
+			host.updateResourcesAvailable();
+		}
+
 		debug("Host info updated: " + host //
 				+ "\nResources: " + host.getResources() //
 				+ "\nHeath:\n" + host.getHealth() //
@@ -0,0 +1,202 @@
+package org.bds.cluster.host;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.bds.util.Gpr;
+
+/**
+ * Host's real load, sampled from '/proc/stat', '/proc/meminfo' and '/proc/loadavg'
+ * (either read directly for the local host, or from a remote probe).
+ *
+ * Includes all processes running on the host, not only bds tasks, so
+ * it can be used to avoid hosts that are busy with other users' work.
+ *
+ * Latest samples are kept as a time series.
+ *
+ * @author pcingola
+ */
+public class HostLoad {
+
+	/**
+	 * A utilization sample
+	 */
+	public static class Sample {
+		public final long time; // Sample time (milliseconds)
+		public final double cpuUsage; // Fraction of cpu time busy since latest sample, in [0, 1]
+		public final double memUsage; // Fraction of memory used, in [0, 1]
+		public final double loadAvg; // Load average (one minute)
+
+		public Sample(long time, double cpuUsage, double memUsage, double loadAvg) {
+			this.time = time;
+			this.cpuUsage = cpuUsage;
+			this.memUsage = memUsage;
+			this.loadAvg = loadAvg;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d\t%.3f\t%.3f\t%.2f", time, cpuUsage, memUsage, loadAvg);
+		}
+	}
+
+	public static final int MAX_SAMPLES = 720; // E.g. one hour, sampling every 5 seconds
+
+	long cpuBusy = -1, cpuTotal = -1; // Latest '/proc/stat' cpu counters (in jiffies)
+	double cpuUsage = -1;
+	double loadAvg = -1;
+	long mem = -1, memAvailable = -1; // Memory (in bytes)
+	int maxSamples;
+	LinkedList<Sample> samples;
+
+	public HostLoad() {
+		this(MAX_SAMPLES);
+	}
+
+	public HostLoad(int maxSamples) {
+		this.maxSamples = maxSamples;
+		samples = new LinkedList<>();
+	}
+
+	/**
+	 * Add a sample to the time series
+	 */
+	public synchronized void addSample(long time) {
+		samples.add(new Sample(time, cpuUsage, getMemUsage(), loadAvg));
+		while (samples.size() > maxSamples)
+			samples.removeFirst();
+	}
+
+	/**
+	 * Number of cpus busy (as measured by '/proc/stat'), negative if not available
+	 */
+	public double getCpusBusy(int cpus) {
+		if (cpuUsage < 0) return -1;
+		return cpuUsage * cpus;
+	}
+
+	public double getCpuUsage() {
+		return cpuUsage;
+	}
+
+	public double getLoadAvg() {
+		return loadAvg;
+	}
+
+	public long getMem() {
+		return mem;
+	}
+
+	public long getMemAvailable() {
+		return memAvailable;
+	}
+
+	/**
+	 * Memory used (bytes), negative if not available
+	 */
+	public long getMemUsed() {
+		if (mem <= 0 || memAvailable < 0) return -1;
+		return mem - memAvailable;
+	}
+
+	public double getMemUsage() {
+		if (mem <= 0 || memAvailable < 0) return -1;
+		return ((double) (mem - memAvailable)) / mem;
+	}
+
+	public synchronized List<Sample> getSamples() {
+		return new ArrayList<>(samples);
+	}
+
+	public boolean isEmpty() {
+		return cpuUsage < 0 && mem < 0 && loadAvg < 0;
+	}
+
+	/**
+	 * Parse '/proc/loadavg', e.g.: "0.52 0.58 0.59 2/1093 12345"
+	 */
+	public void parseLoadAvg(String loadavg) {
+		if (loadavg == null) return;
+		String fields[] = loadavg.trim().split("\\s+");
+		if (fields.length > 0 && !fields[0].isEmpty()) loadAvg = Gpr.parseDoubleSafe(fields[0]);
+	}
+
+	/**
+	 * Parse '/proc/meminfo' (values in KB)
+	 */
+	public void parseMemInfo(String meminfo) {
+		if (meminfo == null) return;
+		long memFree = -1, buffers = 0, cached = 0, available = -1;
+		for (String line : meminfo.split("\n")) {
+			String fields[] = line.replace(':', ' ').trim().split("\\s+");
+			if (fields.length < 2) continue;
+
+			long value = Gpr.parseLongSafe(fields[1]) * 1024L;
+			switch (fields[0]) {
+			case "MemTotal":
+				mem = value;
+				break;
+			case "MemFree":
+				memFree = value;
+				break;
+			case "MemAvailable":
+				available = value;
+				break;
+			case "Buffers":
+				buffers = value;
+				break;
+			case "Cached":
+				cached = value;
+				break;
+			default:
+				break;
+			}
+		}
+
+		// Old kernels do not have 'MemAvailable'
+		if (available < 0 && memFree >= 0) available = memFree + buffers + cached;
+		memAvailable = available;
+	}
+
+	/**
+	 * Parse '/proc/stat' aggregated cpu line, e.g.: "cpu  4705 356 584 3699 23 23 0 0 0 0"
+	 * Usage is calculated as the fraction of non-idle time since the previous sample
+	 */
+	public void parseStat(String stat) {
+		if (stat == null) return;
+		for (String line : stat.split("\n")) {
+			String fields[] = line.trim().split("\\s+");
+			if (!fields[0].equals("cpu")) continue;
+
+			long total = 0, idle = 0;
+			for (int i = 1; i < fields.length; i++) {
+				long value = Gpr.parseLongSafe(fields[i]);
+				if (i <= 8) total += value; // Note: 'guest' times (fields 9 and 10) are already included in 'user' and 'nice'
+				if (i == 4 || i == 5) idle += value; // 'idle' and 'iowait'
+			}
+			long busy = total - idle;
+
+			if (cpuTotal >= 0 && total > cpuTotal) cpuUsage = Math.min(1.0, Math.max(0.0, ((double) (busy - cpuBusy)) / (total - cpuTotal)));
+			cpuBusy = busy;
+			cpuTotal = total;
+			return;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("cpu: %.1f%%, mem: %.1f%%, load: %.2f", 100 * cpuUsage, 100 * getMemUsage(), loadAvg);
+	}
+
+	/**
+	 * Update load from '/proc' files content (any of them can be null)
+	 */
+	public synchronized void update(String stat, String meminfo, String loadavg) {
+		parseStat(stat);
+		parseMemInfo(meminfo);
+		parseLoadAvg(loadavg);
+		addSample(System.currentTimeMillis());
+	}
+
+}
@@ -1,7 +1,9 @@
 package org.bds.cluster.host;
 
+import java.io.File;
 import java.lang.management.ManagementFactory;
 
+import org.bds.Config;
 import org.bds.cluster.ComputerSystem;
 import org.bds.util.Gpr;
 
@@ -14,6 +16,12 @@ import com.sun.management.OperatingSystemMXBean;
  */
 public class HostLocal extends Host {
 
+	public static final String PROC_LOADAVG = "/proc/loadavg";
+	public static final String PROC_MEMINFO = "/proc/meminfo";
+	public static final String PROC_STAT = "/proc/stat";
+
+	long latestSample; // Latest time the load was sampled (milliseconds)
+
 	public HostLocal(ComputerSystem system) {
 		super(system, "localhost");
 
@@ -26,4 +34,26 @@ public class HostLocal extends Host {
 		return bean.getTotalPhysicalMemorySize();
 	}
 
+	/**
+	 * Sample host load by reading '/proc' files directly (only on systems having '/proc/stat')
+	 */
+	@Override
+	public void sampleLoad() {
+		Config config = Config.get();
+		long sampleTime = config != null ? config.getHostLoadSampleTime() : Config.DEFAULT_HOST_LOAD_SAMPLE_TIME;
+		if (sampleTime <= 0) return;
+
+		long now = System.currentTimeMillis();
+		if (now - latestSample < sampleTime * 1000L) return;
+		latestSample = now;
+
+		if (load == null) {
+			if (!new File(PROC_STAT).canRead()) return;
+			load = new HostLoad();
+		}
+
+		load.update(Gpr.readFile(PROC_STAT, false), Gpr.readFile(PROC_MEMINFO, false), Gpr.readFile(PROC_LOADAVG, false));
+		updateResourcesAvailable();
+	}
+
 }
@@ -24,6 +24,14 @@ public class HostSsh extends Host {
 		return health;
 	}
 
+	/**
+	 * Get host load, create it if needed (i.e. the first time it is sampled)
+	 */
+	public synchronized HostLoad getLoadSampled() {
+		if (load == null) load = new HostLoad();
+		return load;
+	}
+
 	@Override
 	public boolean isAlive() {
 		return getHealth().isAlive();
@@ -40,10 +40,15 @@ public class TaskResourcesAws extends TaskResources {
 	public static final String[] SHUTDOWN_BEHAVIOUR = { "shutdown-behavior", "shutdownBehavior" };
 	public static final String[] SUBNET_ID = { "subnet-id", "subnetId", "subnet-ids", "subnetIds" };
 	public static final String[] TAGS = { "tag-specifications", "tagSpecifications", "tags" };
+	public static final String[] WORKER_CPUS = { "worker-cpus", "workerCpus" };
+	public static final String[] WORKER_IDLE_TIMEOUT = { "worker-idle-timeout", "workerIdleTimeout" };
+	public static final String[] WORKER_MEM = { "worker-mem", "workerMem" };
+	public static final String[] WORKER_POOL = { "worker-pool", "workerPool" };
 
 	protected static final String[] LIST_SEPARATORS = { "\t", ",", ";" };
 
 	public static final ShutdownBehavior DEFAULT_SHUTDOWN_BEHAVIOUR = ShutdownBehavior.TERMINATE;
+	public static final long DEFAULT_WORKER_IDLE_TIMEOUT = 300; // Seconds
 
 	protected String awsRole;
 	protected String blockDevMap;
@@ -60,11 +65,16 @@ public class TaskResourcesAws extends TaskResources {
 	protected Map<String, String> tags;
 	protected boolean keepInstanceAliveAfterFinish; // Do NOT shutdown the instance after bds finishes execution (this can be set to 'true' for debugging the instances)
 	protected boolean usePublicIpAddr;
+	protected int workerCpus; // Worker pool: Number of CPUs in each instance (tasks are packed according to 'cpus')
+	protected long workerIdleTimeout; // Worker pool: Terminate an instance after being idle for this number of seconds
+	protected long workerMem; // Worker pool: Memory in each instance (tasks are packed according to 'mem')
+	protected boolean workerPool; // Use a pool of instances that stay alive and run many tasks
 
 	public TaskResourcesAws() {
 		super();
 		keepInstanceAliveAfterFinish = false;
 		shutdownBehavior = DEFAULT_SHUTDOWN_BEHAVIOUR.toString();
+		workerIdleTimeout = DEFAULT_WORKER_IDLE_TIMEOUT;
 	}
 
 	public TaskResourcesAws(TaskResourcesAws hr) {
@@ -155,6 +165,18 @@ public class TaskResourcesAws extends TaskResources {
 		return tags;
 	}
 
+	public int getWorkerCpus() {
+		return workerCpus;
+	}
+
+	public long getWorkerIdleTimeout() {
+		return workerIdleTimeout;
+	}
+
+	public long getWorkerMem() {
+		return workerMem;
+	}
+
 	public boolean isKeepInstanceAliveAfterFinish() {
 		return keepInstanceAliveAfterFinish;
 	}
@@ -163,6 +185,10 @@ public class TaskResourcesAws extends TaskResources {
 		return usePublicIpAddr;
 	}
 
+	public boolean isWorkerPool() {
+		return workerPool;
+	}
+
 	/**
 	 * Get a value (as a string) from a ValueMap
 	 */
@@ -346,6 +372,57 @@ public class TaskResourcesAws extends TaskResources {
 		subnetIds = mapGet(taskResources, SUBNET_ID);
 		tags = parseTags(mapGet(taskResources, TAGS));
 		usePublicIpAddr = Gpr.parseBoolSafe(mapGet(taskResources, IP_ADDR));
+		workerCpus = Gpr.parseIntSafe(mapGet(taskResources, WORKER_CPUS));
+		String wmem = mapGet(taskResources, WORKER_MEM);
+		if (wmem != null) workerMem = Gpr.parseMemSafe(wmem);
+		workerPool = Gpr.parseBoolSafe(mapGet(taskResources, WORKER_POOL));
+		String idle = mapGet(taskResources, WORKER_IDLE_TIMEOUT);
+		if (idle != null) workerIdleTimeout = Gpr.parseLongSafe(idle);
+	}
+
+	public void setWorkerCpus(int workerCpus) {
+		this.workerCpus = workerCpus;
+	}
+
+	public void setWorkerIdleTimeout(long workerIdleTimeout) {
+		this.workerIdleTimeout = workerIdleTimeout;
+	}
+
+	public void setWorkerMem(long workerMem) {
+		this.workerMem = workerMem;
+	}
+
+	public void setWorkerPool(boolean workerPool) {
+		this.workerPool = workerPool;
+	}
+
+	/**
+	 * Resources available in a worker instance.
+	 * If not set, use the task's resources (i.e. one task at a time)
+	 */
+	public Resources workerCapacity() {
+		Resources capacity = new Resources();
+		capacity.setCpus(workerCpus > 0 ? workerCpus : cpus);
+		capacity.setMem(workerMem > 0 ? workerMem : mem);
+		return capacity;
+	}
+
+	/**
+	 * A key identifying the instance parameters: Tasks can only
+	 * share an instance if they have the same key
+	 */
+	public String workerPoolKey() {
+		return region //
+				+ "\t" + instanceType //
+				+ "\t" + imageId //
+				+ "\t" + awsRole //
+				+ "\t" + keyName //
+				+ "\t" + securityGroupIds //
+				+ "\t" + subnetIds //
+				+ "\t" + usePublicIpAddr //
+				+ "\t" + workerCpus //
+				+ "\t" + workerMem //
+		;
 	}
 
 }
\ No newline at end of file
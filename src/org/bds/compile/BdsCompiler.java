@@ -2,13 +2,23 @@ package org.bds.compile;
 
 import java.io.File;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.LexerNoViableAltException;
 import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.Tree;
 import org.bds.BdsLog;
@@ -22,18 +32,39 @@ import org.bds.lang.ProgramUnit;
 import org.bds.lang.statement.StatementInclude;
 import org.bds.symbol.GlobalSymbolTable;
 import org.bds.util.Gpr;
+import org.bds.util.Timer;
 
 /**
  * BdsCompiler a Bds program.
  *
  * Runs lexer & parser, create AST, perform type-checking and create BdsNode tree
  *
+ * Parsing is done in two stages: First we try the (much faster) SLL
+ * prediction mode, only if that fails we parse again using full LL
+ * (which also reports syntax errors).
+ *
+ * Included files are parsed in parallel: As soon as a file is parsed, all
+ * the files it includes are scheduled for parsing. Parse trees are then
+ * merged sequentially (in the same order as if they were parsed one by one)
+ *
  * @author pcingola
  */
 public class BdsCompiler implements BdsLog {
 
+	public static final int MAX_PARSE_THREADS = 8;
+
+	/**
+	 * Result from parsing an included file in a parse thread
+	 */
+	static class ParseResult {
+		ParseTree tree;
+		List<CompilerMessage> messages;
+	}
+
 	boolean debug; // debug mode
 	boolean verbose; // Verbose mode
+	Map<String, Future<ParseResult>> parsedIncludes; // Included files parsed in parallel, indexed by canonical file name
+	ExecutorService parsePool; // Parse included files in parallel
 	String programFileName; // Program file name
 	ProgramUnit programUnit; // Program (parsed nodes)
 
@@ -93,7 +124,13 @@ public class BdsCompiler implements BdsLog {
 	 */
 	ParseTree createAst() {
 		File file = new File(programFileName);
-		return createAst(file, debug, new HashSet<String>());
+		try {
+			return createAst(file, debug, new HashSet<String>());
+		} finally {
+			if (parsePool != null) parsePool.shutdownNow();
+			parsePool = null;
+			parsedIncludes = null;
+		}
 	}
 
 	/**
@@ -102,32 +139,9 @@ public class BdsCompiler implements BdsLog {
 	 * Use 'alreadyIncluded' to keep track of from 'include' statements
 	 */
 	ParseTree createAst(CharStream input, boolean debug, Set<String> alreadyIncluded) {
-		BigDataScriptLexer lexer = null;
-		BigDataScriptParser parser = null;
-
 		try {
-			//---
-			// Lexer: Create a lexer that feeds off of input CharStream
-			//---
-			lexer = new BigDataScriptLexer(input) {
-				@Override
-				public void recover(LexerNoViableAltException e) {
-					throw new RuntimeException(e); // Bail out
-				}
-			};
-
-			//---
-			// Parser
-			//---
-			CommonTokenStream tokens = new CommonTokenStream(lexer);
-			parser = new BigDataScriptParser(tokens);
-
-			// Parser error handling
-			parser.setErrorHandler(new CompileErrorStrategy()); // Bail out with pendingException if errors in parser
-			parser.addErrorListener(new CompilerErrorListener()); // Catch some other error messages that 'CompileErrorStrategy' fails to catch
-
 			// Begin parsing at main rule
-			ParseTree tree = parserNode(parser);
+			ParseTree tree = parse(input);
 
 			// Error loading file?
 			if (tree == null) {
@@ -135,15 +149,6 @@ public class BdsCompiler implements BdsLog {
 				return null;
 			}
 
-			// Show main nodes
-			if (debug) {
-				debug("AST:");
-				for (int childNum = 0; childNum < tree.getChildCount(); childNum++) {
-					Tree child = tree.getChild(childNum);
-					System.err.println("\t\tChild " + childNum + ":\t" + child + "\tTree:'" + child.toStringTree() + "'");
-				}
-			}
-
 			// Included files
 			boolean resolveIncludePending = true;
 			while (resolveIncludePending)
@@ -178,6 +183,10 @@ public class BdsCompiler implements BdsLog {
 				return null;
 			}
 
+			// Already parsed in a parse thread?
+			Future<ParseResult> parsed = parsedIncludes != null ? parsedIncludes.get(Gpr.getCanonicalFileName(file)) : null;
+			if (parsed != null) return createAst(parsed.get(), debug, alreadyIncluded);
+
 			// Create a CharStream that reads from standard input
 			CharStream input = CharStreams.fromFileName(fileName);
 			return createAst(input, debug, alreadyIncluded);
@@ -190,6 +199,24 @@ public class BdsCompiler implements BdsLog {
 		}
 	}
 
+	/**
+	 * Create an AST from a file parsed in a parse thread
+	 * Returns null if error
+	 */
+	ParseTree createAst(ParseResult parsed, boolean debug, Set<String> alreadyIncluded) {
+		// Messages from the parse thread
+		for (CompilerMessage cm : parsed.messages)
+			CompilerMessages.get().add(cm);
+		if (parsed.tree == null) return null;
+
+		// Included files
+		boolean resolveIncludePending = true;
+		while (resolveIncludePending)
+			resolveIncludePending = resolveIncludes(parsed.tree, debug, alreadyIncluded);
+
+		return parsed.tree;
+	}
+
 	/**
 	 * Create an AST from a program (using ANTLR lexer & parser)
 	 * Returns null if error
@@ -265,6 +292,119 @@ public class BdsCompiler implements BdsLog {
 		return tree;
 	}
 
+	/**
+	 * Lex and parse (two stages: SLL, then LL if SLL fails)
+	 * Files included are scheduled to be parsed in parallel
+	 */
+	ParseTree parse(CharStream input) {
+		Timer timer = new Timer();
+
+		//---
+		// Lexer: Create a lexer that feeds off of input CharStream
+		//---
+		BigDataScriptLexer lexer = new BigDataScriptLexer(input) {
+			@Override
+			public void recover(LexerNoViableAltException e) {
+				throw new RuntimeException(e); // Bail out
+			}
+		};
+
+		//---
+		// Parser, first stage: SLL prediction mode, bail out on any error
+		//---
+		CommonTokenStream tokens = new CommonTokenStream(lexer);
+		BigDataScriptParser parser = new BigDataScriptParser(tokens);
+		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		parser.removeErrorListeners();
+		parser.setErrorHandler(new BailErrorStrategy());
+
+		ParseTree tree;
+		boolean fullLl = false;
+		try {
+			tree = parserNode(parser);
+		} catch (ParseCancellationException e) {
+			//---
+			// Second stage: Full LL prediction mode (SLL may fail on valid
+			// input). Errors here are real syntax errors, so we report them
+			//---
+			fullLl = true;
+			tokens.seek(0);
+			parser.reset();
+			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+			parser.setErrorHandler(new CompileErrorStrategy()); // Bail out with pendingException if errors in parser
+			parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+			parser.addErrorListener(new CompilerErrorListener()); // Catch some other error messages that 'CompileErrorStrategy' fails to catch
+			tree = parserNode(parser);
+		}
+
+		log("Parsed file '" + input.getSourceName() + "', " + (fullLl ? "LL" : "SLL") + " mode, " + timer.elapsed() + " ms");
+		if (tree == null) return null;
+
+		// Show main nodes
+		if (debug) {
+			debug("AST:");
+			for (int childNum = 0; childNum < tree.getChildCount(); childNum++) {
+				Tree child = tree.getChild(childNum);
+				System.err.println("\t\tChild " + childNum + ":\t" + child + "\tTree:'" + child.toStringTree() + "'");
+			}
+		}
+
+		parseIncludes(tree);
+		return tree;
+	}
+
+	/**
+	 * Parse an included file (invoked in a parse thread)
+	 */
+	ParseResult parseInclude(File file) {
+		ParseResult parsed = new ParseResult();
+		try {
+			parsed.tree = parse(CharStreams.fromFileName(file.toString()));
+			if (parsed.tree == null) System.err.println("Can't parse file '" + file + "'");
+		} catch (Exception e) {
+			String msg = e.getMessage();
+			CompilerMessages.get().addError("Could not compile " + file //
+					+ (msg != null ? " :" + e.getMessage() : "") //
+			);
+		}
+
+		// Messages are stored by thread, so we pass them to the caller
+		parsed.messages = CompilerMessages.get().messagesSorted();
+		CompilerMessages.reset();
+		return parsed;
+	}
+
+	/**
+	 * Schedule all files included in 'tree' to be parsed in parallel
+	 */
+	void parseIncludes(ParseTree tree) {
+		if (tree instanceof IncludeFileContext) {
+			File parentFile = new File(((IncludeFileContext) tree).getStart().getInputStream().getSourceName());
+			String includedFilename = StatementInclude.includeFileName(tree.getChild(1).getText());
+			File includedFile = StatementInclude.includeFile(includedFilename, parentFile);
+			if (includedFile == null || !includedFile.canRead()) return; // Errors are reported when resolving includes
+
+			synchronized (this) {
+				if (parsePool == null) {
+					int numThreads = Math.min(MAX_PARSE_THREADS, Runtime.getRuntime().availableProcessors());
+					parsePool = Executors.newFixedThreadPool(numThreads, r -> {
+						Thread t = new Thread(r, "BdsCompiler.parse");
+						t.setDaemon(true);
+						return t;
+					});
+					parsedIncludes = new ConcurrentHashMap<>();
+				}
+				String canonicalFileName = Gpr.getCanonicalFileName(includedFile);
+				if (!parsedIncludes.containsKey(canonicalFileName)) {
+					parsedIncludes.put(canonicalFileName, parsePool.submit(() -> parseInclude(includedFile)));
+				}
+			}
+		} else {
+			for (int i = 0; i < tree.getChildCount(); i++)
+				parseIncludes(tree.getChild(i));
+		}
+	}
+
 	protected ParseTree parserNode(BigDataScriptParser parser) {
 		return parser.programUnit();
 	}
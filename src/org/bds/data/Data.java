@@ -238,6 +238,15 @@ public abstract class Data implements Comparable<Data>, Serializable, BdsLog {
 	 */
 	public abstract boolean download(Data localFile);
 
+	/**
+	 * Download (remote) file to a specific location, using the
+	 * shared data cache if available
+	 * @return True on success
+	 */
+	public boolean downloadCached(Data localFile) {
+		return download(localFile);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) return true;
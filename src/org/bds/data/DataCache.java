@@ -0,0 +1,367 @@
+package org.bds.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bds.BdsLog;
+import org.bds.BdsLogger;
+import org.bds.Config;
+import org.bds.util.Gpr;
+import org.bds.util.GprFile;
+
+/**
+ * A persistent, content addressed, local cache for remote data files.
+ *
+ * Remote files are downloaded once into the cache directory and then
+ * 'materialized' into each local path using a hard link (or a copy,
+ * if a hard link cannot be created, e.g. across file systems).
+ *
+ * Cache layout:
+ *
+ * 		cacheDir/ab/abcdef0123.../data    : Cached data file
+ * 		cacheDir/ab/abcdef0123.../lock    : Lock file used while populating the entry
+ *
+ * The entry directory's 'last modified' time is updated on every access,
+ * which is used to evict the least recently used entries when the
+ * cache grows beyond 'maxSize'. The cache size is only calculated (by
+ * listing all entries) the first time and when it seems to be over the
+ * limit, otherwise we keep a running size.
+ *
+ * Entries are populated atomically: data is downloaded into a temporary
+ * file and then moved into place. A file lock (plus a JVM level monitor)
+ * ensures that only one bds process / thread downloads a given entry.
+ *
+ * Note: Cached files are set read-only, since hard links share the
+ *       underlying data, a process writing to a linked file would
+ *       corrupt the cache entry.
+ *
+ * @author pcingola
+ */
+public class DataCache implements BdsLog {
+
+	public static final String DATA_FILE = "data";
+	public static final String LOCK_FILE = "lock";
+	public static final long STALE_TIME = 24 * 60 * 60 * 1000L; // Entries without data older than this are removed when evicting (milliseconds)
+	public static final String TMP_EXT = ".tmp";
+
+	private static DataCache instance = null;
+
+	AtomicLong bytesDownloaded; // Bytes downloaded into the cache
+	AtomicLong bytesFromCache; // Bytes served from the cache
+	File cacheDir;
+	AtomicLong evictions;
+	AtomicLong hits;
+	Map<String, Object> locksByKey; // Monitors used to avoid having two threads (in the same JVM) competing for the same entry
+	long maxSize;
+	AtomicLong misses;
+	long size; // Running cache size in bytes (negative means 'unknown')
+
+	/**
+	 * Get cache instance (null if the cache is disabled)
+	 */
+	public static synchronized DataCache get() {
+		if (instance == null) {
+			String dir = Config.get().getDataCacheDir();
+			if (dir == null || dir.isEmpty()) return null;
+			BdsLogger.debug("Creating new DataCache instance, dir '" + dir + "'");
+			instance = new DataCache(dir, Config.get().getDataCacheMaxSize());
+		}
+		return instance;
+	}
+
+	/**
+	 * Show statistics (if the cache was used) and reset the instance
+	 */
+	public static synchronized void kill() {
+		if (instance != null && instance.isUsed()) instance.log("Data cache: " + instance);
+		instance = null;
+	}
+
+	public static synchronized void reset() {
+		instance = null;
+	}
+
+	public DataCache(String cacheDir, long maxSize) {
+		if (cacheDir.startsWith("~")) cacheDir = Gpr.HOME + cacheDir.substring(1);
+		this.cacheDir = new File(cacheDir);
+		this.maxSize = maxSize;
+		bytesDownloaded = new AtomicLong();
+		bytesFromCache = new AtomicLong();
+		evictions = new AtomicLong();
+		hits = new AtomicLong();
+		misses = new AtomicLong();
+		locksByKey = new ConcurrentHashMap<>();
+		size = -1;
+	}
+
+	/**
+	 * Download 'remote' to 'local' using the cache
+	 * @return True on success
+	 */
+	public boolean download(DataRemote remote, Data local) {
+		String key = key(remote);
+		if (key == null) {
+			debug("Remote file '" + remote + "' cannot be cached, downloading directly");
+			return remote.download(local);
+		}
+
+		try {
+			// Note: An entry can be evicted by another process between the time
+			// we check for it and the time we link it, so we retry once
+			for (int i = 0; i < 2; i++) {
+				File entry = populate(remote, key);
+				if (entry == null) return false;
+
+				try {
+					materialize(entry, local, lastModified(remote));
+					touch(entry);
+					return true;
+				} catch (NoSuchFileException e) {
+					debug("Cache entry '" + entry + "' evicted before it could be used, retrying");
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Error downloading '" + remote + "' using data cache '" + cacheDir + "'", e);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Cached data file for 'key'
+	 */
+	File entryDataFile(String key) {
+		return new File(entryDir(key), DATA_FILE);
+	}
+
+	/**
+	 * Directory holding a cache entry
+	 */
+	File entryDir(String key) {
+		return new File(new File(cacheDir, key.substring(0, 2)), key);
+	}
+
+	/**
+	 * Evict least recently used entries until the cache is smaller than 'maxSize'
+	 * @param keep : Do not evict this entry (the one we just created)
+	 * @param added : Number of bytes added to the cache
+	 */
+	synchronized void evict(String keep, long added) {
+		if (maxSize <= 0) return;
+
+		// Use running size, unless we are over the limit (other processes may have added or evicted entries)
+		if (size >= 0) {
+			size += added;
+			if (size <= maxSize) return;
+		}
+
+		// Find all entries and total size
+		List<File> entries = new ArrayList<>();
+		long total = 0;
+		File[] shards = cacheDir.listFiles(File::isDirectory);
+		if (shards == null) return;
+		for (File shard : shards) {
+			File[] dirs = shard.listFiles(File::isDirectory);
+			if (dirs == null) continue;
+			for (File dir : dirs) {
+				entries.add(dir);
+				total += new File(dir, DATA_FILE).length();
+			}
+		}
+		size = total;
+		if (total <= maxSize) return;
+
+		// Remove oldest entries first
+		entries.sort(Comparator.comparingLong(File::lastModified));
+		for (File dir : entries) {
+			if (total <= maxSize) break;
+			if (dir.getName().equals(keep)) continue;
+
+			// Entry being populated (e.g. by another process)? Only remove it if it's stale
+			File data = new File(dir, DATA_FILE);
+			if (!data.exists() && (System.currentTimeMillis() - dir.lastModified() < STALE_TIME)) continue;
+
+			long len = data.length();
+			if (data.delete() || !data.exists()) {
+				total -= len;
+				evictions.incrementAndGet();
+				debug("Evicted cache entry '" + dir + "', size " + len);
+			}
+
+			// Remove any other file (lock file, stale temporary files) and the entry directory
+			File[] files = dir.listFiles();
+			if (files != null) for (File f : files)
+				f.delete();
+			dir.delete();
+		}
+		size = total;
+	}
+
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	boolean isUsed() {
+		return hits.get() + misses.get() > 0;
+	}
+
+	/**
+	 * Cache key: A hash of the remote's cache ID (null if the data cannot be cached)
+	 */
+	String key(DataRemote remote) {
+		String cacheId = remote.cacheId();
+		if (cacheId == null) return null;
+
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			byte[] digest = md.digest(cacheId.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest)
+				sb.append(String.format("%02x", b));
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Remote file's 'last modified' time (non-positive if unknown)
+	 */
+	long lastModified(DataRemote remote) {
+		Date lastModified = remote.getLastModified();
+		return lastModified != null ? lastModified.getTime() : 0;
+	}
+
+	/**
+	 * Create 'local' from a cache entry: use a hard link, fall back to a copy
+	 * Note: A hard link shares the entry's 'last modified' time, which is set when the entry is populated
+	 */
+	void materialize(File entry, Data local, long lastModified) throws IOException {
+		Path localPath = new File(local.getAbsolutePath()).toPath();
+		Path entryPath = entry.toPath();
+
+		File parent = localPath.toFile().getParentFile();
+		if (parent != null) parent.mkdirs();
+		Files.deleteIfExists(localPath);
+
+		try {
+			Files.createLink(localPath, entryPath);
+			debug("Linked cache entry '" + entry + "' to '" + localPath + "'");
+		} catch (FileAlreadyExistsException | NoSuchFileException e) {
+			throw e;
+		} catch (IOException | UnsupportedOperationException e) {
+			// Different file system or links not supported
+			GprFile.copy(entryPath.toString(), localPath.toString());
+			debug("Copied cache entry '" + entry + "' to '" + localPath + "'");
+
+			// Make sure the local file does not look older than the remote one
+			if (lastModified > 0) localPath.toFile().setLastModified(lastModified);
+		}
+	}
+
+	/**
+	 * Make sure the entry exists, download it if needed
+	 * @return Entry's data file or null on failure
+	 */
+	File populate(DataRemote remote, String key) throws IOException {
+		File entry = entryDataFile(key);
+		if (entry.exists()) {
+			hits.incrementAndGet();
+			bytesFromCache.addAndGet(entry.length());
+			debug("Cache hit for '" + remote + "': '" + entry + "'");
+			return entry;
+		}
+
+		Object monitor = locksByKey.computeIfAbsent(key, k -> new Object());
+		synchronized (monitor) {
+			File entryDir = entryDir(key);
+			entryDir.mkdirs();
+			Path lockPath = new File(entryDir, LOCK_FILE).toPath();
+
+			try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+				channel.lock(); // Released when the channel is closed
+
+				// Another process could have populated the entry while we were waiting for the lock
+				if (entry.exists()) {
+					hits.incrementAndGet();
+					bytesFromCache.addAndGet(entry.length());
+					debug("Cache hit (after lock) for '" + remote + "': '" + entry + "'");
+					return entry;
+				}
+
+				// Download to a temporary file
+				File tmp = new File(entryDir, DATA_FILE + TMP_EXT + "." + ProcessHandle.current().pid() + "." + Thread.currentThread().getId());
+				tmp.delete();
+				log("Cache miss for '" + remote + "', downloading to '" + entry + "'");
+
+				String localPathOri = remote.localPath; // Some implementations update 'localPath' when downloading
+				boolean ok;
+				try {
+					ok = remote.download(Data.factory(tmp.getAbsolutePath()));
+				} finally {
+					remote.localPath = localPathOri;
+				}
+
+				if (!ok || !tmp.exists()) {
+					tmp.delete();
+					return null;
+				}
+
+				// Move into place. Set 'last modified' before, since it is shared by all hard links to the entry
+				long lastModified = lastModified(remote);
+				if (lastModified > 0) tmp.setLastModified(lastModified);
+				tmp.setWritable(false, false);
+				Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.ATOMIC_MOVE);
+				misses.incrementAndGet();
+				bytesDownloaded.addAndGet(entry.length());
+			}
+		}
+
+		evict(key, entry.length());
+		return entry;
+	}
+
+	/**
+	 * Update entry's access time (used for LRU eviction)
+	 */
+	void touch(File entry) {
+		entry.getParentFile().setLastModified(System.currentTimeMillis());
+	}
+
+	@Override
+	public String toString() {
+		return "dir: '" + cacheDir + "'" //
+				+ ", hits: " + hits //
+				+ ", misses: " + misses //
+				+ ", evictions: " + evictions //
+				+ ", bytes from cache: " + Gpr.toStringMem(bytesFromCache.get()) //
+				+ ", bytes downloaded: " + Gpr.toStringMem(bytesDownloaded.get()) //
+		;
+	}
+
+}
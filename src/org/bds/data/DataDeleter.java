@@ -0,0 +1,152 @@
+package org.bds.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bds.BdsLog;
+
+/**
+ * Delete many files (e.g. stale files on exit)
+ *
+ * Deleting remote files one by one means one round trip per file.
+ * Here, files are grouped by backend:
+ *   - S3 objects are grouped by region and bucket, and deleted using
+ *     multi-object 'DeleteObjects' requests (up to 1000 keys each)
+ *   - Other files (local, SFTP, etc.) are deleted concurrently, using
+ *     a bounded number of threads
+ *
+ * @author pcingola
+ */
+public class DataDeleter implements BdsLog {
+
+	public static final int MAX_THREADS = 16;
+	public static final long PROGRESS_INTERVAL = 5 * 1000; // Show progress every 5 seconds
+
+	Collection<Data> datas;
+	AtomicInteger deleted;
+	AtomicInteger done;
+	long lastProgress;
+	int total;
+
+	public DataDeleter(Collection<Data> datas) {
+		this.datas = datas;
+		deleted = new AtomicInteger();
+		done = new AtomicInteger();
+	}
+
+	/**
+	 * Delete all files
+	 * @return Number of files deleted
+	 */
+	public int delete() {
+		// Group S3 objects by region and bucket
+		Map<String, List<DataS3>> s3ByBucket = new LinkedHashMap<>();
+		List<Data> others = new ArrayList<>();
+		for (Data d : datas) {
+			if (d instanceof DataS3 && !d.isDirectory()) {
+				DataS3 ds3 = (DataS3) d;
+				s3ByBucket.computeIfAbsent(ds3.getRegion() + "\t" + ds3.getBucket(), k -> new ArrayList<>()).add(ds3);
+			} else others.add(d);
+		}
+
+		// Create one job per 'DeleteObjects' request and one job per file
+		List<Runnable> jobs = new ArrayList<>();
+		for (List<DataS3> objs : s3ByBucket.values()) {
+			for (int start = 0; start < objs.size(); start += DataS3.DELETE_OBJECTS_MAX_KEYS) {
+				List<DataS3> batch = objs.subList(start, Math.min(start + DataS3.DELETE_OBJECTS_MAX_KEYS, objs.size()));
+				jobs.add(() -> deleteS3(batch));
+			}
+		}
+		for (Data d : others)
+			jobs.add(() -> delete(d));
+
+		total = datas.size();
+		lastProgress = System.currentTimeMillis();
+		if (jobs.size() == 1) {
+			jobs.get(0).run();
+		} else if (!jobs.isEmpty()) {
+			run(jobs);
+		}
+
+		debug("Deleted " + deleted.get() + " / " + total + " files");
+		return deleted.get();
+	}
+
+	/**
+	 * Delete a single file
+	 */
+	void delete(Data d) {
+		try {
+			debug("Deleting file '" + d + "'");
+			if (d.delete()) deleted.incrementAndGet();
+		} catch (Exception e) {
+			warning("Error deleting file '" + d + "': " + e.getMessage());
+		}
+		progress(1);
+	}
+
+	/**
+	 * Delete a batch of S3 objects (all of them in the same region and bucket)
+	 */
+	void deleteS3(List<DataS3> objs) {
+		DataS3 first = objs.get(0);
+		List<String> keys = new ArrayList<>(objs.size());
+		for (DataS3 ds3 : objs) {
+			debug("Deleting file '" + ds3 + "'");
+			ds3.deleteLocal(); // Local cached copy
+			keys.add(ds3.getKey());
+		}
+
+		try {
+			deleted.addAndGet(DataS3.deleteRemote(first.getRegion(), first.getBucket(), keys));
+		} catch (Exception e) {
+			warning("Error deleting " + keys.size() + " objects from bucket '" + first.getBucket() + "': " + e.getMessage());
+		}
+		progress(objs.size());
+	}
+
+	/**
+	 * Update progress, log it if enough time has passed since the last update
+	 */
+	void progress(int n) {
+		int d = done.addAndGet(n);
+		synchronized (this) {
+			long now = System.currentTimeMillis();
+			if (now - lastProgress < PROGRESS_INTERVAL) return;
+			lastProgress = now;
+		}
+		log("Deleting stale files: " + d + " / " + total);
+	}
+
+	/**
+	 * Run jobs using a bounded thread pool
+	 */
+	void run(List<Runnable> jobs) {
+		int numThreads = Math.min(MAX_THREADS, jobs.size());
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads, r -> {
+			Thread t = new Thread(r, "DataDeleter");
+			t.setDaemon(true);
+			return t;
+		});
+
+		try {
+			for (Runnable job : jobs)
+				pool.submit(job);
+			pool.shutdown();
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			warning("Interrupted while deleting files");
+			Thread.currentThread().interrupt();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+}
@@ -6,9 +6,12 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Date;
 
+import org.bds.util.GprFile;
+
 /**
  * A data file.
  * Local data files do not require download / uploaded
+ * (downloading / uploading to another local file is a copy)
  *
  * @author pcingola
  */
@@ -79,6 +82,24 @@ public class DataFile extends Data {
 		return "file://" + getCanonicalPath();
 	}
 
+	/**
+	 * Copy a local file
+	 */
+	boolean copy(Data src, Data dst) {
+		if (src.isRemote() || dst.isRemote()) throw new RuntimeException("Cannot copy '" + src + "' to '" + dst + "', both files must be local");
+		if (src.getCanonicalPath().equals(dst.getCanonicalPath())) return true; // Same file, nothing to do
+
+		try {
+			File parent = new File(dst.getAbsolutePath()).getParentFile();
+			if (parent != null) parent.mkdirs();
+			GprFile.copy(src.getAbsolutePath(), dst.getAbsolutePath());
+			return true;
+		} catch (RuntimeException e) {
+			error(e.getMessage());
+			return false;
+		}
+	}
+
 	@Override
 	public boolean delete() {
 		return file.delete();
@@ -96,7 +117,7 @@ public class DataFile extends Data {
 
 	@Override
 	public boolean download(Data localFile) {
-		throw new RuntimeException("Cannot download local file '" + this + "'");
+		return copy(this, localFile);
 	}
 
 	@Override
@@ -200,7 +221,7 @@ public class DataFile extends Data {
 
 	@Override
 	public boolean upload(Data localFile) {
-		throw new RuntimeException("Cannot upload local file '" + this + "'");
+		return copy(localFile, this);
 	}
 
 }
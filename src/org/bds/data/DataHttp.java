@@ -223,6 +223,7 @@ public class DataHttp extends DataRemote {
 			long lastMod = connection.getLastModified();
 			if (lastMod == 0) lastMod = connection.getDate(); // If last_modified is not found, use 'date' (e.g. dynamic content)
 			lastModified = new Date(lastMod);
+			etag = connection.getHeaderField("ETag");
 
 			ok = true;
 
@@ -9,6 +9,7 @@ import org.apache.http.client.utils.URIBuilder;
 import org.bds.Config;
 import org.bds.run.BdsThread;
 import org.bds.run.BdsThreads;
+import org.bds.run.Profiler;
 import org.bds.util.Gpr;
 import org.bds.util.Timer;
 
@@ -26,6 +27,7 @@ public abstract class DataRemote extends Data {
 
 	protected boolean canRead;
 	protected boolean canWrite;
+	protected String etag; // Entity tag reported by the server (null if not available)
 	protected boolean exists;
 	protected Boolean isDir;
 	protected Date lastModified;
@@ -40,6 +42,20 @@ public abstract class DataRemote extends Data {
 		relative = false;
 	}
 
+	/**
+	 * An ID used to identify the remote file's content in the shared data cache.
+	 * By default it's based on the URL, size and modification time. If the
+	 * server provides an entity tag, it's used instead of the modification time.
+	 *
+	 * @return A cache ID or null if the file should not be cached (e.g. dynamic content)
+	 */
+	public String cacheId() {
+		if (needsUpdateInfo() && !updateInfo()) return null;
+		if (!isFile() || size <= 0) return null; // Negative size indicates dynamic content
+		if (etag != null && !etag.isEmpty()) return "etag:" + uri.getScheme() + "://" + uri.getAuthority() + "/" + etag + ":" + size;
+		return "url:" + url() + ":" + size + ":" + getLastModified().getTime();
+	}
+
 	@Override
 	public boolean canExecute() {
 		return false;
@@ -102,7 +118,24 @@ public abstract class DataRemote extends Data {
 	public boolean download() {
 		if (isDownloaded()) return true;
 		String localFile = localPath();
-		return download(factory(localFile));
+
+		BdsThread bdsThread = BdsThreads.getInstance().get();
+		Profiler.State profileStatePrev = (bdsThread != null ? bdsThread.setProfileState(Profiler.State.IO) : null);
+		try {
+			return downloadCached(factory(localFile));
+		} finally {
+			if (bdsThread != null) bdsThread.setProfileState(profileStatePrev);
+		}
+	}
+
+	/**
+	 * Download using the shared data cache (if enabled)
+	 */
+	@Override
+	public boolean downloadCached(Data local) {
+		DataCache dataCache = DataCache.get();
+		if (dataCache != null) return dataCache.download(this, local);
+		return download(local);
 	}
 
 	@Override
@@ -319,6 +352,17 @@ public abstract class DataRemote extends Data {
 	 */
 	protected abstract boolean updateInfo();
 
+	@Override
+	public boolean upload() {
+		BdsThread bdsThread = BdsThreads.getInstance().get();
+		Profiler.State profileStatePrev = (bdsThread != null ? bdsThread.setProfileState(Profiler.State.IO) : null);
+		try {
+			return super.upload();
+		} finally {
+			if (bdsThread != null) bdsThread.setProfileState(profileStatePrev);
+		}
+	}
+
 	public void updateInfoIfNeeded() {
 		if (needsUpdateInfo()) updateInfo();
 	}
@@ -8,6 +8,7 @@ import java.sql.Date;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.bds.BdsLogger;
 import org.bds.Config;
 import org.bds.util.Gpr;
 import org.bds.util.Timer;
@@ -15,11 +16,16 @@ import org.bds.util.Timer;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
@@ -35,6 +41,7 @@ public class DataS3 extends DataRemote {
 	public static final String AWS_S3_VIRTUAL_HOSTED_DOMAIN = "amazonaws.com";
 	public static final String AWS_S3_PROTOCOL = "s3";
 	public static final String AWS_S3_REGION = "awsS3Region";
+	public static final int DELETE_OBJECTS_MAX_KEYS = 1000; // Maximum number of keys in a 'DeleteObjects' request
 
 	protected String region;
 	protected String bucketName;
@@ -66,6 +73,18 @@ public class DataS3 extends DataRemote {
 				&& (region == null || region.isEmpty());
 	}
 
+	/**
+	 * S3's ETag is a hash of the object's content, so different URLs
+	 * (buckets, aliases) referring to the same content share the cache entry
+	 */
+	@Override
+	public String cacheId() {
+		if (needsUpdateInfo() && !updateInfo()) return null;
+		if (!isFile() || size <= 0) return null;
+		if (etag != null && !etag.isEmpty()) return "s3etag:" + etag + ":" + size;
+		return super.cacheId();
+	}
+
 	@Override
 	public String createUrl() {
 		return canBeS3Format() ? urlS3() : urlHttps();
@@ -79,6 +98,35 @@ public class DataS3 extends DataRemote {
 		return true;
 	}
 
+	/**
+	 * Delete several objects from the same bucket using 'DeleteObjects' requests
+	 * (up to DELETE_OBJECTS_MAX_KEYS keys per request).
+	 * Only remote objects are deleted, local (cached) copies are not.
+	 * @return Number of objects deleted
+	 */
+	public static int deleteRemote(String region, String bucketName, List<String> keys) {
+		S3Client s3 = AwsS3ClientProvider.get(region);
+		int count = 0;
+		for (int start = 0; start < keys.size(); start += DELETE_OBJECTS_MAX_KEYS) {
+			List<ObjectIdentifier> objIds = new ArrayList<>();
+			for (String key : keys.subList(start, Math.min(start + DELETE_OBJECTS_MAX_KEYS, keys.size())))
+				objIds.add(ObjectIdentifier.builder().key(key).build());
+
+			// Quiet mode: The response only contains errors
+			Delete delete = Delete.builder().objects(objIds).quiet(true).build();
+			DeleteObjectsRequest req = DeleteObjectsRequest.builder().bucket(bucketName).delete(delete).build();
+			DeleteObjectsResponse res = s3.deleteObjects(req);
+
+			count += objIds.size();
+			if (res.hasErrors()) {
+				for (S3Error err : res.errors())
+					BdsLogger.warning("Error deleting 's3://" + bucketName + "/" + err.key() + "': " + err.code() + ", " + err.message());
+				count -= res.errors().size();
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * Download a file
 	 */
@@ -354,6 +402,7 @@ public class DataS3 extends DataRemote {
 		canRead = true;
 		canWrite = true;
 		lastModified = java.util.Date.from(s3object.lastModified());
+		etag = s3object.eTag() != null ? s3object.eTag().replace("\"", "") : null;
 		exists = true;
 		latestUpdate = new Timer(CACHE_TIMEOUT);
 
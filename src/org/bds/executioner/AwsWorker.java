@@ -0,0 +1,112 @@
+package org.bds.executioner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bds.cluster.host.Resources;
+import org.bds.cluster.host.TaskResourcesAws;
+import org.bds.task.Task;
+
+/**
+ * A long running EC2 instance (from a worker pool) that
+ * pulls task from its own queue.
+ *
+ * @author pcingola
+ */
+public class AwsWorker {
+
+	Resources available; // Resources not used by any task
+	Resources capacity; // Total resources
+	long idleSince; // Time when the last task finished (milliseconds)
+	String instanceId;
+	String poolKey; // Only tasks having the same instance parameters can be packed into this worker
+	String queueUrl;
+	TaskResourcesAws resources; // Resources used to create the instance
+	Map<String, Resources> resourcesByTaskId; // Tasks running on this worker
+
+	public AwsWorker(String instanceId, String queueUrl, TaskResourcesAws resources) {
+		this.instanceId = instanceId;
+		this.queueUrl = queueUrl;
+		this.resources = resources;
+		poolKey = resources.workerPoolKey();
+		capacity = resources.workerCapacity();
+		available = capacity.clone();
+		resourcesByTaskId = new HashMap<>();
+		idleSince = System.currentTimeMillis();
+	}
+
+	/**
+	 * Add a task, consume resources
+	 */
+	public void add(Task task) {
+		Resources res = task.getResources();
+		resourcesByTaskId.put(task.getId(), res);
+		available.consume(res);
+	}
+
+	/**
+	 * Can this worker run 'task' now?
+	 */
+	public boolean canRun(Task task) {
+		TaskResourcesAws res = (TaskResourcesAws) task.getResources();
+		if (!poolKey.equals(res.workerPoolKey())) return false;
+		return available.hasResources(res);
+	}
+
+	public Resources getAvailable() {
+		return available;
+	}
+
+	public String getInstanceId() {
+		return instanceId;
+	}
+
+	public String getQueueUrl() {
+		return queueUrl;
+	}
+
+	public String getRegion() {
+		return resources.getRegion();
+	}
+
+	public boolean hasTask(Task task) {
+		return resourcesByTaskId.containsKey(task.getId());
+	}
+
+	public boolean isIdle() {
+		return resourcesByTaskId.isEmpty();
+	}
+
+	/**
+	 * Has this worker been idle for more than 'idleTimeout' seconds?
+	 */
+	public boolean isIdle(long now) {
+		return isIdle() && (now - idleSince) >= 1000L * resources.getWorkerIdleTimeout();
+	}
+
+	/**
+	 * Remove a task, release resources
+	 */
+	public boolean remove(Task task) {
+		Resources res = resourcesByTaskId.remove(task.getId());
+		if (res == null) return false;
+
+		// Release resources
+		available = capacity.clone();
+		for (Resources r : resourcesByTaskId.values())
+			available.consume(r);
+
+		if (resourcesByTaskId.isEmpty()) idleSince = System.currentTimeMillis();
+		return true;
+	}
+
+	public int size() {
+		return resourcesByTaskId.size();
+	}
+
+	@Override
+	public String toString() {
+		return instanceId + "\ttasks: " + resourcesByTaskId.size() + "\tavailable: " + available + "\tcapacity: " + capacity;
+	}
+
+}
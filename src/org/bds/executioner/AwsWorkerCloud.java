@@ -0,0 +1,51 @@
+package org.bds.executioner;
+
+import java.util.List;
+
+import org.bds.cluster.host.TaskResourcesAws;
+
+/**
+ * Cloud operations used by the AWS worker pool (EC2 instances and SQS queues)
+ *
+ * This is an interface so that the worker pool's control plane can
+ * be tested using an in-process stand-in (see AwsWorkerCloudLocal)
+ *
+ * @author pcingola
+ */
+public interface AwsWorkerCloud {
+
+	/**
+	 * Release resources (e.g. cloud clients)
+	 */
+	public void close();
+
+	/**
+	 * Create a queue
+	 * @return Queue URL
+	 */
+	public String createQueue(String region, String queueName);
+
+	/**
+	 * Delete a queue
+	 */
+	public void deleteQueue(String region, String queueUrl);
+
+	/**
+	 * Run an instance
+	 * @param name : Instance name (tag)
+	 * @param userData : Startup script, encoded as base64
+	 * @return Instance ID or null on failure
+	 */
+	public String runInstance(TaskResourcesAws resources, String name, String userData);
+
+	/**
+	 * Send a message to a queue
+	 */
+	public void sendMessage(String region, String queueUrl, String message);
+
+	/**
+	 * Terminate instances
+	 */
+	public void terminateInstances(String region, List<String> instanceIds);
+
+}
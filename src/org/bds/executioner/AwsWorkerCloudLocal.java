@@ -0,0 +1,95 @@
+package org.bds.executioner;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bds.cluster.host.TaskResourcesAws;
+
+/**
+ * An in-process stand-in for EC2 / SQS, used to test (or debug)
+ * the worker pool without creating any cloud resources.
+ *
+ * Instances are not executed, messages are just kept in memory.
+ *
+ * @author pcingola
+ */
+public class AwsWorkerCloudLocal implements AwsWorkerCloud {
+
+	boolean closed;
+	int instanceNum;
+	Map<String, String> userDataByInstance;
+	Set<String> instancesRunning;
+	Map<String, LinkedList<String>> messagesByQueue;
+
+	public AwsWorkerCloudLocal() {
+		userDataByInstance = new HashMap<>();
+		instancesRunning = new HashSet<>();
+		messagesByQueue = new HashMap<>();
+	}
+
+	@Override
+	public synchronized void close() {
+		closed = true;
+	}
+
+	@Override
+	public synchronized String createQueue(String region, String queueName) {
+		String queueUrl = "local://" + queueName;
+		messagesByQueue.put(queueUrl, new LinkedList<>());
+		return queueUrl;
+	}
+
+	@Override
+	public synchronized void deleteQueue(String region, String queueUrl) {
+		if (messagesByQueue.remove(queueUrl) == null) throw new RuntimeException("Queue '" + queueUrl + "' does not exist");
+	}
+
+	public synchronized Set<String> getInstancesRunning() {
+		return new HashSet<>(instancesRunning);
+	}
+
+	/**
+	 * Messages in a queue (null if the queue does not exist)
+	 */
+	public synchronized List<String> getMessages(String queueUrl) {
+		LinkedList<String> msgs = messagesByQueue.get(queueUrl);
+		return msgs != null ? new LinkedList<>(msgs) : null;
+	}
+
+	public synchronized Set<String> getQueues() {
+		return new HashSet<>(messagesByQueue.keySet());
+	}
+
+	public synchronized String getUserData(String instanceId) {
+		return userDataByInstance.get(instanceId);
+	}
+
+	public synchronized boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public synchronized String runInstance(TaskResourcesAws resources, String name, String userData) {
+		String instanceId = "i-local" + (++instanceNum);
+		instancesRunning.add(instanceId);
+		userDataByInstance.put(instanceId, userData);
+		return instanceId;
+	}
+
+	@Override
+	public synchronized void sendMessage(String region, String queueUrl, String message) {
+		LinkedList<String> msgs = messagesByQueue.get(queueUrl);
+		if (msgs == null) throw new RuntimeException("Queue '" + queueUrl + "' does not exist");
+		msgs.add(message);
+	}
+
+	@Override
+	public synchronized void terminateInstances(String region, List<String> instanceIds) {
+		instancesRunning.removeAll(instanceIds);
+	}
+
+}
@@ -0,0 +1,107 @@
+package org.bds.executioner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bds.BdsLog;
+import org.bds.cluster.host.TaskResourcesAws;
+import org.bds.util.GprAws;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.CreateTagsRequest;
+import software.amazon.awssdk.services.ec2.model.RunInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.RunInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Tag;
+import software.amazon.awssdk.services.ec2.model.TerminateInstancesRequest;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.SqsClientBuilder;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+/**
+ * Worker pool cloud operations using AWS SDK (EC2 and SQS)
+ *
+ * SQS clients are created once per region (each client has its own
+ * HTTP connection pool and threads), they are released in 'close()'
+ *
+ * @author pcingola
+ */
+public class AwsWorkerCloudSdk implements AwsWorkerCloud, BdsLog {
+
+	Map<String, SqsClient> sqsClientByRegion = new HashMap<>();
+
+	@Override
+	public synchronized void close() {
+		for (SqsClient sqs : sqsClientByRegion.values())
+			sqs.close();
+		sqsClientByRegion.clear();
+	}
+
+	@Override
+	public String createQueue(String region, String queueName) {
+		SqsClient sqs = sqsClient(region);
+		sqs.createQueue(CreateQueueRequest.builder().queueName(queueName).build());
+		return sqs.getQueueUrl(GetQueueUrlRequest.builder().queueName(queueName).build()).queueUrl();
+	}
+
+	@Override
+	public void deleteQueue(String region, String queueUrl) {
+		sqsClient(region).deleteQueue(DeleteQueueRequest.builder().queueUrl(queueUrl).build());
+	}
+
+	@Override
+	public String runInstance(TaskResourcesAws resources, String name, String userData) {
+		RunInstancesRequest request = resources.ec2InstanceRequest().userData(userData).build();
+		Ec2Client ec2 = GprAws.ec2Client(resources.getRegion());
+
+		RunInstancesResponse response;
+		try {
+			response = ec2.runInstances(request);
+		} catch (SdkClientException e) {
+			throw new RuntimeException("EC2 client exception (this might be caused by incorrectly setting the region). " + e.getMessage(), e);
+		}
+		if (!response.hasInstances()) {
+			error("Create worker instance failed, response: " + response);
+			return null;
+		}
+
+		// Add name tag
+		String instanceId = response.instances().get(0).instanceId();
+		Tag tag = Tag.builder().key("Name").value(name).build();
+		ec2.createTags(CreateTagsRequest.builder().resources(instanceId).tags(tag).build());
+		return instanceId;
+	}
+
+	@Override
+	public void sendMessage(String region, String queueUrl, String message) {
+		sqsClient(region).sendMessage(SendMessageRequest.builder().queueUrl(queueUrl).messageBody(message).build());
+	}
+
+	/**
+	 * Get an SQS client for a region (create one if needed)
+	 */
+	synchronized SqsClient sqsClient(String region) {
+		String key = region != null ? region : "";
+		SqsClient sqs = sqsClientByRegion.get(key);
+		if (sqs == null) {
+			SqsClientBuilder sqsb = SqsClient.builder();
+			if (!key.isEmpty()) sqsb = sqsb.region(Region.of(key));
+			sqs = sqsb.build();
+			sqsClientByRegion.put(key, sqs);
+		}
+		return sqs;
+	}
+
+	@Override
+	public void terminateInstances(String region, List<String> instanceIds) {
+		if (instanceIds.isEmpty()) return;
+		TerminateInstancesRequest request = TerminateInstancesRequest.builder().instanceIds(instanceIds).build();
+		GprAws.ec2Client(region).terminateInstances(request);
+	}
+
+}
@@ -0,0 +1,264 @@
+package org.bds.executioner;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.bds.BdsLog;
+import org.bds.cluster.host.TaskResourcesAws;
+import org.bds.task.Task;
+
+/**
+ * A pool of long running EC2 instances (workers).
+ *
+ * Instead of creating one instance per task, tasks are packed into
+ * workers according to the task's cpus / mem (best fit) and sent to the
+ * worker's queue. Each worker runs a small 'agent' script that pulls
+ * tasks from its queue and runs them (using 'bds exec', so STDOUT /
+ * STDERR / EXIT messages are sent to the executioner's queue, same as
+ * non-pooled tasks).
+ *
+ * Workers that are idle for more than 'workerIdleTimeout' seconds are
+ * terminated (the agent script also shuts down the instance, in case
+ * the control plane is gone).
+ *
+ * Worker queue messages (tab separated):
+ * 		run		taskId	startupScriptBase64
+ * 		kill	taskId
+ *
+ * @author pcingola
+ */
+public class AwsWorkerPool implements BdsLog {
+
+	public static final String MSG_KILL = "kill";
+	public static final String MSG_RUN = "run";
+	public static final long WORKER_IDLE_TIMEOUT_MARGIN = 60; // Agent script waits a bit longer than the control plane before shutting down
+	public static final String WORKER_QUEUE_SUFFIX = "_w";
+
+	AwsWorkerCloud cloud;
+	String queueNamePrefix;
+	Map<String, AwsWorker> workerByTaskId;
+	int workerNum;
+	List<AwsWorker> workers;
+
+	public AwsWorkerPool(AwsWorkerCloud cloud, String queueNamePrefix) {
+		this.cloud = cloud;
+		this.queueNamePrefix = queueNamePrefix;
+		workers = new LinkedList<>();
+		workerByTaskId = new HashMap<>();
+	}
+
+	/**
+	 * Select a worker for 'task' (best fit), return null if no worker can run the task
+	 */
+	protected AwsWorker bestFit(Task task) {
+		AwsWorker best = null;
+		for (AwsWorker w : workers) {
+			if (!w.canRun(task)) continue;
+			if (best == null || compareFit(w, best) < 0) best = w;
+		}
+		return best;
+	}
+
+	/**
+	 * Compare workers: The one having less available resources is a better fit
+	 */
+	int compareFit(AwsWorker w1, AwsWorker w2) {
+		int cmp = Integer.compare(w1.getAvailable().getCpus(), w2.getAvailable().getCpus());
+		if (cmp != 0) return cmp;
+		return Long.compare(w1.getAvailable().getMem(), w2.getAvailable().getMem());
+	}
+
+	/**
+	 * Launch a new worker instance
+	 */
+	protected AwsWorker createWorker(TaskResourcesAws resources) {
+		String region = resources.getRegion();
+		String queueName = queueNamePrefix + WORKER_QUEUE_SUFFIX + (++workerNum);
+		String queueUrl = cloud.createQueue(region, queueName);
+		debug("Created worker queue '" + queueName + "', url: '" + queueUrl + "'");
+
+		String userData = Base64.getEncoder().encodeToString(workerScript(queueUrl, resources).getBytes());
+		String instanceId = cloud.runInstance(resources, "bds worker " + queueName, userData);
+		if (instanceId == null) {
+			cloud.deleteQueue(region, queueUrl);
+			return null;
+		}
+
+		AwsWorker worker = new AwsWorker(instanceId, queueUrl, resources);
+		workers.add(worker);
+		log("Created worker instance '" + instanceId + "', queue '" + queueUrl + "'");
+		return worker;
+	}
+
+	public synchronized List<AwsWorker> getWorkers() {
+		return new ArrayList<>(workers);
+	}
+
+	/**
+	 * Terminate all workers, delete their queues and release cloud clients
+	 */
+	public synchronized void kill() {
+		debug("Killing worker pool: " + workers.size() + " workers");
+		try {
+			while (!workers.isEmpty())
+				terminate(workers.get(0));
+			workerByTaskId.clear();
+		} finally {
+			cloud.close();
+		}
+	}
+
+	/**
+	 * Kill a task running on a worker
+	 */
+	public synchronized void kill(Task task) {
+		AwsWorker worker = workerByTaskId.get(task.getId());
+		if (worker == null) return;
+		debug("Killing task '" + task.getId() + "' on worker '" + worker.getInstanceId() + "'");
+		cloud.sendMessage(worker.getRegion(), worker.getQueueUrl(), MSG_KILL + "\t" + task.getId());
+		remove(task);
+	}
+
+	/**
+	 * Remove a (finished) task, releasing the worker's resources
+	 */
+	public synchronized void remove(Task task) {
+		AwsWorker worker = workerByTaskId.remove(task.getId());
+		if (worker != null) worker.remove(task);
+	}
+
+	public synchronized int size() {
+		return workers.size();
+	}
+
+	/**
+	 * Send a task to a worker, launching a new worker if none has enough resources
+	 * @param script : Script to execute the task in the worker
+	 * @return Instance ID of the worker or null on failure
+	 */
+	public synchronized String submit(Task task, String script) {
+		// Task larger than a worker instance? No worker can run it
+		TaskResourcesAws resources = (TaskResourcesAws) task.getResources();
+		if (!resources.workerCapacity().hasResources(resources)) {
+			warning("Task '" + task.getId() + "' requires more resources than a worker instance, task resources: " + resources + ", worker capacity: " + resources.workerCapacity());
+			return null;
+		}
+
+		AwsWorker worker = bestFit(task);
+		if (worker == null) worker = createWorker(resources);
+		if (worker == null) return null;
+
+		String script64 = Base64.getEncoder().encodeToString(script.getBytes());
+		cloud.sendMessage(worker.getRegion(), worker.getQueueUrl(), MSG_RUN + "\t" + task.getId() + "\t" + script64);
+		worker.add(task);
+		workerByTaskId.put(task.getId(), worker);
+		debug("Task '" + task.getId() + "' sent to worker " + worker);
+		return worker.getInstanceId();
+	}
+
+	/**
+	 * Terminate a worker and delete its queue
+	 */
+	protected void terminate(AwsWorker worker) {
+		workers.remove(worker);
+		log("Terminating worker instance '" + worker.getInstanceId() + "'");
+		try {
+			List<String> ids = new ArrayList<>();
+			ids.add(worker.getInstanceId());
+			cloud.terminateInstances(worker.getRegion(), ids);
+		} finally {
+			cloud.deleteQueue(worker.getRegion(), worker.getQueueUrl());
+		}
+	}
+
+	/**
+	 * Terminate workers that have been idle for too long
+	 */
+	public synchronized void terminateIdle() {
+		if (workers.isEmpty()) return;
+		long now = System.currentTimeMillis();
+		for (AwsWorker w : new ArrayList<>(workers))
+			if (w.isIdle(now)) terminate(w);
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (AwsWorker w : workers)
+			sb.append(w + "\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Worker's startup script: Pull tasks from the queue and run them,
+	 * shutdown after being idle for 'workerIdleTimeout' seconds
+	 */
+	protected String workerScript(String queueUrl, TaskResourcesAws resources) {
+		String region = resources.getRegion() != null ? resources.getRegion() : "";
+		long idleTimeout = resources.getWorkerIdleTimeout() + WORKER_IDLE_TIMEOUT_MARGIN;
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("#!/bin/bash\n\n"); // Note: The agent needs bash, tasks are executed using their own shell
+
+		sb.append("function exit_script {\n");
+		if (!resources.isKeepInstanceAliveAfterFinish()) sb.append("  shutdown -h now\n");
+		else sb.append("  echo 'INFO: Keeping instance alive (keepInstanceAliveAfterFinish was set)'\n");
+		sb.append("}\n\n");
+
+		sb.append("export HOME='/root'\n");
+		sb.append("trap exit_script EXIT\n");
+		sb.append("QUEUE_URL='" + queueUrl + "'\n");
+		sb.append("REGION_OPT=" + (region.isEmpty() ? "''" : "'--region " + region + "'") + "\n");
+		sb.append("IDLE_TIMEOUT=" + idleTimeout + "\n");
+		sb.append("WORKER_DIR='/tmp/bds_worker'\n");
+		sb.append("mkdir -p \"$WORKER_DIR\"\n");
+		sb.append("echo \"INFO: Starting worker '$0', queue '$QUEUE_URL'\"\n\n");
+
+		sb.append("last_busy=$(date +%s)\n");
+		sb.append("errors=0\n");
+		sb.append("while true; do\n");
+		sb.append("  msgs=$(aws sqs receive-message $REGION_OPT --queue-url \"$QUEUE_URL\" --wait-time-seconds 10 --max-number-of-messages 10 --output text --query 'Messages[].[ReceiptHandle,Body]')\n");
+		sb.append("  if [ $? -ne 0 ]; then\n");
+		sb.append("    errors=$((errors + 1))\n");
+		sb.append("    [ $errors -ge 3 ] && break # Queue deleted: the pool released this worker\n");
+		sb.append("    sleep 5\n");
+		sb.append("    continue\n");
+		sb.append("  fi\n");
+		sb.append("  errors=0\n\n");
+
+		sb.append("  while IFS=$'\\t' read -r handle cmd tid script64; do\n");
+		sb.append("    [ -z \"$handle\" -o \"$handle\" = 'None' ] && continue\n");
+		sb.append("    aws sqs delete-message $REGION_OPT --queue-url \"$QUEUE_URL\" --receipt-handle \"$handle\" < /dev/null\n");
+		sb.append("    tfile=\"$WORKER_DIR/$(echo \"$tid\" | tr '/' '_')\"\n");
+		sb.append("    case \"$cmd\" in\n");
+		sb.append("      " + MSG_RUN + ")\n");
+		sb.append("        echo \"$script64\" | base64 -d > \"$tfile.sh\"\n");
+		sb.append("        chmod u+x \"$tfile.sh\"\n");
+		sb.append("        \"$tfile.sh\" < /dev/null &\n");
+		sb.append("        echo $! > \"$tfile.pid\"\n");
+		sb.append("        ;;\n");
+		sb.append("      " + MSG_KILL + ")\n");
+		sb.append("        if [ -f \"$tfile.pid\" ]; then\n");
+		sb.append("          pid=$(cat \"$tfile.pid\")\n");
+		sb.append("          pkill -TERM -P \"$pid\" ; kill \"$pid\"\n");
+		sb.append("        fi\n");
+		sb.append("        ;;\n");
+		sb.append("    esac\n");
+		sb.append("  done <<< \"$msgs\"\n\n");
+
+		sb.append("  if [ -n \"$(jobs -rp)\" ]; then\n");
+		sb.append("    last_busy=$(date +%s)\n");
+		sb.append("  elif [ $(( $(date +%s) - last_busy )) -gt $IDLE_TIMEOUT ]; then\n");
+		sb.append("    break\n");
+		sb.append("  fi\n");
+		sb.append("done\n\n");
+
+		sb.append("echo \"INFO: Finished worker '$0'\"\n");
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,188 @@
+package org.bds.executioner;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.bds.BdsLog;
+import org.bds.osCmd.Cmd;
+
+/**
+ * Submit tasks to a cluster (e.g. 'qsub' / 'sbatch' commands) using
+ * several concurrent submitters.
+ *
+ * Submitting one task at a time is limited by the scheduler's latency
+ * (e.g. at 500ms per 'sbatch' we can only submit two tasks per second).
+ * Here commands are run in a thread pool, so the executioner thread does
+ * not wait for each submission (parsing the job ID is also done in the
+ * submitting thread).
+ *
+ * The number of concurrent submissions adapts to the scheduler's response
+ * (AIMD): It increases by one after 'limit' consecutive submissions that
+ * are fast and successful, and it is halved when a submission fails or
+ * takes more than 'maxLatency'. After a failed submission, new submissions
+ * are delayed (exponential backoff).
+ *
+ * @author pcingola
+ */
+public class ClusterSubmitter implements BdsLog {
+
+	public static final long BACKOFF_MAX = 30 * 1000; // Maximum delay after failed submissions (milliseconds)
+	public static final long BACKOFF_MIN = 100; // Delay after a failed submission (milliseconds)
+	public static final long DEFAULT_MAX_LATENCY = 2000; // Submissions slower than this reduce concurrency (milliseconds)
+	public static final int LATENCY_SAMPLES = 1024; // Number of latency samples used to calculate percentiles
+	public static final long REPORT_INTERVAL = Executioner.REPORT_INTERVAL * 1000L; // Report metrics (milliseconds)
+
+	long backoff; // Delay new submissions after failed submissions (milliseconds)
+	int count; // Number of submissions
+	int countFailed; // Number of failed submissions
+	int inFlight; // Number of submissions currently running
+	long lastDecrease; // Last time concurrency was decreased
+	long lastReport; // Last time metrics were reported
+	long latencies[]; // Latency samples (circular buffer)
+	int limit; // Current number of concurrent submissions allowed
+	long maxLatency; // Submissions slower than this reduce concurrency (milliseconds)
+	int maxThreads; // Maximum number of concurrent submissions
+	long nextSubmit; // Don't submit before this time (backoff)
+	ExecutorService pool;
+	int successStreak; // Number of consecutive fast and successful submissions
+
+	public ClusterSubmitter(int maxThreads, long maxLatency) {
+		this.maxThreads = Math.max(1, maxThreads);
+		this.maxLatency = maxLatency > 0 ? maxLatency : DEFAULT_MAX_LATENCY;
+		limit = 1; // Start slowly, increase if the scheduler responds fast
+		latencies = new long[LATENCY_SAMPLES];
+		lastReport = System.currentTimeMillis();
+		pool = Executors.newFixedThreadPool(this.maxThreads, r -> {
+			Thread t = new Thread(r, "ClusterSubmitter");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/**
+	 * Submission finished: Update metrics and adapt concurrency
+	 */
+	synchronized void done(long latency, boolean ok) {
+		latencies[count % LATENCY_SAMPLES] = latency;
+		count++;
+		inFlight--;
+
+		long now = System.currentTimeMillis();
+		if (ok && latency <= maxLatency) {
+			// Additive increase
+			backoff = 0;
+			if (++successStreak >= limit && limit < maxThreads) {
+				limit++;
+				successStreak = 0;
+			}
+		} else {
+			// Multiplicative decrease (at most once per 'maxLatency', several submissions can be affected by the same slowdown)
+			successStreak = 0;
+			if (now - lastDecrease > maxLatency) {
+				limit = Math.max(1, limit / 2);
+				lastDecrease = now;
+			}
+
+			// Failed: Delay next submissions
+			if (!ok) {
+				countFailed++;
+				backoff = backoff <= 0 ? BACKOFF_MIN : Math.min(BACKOFF_MAX, 2 * backoff);
+				nextSubmit = now + backoff;
+				debug("Submission failed, backoff " + backoff + " ms, concurrency " + limit);
+			}
+		}
+
+		// Report metrics
+		if (now - lastReport >= REPORT_INTERVAL) {
+			lastReport = now;
+			log(this);
+		}
+
+		notifyAll();
+	}
+
+	public synchronized int getCount() {
+		return count;
+	}
+
+	public synchronized int getCountFailed() {
+		return countFailed;
+	}
+
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	public synchronized int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Submission latency percentile (e.g. 'p = 0.99'), using the latest LATENCY_SAMPLES submissions
+	 * @return Latency in milliseconds (or -1 if there are no samples)
+	 */
+	public synchronized long latencyPercentile(double p) {
+		int n = Math.min(count, LATENCY_SAMPLES);
+		if (n <= 0) return -1;
+		long sorted[] = Arrays.copyOf(latencies, n);
+		Arrays.sort(sorted);
+		int idx = (int) Math.ceil(p * n) - 1;
+		return sorted[Math.max(0, Math.min(n - 1, idx))];
+	}
+
+	/**
+	 * Run a submission command (in a submitter thread)
+	 */
+	void run(Cmd cmd) {
+		long start = System.currentTimeMillis();
+		boolean ok = false;
+		try {
+			cmd.run(); // Run 'qsub' and parse job ID in this thread
+			ok = cmd.getExitValue() == 0;
+		} catch (Throwable t) {
+			error("Error submitting task: " + t.getMessage());
+		} finally {
+			done(System.currentTimeMillis() - start, ok);
+		}
+	}
+
+	/**
+	 * Stop submitter threads (pending submissions are finished)
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Submit a command.
+	 * Blocks while the number of submissions running reaches the current
+	 * limit, or while we are backing off after a failed submission
+	 */
+	public void submit(Cmd cmd) {
+		synchronized (this) {
+			try {
+				for (long now = System.currentTimeMillis(); inFlight >= limit || now < nextSubmit; now = System.currentTimeMillis())
+					wait(inFlight >= limit ? 0 : nextSubmit - now);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while submitting command:\n\tCommand: " + cmd, e);
+			}
+			inFlight++;
+		}
+
+		pool.execute(() -> run(cmd));
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "Cluster submissions: " + count //
+				+ "\tFailed: " + countFailed //
+				+ "\tConcurrency: " + limit + " / " + maxThreads //
+				+ "\tLatency (ms) p50: " + latencyPercentile(0.50) //
+				+ ", p90: " + latencyPercentile(0.90) //
+				+ ", p99: " + latencyPercentile(0.99) //
+		;
+	}
+
+}
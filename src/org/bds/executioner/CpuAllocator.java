@@ -0,0 +1,116 @@
+package org.bds.executioner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.bds.BdsLog;
+import org.bds.cluster.host.CpuTopology;
+
+/**
+ * Assign logical CPUs to tasks (CPU pinning)
+ *
+ * Tasks get 'cpus' logical CPUs within a single NUMA node when possible
+ * (the node having the least free CPUs that can hold the task, to
+ * avoid fragmenting other nodes). Otherwise CPUs are taken from the
+ * nodes having more free CPUs first.
+ *
+ * CPUs are released when the task finishes.
+ *
+ * @author pcingola
+ */
+public class CpuAllocator implements BdsLog {
+
+	Map<String, List<Integer>> cpusByTaskId; // CPUs assigned to each task
+	List<LinkedList<Integer>> freeByNode; // Free CPUs in each NUMA node
+	Map<Integer, Integer> nodeByCpu;
+	CpuTopology topology;
+
+	public CpuAllocator(CpuTopology topology) {
+		this.topology = topology;
+		cpusByTaskId = new HashMap<>();
+		freeByNode = new ArrayList<>();
+		nodeByCpu = new HashMap<>();
+		for (int node = 0; node < topology.getNodesCount(); node++) {
+			freeByNode.add(new LinkedList<>(topology.getCpus(node)));
+			for (int cpu : topology.getCpus(node))
+				nodeByCpu.put(cpu, node);
+		}
+	}
+
+	/**
+	 * Assign 'cpus' logical CPUs to a task
+	 * @return CPUs assigned or null if there are not enough free CPUs
+	 */
+	public synchronized List<Integer> allocate(String taskId, int cpus) {
+		if (cpus <= 0 || cpus > getFree()) return null;
+		release(taskId); // Just in case the task is re-run
+
+		// Find the best fitting node
+		int best = -1;
+		for (int node = 0; node < freeByNode.size(); node++) {
+			int free = freeByNode.get(node).size();
+			if (free >= cpus && (best < 0 || free < freeByNode.get(best).size())) best = node;
+		}
+
+		List<Integer> assigned = new ArrayList<>(cpus);
+		if (best >= 0) {
+			take(best, cpus, assigned);
+		} else {
+			// Task does not fit in a single node: Use nodes having more free CPUs first
+			while (assigned.size() < cpus) {
+				int max = 0;
+				for (int node = 1; node < freeByNode.size(); node++)
+					if (freeByNode.get(node).size() > freeByNode.get(max).size()) max = node;
+				take(max, cpus - assigned.size(), assigned);
+			}
+		}
+
+		cpusByTaskId.put(taskId, assigned);
+		debug("Task '" + taskId + "' assigned CPUs " + CpuTopology.toCpuList(assigned));
+		return assigned;
+	}
+
+	public synchronized List<Integer> getCpus(String taskId) {
+		return cpusByTaskId.get(taskId);
+	}
+
+	/**
+	 * Number of free CPUs
+	 */
+	public synchronized int getFree() {
+		int free = 0;
+		for (List<Integer> cpus : freeByNode)
+			free += cpus.size();
+		return free;
+	}
+
+	/**
+	 * Release CPUs assigned to a task
+	 */
+	public synchronized void release(String taskId) {
+		List<Integer> cpus = cpusByTaskId.remove(taskId);
+		if (cpus == null) return;
+		for (int cpu : cpus)
+			freeByNode.get(nodeByCpu.get(cpu)).add(cpu);
+		debug("Task '" + taskId + "' released CPUs " + CpuTopology.toCpuList(cpus));
+	}
+
+	/**
+	 * Take (up to) 'count' CPUs from 'node'
+	 */
+	void take(int node, int count, List<Integer> assigned) {
+		LinkedList<Integer> free = freeByNode.get(node);
+		free.sort(null); // Prefer adjacent CPUs
+		for (int i = 0; i < count && !free.isEmpty(); i++)
+			assigned.add(free.removeFirst());
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "CPUs free: " + getFree() + " / " + topology.getCpusCount() + ", topology: " + topology;
+	}
+
+}
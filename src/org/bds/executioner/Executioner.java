@@ -13,9 +13,11 @@ import org.bds.cluster.host.Host;
 import org.bds.cluster.host.TaskResources;
 import org.bds.osCmd.Cmd;
 import org.bds.osCmd.Exec;
+import org.bds.report.Report;
 import org.bds.run.BdsThread;
 import org.bds.task.DependencyState;
 import org.bds.task.Task;
+import org.bds.task.TaskCache;
 import org.bds.task.TaskState;
 import org.bds.util.TextTable;
 import org.bds.util.Timer;
@@ -50,11 +52,13 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 	protected Map<String, Task> tasksRunning; // Tasks running
 	protected Map<Task, Host> tasksSelected; // Tasks that has been selected and it will be immediately start execution in host
 	protected List<Task> tasksToRun; // Tasks queued for execution
+	protected TaskPlacement taskPlacement; // Task placement policy: Task order and host selection
 	protected List<Tuple<Task, TaskState>> taskUpdateStates; // Tasks to be updated
 	protected ComputerSystem system; // A representation of the "system" processing the data (a server, cluster, etc.)
 	protected boolean verbose;
 	protected TaskLogger taskLogger; // Log tasks into parent (Go) bds program for cleanup (kill task, delete files, etc)
 	protected Timer timer; // Task timer (when was the task started)
+	protected Utilization utilization; // Resources utilization
 
 	/**
 	 * Sometimes a "text file busy" error may appear when we execute a task.
@@ -133,6 +137,13 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 		args.add("-taskId");
 		args.add(task.getId()); // Task ID
 
+		// Split STDOUT / STDERR files into segments (only added when set, for compatibility with older 'bds exec' versions)
+		if (Config.get().getTaskOutputMaxSize() > 0) {
+			args.add("-outMaxSize");
+			args.add(Config.get().getTaskOutputMaxSize() + "");
+			if (Config.get().isTaskOutputCompress()) args.add("-outGzip");
+		}
+
 		// Any additional command line options?
 		if (argsAdd != null) {
 			for (String a : argsAdd)
@@ -176,6 +187,8 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 		tasksSelected = new HashMap<>();
 		tasksRunning = new HashMap<>();
 		tasksDone = new HashMap<>();
+		taskPlacement = TaskPlacement.factory(config);
+		utilization = new Utilization();
 		removeTaskCannotExecute = true;
 		taskLogger = config.getTaskLogger();
 		verbose = config.isVerbose();
@@ -189,7 +202,7 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 	public synchronized void add(Task task) {
 		debug("Queuing task: " + task.getId());
 		task.state(TaskState.SCHEDULED);
-		tasksToRun.add(task);
+		taskPlacement.queue(tasksToRun, task);
 	}
 
 	protected synchronized void addCmd(Task task, Cmd cmd) {
@@ -318,6 +331,10 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 		return tids;
 	}
 
+	public TaskPlacement getTaskPlacement() {
+		return taskPlacement;
+	}
+
 	public synchronized List<Task> getTasksRunning() {
 		List<Task> tasks = new ArrayList<>();
 		tasks.addAll(tasksRunning.values());
@@ -338,6 +355,10 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 		return tasksToRun.size() - tasksSelected.size() > 0;
 	}
 
+	public Utilization getUtilization() {
+		return utilization;
+	}
+
 	@Override
 	public boolean isDebug() {
 		return debug;
@@ -484,6 +505,11 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 		checkFinishedTasks(); // Check if tasks finished running
 		reportTasks(); // Report tasks (show to console)
 		checkTasksRunning(); // Perform an independent check that task are still running (e.g. query the cluster system)
+		if (system != null) {
+			for (Host host : system)
+				host.sampleLoad(); // Update hosts' real load (if supported)
+			utilization.sample(system); // Update resources utilization
+		}
 	}
 
 	/**
@@ -502,6 +528,25 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 		}
 	}
 
+	/**
+	 * Restore results from the task cache for tasks that are ready to run.
+	 * Note: Not synchronized, input files are hashed without holding the executioner's lock
+	 */
+	protected void restoreFromCache() {
+		if (TaskCache.get() == null) return;
+
+		// Tasks ready to run that have not been checked in the cache
+		List<Task> tasks = new ArrayList<>();
+		synchronized (this) {
+			for (Task task : tasksToRun)
+				if (!task.isCacheChecked() && !tasksSelected.containsKey(task) && task.dependencyState() == DependencyState.OK) tasks.add(task);
+		}
+
+		// Results restored? No need to run the task
+		for (Task task : tasks)
+			if (task.restoreFromCache()) taskUpdateCached(task);
+	}
+
 	/**
 	 * Run thread: Run executioner's main loop
 	 */
@@ -560,6 +605,9 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 				continue;
 			}
 
+			// Restore results from the task cache (if enabled)
+			restoreFromCache();
+
 			// Select a task to run
 			Tuple<Task, Host> taskHostPair = selectTask();
 
@@ -660,7 +708,8 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 
 		finishTask = null;
 
-		// Try to find a task matching a host
+		// Try to find a task matching a host (tasks are queued in the order defined by the placement policy)
+		TaskCache taskCache = TaskCache.get();
 		for (Task task : tasksToRun) {
 			// Already selected? Skip
 			if (tasksSelected.containsKey(task)) continue;
@@ -687,6 +736,9 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 
 				}
 
+				// Task cache not checked yet? Skip (see 'restoreFromCache')
+				if (taskCache != null && !task.isCacheChecked()) continue;
+
 				// Select a suitable host in the cluster that satisfies task resources
 				Tuple<Task, Host> taskHost = selectTask(task);
 				if (taskHost != null) return taskHost;
@@ -710,37 +762,37 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 	 * Select a suitable host for this task
 	 */
 	protected synchronized Tuple<Task, Host> selectTask(Task task) {
-		boolean canBeExecuted = false;
-
 		//---
-		// Select the first host in the cluster that satisfies requirements
+		// Select the host in the cluster that satisfies requirements and best fits the task (according to placement policy)
 		//---
-		for (Host host : system) {
-			// Host is not alive?
-			if (!host.isAlive()) {
-				canBeExecuted = true; // May be this host can actually execute this task, we don't know.
-				continue;
-			}
+		Host best = taskPlacement.select(task, system);
+		if (best != null) {
+			// OK, execute this task in this host
+			debug("Selected task:" //
+					+ "\n\ttask ID        : " + task.getId() //
+					+ "\n\ttask hint      : " + task.getProgramHint()//
+					+ "\n\ttask resources : " + task.getResources() //
+					+ "\n\thost           : " + best //
+					+ "\n\thost resources : " + best.getResourcesAvaialble() //
+			);
 
-			// Do we have enough resources to run this task in this host?
-			if (host.getResourcesAvaialble().hasResources(task.getResources())) {
-				// OK, execute this task in this host
-				debug("Selected task:" //
-						+ "\n\ttask ID        : " + task.getId() //
-						+ "\n\ttask hint      : " + task.getProgramHint()//
-						+ "\n\ttask resources : " + task.getResources() //
-						+ "\n\thost           : " + host //
-						+ "\n\thost resources : " + host.getResourcesAvaialble() //
-				);
-
-				selectTask(task, host); // Add task to host (make sure resources are reserved)
-				return new Tuple<>(task, host);
-			} else if (!canBeExecuted) {
-				// Can any host actually run this task?
-				canBeExecuted = host.getResources().hasResources(task.getResources());
+			selectTask(task, best); // Add task to host (make sure resources are reserved)
+			return new Tuple<>(task, best);
+		}
+
+		// Can any host actually run this task? (may be later, when other tasks finish)
+		boolean canBeExecuted = false;
+		for (Host host : system) {
+			// Host is not alive? May be this host can actually execute this task, we don't know.
+			if (!host.isAlive() || host.getResources().hasResources(task.getResources())) {
+				canBeExecuted = true;
+				break;
 			}
 		}
 
+		// Task cannot be executed now, but it could be executed later
+		if (canBeExecuted) taskPlacement.blocked(task, system);
+
 		//---
 		// There is no host that can execute this task?
 		//---
@@ -762,6 +814,7 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 	protected synchronized void selectTask(Task task, Host host) {
 		debug("Task selected '" + task.getId() + "' on host '" + host + "'");
 		tasksSelected.put(task, host);
+		taskPlacement.selected(task, host);
 		host.add(task);
 	}
 
@@ -856,6 +909,19 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 		taskUpdateStates.add(new Tuple<>(task, TaskState.STARTED));
 	}
 
+	/**
+	 * Task's results restored from the task cache: Finish the task without running it
+	 */
+	protected synchronized boolean taskUpdateCached(Task task) {
+		debug("Task update cached '" + task.getId() + "'");
+		if (!tasksToRun.contains(task)) return false; // Killed while restoring?
+
+		task.state(TaskState.STARTED);
+		task.state(TaskState.RUNNING);
+		task.setExitValue(0);
+		return taskUpdateFinished(task, TaskState.FINISHED);
+	}
+
 	/**
 	 * Update task's state to some final state, typically `FINISHED` if everything run correctly
 	 * Task finished: either finished OK or has some error condition, or is
@@ -882,6 +948,7 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 
 		// Move from 'running' (or 'toRun'), add it to 'done'
 		tasksToRun.remove(task);
+		taskPlacement.dequeue(task);
 		tasksSelected.remove(task);
 		tasksRunning.remove(task.getId());
 		tasksDone.put(task.getId(), task);
@@ -892,6 +959,10 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 		// Set task state
 		task.state(taskState);
 
+		// Store results in the task cache (if enabled)
+		TaskCache taskCache = TaskCache.get();
+		if (taskCache != null && task.isStateFinished() && task.isDoneOk()) taskCache.put(task);
+
 		// Task finished in error condition?
 		if (task.isFailed()) {
 			// Can we re-try?
@@ -902,7 +973,7 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 				// Move task form 'taskDone' back to 'tasksToRun' queue
 				task.reset(); // Prepare to re-run task
 				tasksDone.remove(task.getId());
-				tasksToRun.add(task);
+				taskPlacement.queue(tasksToRun, task);
 				task.state(TaskState.SCHEDULED);
 			} else {
 				// May be we can look for additional information to asses the error
@@ -910,6 +981,9 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 			}
 		}
 
+		// Spool task's report values
+		if (task.isDone()) Report.taskDone(task);
+
 		return true;
 	}
 
@@ -943,6 +1017,7 @@ public abstract class Executioner extends Thread implements NotifyTaskState, Pid
 
 		// Move from 'tasksToRun' to 'tasksRunning'
 		tasksToRun.remove(task);
+		taskPlacement.dequeue(task);
 		tasksSelected.remove(task);
 		tasksRunning.put(task.getId(), task);
 
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.bds.Config;
+import org.bds.cluster.host.TaskResourcesAws;
 import org.bds.osCmd.Cmd;
 import org.bds.osCmd.CmdAws;
 import org.bds.task.Task;
@@ -29,12 +30,18 @@ import software.amazon.awssdk.services.ec2.model.StopInstancesRequest;
  * 	- All instances are terminated
  *	- Queue is deleted
  *
+ * Worker pool (resources 'workerPool' set): Instead of creating one instance
+ * per task, tasks are packed into long running instances that pull tasks
+ * from a queue (see AwsWorkerPool). Idle instances are terminated.
+ *
  * @author pcingola
  */
 public class ExecutionerCloudAws extends ExecutionerCloud {
 
 	public static final String KILL_COMMAND[] = { "@aws_ec2_terminate" };
 
+	protected AwsWorkerPool workerPool;
+
 	protected ExecutionerCloudAws(Config config) {
 		super(config);
 		monitorTask = MonitorTasks.get().getMonitorTaskQueue();
@@ -46,6 +53,7 @@ public class ExecutionerCloudAws extends ExecutionerCloud {
 		debug("Running task " + task.getId());
 		String qurl = ((QueueThreadAwsSqs) queueThread).getQueueId();
 		CmdAws cmd = new CmdAws(task, qurl);
+		if (((TaskResourcesAws) task.getResources()).isWorkerPool()) cmd.setWorkerPool(getWorkerPool());
 		return cmd;
 	}
 
@@ -59,6 +67,7 @@ public class ExecutionerCloudAws extends ExecutionerCloud {
 	protected void followStop(Task task) {
 		super.followStop(task);
 		getCheckTasksRunning().remove(task);
+		if (workerPool != null) workerPool.remove(task); // Release worker's resources
 	}
 
 	@Override
@@ -71,6 +80,24 @@ public class ExecutionerCloudAws extends ExecutionerCloud {
 		return checkTasksRunning;
 	}
 
+	public synchronized AwsWorkerPool getWorkerPool() {
+		if (workerPool == null) {
+			String qname = ((QueueThreadAwsSqs) queueThread).getQueueName();
+			workerPool = new AwsWorkerPool(new AwsWorkerCloudSdk(), qname);
+		}
+		return workerPool;
+	}
+
+	@Override
+	public synchronized void kill() {
+		super.kill();
+		if (workerPool != null) {
+			debug("Killing worker pool");
+			workerPool.kill();
+			workerPool = null;
+		}
+	}
+
 	/**
 	 * Kill all tasks in a list
 	 */
@@ -78,7 +105,15 @@ public class ExecutionerCloudAws extends ExecutionerCloud {
 	protected synchronized void killAll(List<Task> tokill) {
 		debug("Killing " + tokill.size() + " tasks");
 
+		// Tasks running on a worker pool share instances, kill them one by one
+		if (workerPool != null) {
+			tokill.stream() //
+					.filter(t -> ((TaskResourcesAws) t.getResources()).isWorkerPool()) //
+					.forEach(t -> workerPool.kill(t));
+		}
+
 		List<String> instanceIds = tokill.stream() //
+				.filter(t -> !((TaskResourcesAws) t.getResources()).isWorkerPool()) //
 				.map(t -> t.getPid()) //
 				.collect(Collectors.toList());
 
@@ -108,6 +143,12 @@ public class ExecutionerCloudAws extends ExecutionerCloud {
 		// We could try to check CloudWatch messages and metrics
 	}
 
+	@Override
+	protected void reportsChecksUpdates() {
+		super.reportsChecksUpdates();
+		if (workerPool != null) workerPool.terminateIdle();
+	}
+
 	@Override
 	protected void runExecutionerLoopBefore() {
 		// Start a new thread if needed, don't start a thread if it's already running
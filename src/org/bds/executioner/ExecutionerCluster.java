@@ -18,6 +18,7 @@ import org.bds.osCmd.CmdCluster;
 import org.bds.osCmd.Exec;
 import org.bds.osCmd.ExecResult;
 import org.bds.task.Task;
+import org.bds.util.DeleteOnExit;
 import org.bds.util.Gpr;
 import org.bds.util.Timer;
 
@@ -59,6 +60,8 @@ public class ExecutionerCluster extends ExecutionerFileSystem {
 	protected String pidRegexStr; // Regular expression matching a PID from 'qsub' command
 	protected Pattern pidRegex; // Regular expression (compiled) matching a PID from 'qsub' command
 
+	protected ClusterSubmitter submitter; // Submit tasks concurrently (null means 'one at a time')
+
 	protected ExecutionerCluster(Config config) {
 		super(config);
 
@@ -86,6 +89,10 @@ public class ExecutionerCluster extends ExecutionerFileSystem {
 
 		postMortemDisabled = config.getBool(Config.CLUSTER_POSTMORTEMINFO_DISABLED, false);
 
+		// Concurrent submissions
+		int submitThreads = config.getInt(Config.CLUSTER_SUBMIT_THREADS, 1);
+		if (submitThreads > 1) submitter = new ClusterSubmitter(submitThreads, config.getLong(Config.CLUSTER_SUBMIT_MAX_LATENCY, ClusterSubmitter.DEFAULT_MAX_LATENCY));
+
 		memParam = "mem=";
 		cpuParam = "nodes=1:ppn=";
 		wallTimeParam = "walltime=";
@@ -277,7 +284,7 @@ public class ExecutionerCluster extends ExecutionerFileSystem {
 		// Make sure file is executable
 		File f = new File(fileName);
 		f.setExecutable(true);
-		if (!log) f.deleteOnExit();
+		if (!log) DeleteOnExit.get().add(f.getPath());
 
 		return fileName;
 	}
@@ -288,8 +295,8 @@ public class ExecutionerCluster extends ExecutionerFileSystem {
 
 		// Make sure 'cluster' files are also removed if we are not logging
 		if (!log && (task != null)) {
-			new File(clusterStdFile(task.getStdoutFile())).deleteOnExit();
-			new File(clusterStdFile(task.getStderrFile())).deleteOnExit();
+			DeleteOnExit.get().add(clusterStdFile(task.getStdoutFile()));
+			DeleteOnExit.get().add(clusterStdFile(task.getStderrFile()));
 		}
 	}
 
@@ -396,6 +403,25 @@ public class ExecutionerCluster extends ExecutionerFileSystem {
 		);
 	}
 
+	@Override
+	protected void runExecutionerLoopAfter() {
+		if (submitter != null) {
+			submitter.shutdown();
+			log(submitter);
+		}
+		super.runExecutionerLoopAfter();
+	}
+
+	/**
+	 * Submit task to the cluster: Either one at a time (blocking), or
+	 * using concurrent submitters (see 'clusterSubmitThreads')
+	 */
+	@Override
+	protected void runTaskCmd(Cmd cmd) {
+		if (submitter == null || cmd == null) super.runTaskCmd(cmd);
+		else submitter.submit(cmd);
+	}
+
 	/**
 	 * Create a shell file name for a slurm script (basically invoke bds command)
 	 * @param task
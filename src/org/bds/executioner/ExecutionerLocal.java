@@ -1,6 +1,13 @@
 package org.bds.executioner;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.bds.Config;
+import org.bds.cluster.host.CpuTopology;
+import org.bds.cluster.host.Host;
 import org.bds.osCmd.Cmd;
 import org.bds.osCmd.CmdLocal;
 import org.bds.task.Task;
@@ -12,20 +19,48 @@ import org.bds.util.Gpr;
  * Uses a queue to avoid saturating resources (e.g. number of running
  * processes in the queue should not exceed number of CPUs)
  *
+ * Optionally ('taskCpuPinning'), each task is pinned to its own set of
+ * logical CPUs (within a NUMA node when possible) using 'taskset'
+ *
  * @author pcingola
  */
 public class ExecutionerLocal extends ExecutionerFileSystem {
 
 	public static String LOCAL_KILL_COMMAND[] = { "bds", "kill" };
 	public static String LOCAL_STAT_COMMAND[] = { "ps" };
+	public static String TASKSET_COMMAND = "taskset";
+	public static String TASKSET_PATHS[] = { "/usr/bin/taskset", "/bin/taskset" };
 
 	private static final String[] TASK_LOGGER_INTERNAL_KILL = { TaskLogger.CMD_KILL };
 
+	protected CpuAllocator cpuAllocator; // Assign CPUs to tasks (null if CPU pinning is disabled)
+
 	protected ExecutionerLocal(Config config) {
 		super(config);
 		checkTasksRunning = new CheckTasksRunningLocal(config, this);
 		checkTasksRunning.setDebug(config.isDebug());
 		checkTasksRunning.setVerbose(config.isVerbose());
+		if (config.isTaskCpuPinning()) initCpuAllocator();
+	}
+
+	/**
+	 * Add 'taskset' command to pin the task to its assigned CPUs
+	 */
+	protected String[] cpuPinning(Task task, String args[]) {
+		if (cpuAllocator == null) return args;
+
+		List<Integer> cpus = cpuAllocator.allocate(task.getId(), task.getResources().getCpus());
+		if (cpus == null) {
+			debug("Task '" + task.getId() + "': Not enough free CPUs for pinning, running without CPU affinity");
+			return args;
+		}
+
+		List<String> argsPin = new ArrayList<>();
+		argsPin.add(TASKSET_COMMAND);
+		argsPin.add("-c");
+		argsPin.add(CpuTopology.toCpuList(cpus));
+		argsPin.addAll(Arrays.asList(args));
+		return argsPin.toArray(new String[0]);
 	}
 
 	/**
@@ -36,7 +71,7 @@ public class ExecutionerLocal extends ExecutionerFileSystem {
 		task.createProgramFile(); // We must create a program file
 
 		// Create command line
-		String args[] = createBdsExecCmdArgs(task);
+		String args[] = cpuPinning(task, createBdsExecCmdArgs(task));
 
 		avoidTextFileBusyError();
 
@@ -82,9 +117,41 @@ public class ExecutionerLocal extends ExecutionerFileSystem {
 		if (monitorTask != null) monitorTask.add(this, task); // Start monitoring exit file
 	}
 
+	/**
+	 * Initialize CPU allocator, CPU pinning is disabled if the topology or 'taskset' are not available
+	 */
+	void initCpuAllocator() {
+		CpuTopology topology = CpuTopology.read();
+		if (topology == null) {
+			warning("Cannot read CPU topology, disabling CPU pinning");
+			return;
+		}
+
+		boolean hasTaskset = false;
+		for (String path : TASKSET_PATHS)
+			hasTaskset |= new File(path).canExecute();
+		if (!hasTaskset) {
+			warning("Command '" + TASKSET_COMMAND + "' not found, disabling CPU pinning");
+			return;
+		}
+
+		cpuAllocator = new CpuAllocator(topology);
+		debug("CPU pinning enabled: " + cpuAllocator);
+	}
+
 	@Override
 	public String[] osKillCommand(Task task) {
 		// This is killed internally by 'bds' (see GO program) so the kill command is '@kill' (internal commands start with '@')
 		return TASK_LOGGER_INTERNAL_KILL;
 	}
+
+	/**
+	 * Remove a task from a host: Release CPUs
+	 */
+	@Override
+	protected synchronized void remove(Task task, Host host) {
+		super.remove(task, host);
+		if (cpuAllocator != null) cpuAllocator.release(task.getId());
+	}
+
 }
@@ -4,6 +4,7 @@ import org.bds.Config;
 import org.bds.cluster.ComputerSystem;
 import org.bds.cluster.host.HostInifinte;
 import org.bds.mesos.BdsMesosFramework;
+import org.bds.mesos.OfferMatcher;
 import org.bds.osCmd.Cmd;
 import org.bds.task.Task;
 
@@ -15,6 +16,7 @@ import org.bds.task.Task;
 public class ExecutionerMesos extends ExecutionerFileSystem {
 
 	public static final String MESOS_MASTER_PROPERTY_NAME = "mesos.master";
+	public static final String MESOS_OFFER_HOLD_TIME_PROPERTY_NAME = "mesos.offerHoldTime";
 	public static final String DEFAULT_MESOS_MASTER = "127.0.1.1:5050";
 
 	BdsMesosFramework mesosFramework;
@@ -38,6 +40,13 @@ public class ExecutionerMesos extends ExecutionerFileSystem {
 		return null;
 	}
 
+	/**
+	 * Time to hold Mesos offers (and pending tasks) before matching them (milliseconds)
+	 */
+	public long getOfferHoldTime() {
+		return config.getLong(MESOS_OFFER_HOLD_TIME_PROPERTY_NAME, OfferMatcher.DEFAULT_HOLD_TIME);
+	}
+
 	/**
 	 * Initialize Mesos framework
 	 */
@@ -72,6 +81,15 @@ public class ExecutionerMesos extends ExecutionerFileSystem {
 		return null;
 	}
 
+	/**
+	 * Launch tasks on held offers (offers and tasks are matched in batches)
+	 */
+	@Override
+	protected void reportsChecksUpdates() {
+		super.reportsChecksUpdates();
+		if (mesosFramework != null) mesosFramework.launch();
+	}
+
 	/**
 	 * Clean up after run loop
 	 */
@@ -0,0 +1,106 @@
+package org.bds.executioner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A message received from a task's queue
+ *
+ * Format (tab separated, all values encoded as base64):
+ * 		taskId	stdout	stderr	exit	[sequence	encoding]
+ *
+ * The last two fields are optional (older 'bds exec' versions don't send them):
+ * 	- sequence: Messages for each task are numbered starting from zero, they are
+ * 	            used to write the outputs in order (queues don't guarantee order)
+ * 	- encoding: If 'gz', stdout / stderr are compressed before base64 encoding
+ *
+ * @author pcingola
+ */
+public class QueueMessage {
+
+	public static final String ENCODING_GZIP = "gz";
+	public static final int NO_SEQUENCE = -1;
+
+	String exit;
+	long sequence;
+	byte[] stderr;
+	byte[] stdout;
+	String taskId;
+
+	/**
+	 * Decode a base64 (and optionally compressed) string
+	 */
+	static byte[] decode(String s, boolean gzip) {
+		if (s.isEmpty()) return null;
+		byte[] data = Base64.getDecoder().decode(s);
+		if (!gzip) return data;
+
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(4 * data.length);
+			in.transferTo(out);
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new RuntimeException("Error decompressing queue message", e);
+		}
+	}
+
+	/**
+	 * Parse a message
+	 */
+	public static QueueMessage parse(String message) {
+		String[] parts = message.split("\t");
+		QueueMessage qm = new QueueMessage();
+		qm.taskId = parts[0];
+
+		boolean gzip = parts.length > 5 && parts[5].equals(ENCODING_GZIP);
+		qm.stdout = parts.length > 1 ? decode(parts[1], gzip) : null;
+		qm.stderr = parts.length > 2 ? decode(parts[2], gzip) : null;
+
+		byte[] exit = parts.length > 3 ? decode(parts[3], false) : null;
+		qm.exit = exit != null ? new String(exit) : null;
+
+		qm.sequence = NO_SEQUENCE;
+		if (parts.length > 4 && !parts[4].isEmpty()) qm.sequence = Long.parseLong(parts[4]);
+
+		return qm;
+	}
+
+	public String getExit() {
+		return exit;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public byte[] getStderr() {
+		return stderr;
+	}
+
+	public byte[] getStdout() {
+		return stdout;
+	}
+
+	public String getTaskId() {
+		return taskId;
+	}
+
+	public boolean hasSequence() {
+		return sequence != NO_SEQUENCE;
+	}
+
+	@Override
+	public String toString() {
+		return "taskId: " + taskId //
+				+ ", sequence: " + sequence //
+				+ ", stdout: " + (stdout != null ? stdout.length : 0) + " bytes" //
+				+ ", stderr: " + (stderr != null ? stderr.length : 0) + " bytes" //
+				+ (exit != null ? ", exit: '" + exit + "'" : "") //
+		;
+	}
+
+}
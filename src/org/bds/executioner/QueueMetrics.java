@@ -0,0 +1,85 @@
+package org.bds.executioner;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue metrics: Number of messages, messages per second and lag
+ * (time between a message is sent and received)
+ *
+ * @author pcingola
+ */
+public class QueueMetrics {
+
+	AtomicLong bytes;
+	AtomicLong lagCount; // Number of messages having lag information
+	AtomicLong lagMax; // Milliseconds
+	AtomicLong lagSum; // Milliseconds
+	AtomicLong messages;
+	AtomicLong receiveCalls;
+	long startTime;
+
+	public QueueMetrics() {
+		bytes = new AtomicLong();
+		lagCount = new AtomicLong();
+		lagMax = new AtomicLong();
+		lagSum = new AtomicLong();
+		messages = new AtomicLong();
+		receiveCalls = new AtomicLong();
+		startTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Add a received message
+	 * @param lag : Time since the message was sent, in milliseconds (negative if unknown)
+	 */
+	public void add(int size, long lag) {
+		messages.incrementAndGet();
+		bytes.addAndGet(size);
+		if (lag >= 0) {
+			lagCount.incrementAndGet();
+			lagSum.addAndGet(lag);
+			lagMax.accumulateAndGet(lag, Math::max);
+		}
+	}
+
+	/**
+	 * Average lag in milliseconds
+	 */
+	public double getLagAvg() {
+		long n = lagCount.get();
+		return n > 0 ? ((double) lagSum.get()) / n : 0;
+	}
+
+	public long getLagMax() {
+		return lagMax.get();
+	}
+
+	public long getMessages() {
+		return messages.get();
+	}
+
+	public double getMessagesPerSec() {
+		double secs = Math.max(1, System.currentTimeMillis() - startTime) / 1000.0;
+		return messages.get() / secs;
+	}
+
+	/**
+	 * Count a 'receive' call (a call can get several messages)
+	 */
+	public void receive() {
+		receiveCalls.incrementAndGet();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("messages: %d, receive calls: %d, bytes: %d, messages/sec: %.2f, lag avg: %.1f ms, lag max: %d ms" //
+				, messages.get() //
+				, receiveCalls.get() //
+				, bytes.get() //
+				, getMessagesPerSec() //
+				, getLagAvg() //
+				, lagMax.get() //
+		);
+	}
+
+}
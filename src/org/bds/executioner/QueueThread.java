@@ -1,8 +1,5 @@
 package org.bds.executioner;
 
-import java.io.BufferedOutputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
@@ -10,25 +7,42 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.bds.BdsLog;
 import org.bds.Config;
 import org.bds.task.Task;
+import org.bds.task.TaskOutputStream;
 import org.bds.util.Gpr;
 
 /**
  * A thread that handles queue messages
  *
+ * Messages are received by this thread and decoded (and written to
+ * STDOUT / STDERR files) by a separate 'decode' thread, so that
+ * receiving is not slowed down by decoding or disk writes.
+ *
  * @author pcingola
  */
 public abstract class QueueThread extends Thread implements BdsLog {
 
+	public static final int DECODE_POLL_TIME = 100; // Milliseconds
+	public static final int DECODE_JOIN_TIME = 10 * 1000; // Milliseconds
+
 	protected Config config;
 	protected boolean debug;
+	protected BlockingQueue<String> decodeQueue; // Messages to be decoded
+	protected Thread decodeThread;
 	protected Exception error;
 	protected boolean verbose;
+	protected QueueMetrics metrics;
 	protected MonitorTaskQueue monitorTasks; // Monitor tasks: This object checks if a task finished. In this case, the messages from the queue inform this monitor about finished tasks
-	protected boolean running; // Is this thread runing?
+	protected Map<String, Long> nextSequenceByTaskId; // Next message sequence number expected for a task
+	protected Map<String, TreeMap<Long, QueueMessage>> pendingByTaskId; // Messages received out of order
+	protected volatile boolean running; // Is this thread runing?
 	protected TaskLogger taskLogger; // Add and remove queue ID from TaskLogger, so `bds-exec` can properly clean up if needed
 	protected Map<String, Task> taskById;
 	protected Map<String, OutputStream> stdErrByTaskId;
@@ -46,9 +60,13 @@ public abstract class QueueThread extends Thread implements BdsLog {
 		taskById = new HashMap<>();
 		stdErrByTaskId = new HashMap<>();
 		stdOutByTaskId = new HashMap<>();
+		nextSequenceByTaskId = new HashMap<>();
+		pendingByTaskId = new HashMap<>();
+		decodeQueue = new LinkedBlockingQueue<>();
+		metrics = new QueueMetrics();
 	}
 
-	public void add(Task task) {
+	public synchronized void add(Task task) {
 		if (task == null) return;
 		debug("Adding task id '" + task.getId() + "'");
 		taskById.put(task.getId(), task);
@@ -59,6 +77,8 @@ public abstract class QueueThread extends Thread implements BdsLog {
 	 */
 	protected void close() {
 		debug("Close");
+		if (metrics.getMessages() > 0) log("Queue '" + getQueueId() + "': " + metrics);
+
 		// Remove all tasks (close all open streams)
 		List<Task> tasks = new ArrayList<>();
 		tasks.addAll(taskById.values());
@@ -85,6 +105,82 @@ public abstract class QueueThread extends Thread implements BdsLog {
 	 */
 	public abstract boolean deleteQueue();
 
+	/**
+	 * Decode thread: Decode messages and write outputs until the
+	 * queue thread stops and all received messages are processed
+	 */
+	protected void decodeLoop() {
+		debug("Started decode thread");
+		try {
+			while (running || !decodeQueue.isEmpty()) {
+				String message = decodeQueue.poll(DECODE_POLL_TIME, TimeUnit.MILLISECONDS);
+				if (message != null) processMessage(message);
+			}
+		} catch (InterruptedException e) {
+			debug("Decode thread interrupted");
+		}
+		debug("Finished decode thread");
+	}
+
+	/**
+	 * Add a message to be decoded
+	 */
+	protected void decodeMessage(String message) {
+		decodeQueue.add(message);
+	}
+
+	/**
+	 * Deliver a message, in sequence order.
+	 * Messages with a sequence number are held until all previous messages for the same
+	 * task have been delivered. Duplicates (queues deliver at least once) are discarded.
+	 */
+	public synchronized void deliver(QueueMessage qm) {
+		if (!qm.hasSequence()) {
+			deliverNow(qm);
+			return;
+		}
+
+		String taskId = qm.getTaskId();
+		long next = nextSequenceByTaskId.getOrDefault(taskId, 0L);
+		if (qm.getSequence() < next) {
+			debug("Discarding duplicated message: " + qm);
+			return;
+		}
+
+		if (qm.getSequence() > next) {
+			debug("Message out of order, expected sequence " + next + ": " + qm);
+			pendingByTaskId.computeIfAbsent(taskId, k -> new TreeMap<>()).put(qm.getSequence(), qm);
+			return;
+		}
+
+		// Deliver this message and any pending messages following it
+		deliverNow(qm);
+		next++;
+		TreeMap<Long, QueueMessage> pending = pendingByTaskId.get(taskId);
+		if (pending != null) {
+			for (QueueMessage p = pending.remove(next); p != null; p = pending.remove(next)) {
+				deliverNow(p);
+				next++;
+			}
+			if (pending.isEmpty()) pendingByTaskId.remove(taskId);
+		}
+		nextSequenceByTaskId.put(taskId, next);
+	}
+
+	/**
+	 * Show message to console and write to files
+	 */
+	protected void deliverNow(QueueMessage qm) {
+		Task task = taskById.get(qm.getTaskId());
+		if (task == null) {
+			System.err.println("WARNING: Recieved message for unknown task ID '" + qm.getTaskId() + "'");
+		}
+
+		if (qm.getStdout() != null) stdout(qm.getStdout(), task);
+		if (qm.getStderr() != null) stderr(qm.getStderr(), task);
+		if (qm.getExit() != null) exit(qm.getExit(), task);
+	}
+
 	/**
 	 * Write to STDOUT and to 'stdout' file
 	 */
@@ -102,6 +198,10 @@ public abstract class QueueThread extends Thread implements BdsLog {
 		return error;
 	}
 
+	public QueueMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * Create a unique ID used to uniquely identify the queue
 	 */
@@ -123,9 +223,12 @@ public abstract class QueueThread extends Thread implements BdsLog {
 	/**
 	 * Stop queue thread
 	 */
-	public synchronized void kill() {
+	public void kill() {
 		running = false;
-		close();
+		stopDecodeThread();
+		synchronized (this) {
+			close();
+		}
 	}
 
 	/**
@@ -139,37 +242,16 @@ public abstract class QueueThread extends Thread implements BdsLog {
 	 * Process a single message
 	 */
 	protected void processMessage(String message) {
-		String[] parts = message.split("\t");
-		String taskId = parts[0];
-		String stdout = parts.length > 1 ? parts[1] : "";
-		String stderr = parts.length > 2 ? parts[2] : "";
-		String sexit = parts.length > 3 ? parts[3] : "";
-
-		Task task = taskById.get(taskId);
-		if (task == null) {
-			System.err.println("WARNING: Recieved message for unknown task ID '" + taskId + "'");
-		}
-
-		// Show message to console
-		if (!stdout.isEmpty()) {
-			stdout = decode64(stdout);
-			stdout(stdout, task);
-		}
-
-		if (!stderr.isEmpty()) {
-			stderr = decode64(stderr);
-			stderr(stderr, task);
-		}
-
-		if (!sexit.isEmpty()) {
-			sexit = decode64(sexit);
-			exit(sexit, task);
-		}
+		QueueMessage qm = QueueMessage.parse(message);
+		debug("Process message: " + qm);
+		deliver(qm);
 	}
 
 	public synchronized void remove(Task task) {
 		debug("Removing task id '" + task.getId() + "'");
 		taskById.remove(task.getId());
+		nextSequenceByTaskId.remove(task.getId());
+		pendingByTaskId.remove(task.getId());
 
 		// Close stderr output stream
 		try {
@@ -215,7 +297,10 @@ public abstract class QueueThread extends Thread implements BdsLog {
 	 */
 	protected void runLoopAfter() {
 		debug("After queue thread");
-		close();
+		stopDecodeThread();
+		synchronized (this) {
+			close();
+		}
 	}
 
 	/**
@@ -231,6 +316,11 @@ public abstract class QueueThread extends Thread implements BdsLog {
 			// Error creating queue, cannot run
 			running = false;
 		}
+
+		// Start decode thread
+		decodeThread = new Thread(this::decodeLoop, getName() + "_decode");
+		decodeThread.setDaemon(true);
+		decodeThread.start();
 	}
 
 	/**
@@ -265,11 +355,29 @@ public abstract class QueueThread extends Thread implements BdsLog {
 		this.verbose = verbose;
 	}
 
+	/**
+	 * Wait for the decode thread to process all pending messages
+	 */
+	protected void stopDecodeThread() {
+		Thread dt = decodeThread;
+		if (dt == null || dt == Thread.currentThread()) return;
+		try {
+			dt.join(DECODE_JOIN_TIME);
+		} catch (InterruptedException e) {
+			// Nothing to do
+		}
+		if (dt.isAlive()) {
+			warning("Decode thread did not finish, " + decodeQueue.size() + " messages not processed");
+			dt.interrupt();
+		}
+		decodeThread = null;
+	}
+
 	/**
 	 * Write to STDERR and to 'stderr' file
 	 */
-	protected void stderr(String msg, Task task) {
-		System.err.print(msg);
+	protected void stderr(byte[] msg, Task task) {
+		System.err.write(msg, 0, msg.length);
 		System.err.flush();
 		if (task == null) return;
 
@@ -279,8 +387,8 @@ public abstract class QueueThread extends Thread implements BdsLog {
 		if (os == null) {
 			try {
 				debug("Creating SDTERR file '" + task.getStderrFile() + "'");
-				os = new BufferedOutputStream(new FileOutputStream(task.getStderrFile()));
-			} catch (FileNotFoundException e) {
+				os = TaskOutputStream.factory(task.getStderrFile(), Config.get().getTaskOutputMaxSize(), Config.get().isTaskOutputCompress());
+			} catch (IOException e) {
 				throw new RuntimeException("Error opening file '" + task.getStderrFile() + "'", e);
 			}
 			stdErrByTaskId.put(tid, os);
@@ -288,7 +396,7 @@ public abstract class QueueThread extends Thread implements BdsLog {
 
 		// Append to output stream
 		try {
-			os.write(msg.getBytes());
+			os.write(msg);
 		} catch (IOException e) {
 			throw new RuntimeException("Error writing to file '" + task.getStderrFile() + "'", e);
 		}
@@ -297,8 +405,8 @@ public abstract class QueueThread extends Thread implements BdsLog {
 	/**
 	 * Write to STDOUT and to 'stdout' file
 	 */
-	protected void stdout(String msg, Task task) {
-		System.out.print(msg);
+	protected void stdout(byte[] msg, Task task) {
+		System.out.write(msg, 0, msg.length);
 		System.out.flush();
 		if (task == null) return;
 
@@ -308,8 +416,8 @@ public abstract class QueueThread extends Thread implements BdsLog {
 		if (os == null) {
 			try {
 				debug("Creating STDOUT file '" + task.getStdoutFile() + "'");
-				os = new BufferedOutputStream(new FileOutputStream(task.getStdoutFile()));
-			} catch (FileNotFoundException e) {
+				os = TaskOutputStream.factory(task.getStdoutFile(), Config.get().getTaskOutputMaxSize(), Config.get().isTaskOutputCompress());
+			} catch (IOException e) {
 				throw new RuntimeException("Error opening file '" + task.getStdoutFile() + "'", e);
 			}
 			stdOutByTaskId.put(tid, os);
@@ -317,7 +425,7 @@ public abstract class QueueThread extends Thread implements BdsLog {
 
 		// Append to output stream
 		try {
-			os.write(msg.getBytes());
+			os.write(msg);
 		} catch (IOException e) {
 			throw new RuntimeException("Error writing to file '" + task.getStdoutFile() + "'", e);
 		}
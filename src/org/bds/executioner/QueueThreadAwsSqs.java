@@ -1,5 +1,6 @@
 package org.bds.executioner;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Random;
@@ -9,11 +10,15 @@ import org.bds.scope.GlobalScope;
 
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
-import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
 import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
 import software.amazon.awssdk.services.sqs.model.QueueNameExistsException;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 
@@ -28,6 +33,7 @@ public class QueueThreadAwsSqs extends QueueThread {
 	public static boolean USE_QUEUE_NAME_DEBUG = false; // Fix queue name when running tests or debugging
 
 	private static final String OS_DELETE_QUEUE_COMMAND = "@aws_sqs_delete_queue"; // Command line to delete a queue
+	public static final int AWS_SQS_MAX_NUMBER_OF_MESSAGES = 10; // Maximum number of messages per 'receive' / 'delete' call (AWS limit)
 	public static final int AWS_SQS_WAIT_TIME_SECONDS = 10; // Long polling parameter
 
 	private SqsClient sqsClient;
@@ -131,23 +137,46 @@ public class QueueThreadAwsSqs extends QueueThread {
 	}
 
 	/**
-	 * Process a single message
+	 * Delete messages from the queue (a single batch request)
 	 */
-	private void process(Message message) {
-		debug("Process SQS message: " + message);
-		processMessage(message.body());
+	private void deleteMessages(List<Message> messages) {
+		List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(messages.size());
+		for (int i = 0; i < messages.size(); i++)
+			entries.add(DeleteMessageBatchRequestEntry.builder().id(Integer.toString(i)).receiptHandle(messages.get(i).receiptHandle()).build());
+
+		DeleteMessageBatchRequest request = DeleteMessageBatchRequest.builder().queueUrl(queueUrl).entries(entries).build();
+		DeleteMessageBatchResponse response = getSqsClient().deleteMessageBatch(request);
+
+		// Failed entries are not retried: If they are received again they will be discarded as duplicates (sequence numbers)
+		if (response.hasFailed()) {
+			for (BatchResultErrorEntry e : response.failed())
+				warning("Error deleting SQS message, queue '" + queueName + "', code: " + e.code() + ", message: " + e.message());
+		}
+	}
+
+	/**
+	 * Process a single message: Update metrics and send it to the decode thread
+	 */
+	private void process(Message message, long now) {
+		long lag = -1;
+		String sentTimestamp = message.attributes().get(MessageSystemAttributeName.SENT_TIMESTAMP);
+		if (sentTimestamp != null) lag = now - Long.parseLong(sentTimestamp);
+		metrics.add(message.body().length(), lag);
+		decodeMessage(message.body());
 	}
 
 	/**
 	 * Process all messages
-	 * @param messages
 	 */
 	private void processMessages(List<Message> messages) {
-		for (Message message : messages) {
-			process(message);
-			DeleteMessageRequest deleteMessageRequest = DeleteMessageRequest.builder().queueUrl(queueUrl).receiptHandle(message.receiptHandle()).build();
-			sqsClient.deleteMessage(deleteMessageRequest);
-		}
+		if (messages.isEmpty()) return;
+		debug("Received " + messages.size() + " SQS messages");
+
+		long now = System.currentTimeMillis();
+		for (Message message : messages)
+			process(message, now);
+
+		deleteMessages(messages);
 	}
 
 	/**
@@ -158,8 +187,14 @@ public class QueueThreadAwsSqs extends QueueThread {
 	 * 	- https://docs.aws.amazon.com/AWSSimpleQueueService/latest/SQSDeveloperGuide/working-with-messages.html#setting-up-long-polling
 	 */
 	private List<Message> receiveMessages() {
-		ReceiveMessageRequest receiveMessageRequest = ReceiveMessageRequest.builder().queueUrl(queueUrl).waitTimeSeconds(AWS_SQS_WAIT_TIME_SECONDS).build();
-		List<Message> messages = sqsClient.receiveMessage(receiveMessageRequest).messages();
+		ReceiveMessageRequest receiveMessageRequest = ReceiveMessageRequest.builder() //
+				.queueUrl(queueUrl) //
+				.waitTimeSeconds(AWS_SQS_WAIT_TIME_SECONDS) //
+				.maxNumberOfMessages(AWS_SQS_MAX_NUMBER_OF_MESSAGES) //
+				.attributeNamesWithStrings(MessageSystemAttributeName.SENT_TIMESTAMP.toString()) //
+				.build();
+		List<Message> messages = getSqsClient().receiveMessage(receiveMessageRequest).messages();
+		metrics.receive();
 		return messages;
 	}
 
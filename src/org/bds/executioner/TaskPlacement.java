@@ -0,0 +1,110 @@
+package org.bds.executioner;
+
+import java.util.List;
+
+import org.bds.BdsLog;
+import org.bds.Config;
+import org.bds.cluster.ComputerSystem;
+import org.bds.cluster.host.Host;
+import org.bds.task.Task;
+
+/**
+ * Task placement policy: Decides in which order queued tasks are
+ * considered and on which host a task is executed.
+ *
+ * @author pcingola
+ */
+public abstract class TaskPlacement implements BdsLog {
+
+	public static final String BEST_FIT = "bestFit";
+	public static final String FIRST_FIT = "firstFit";
+
+	protected boolean debug;
+
+	/**
+	 * Create a placement policy from config
+	 */
+	public static TaskPlacement factory(Config config) {
+		String name = config.getTaskPlacement();
+		TaskPlacement taskPlacement;
+		if (name.equalsIgnoreCase(FIRST_FIT)) taskPlacement = new TaskPlacementFirstFit();
+		else if (name.equalsIgnoreCase(BEST_FIT)) taskPlacement = new TaskPlacementBestFit(config.getTaskAgingTime());
+		else throw new RuntimeException("Unknown task placement policy '" + name + "'. Available policies: '" + BEST_FIT + "', '" + FIRST_FIT + "'");
+
+		taskPlacement.debug = config.isDebug();
+		return taskPlacement;
+	}
+
+	/**
+	 * Task 'task' cannot be executed now because hosts are busy, but it
+	 * could be executed later (e.g. when other tasks finish)
+	 */
+	public void blocked(Task task, ComputerSystem system) {
+	}
+
+	/**
+	 * Can 'task' use 'host'? (the host has enough resources available)
+	 */
+	public boolean canUse(Task task, Host host) {
+		return true;
+	}
+
+	/**
+	 * Task 'task' has been removed from the queue (e.g. it started or finished)
+	 */
+	public void dequeue(Task task) {
+	}
+
+	@Override
+	public boolean isDebug() {
+		return debug;
+	}
+
+	/**
+	 * Is 'host' a better fit than 'best' for this task?
+	 * @param best : Best host found so far (can be null)
+	 */
+	public abstract boolean isBetterFit(Task task, Host host, Host best);
+
+	/**
+	 * Add 'task' to the queue. The queue is kept in the order tasks
+	 * are considered for execution (queue order by default)
+	 */
+	public void queue(List<Task> tasksToRun, Task task) {
+		tasksToRun.add(task);
+	}
+
+	/**
+	 * Select a host to execute 'task'
+	 * @return The best fitting host having enough resources available, null if no host can execute the task now
+	 */
+	public Host select(Task task, ComputerSystem system) {
+		Host best = null;
+		for (Host host : system) {
+			if (host.isAlive() //
+					&& host.getResourcesAvaialble().hasResources(task.getResources()) //
+					&& canUse(task, host) //
+					&& isBetterFit(task, host, best) //
+			) best = host;
+		}
+		if (best != null) return best;
+
+		// No host fits: Ignore the load from other processes on idle hosts, so that a task can always run eventually
+		for (Host host : system) {
+			if (host.isAlive() //
+					&& !host.hasTasksRunning() //
+					&& host.getResources().hasResources(task.getResources()) //
+					&& canUse(task, host) //
+					&& isBetterFit(task, host, best) //
+			) best = host;
+		}
+		return best;
+	}
+
+	/**
+	 * Task 'task' has been selected to run on 'host'
+	 */
+	public void selected(Task task, Host host) {
+	}
+
+}
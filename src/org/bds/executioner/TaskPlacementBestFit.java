@@ -0,0 +1,143 @@
+package org.bds.executioner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bds.cluster.ComputerSystem;
+import org.bds.cluster.host.Host;
+import org.bds.cluster.host.Resources;
+import org.bds.task.Task;
+
+/**
+ * Best fit placement, priorities, aging and backfilling:
+ *
+ * 	- Tasks are considered in order of 'effective priority': the task's
+ * 	  priority plus one for every 'agingTime' seconds the task has been
+ * 	  waiting in the queue (so low priority tasks do not starve). Tasks
+ * 	  having the same effective priority are considered in queue order.
+ * 	  Since all tasks age at the same rate, ordering by 'priority +
+ * 	  waitTime / agingTime' is the same as ordering by 'priority * agingTime
+ * 	  - queuedTime', which does not change while tasks wait. So tasks are
+ * 	  inserted in order when queued, the queue is never re-sorted.
+ *
+ * 	- A task is executed on the host that would have the least resources
+ * 	  left after running it (cpus first, then memory). This packs small
+ * 	  tasks together, instead of fragmenting large hosts.
+ *
+ * 	- When the highest priority task cannot be executed because hosts are
+ * 	  busy, a host is reserved for it. Other tasks can still be executed
+ * 	  on other hosts (backfill), but not on the reserved host, so it will
+ * 	  eventually have enough resources for the reserved task.
+ *
+ * @author pcingola
+ */
+public class TaskPlacementBestFit extends TaskPlacement {
+
+	public static final long DEFAULT_AGING_TIME = 60; // Seconds
+
+	long agingTime; // Seconds waiting to increase priority by one (non-positive means 'no aging')
+	Map<String, Long> keyByTaskId; // Sort key: Tasks are queued in decreasing key order
+	Host reservedHost;
+	Task reservedTask;
+
+	public TaskPlacementBestFit(long agingTime) {
+		this.agingTime = agingTime;
+		keyByTaskId = new HashMap<>();
+	}
+
+	/**
+	 * Reserve a host for the first (i.e. highest priority) blocked task
+	 */
+	@Override
+	public void blocked(Task task, ComputerSystem system) {
+		if (reservedTask != null) return;
+
+		// Reserve the host that has the most resources available (it will probably be the first one to fit the task)
+		Host best = null;
+		for (Host host : system) {
+			if (!host.isAlive() || !host.getResources().hasResources(task.getResources())) continue;
+			if (best == null || compare(host.getResourcesAvaialble(), best.getResourcesAvaialble()) > 0) best = host;
+		}
+
+		if (best != null) {
+			debug("Reserving host '" + best + "' for task '" + task.getId() + "', resources: " + task.getResources());
+			reservedTask = task;
+			reservedHost = best;
+		}
+	}
+
+	/**
+	 * Only the reserved task can use the reserved host
+	 */
+	@Override
+	public boolean canUse(Task task, Host host) {
+		return host != reservedHost || task == reservedTask;
+	}
+
+	/**
+	 * Compare resources (cpus first, then memory)
+	 */
+	int compare(Resources r1, Resources r2) {
+		int cmp = Integer.compare(r1.getCpus(), r2.getCpus());
+		if (cmp != 0) return cmp;
+		return Long.compare(r1.getMem(), r2.getMem());
+	}
+
+	/**
+	 * Task is no longer queued: Release its reservation (e.g. the task was killed)
+	 */
+	@Override
+	public void dequeue(Task task) {
+		keyByTaskId.remove(task.getId());
+		if (task == reservedTask) release();
+	}
+
+	public Task getReservedTask() {
+		return reservedTask;
+	}
+
+	@Override
+	public boolean isBetterFit(Task task, Host host, Host best) {
+		if (best == null) return true;
+		return compare(host.getResourcesAvaialble(), best.getResourcesAvaialble()) < 0;
+	}
+
+	/**
+	 * Sort key: Priority plus aging (see class description)
+	 */
+	long key(Task task, long now) {
+		long prio = task.getPriority();
+		if (agingTime <= 0) return prio;
+		return prio * agingTime * 1000L - now;
+	}
+
+	/**
+	 * Insert task after all tasks having the same or higher key (same key tasks keep queue order)
+	 */
+	@Override
+	public void queue(List<Task> tasksToRun, Task task) {
+		long key = key(task, System.currentTimeMillis());
+		keyByTaskId.put(task.getId(), key);
+
+		int lo = 0, hi = tasksToRun.size();
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keyByTaskId.getOrDefault(tasksToRun.get(mid).getId(), Long.MIN_VALUE) >= key) lo = mid + 1;
+			else hi = mid;
+		}
+		tasksToRun.add(lo, task);
+	}
+
+	void release() {
+		debug("Releasing host '" + reservedHost + "' reserved for task '" + reservedTask.getId() + "'");
+		reservedTask = null;
+		reservedHost = null;
+	}
+
+	@Override
+	public void selected(Task task, Host host) {
+		if (task == reservedTask) release();
+	}
+
+}
@@ -0,0 +1,19 @@
+package org.bds.executioner;
+
+import org.bds.cluster.host.Host;
+import org.bds.task.Task;
+
+/**
+ * First fit: Tasks are considered in the order they were queued and
+ * are executed on the first host that has enough resources
+ *
+ * @author pcingola
+ */
+public class TaskPlacementFirstFit extends TaskPlacement {
+
+	@Override
+	public boolean isBetterFit(Task task, Host host, Host best) {
+		return best == null;
+	}
+
+}
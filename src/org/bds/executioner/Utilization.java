@@ -0,0 +1,91 @@
+package org.bds.executioner;
+
+import org.bds.cluster.ComputerSystem;
+import org.bds.cluster.host.Host;
+import org.bds.cluster.host.HostResources;
+import org.bds.cluster.host.HostResourcesInf;
+
+/**
+ * Resource utilization: Fraction of cpus / memory reserved by running
+ * tasks, averaged over time (only hosts having finite resources)
+ *
+ * @author pcingola
+ */
+public class Utilization {
+
+	double cpuSecs, cpuSecsCapacity; // Cpus reserved (and available) integrated over time
+	long lastSample; // Last sample time (milliseconds)
+	double memSecs, memSecsCapacity; // Memory reserved (and available) integrated over time
+	double peakCpus, peakMem; // Peak utilization
+
+	/**
+	 * Average cpu utilization, in [0, 1]. Negative if not available
+	 */
+	public double getCpus() {
+		return cpuSecsCapacity > 0 ? cpuSecs / cpuSecsCapacity : -1;
+	}
+
+	/**
+	 * Average memory utilization, in [0, 1]. Negative if not available
+	 */
+	public double getMem() {
+		return memSecsCapacity > 0 ? memSecs / memSecsCapacity : -1;
+	}
+
+	public double getPeakCpus() {
+		return peakCpus;
+	}
+
+	public double getPeakMem() {
+		return peakMem;
+	}
+
+	public boolean isEmpty() {
+		return cpuSecsCapacity <= 0;
+	}
+
+	/**
+	 * Sample current utilization
+	 */
+	public synchronized void sample(ComputerSystem system) {
+		long now = System.currentTimeMillis();
+		long dt = lastSample > 0 ? now - lastSample : 0;
+		lastSample = now;
+
+		long cpus = 0, cpusUsed = 0, mem = 0, memUsed = 0;
+		for (Host host : system) {
+			HostResources res = host.getResources();
+			if (res instanceof HostResourcesInf) continue;
+			HostResources avail = host.getResourcesAvaialble();
+
+			if (res.getCpus() > 0) {
+				cpus += res.getCpus();
+				cpusUsed += res.getCpus() - Math.max(0, avail.getCpus());
+			}
+
+			if (res.getMem() > 0) {
+				mem += res.getMem();
+				memUsed += res.getMem() - Math.max(0, avail.getMem());
+			}
+		}
+
+		if (cpus > 0) peakCpus = Math.max(peakCpus, ((double) cpusUsed) / cpus);
+		if (mem > 0) peakMem = Math.max(peakMem, ((double) memUsed) / mem);
+		if (dt <= 0) return;
+
+		double secs = dt / 1000.0;
+		cpuSecs += cpusUsed * secs;
+		cpuSecsCapacity += cpus * secs;
+		memSecs += memUsed * secs;
+		memSecsCapacity += mem * secs;
+	}
+
+	@Override
+	public synchronized String toString() {
+		if (isEmpty()) return "";
+		return String.format("cpus: %.1f%% (peak %.1f%%)", 100 * getCpus(), 100 * peakCpus) //
+				+ (memSecsCapacity > 0 ? String.format(", mem: %.1f%% (peak %.1f%%)", 100 * getMem(), 100 * peakMem) : "") //
+		;
+	}
+
+}
@@ -330,6 +330,10 @@ public abstract class BdsNode implements Serializable, BdsLog {
 		return returnType != null;
 	}
 
+	public boolean isSet() {
+		return returnType != null && returnType.getPrimitiveType() == PrimitiveType.SET;
+	}
+
 	public boolean isString() {
 		return returnType != null && returnType.getPrimitiveType() == PrimitiveType.STRING;
 	}
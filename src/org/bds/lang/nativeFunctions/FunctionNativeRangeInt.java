@@ -4,8 +4,8 @@ import org.bds.lang.Parameters;
 import org.bds.lang.type.Type;
 import org.bds.lang.type.TypeList;
 import org.bds.lang.type.Types;
+import org.bds.lang.value.ListRangeInt;
 import org.bds.lang.value.Value;
-import org.bds.lang.value.ValueInt;
 import org.bds.lang.value.ValueList;
 import org.bds.run.BdsThread;
 
@@ -38,11 +38,7 @@ public class FunctionNativeRangeInt extends FunctionNative {
 		long min = bdsThread.getInt("min");
 		long max = bdsThread.getInt("max");
 
-		ValueList list = new ValueList(returnType);
-		for (long i = min; i <= max; i++)
-			list.add(new ValueInt(i));
-
-		return list;
+		return new ValueList(returnType, new ListRangeInt(min, max, 1));
 	}
 
 	@Override
@@ -4,8 +4,8 @@ import org.bds.lang.Parameters;
 import org.bds.lang.type.Type;
 import org.bds.lang.type.TypeList;
 import org.bds.lang.type.Types;
+import org.bds.lang.value.ListRangeInt;
 import org.bds.lang.value.Value;
-import org.bds.lang.value.ValueInt;
 import org.bds.lang.value.ValueList;
 import org.bds.run.BdsThread;
 
@@ -39,11 +39,7 @@ public class FunctionNativeRangeIntStep extends FunctionNative {
 		long max = bdsThread.getInt("max");
 		long step = bdsThread.getInt("step");
 
-		ValueList list = new ValueList(returnType);
-		for (long i = min; i <= max; i += step)
-			list.add(new ValueInt(i));
-
-		return list;
+		return new ValueList(returnType, new ListRangeInt(min, max, step));
 	}
 
 	@Override
@@ -4,9 +4,9 @@ import org.bds.lang.Parameters;
 import org.bds.lang.type.Type;
 import org.bds.lang.type.TypeList;
 import org.bds.lang.type.Types;
+import org.bds.lang.value.ListReal;
 import org.bds.lang.value.Value;
 import org.bds.lang.value.ValueList;
-import org.bds.lang.value.ValueReal;
 import org.bds.run.BdsThread;
 
 /**
@@ -39,11 +39,11 @@ public class FunctionNativeRangeReal extends FunctionNative {
 		double max = bdsThread.getReal("max");
 		double step = bdsThread.getReal("step");
 
-		ValueList list = new ValueList(returnType);
+		ListReal values = new ListReal(-1);
 		for (double d = min; d <= max; d += step)
-			list.add(new ValueReal(d));
+			values.add(d);
 
-		return list;
+		return new ValueList(returnType, values);
 	}
 
 	@Override
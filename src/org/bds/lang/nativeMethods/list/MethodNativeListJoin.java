@@ -35,16 +35,7 @@ public class MethodNativeListJoin extends MethodNativeList {
 	}
 
 	String join(ValueList list, String str) {
-		StringBuilder sb = new StringBuilder();
-
-		if (list.isEmpty()) return "";
-
-		int max = list.size() - 1;
-		for (int i = 0; i < max; i++)
-			sb.append(list.getValue(i).asString() + str);
-		sb.append(list.getValue(max).asString());
-
-		return sb.toString();
+		return list.join(str);
 	}
 
 	@Override
@@ -0,0 +1,42 @@
+package org.bds.lang.nativeMethods.list;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeList;
+import org.bds.lang.type.Types;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueInt;
+import org.bds.lang.value.ValueList;
+import org.bds.run.BdsThread;
+
+/**
+ * List's modification counter (changes every time the list is modified)
+ * Used to detect concurrent modifications in 'for' loops
+ *
+ * @author pcingola
+ */
+public class MethodNativeListModCount extends MethodNativeList {
+
+	private static final long serialVersionUID = -1834612450358238471L;
+
+	public MethodNativeListModCount(TypeList listType) {
+		super(listType);
+	}
+
+	@Override
+	protected void initMethod(Type baseType) {
+		functionName = "modCount";
+		returnType = Types.INT;
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueList vthis) {
+		return new ValueInt((long) vthis.getModCount());
+	}
+}
@@ -0,0 +1,43 @@
+package org.bds.lang.nativeMethods.list;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeList;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueList;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * ToSet: Create a set having the list's (unique) elements
+ *
+ * @author pcingola
+ */
+public class MethodNativeListToSet extends MethodNativeList {
+
+	private static final long serialVersionUID = 4410772954168203145L;
+
+	public MethodNativeListToSet(TypeList listType) {
+		super(listType);
+	}
+
+	@Override
+	protected void initMethod(Type baseType) {
+		functionName = "toSet";
+		returnType = TypeSet.get(baseType);
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueList vthis) {
+		ValueSet vset = new ValueSet(TypeSet.get(elementType), vthis.size());
+		vset.addAll(vthis);
+		return vset;
+	}
+}
@@ -0,0 +1,40 @@
+package org.bds.lang.nativeMethods.map;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeMap;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueMap;
+import org.bds.run.BdsThread;
+
+/**
+ * Return the first (lowest) key
+ *
+ * @author pcingola
+ */
+public class MethodNativeMapFirstKey extends MethodNativeMap {
+
+	private static final long serialVersionUID = 4225507175293216977L;
+
+	public MethodNativeMapFirstKey(TypeMap mapType) {
+		super(mapType);
+	}
+
+	@Override
+	protected void initMethod() {
+		TypeMap mapType = (TypeMap) classType;
+		functionName = "firstKey";
+		returnType = mapType.getKeyType();
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { mapType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	protected Value runMethodNative(BdsThread bdsThread, ValueMap vthis) {
+		return vthis.firstKey();
+	}
+}
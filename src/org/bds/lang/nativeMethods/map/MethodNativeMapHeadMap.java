@@ -0,0 +1,43 @@
+package org.bds.lang.nativeMethods.map;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeMap;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueMap;
+import org.bds.run.BdsThread;
+
+/**
+ * Return a new map having all entries whose keys are less than 'toKey'
+ *
+ * Note: The map is switched to sorted storage
+ *
+ * @author pcingola
+ */
+public class MethodNativeMapHeadMap extends MethodNativeMap {
+
+	private static final long serialVersionUID = -2495931494994687397L;
+
+	public MethodNativeMapHeadMap(TypeMap mapType) {
+		super(mapType);
+	}
+
+	@Override
+	protected void initMethod() {
+		TypeMap mapType = (TypeMap) classType;
+		functionName = "headMap";
+		returnType = mapType;
+
+		String argNames[] = { "this", "toKey" };
+		Type argTypes[] = { mapType, mapType.getKeyType() };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	protected Value runMethodNative(BdsThread bdsThread, ValueMap vthis) {
+		Value toKey = bdsThread.getValue("toKey");
+		return vthis.headMap(toKey);
+	}
+}
@@ -41,7 +41,7 @@ public class MethodNativeMapKeys extends MethodNativeMap {
 		TypeList tl = TypeList.get(tm.getKeyType());
 		ValueList vlist = new ValueList(tl);
 		vlist.addAll(vthis.keySet());
-		vlist.sort();
+		if (!vthis.isSorted()) vlist.sort();
 		return vlist;
 	}
 }
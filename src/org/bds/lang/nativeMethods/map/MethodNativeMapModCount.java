@@ -0,0 +1,43 @@
+package org.bds.lang.nativeMethods.map;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeMap;
+import org.bds.lang.type.Types;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueInt;
+import org.bds.lang.value.ValueMap;
+import org.bds.run.BdsThread;
+
+/**
+ * Map's modification counter (changes every time the map is modified)
+ * Used to detect concurrent modifications in 'for' loops
+ *
+ * @author pcingola
+ */
+public class MethodNativeMapModCount extends MethodNativeMap {
+
+	private static final long serialVersionUID = -6960427713093825106L;
+
+	public MethodNativeMapModCount(TypeMap mapType) {
+		super(mapType);
+	}
+
+	@Override
+	protected void initMethod() {
+		TypeMap mapType = (TypeMap) classType;
+		functionName = "modCount";
+		returnType = Types.INT;
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { mapType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	protected Value runMethodNative(BdsThread bdsThread, ValueMap vthis) {
+		return new ValueInt((long) vthis.getModCount());
+	}
+}
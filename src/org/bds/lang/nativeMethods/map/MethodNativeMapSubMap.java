@@ -0,0 +1,44 @@
+package org.bds.lang.nativeMethods.map;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeMap;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueMap;
+import org.bds.run.BdsThread;
+
+/**
+ * Return a new map having all entries whose keys are in [fromKey, toKey)
+ *
+ * Note: The map is switched to sorted storage
+ *
+ * @author pcingola
+ */
+public class MethodNativeMapSubMap extends MethodNativeMap {
+
+	private static final long serialVersionUID = -3430384122062289915L;
+
+	public MethodNativeMapSubMap(TypeMap mapType) {
+		super(mapType);
+	}
+
+	@Override
+	protected void initMethod() {
+		TypeMap mapType = (TypeMap) classType;
+		functionName = "subMap";
+		returnType = mapType;
+
+		String argNames[] = { "this", "fromKey", "toKey" };
+		Type argTypes[] = { mapType, mapType.getKeyType(), mapType.getKeyType() };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	protected Value runMethodNative(BdsThread bdsThread, ValueMap vthis) {
+		Value fromKey = bdsThread.getValue("fromKey");
+		Value toKey = bdsThread.getValue("toKey");
+		return vthis.subMap(fromKey, toKey);
+	}
+}
@@ -0,0 +1,43 @@
+package org.bds.lang.nativeMethods.map;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeMap;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueMap;
+import org.bds.run.BdsThread;
+
+/**
+ * Return a new map having all entries whose keys are greater than or equal to 'fromKey'
+ *
+ * Note: The map is switched to sorted storage
+ *
+ * @author pcingola
+ */
+public class MethodNativeMapTailMap extends MethodNativeMap {
+
+	private static final long serialVersionUID = -454512375458326171L;
+
+	public MethodNativeMapTailMap(TypeMap mapType) {
+		super(mapType);
+	}
+
+	@Override
+	protected void initMethod() {
+		TypeMap mapType = (TypeMap) classType;
+		functionName = "tailMap";
+		returnType = mapType;
+
+		String argNames[] = { "this", "fromKey" };
+		Type argTypes[] = { mapType, mapType.getKeyType() };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	protected Value runMethodNative(BdsThread bdsThread, ValueMap vthis) {
+		Value fromKey = bdsThread.getValue("fromKey");
+		return vthis.tailMap(fromKey);
+	}
+}
@@ -0,0 +1,46 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.nativeMethods.MethodNative;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Methods for sets
+ *
+ * @author pcingola
+ */
+public abstract class MethodNativeSet extends MethodNative {
+
+	private static final long serialVersionUID = 8178696455976775302L;
+	Type elementType;
+
+	public MethodNativeSet(TypeSet setType) {
+		super(setType);
+		if (setType != null) {
+			elementType = setType.getElementType();
+			initMethod(elementType);
+		}
+		parameterNames = parameterNames();
+	}
+
+	@Override
+	protected void initMethod() {
+		// Nothing to do, we cannot initialize directly
+	}
+
+	/**
+	 * Initialize according to set's elements type
+	 */
+	protected abstract void initMethod(Type elementType);
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, Value vthis) {
+		return runMethod(bdsThread, (ValueSet) vthis);
+	}
+
+	public abstract Value runMethod(BdsThread bdsThread, ValueSet vthis);
+
+}
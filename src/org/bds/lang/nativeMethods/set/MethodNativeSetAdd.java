@@ -0,0 +1,41 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Add an element to the set
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetAdd extends MethodNativeSet {
+
+	private static final long serialVersionUID = 2462187363806589737L;
+
+	public MethodNativeSetAdd(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "add";
+		returnType = classType;
+
+		String argNames[] = { "this", "toAdd" };
+		Type argTypes[] = { classType, elementType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		Value toAdd = bdsThread.getValue("toAdd");
+		vthis.add(toAdd);
+		return vthis;
+	}
+}
@@ -0,0 +1,43 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeList;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueList;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Add all elements in a list to the set
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetAddList extends MethodNativeSet {
+
+	private static final long serialVersionUID = -7369002274914212594L;
+
+	public MethodNativeSetAddList(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "add";
+		returnType = classType;
+
+		String argNames[] = { "this", "toAdd" };
+		Type argTypes[] = { classType, TypeList.get(elementType) };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		ValueList toAdd = (ValueList) bdsThread.getValue("toAdd");
+		vthis.addAll(toAdd);
+		return vthis;
+	}
+}
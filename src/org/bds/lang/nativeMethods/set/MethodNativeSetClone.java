@@ -0,0 +1,39 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Clone: Create a new set having the same elements
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetClone extends MethodNativeSet {
+
+	private static final long serialVersionUID = -7426624707728323472L;
+
+	public MethodNativeSetClone(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "clone";
+		returnType = classType;
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		return vthis.clone();
+	}
+}
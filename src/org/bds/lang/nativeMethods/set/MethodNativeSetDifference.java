@@ -0,0 +1,40 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Difference: A new set having elements in this set that are not in 'set'
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetDifference extends MethodNativeSet {
+
+	private static final long serialVersionUID = -1852402783485656390L;
+
+	public MethodNativeSetDifference(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "difference";
+		returnType = classType;
+
+		String argNames[] = { "this", "set" };
+		Type argTypes[] = { classType, classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		ValueSet set = (ValueSet) bdsThread.getValue("set");
+		return vthis.difference(set);
+	}
+}
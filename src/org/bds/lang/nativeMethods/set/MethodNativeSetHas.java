@@ -0,0 +1,42 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.type.Types;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueBool;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Does the set contain an element?
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetHas extends MethodNativeSet {
+
+	private static final long serialVersionUID = 5946408445182190934L;
+
+	public MethodNativeSetHas(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "has";
+		returnType = Types.BOOL;
+
+		String argNames[] = { "this", "toFind" };
+		Type argTypes[] = { classType, elementType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		Value toFind = bdsThread.getValue("toFind");
+		return new ValueBool(vthis.contains(toFind));
+	}
+}
@@ -0,0 +1,41 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.type.Types;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueInt;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Set's hash code
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetHashCode extends MethodNativeSet {
+
+	private static final long serialVersionUID = 1296368729851274048L;
+
+	public MethodNativeSetHashCode(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "hashCode";
+		returnType = Types.INT;
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		return new ValueInt((long) vthis.hashCode());
+	}
+}
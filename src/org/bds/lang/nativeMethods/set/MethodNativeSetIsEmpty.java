@@ -0,0 +1,41 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.type.Types;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueBool;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Is the set empty?
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetIsEmpty extends MethodNativeSet {
+
+	private static final long serialVersionUID = 6029754178462072200L;
+
+	public MethodNativeSetIsEmpty(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "isEmpty";
+		returnType = Types.BOOL;
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		return new ValueBool(vthis.isEmpty());
+	}
+}
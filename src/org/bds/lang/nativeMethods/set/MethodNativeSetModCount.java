@@ -0,0 +1,42 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.type.Types;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueInt;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Set's modification counter (changes every time the set is modified)
+ * Used to detect concurrent modifications in 'for' loops
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetModCount extends MethodNativeSet {
+
+	private static final long serialVersionUID = 5785818309577079366L;
+
+	public MethodNativeSetModCount(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "modCount";
+		returnType = Types.INT;
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		return new ValueInt((long) vthis.getModCount());
+	}
+}
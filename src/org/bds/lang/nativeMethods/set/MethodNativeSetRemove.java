@@ -0,0 +1,42 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.type.Types;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueBool;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Remove an element from the set, return true if it was in the set
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetRemove extends MethodNativeSet {
+
+	private static final long serialVersionUID = 6135429391996981261L;
+
+	public MethodNativeSetRemove(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "remove";
+		returnType = Types.BOOL;
+
+		String argNames[] = { "this", "toRemove" };
+		Type argTypes[] = { classType, elementType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		Value toRemove = bdsThread.getValue("toRemove");
+		return new ValueBool(vthis.remove(toRemove));
+	}
+}
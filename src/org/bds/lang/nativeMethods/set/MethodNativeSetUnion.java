@@ -0,0 +1,40 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Union: A new set having elements in either set
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetUnion extends MethodNativeSet {
+
+	private static final long serialVersionUID = 219504462443578043L;
+
+	public MethodNativeSetUnion(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "union";
+		returnType = classType;
+
+		String argNames[] = { "this", "set" };
+		Type argTypes[] = { classType, classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		ValueSet set = (ValueSet) bdsThread.getValue("set");
+		return vthis.union(set);
+	}
+}
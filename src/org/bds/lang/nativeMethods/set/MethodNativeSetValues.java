@@ -0,0 +1,44 @@
+package org.bds.lang.nativeMethods.set;
+
+import org.bds.lang.Parameters;
+import org.bds.lang.type.Type;
+import org.bds.lang.type.TypeList;
+import org.bds.lang.type.TypeSet;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueList;
+import org.bds.lang.value.ValueSet;
+import org.bds.run.BdsThread;
+
+/**
+ * Return a list of the set's elements (in insertion order)
+ *
+ * @author pcingola
+ */
+public class MethodNativeSetValues extends MethodNativeSet {
+
+	private static final long serialVersionUID = 4909202772164282037L;
+
+	public MethodNativeSetValues(TypeSet setType) {
+		super(setType);
+	}
+
+	@Override
+	protected void initMethod(Type elementType) {
+		functionName = "values";
+		returnType = TypeList.get(elementType);
+
+		String argNames[] = { "this" };
+		Type argTypes[] = { classType };
+		parameters = Parameters.get(argTypes, argNames);
+
+		addNativeMethodToClassScope();
+	}
+
+	@Override
+	public Value runMethod(BdsThread bdsThread, ValueSet vthis) {
+		ValueList vlist = new ValueList(TypeList.get(elementType), vthis.size());
+		for (Value v : vthis)
+			vlist.add(v);
+		return vlist;
+	}
+}
@@ -31,6 +31,6 @@ public class MethodNative_string_download_localname extends MethodNativeString {
 		String localName = bdsThread.getString("localName");
 		Data data = bdsThread.data(objThis.toString());
 		Data localData = bdsThread.data(localName);
-		return data.download(localData);
+		return data.downloadCached(localData);
 	}
 }
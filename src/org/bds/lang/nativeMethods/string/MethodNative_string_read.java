@@ -5,7 +5,7 @@ import org.bds.lang.Parameters;
 import org.bds.lang.type.Type;
 import org.bds.lang.type.Types;
 import org.bds.run.BdsThread;
-import org.bds.util.Gpr;
+import org.bds.util.GprFile;
 
 public class MethodNative_string_read extends MethodNativeString {
 
@@ -39,6 +39,6 @@ public class MethodNative_string_read extends MethodNativeString {
 		) return ""; // Download error
 
 		// Read local copy of the data
-		return Gpr.readFile(data.getLocalPath(), false);
+		return GprFile.readFile(data.getLocalPath(), false);
 	}
 }
@@ -9,6 +9,7 @@ import org.bds.lang.value.Value;
 import org.bds.lang.value.ValueList;
 import org.bds.run.BdsThread;
 import org.bds.util.Gpr;
+import org.bds.util.GprFile;
 
 public class MethodNative_string_readLines extends MethodNativeString {
 
@@ -48,7 +49,7 @@ public class MethodNative_string_readLines extends MethodNativeString {
 
 		// Read file and split it
 		// Note: If the file is empty, it should return a list with a single empty string (not an empty list)
-		return arrayString2valuelist(Gpr.readFile(data.getLocalPath(), false).split("\n"));
+		return arrayString2valuelist(GprFile.readFile(data.getLocalPath(), false).split("\n"));
 	}
 
 	@Override
@@ -5,7 +5,7 @@ import org.bds.lang.type.Type;
 import org.bds.lang.type.Types;
 import org.bds.run.BdsThread;
 import org.bds.task.Task;
-import org.bds.util.Gpr;
+import org.bds.task.TaskOutput;
 
 public class MethodNative_string_stderr extends MethodNativeString {
 
@@ -37,10 +37,10 @@ public class MethodNative_string_stderr extends MethodNativeString {
 
 		// Find STDERR file
 		String stderrFile = task.getStderrFile();
-		if (stderrFile == null || !Gpr.exists(stderrFile)) return "";
+		if (!TaskOutput.exists(stderrFile)) return "";
 
-		// Read STDERR file
-		String stderr = Gpr.readFile(stderrFile, false);
+		// Read STDERR file (all segments)
+		String stderr = TaskOutput.read(stderrFile);
 		return stderr == null ? "" : stderr;
 	}
 }
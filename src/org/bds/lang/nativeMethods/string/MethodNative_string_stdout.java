@@ -5,7 +5,7 @@ import org.bds.lang.type.Type;
 import org.bds.lang.type.Types;
 import org.bds.run.BdsThread;
 import org.bds.task.Task;
-import org.bds.util.Gpr;
+import org.bds.task.TaskOutput;
 
 public class MethodNative_string_stdout extends MethodNativeString {
 
@@ -37,10 +37,10 @@ public class MethodNative_string_stdout extends MethodNativeString {
 
 		// Find STDOUT file
 		String stdoutFile = task.getStdoutFile();
-		if (stdoutFile == null || !Gpr.exists(stdoutFile)) return "";
+		if (!TaskOutput.exists(stdoutFile)) return "";
 
-		// Read STDOUT file
-		String stdout = Gpr.readFile(stdoutFile, false);
+		// Read STDOUT file (all segments)
+		String stdout = TaskOutput.read(stdoutFile);
 		return stdout == null ? "" : stdout;
 	}
 }
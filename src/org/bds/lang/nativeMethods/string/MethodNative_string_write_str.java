@@ -7,7 +7,7 @@ import org.bds.lang.Parameters;
 import org.bds.lang.type.Type;
 import org.bds.lang.type.Types;
 import org.bds.run.BdsThread;
-import org.bds.util.Gpr;
+import org.bds.util.GprFile;
 
 public class MethodNative_string_write_str extends MethodNativeString {
 
@@ -47,13 +47,13 @@ public class MethodNative_string_write_str extends MethodNativeString {
 			tmp.getParent().mkdirs();
 
 			// Create local file
-			Gpr.toFile(tmp.getAbsolutePath(), str);
+			GprFile.toFile(tmp.getAbsolutePath(), str);
 
 			// Upload file
 			if (!data.upload(tmp)) return ""; // Failed upload?
 		} else {
 			// Save to local file
-			Gpr.toFile(data.getLocalPath(), str);
+			GprFile.toFile(data.getLocalPath(), str);
 		}
 
 		// OK
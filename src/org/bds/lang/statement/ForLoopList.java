@@ -6,13 +6,16 @@ import org.bds.compile.CompilerMessages;
 import org.bds.lang.BdsNode;
 import org.bds.lang.expression.Expression;
 import org.bds.lang.nativeClasses.exception.ClassDeclarationExceptionConcurrentModification;
-import org.bds.lang.nativeMethods.list.MethodNativeListHashCode;
+import org.bds.lang.nativeMethods.list.MethodNativeListModCount;
 import org.bds.lang.nativeMethods.list.MethodNativeListSize;
-import org.bds.lang.nativeMethods.map.MethodNativeMapHashCode;
+import org.bds.lang.nativeMethods.map.MethodNativeMapModCount;
 import org.bds.lang.nativeMethods.map.MethodNativeMapValues;
+import org.bds.lang.nativeMethods.set.MethodNativeSetModCount;
+import org.bds.lang.nativeMethods.set.MethodNativeSetValues;
 import org.bds.lang.type.Type;
 import org.bds.lang.type.TypeList;
 import org.bds.lang.type.TypeMap;
+import org.bds.lang.type.TypeSet;
 import org.bds.lang.value.ValueFunction;
 import org.bds.symbol.SymbolTable;
 import org.bds.util.Gpr;
@@ -81,24 +84,31 @@ public class ForLoopList extends StatementWithScope {
 		String varList = baseVarName() + "list";
 		String varCounter = baseVarName() + "count";
 		String varMaxCounter = baseVarName() + "max_count";
-		String varHashCode = baseVarName() + "hash_code";
+		String varModCount = baseVarName() + "mod_count";
 
 		// Find native methods
 		SymbolTable symtab = returnType.getSymbolTable();
-		ValueFunction methodHashCode = null;
+		ValueFunction methodModCount = null;
 		ValueFunction methodSize = null;
 		ValueFunction methodValues = null;
 
 		if (isList()) {
 			methodSize = symtab.findFunction(MethodNativeListSize.class);
-			methodHashCode = symtab.findFunction(MethodNativeListHashCode.class);
+			methodModCount = symtab.findFunction(MethodNativeListModCount.class);
 		} else if (isMap()) {
 			// We iterate on the list of map's values
 			TypeMap tmap = (TypeMap) returnType;
 			methodValues = symtab.findFunction(MethodNativeMapValues.class);
-			methodHashCode = symtab.findFunction(MethodNativeMapHashCode.class);
+			methodModCount = symtab.findFunction(MethodNativeMapModCount.class);
 			TypeList tlist = TypeList.get(tmap.getValueType());
 			methodSize = tlist.getSymbolTable().findFunction(MethodNativeListSize.class);
+		} else if (isSet()) {
+			// We iterate on the list of set's values
+			TypeSet tset = (TypeSet) returnType;
+			methodValues = symtab.findFunction(MethodNativeSetValues.class);
+			methodModCount = symtab.findFunction(MethodNativeSetModCount.class);
+			TypeList tlist = TypeList.get(tset.getElementType());
+			methodSize = tlist.getSymbolTable().findFunction(MethodNativeListSize.class);
 		} else throw new RuntimeException("Cannot iterate on type " + returnType);
 
 		//
@@ -111,26 +121,29 @@ public class ForLoopList extends StatementWithScope {
 		//   $expr = expression
 		//   $list = expression.values()
 		//   $maxCount = $list.size()
-		//   $hash_code = $expr.hash()
+		//   $mod_count = $expr.modCount()
 		//   for(int $count=0 ; $count < $maxCount ; $count++ ) {
 		//     var = list[$count]
 		//     ...
 		//     statements
 		//     ...
-		//     if( $expr.hash() != $hash_code) throw ConcurrentModification()
+		//     if( $expr.modCount() != $mod_count) throw ConcurrentModification()
 		//   }
 		//
+		// Note: Checking the modification counter is O(1), so the check
+		//       does not depend on the size of the list / map
+		//
 
 		if (isNeedsScope()) sb.append("scopepush\n");
 
 		sb.append(toAsmForInitGetList(varExpr, varList, methodValues)); // Evaluate expression and extract list to iterate
 		sb.append(toAsmForInitGetMax(varList, methodSize, varMaxCounter)); // Get max loop counter
-		sb.append(toAsmForInitGetHashCode(varExpr, methodHashCode, varHashCode)); // Get hashcode
+		sb.append(toAsmForInitGetModCount(varExpr, methodModCount, varModCount)); // Get modification counter
 		sb.append(toAsmForStart(loopInitLabel, vinit, varCounter)); // For loop start
 		sb.append(toAsmForCond(loopStartLabel, varCounter, varMaxCounter, loopEndLabel)); // For loop conditional
 		sb.append(toAsmForVarAssign(varCounter, varList, varName)); // For loop variable assignment
 		sb.append(statement.toAsm()); // Execute statements: 'statements' inside the loop
-		sb.append(toAsmForEnd(loopContinueLabel, varExpr, varHashCode, methodHashCode, varCounter, loopStartLabel)); // For loop end		// Loop end part
+		sb.append(toAsmForEnd(loopContinueLabel, varExpr, varModCount, methodModCount, varCounter, loopStartLabel)); // For loop end		// Loop end part
 
 		// Loop finished
 		sb.append(loopEndLabel + ":\n");
@@ -139,14 +152,14 @@ public class ForLoopList extends StatementWithScope {
 		return sb.toString();
 	}
 
-	protected String toAsmConcurrentModificationCheck(String varExpr, ValueFunction methodHashCode, String varHashCode) {
+	protected String toAsmConcurrentModificationCheck(String varExpr, ValueFunction methodModCount, String varModCount) {
 		String labelBase = baseLabelName();
 		String loopConcModOk = labelBase + "concurent_modification_ok";
 
 		return "load " + varExpr + "\n" //
-				+ "callnative " + methodHashCode + "\n" //
-				+ "load " + varHashCode + "\n" //
-				+ "eqi\n" // If equal, the hashcode did not change => OK
+				+ "callnative " + methodModCount + "\n" //
+				+ "load " + varModCount + "\n" //
+				+ "eqi\n" // If equal, the list / map was not modified => OK
 				+ "jmpt " + loopConcModOk + "\n" //
 				// Concurrent modification check Fail, we need to throw an exception
 				+ "new " + ClassDeclarationExceptionConcurrentModification.CLASS_NAME_EXCEPTION_CONCURRENT_MODIFICATION + "\n" // Create a new exception object
@@ -173,10 +186,10 @@ public class ForLoopList extends StatementWithScope {
 	 * For loop end:
 	 *     for( .... ; $count++) {
 	 */
-	protected String toAsmForEnd(String loopContinueLabel, String varExpr, String varHashCode, ValueFunction methodHashCode, String varCounter, String loopStartLabel) {
+	protected String toAsmForEnd(String loopContinueLabel, String varExpr, String varModCount, ValueFunction methodModCount, String varCounter, String loopStartLabel) {
 		return loopContinueLabel + ":\n" //
 				+ "node " + id + "\n" //
-				+ toAsmConcurrentModificationCheck(varExpr, methodHashCode, varHashCode) // Check concurrent modification
+				+ toAsmConcurrentModificationCheck(varExpr, methodModCount, varModCount) // Check concurrent modification
 				+ "load " + varCounter + "\n" // Loop end part: $i++
 				+ "inc\n" //
 				+ "storepop " + varCounter + "\n" //
@@ -185,13 +198,13 @@ public class ForLoopList extends StatementWithScope {
 	}
 
 	/**
-	 * For loop initialization: Get list size:
-	 *     $maxCount = $list.size()
+	 * For loop initialization: Get modification counter:
+	 *     $mod_count = $expr.modCount()
 	 */
-	protected String toAsmForInitGetHashCode(String varExpr, ValueFunction methodHashCode, String varHashCode) {
+	protected String toAsmForInitGetModCount(String varExpr, ValueFunction methodModCount, String varModCount) {
 		return "load " + varExpr + "\n" //
-				+ "callnative " + methodHashCode + "\n" //
-				+ "varpop " + varHashCode + "\n" //
+				+ "callnative " + methodModCount + "\n" //
+				+ "varpop " + varModCount + "\n" //
 		;
 	}
 
@@ -206,7 +219,7 @@ public class ForLoopList extends StatementWithScope {
 					+ "var " + varExpr + "\n" //
 					+ "varpop " + varList + "\n" //
 			;
-		} else if (isMap()) {
+		} else if (isMap() || isSet()) {
 			return expression.toAsm() //
 					+ "var " + varExpr + "\n" //
 					+ "callnative " + methodValues + "\n" //
@@ -271,15 +284,16 @@ public class ForLoopList extends StatementWithScope {
 		if (statement == null) compilerMessages.add(this, "Empty for statement", MessageType.ERROR);
 
 		if (exprType != null) {
-			if (!exprType.isList() && !exprType.isMap()) {
-				compilerMessages.add(this, "Expression should return a list or a map", MessageType.ERROR);
+			if (!exprType.isList() && !exprType.isMap() && !exprType.isSet()) {
+				compilerMessages.add(this, "Expression should return a list, a map or a set", MessageType.ERROR);
 			} else if (beginVarDecl != null) {
 				Type baseType;
 
 				if (exprType.isList()) baseType = ((TypeList) exprType).getElementType();
 				else if (exprType.isMap()) baseType = ((TypeMap) exprType).getValueType();
+				else if (exprType.isSet()) baseType = ((TypeSet) exprType).getElementType();
 				else {
-					compilerMessages.add(this, "Expression should return a list or a map", MessageType.ERROR);
+					compilerMessages.add(this, "Expression should return a list, a map or a set", MessageType.ERROR);
 					return;
 				}
 
@@ -6,7 +6,7 @@ package org.bds.lang.type;
  * @author pcingola
  */
 public enum PrimitiveType {
-	ANY, BOOL, CLASS, FUNCTION, LIST, MAP, NULL, INT, REAL, STRING, VOID;
+	ANY, BOOL, CLASS, FUNCTION, LIST, MAP, NULL, INT, REAL, SET, STRING, VOID;
 
 	/**
 	 * Get 'Type' object from this enum
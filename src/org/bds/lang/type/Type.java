@@ -176,6 +176,11 @@ public abstract class Type extends BdsNode implements Comparable<Type> {
 		return false;
 	}
 
+	@Override
+	public boolean isSet() {
+		return false;
+	}
+
 	@Override
 	public boolean isString() {
 		return false;
@@ -222,7 +227,7 @@ public abstract class Type extends BdsNode implements Comparable<Type> {
 		else if (isReal()) return "pushr 0.0\n";
 		else if (isString()) return "pushs ''\n";
 		else if (isVoid()) return "pushi 0\n"; // Void won't be used anyways (so just use an int)
-		else if (isList() || isMap()) return "new " + toString() + "\n";
+		else if (isList() || isMap() || isSet()) return "new " + toString() + "\n";
 		else if (isClass()) return "pushnull\n";
 		throw new RuntimeException("Unknown default value for type '" + this + "'");
 	}
@@ -20,6 +20,7 @@ import org.bds.lang.nativeMethods.list.MethodNativeListIsEmpty;
 import org.bds.lang.nativeMethods.list.MethodNativeListJoin;
 import org.bds.lang.nativeMethods.list.MethodNativeListJoinStr;
 import org.bds.lang.nativeMethods.list.MethodNativeListMap;
+import org.bds.lang.nativeMethods.list.MethodNativeListModCount;
 import org.bds.lang.nativeMethods.list.MethodNativeListPop;
 import org.bds.lang.nativeMethods.list.MethodNativeListPush;
 import org.bds.lang.nativeMethods.list.MethodNativeListRemove;
@@ -30,6 +31,7 @@ import org.bds.lang.nativeMethods.list.MethodNativeListRmOnExit;
 import org.bds.lang.nativeMethods.list.MethodNativeListSize;
 import org.bds.lang.nativeMethods.list.MethodNativeListSort;
 import org.bds.lang.nativeMethods.list.MethodNativeListTail;
+import org.bds.lang.nativeMethods.list.MethodNativeListToSet;
 import org.bds.lang.value.Value;
 import org.bds.lang.value.ValueList;
 
@@ -132,6 +134,7 @@ public class TypeList extends TypeComposite {
 			//			methods.add(new MethodNativeListMapToInt(this));
 			//			methods.add(new MethodNativeListMapToReal(this));
 			//			methods.add(new MethodNativeListMapToString(this));
+			methods.add(new MethodNativeListModCount(this));
 			methods.add(new MethodNativeListPop(this));
 			methods.add(new MethodNativeListPush(this));
 			methods.add(new MethodNativeListSize(this));
@@ -142,6 +145,7 @@ public class TypeList extends TypeComposite {
 			methods.add(new MethodNativeListRmOnExit(this));
 			methods.add(new MethodNativeListRm(this));
 			methods.add(new MethodNativeListTail(this));
+			methods.add(new MethodNativeListToSet(this));
 
 			// Show
 			debug("Type " + this + ", library methods added: ");
@@ -6,13 +6,19 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.bds.lang.BdsNode;
 import org.bds.lang.nativeMethods.MethodNative;
 import org.bds.lang.nativeMethods.map.MethodNativeMapClone;
+import org.bds.lang.nativeMethods.map.MethodNativeMapFirstKey;
 import org.bds.lang.nativeMethods.map.MethodNativeMapGet;
 import org.bds.lang.nativeMethods.map.MethodNativeMapHasKey;
 import org.bds.lang.nativeMethods.map.MethodNativeMapHasValue;
 import org.bds.lang.nativeMethods.map.MethodNativeMapHashCode;
+import org.bds.lang.nativeMethods.map.MethodNativeMapHeadMap;
 import org.bds.lang.nativeMethods.map.MethodNativeMapKeys;
+import org.bds.lang.nativeMethods.map.MethodNativeMapLastKey;
+import org.bds.lang.nativeMethods.map.MethodNativeMapModCount;
 import org.bds.lang.nativeMethods.map.MethodNativeMapRemove;
 import org.bds.lang.nativeMethods.map.MethodNativeMapSize;
+import org.bds.lang.nativeMethods.map.MethodNativeMapSubMap;
+import org.bds.lang.nativeMethods.map.MethodNativeMapTailMap;
 import org.bds.lang.nativeMethods.map.MethodNativeMapValues;
 import org.bds.lang.value.Value;
 import org.bds.lang.value.ValueMap;
@@ -106,13 +112,19 @@ public class TypeMap extends TypeComposite {
 		List<MethodNative> methods = super.declateNativeMethods();
 		try {
 			methods.add(new MethodNativeMapClone(this));
+			methods.add(new MethodNativeMapFirstKey(this));
 			methods.add(new MethodNativeMapGet(this));
 			methods.add(new MethodNativeMapKeys(this));
 			methods.add(new MethodNativeMapHasKey(this));
 			methods.add(new MethodNativeMapHasValue(this));
 			methods.add(new MethodNativeMapHashCode(this));
+			methods.add(new MethodNativeMapHeadMap(this));
+			methods.add(new MethodNativeMapLastKey(this));
+			methods.add(new MethodNativeMapModCount(this));
 			methods.add(new MethodNativeMapRemove(this));
 			methods.add(new MethodNativeMapSize(this));
+			methods.add(new MethodNativeMapSubMap(this));
+			methods.add(new MethodNativeMapTailMap(this));
 			methods.add(new MethodNativeMapValues(this));
 
 			// Show
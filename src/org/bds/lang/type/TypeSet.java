@@ -0,0 +1,169 @@
+package org.bds.lang.type;
+
+import java.util.List;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.bds.compile.CompilerMessage.MessageType;
+import org.bds.compile.CompilerMessages;
+import org.bds.lang.BdsNode;
+import org.bds.lang.nativeMethods.MethodNative;
+import org.bds.lang.nativeMethods.set.MethodNativeSetAdd;
+import org.bds.lang.nativeMethods.set.MethodNativeSetAddList;
+import org.bds.lang.nativeMethods.set.MethodNativeSetClone;
+import org.bds.lang.nativeMethods.set.MethodNativeSetDifference;
+import org.bds.lang.nativeMethods.set.MethodNativeSetHas;
+import org.bds.lang.nativeMethods.set.MethodNativeSetHashCode;
+import org.bds.lang.nativeMethods.set.MethodNativeSetIntersection;
+import org.bds.lang.nativeMethods.set.MethodNativeSetIsEmpty;
+import org.bds.lang.nativeMethods.set.MethodNativeSetModCount;
+import org.bds.lang.nativeMethods.set.MethodNativeSetRemove;
+import org.bds.lang.nativeMethods.set.MethodNativeSetSize;
+import org.bds.lang.nativeMethods.set.MethodNativeSetUnion;
+import org.bds.lang.nativeMethods.set.MethodNativeSetValues;
+import org.bds.lang.value.Value;
+import org.bds.lang.value.ValueSet;
+
+/**
+ * A set type, e.g. 'set<string>'
+ *
+ * @author pcingola
+ */
+public class TypeSet extends TypeComposite {
+
+	private static final long serialVersionUID = -2830613524788713047L;
+
+	public static boolean debug = false;
+
+	Type elementType; // Type of elements in the set
+
+	public static TypeSet factory(BdsNode parent, ParseTree tree) {
+		TypeSet typeSet = new TypeSet(parent, tree);
+		return get(typeSet.getElementType());
+	}
+
+	/**
+	 * Get a (cached) set type
+	 */
+	public static TypeSet get(Type elementType) {
+		// Get type from hash
+		String key = typeKey(elementType);
+		TypeSet type = (TypeSet) Types.get(key);
+
+		// No type cached? Create & add
+		if (type == null) {
+			type = new TypeSet(elementType);
+			Types.add(type);
+			type.addNativeMethods();
+		}
+
+		return type;
+	}
+
+	public static String typeKey(Type elementType) {
+		return "set<" + elementType + ">";
+	}
+
+	private TypeSet(BdsNode parent, ParseTree tree) {
+		super(parent, tree);
+		primitiveType = PrimitiveType.SET;
+	}
+
+	private TypeSet(Type elementType) {
+		super(PrimitiveType.SET);
+		this.elementType = elementType;
+	}
+
+	/**
+	 * Can this type be casted to 'type'?
+	 */
+	@Override
+	public boolean canCastTo(Type type) {
+		return equals(type) // Same type
+				|| type.isBool() // Cast to boolean, same as: "! set.isEmpty()"
+				|| type.isAny() // Cast to 'any'
+		;
+	}
+
+	@Override
+	public int compareTo(Type type) {
+		// Compare type
+		int cmp = super.compareTo(type);
+		if (cmp != 0) return cmp;
+
+		// Compare element type
+		TypeSet stype = (TypeSet) type;
+		return elementType.compareTo(stype.elementType);
+	}
+
+	/**
+	 * Declare all native methods for this class
+	 */
+	@Override
+	protected List<MethodNative> declateNativeMethods() {
+		List<MethodNative> methods = super.declateNativeMethods();
+		try {
+			methods.add(new MethodNativeSetAdd(this));
+			methods.add(new MethodNativeSetAddList(this));
+			methods.add(new MethodNativeSetClone(this));
+			methods.add(new MethodNativeSetDifference(this));
+			methods.add(new MethodNativeSetHas(this));
+			methods.add(new MethodNativeSetHashCode(this));
+			methods.add(new MethodNativeSetIntersection(this));
+			methods.add(new MethodNativeSetIsEmpty(this));
+			methods.add(new MethodNativeSetModCount(this));
+			methods.add(new MethodNativeSetRemove(this));
+			methods.add(new MethodNativeSetSize(this));
+			methods.add(new MethodNativeSetUnion(this));
+			methods.add(new MethodNativeSetValues(this));
+
+			// Show
+			debug("Type " + this + ", library methods added: ");
+		} catch (Throwable t) {
+			t.printStackTrace();
+			throw new RuntimeException("Error while adding native mehods for class '" + this + "'", t);
+		}
+		return methods;
+	}
+
+	@Override
+	public boolean equals(Type type) {
+		return type.isSet() //
+				&& elementType.equals(((TypeSet) type).getElementType()) //
+		;
+	}
+
+	public Type getElementType() {
+		return elementType;
+	}
+
+	@Override
+	public boolean isSet() {
+		return true;
+	}
+
+	@Override
+	public Value newDefaultValue() {
+		return new ValueSet(this);
+	}
+
+	@Override
+	protected void parse(ParseTree tree) {
+		// Format: 'set' '<' type '>'
+		// Note: 'set' is not a keyword (the grammar accepts any ID), so we check it here
+		primitiveType = PrimitiveType.SET;
+		String name = tree.getChild(0).getText();
+		if (!name.equals("set")) CompilerMessages.get().add(this, "Unknown type '" + name + "<" + tree.getChild(2).getText() + ">'", MessageType.ERROR);
+		elementType = (Type) factory(tree, 2);
+	}
+
+	@Override
+	public String toString() {
+		return typeKey(elementType);
+	}
+
+	@Override
+	public String toStringSerializer() {
+		return primitiveType + ":" + elementType.toStringSerializer();
+	}
+
+}
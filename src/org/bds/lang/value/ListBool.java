@@ -0,0 +1,158 @@
+package org.bds.lang.value;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Storage for 'list<bool>': A dense array of booleans
+ *
+ * @author pcingola
+ */
+public class ListBool extends ListPrimitive {
+
+	private static final long serialVersionUID = -4915026853160390711L;
+
+	transient boolean[] values;
+
+	public ListBool(int capacity) {
+		values = new boolean[capacity > 0 ? capacity : INITIAL_CAPACITY];
+	}
+
+	@Override
+	public boolean accepts(Value v) {
+		return v instanceof ValueBool;
+	}
+
+	@Override
+	public void add(int idx, Value v) {
+		add(idx, v.asBool());
+	}
+
+	public void add(int idx, boolean v) {
+		rangeCheck(idx, size + 1);
+		ensureCapacity(size + 1);
+		move(idx, idx + 1, size - idx);
+		values[idx] = v;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public boolean addAllPrimitive(List<Value> list) {
+		if (!(list instanceof ListBool)) return false;
+
+		ListBool lb = (ListBool) list;
+		int len = lb.size; // Note: 'list' could be 'this'
+		ensureCapacity(size + len);
+		System.arraycopy(lb.values, 0, values, size, len);
+		size += len;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	protected int capacity() {
+		return values.length;
+	}
+
+	@Override
+	public Value get(int idx) {
+		return new ValueBool(getBool(idx));
+	}
+
+	public boolean getBool(int idx) {
+		rangeCheck(idx, size);
+		return values[idx];
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++)
+			hash = 31 * hash + (values[i] ? 1 : 0); // Same as ValueBool.hashCode()
+		return hash;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof ValueBool)) return -1;
+		boolean v = ((ValueBool) o).asBool();
+		for (int i = 0; i < size; i++)
+			if (values[i] == v) return i;
+		return -1;
+	}
+
+	@Override
+	public String join(String sep) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			if (i > 0) sb.append(sep);
+			sb.append(values[i]);
+		}
+		return sb.toString();
+	}
+
+	@Override
+	protected void move(int srcPos, int destPos, int len) {
+		if (len > 0) System.arraycopy(values, srcPos, values, destPos, len);
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		values = new boolean[Math.max(size, INITIAL_CAPACITY)];
+		for (int i = 0; i < size; i++)
+			values[i] = in.readBoolean();
+	}
+
+	@Override
+	public Value remove(int idx) {
+		boolean v = getBool(idx);
+		move(idx + 1, idx, size - idx - 1);
+		size--;
+		modCount++;
+		return new ValueBool(v);
+	}
+
+	@Override
+	protected void resize(int capacity) {
+		values = Arrays.copyOf(values, capacity);
+	}
+
+	@Override
+	public void reverse() {
+		for (int i = 0, j = size - 1; i < j; i++, j--) {
+			boolean tmp = values[i];
+			values[i] = values[j];
+			values[j] = tmp;
+		}
+	}
+
+	@Override
+	public Value set(int idx, Value v) {
+		boolean prev = getBool(idx);
+		values[idx] = v.asBool();
+		return new ValueBool(prev);
+	}
+
+	/**
+	 * Sort: 'false' before 'true'
+	 */
+	@Override
+	public void sort() {
+		int countFalse = 0;
+		for (int i = 0; i < size; i++)
+			if (!values[i]) countFalse++;
+		Arrays.fill(values, 0, countFalse, false);
+		Arrays.fill(values, countFalse, size, true);
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		for (int i = 0; i < size; i++)
+			out.writeBoolean(values[i]);
+	}
+
+}
@@ -0,0 +1,161 @@
+package org.bds.lang.value;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Storage for 'list<int>': A dense array of longs
+ *
+ * @author pcingola
+ */
+public class ListInt extends ListPrimitive {
+
+	private static final long serialVersionUID = -2466018315187958171L;
+
+	transient long[] values;
+
+	public ListInt(int capacity) {
+		values = new long[capacity > 0 ? capacity : INITIAL_CAPACITY];
+	}
+
+	@Override
+	public boolean accepts(Value v) {
+		return v instanceof ValueInt;
+	}
+
+	@Override
+	public void add(int idx, Value v) {
+		add(idx, v.asInt());
+	}
+
+	public void add(int idx, long v) {
+		rangeCheck(idx, size + 1);
+		ensureCapacity(size + 1);
+		move(idx, idx + 1, size - idx);
+		values[idx] = v;
+		size++;
+		modCount++;
+	}
+
+	public void add(long v) {
+		add(size, v);
+	}
+
+	@Override
+	public boolean addAllPrimitive(List<Value> list) {
+		if (list instanceof ListInt) {
+			ListInt li = (ListInt) list;
+			int len = li.size; // Note: 'list' could be 'this'
+			ensureCapacity(size + len);
+			System.arraycopy(li.values, 0, values, size, len);
+			size += len;
+		} else if (list instanceof ListRangeInt) {
+			ListRangeInt range = (ListRangeInt) list;
+			ensureCapacity(size + range.size());
+			for (int i = 0; i < range.size(); i++)
+				values[size++] = range.getLong(i);
+		} else return false;
+
+		modCount++;
+		return true;
+	}
+
+	@Override
+	protected int capacity() {
+		return values.length;
+	}
+
+	@Override
+	public Value get(int idx) {
+		return new ValueInt(getLong(idx));
+	}
+
+	public long getLong(int idx) {
+		rangeCheck(idx, size);
+		return values[idx];
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++)
+			hash = 31 * hash + Long.hashCode(values[i]);
+		return hash;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof ValueInt)) return -1;
+		long v = ((ValueInt) o).asInt();
+		for (int i = 0; i < size; i++)
+			if (values[i] == v) return i;
+		return -1;
+	}
+
+	@Override
+	public String join(String sep) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			if (i > 0) sb.append(sep);
+			sb.append(values[i]);
+		}
+		return sb.toString();
+	}
+
+	@Override
+	protected void move(int srcPos, int destPos, int len) {
+		if (len > 0) System.arraycopy(values, srcPos, values, destPos, len);
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		values = new long[Math.max(size, INITIAL_CAPACITY)];
+		for (int i = 0; i < size; i++)
+			values[i] = in.readLong();
+	}
+
+	@Override
+	public Value remove(int idx) {
+		long v = getLong(idx);
+		move(idx + 1, idx, size - idx - 1);
+		size--;
+		modCount++;
+		return new ValueInt(v);
+	}
+
+	@Override
+	protected void resize(int capacity) {
+		values = Arrays.copyOf(values, capacity);
+	}
+
+	@Override
+	public void reverse() {
+		for (int i = 0, j = size - 1; i < j; i++, j--) {
+			long tmp = values[i];
+			values[i] = values[j];
+			values[j] = tmp;
+		}
+	}
+
+	@Override
+	public Value set(int idx, Value v) {
+		long prev = getLong(idx);
+		values[idx] = v.asInt();
+		return new ValueInt(prev);
+	}
+
+	@Override
+	public void sort() {
+		Arrays.sort(values, 0, size);
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		for (int i = 0; i < size; i++)
+			out.writeLong(values[i]);
+	}
+
+}
@@ -0,0 +1,93 @@
+package org.bds.lang.value;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Storage for a ValueList whose elements are primitives (int, real, bool).
+ *
+ * Elements are kept in a primitive array, 'Value' objects are only created
+ * when an element is read (i.e. at the VM boundary). Operations such as
+ * 'sort', 'indexOf' and 'join' work directly on the primitive array.
+ *
+ * @author pcingola
+ */
+public abstract class ListPrimitive extends AbstractList<Value> implements RandomAccess, Serializable {
+
+	private static final long serialVersionUID = 3365410285219081547L;
+
+	public static final int INITIAL_CAPACITY = 10;
+
+	int size;
+
+	/**
+	 * Can this value be stored (without losing information)?
+	 */
+	public abstract boolean accepts(Value v);
+
+	/**
+	 * Add all elements from 'list' (only if it has the same primitive representation)
+	 * @return true if elements were added, false if 'list' is not compatible
+	 */
+	public abstract boolean addAllPrimitive(List<Value> list);
+
+	protected abstract int capacity();
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * Make sure the array can hold at least 'minCapacity' elements
+	 */
+	protected void ensureCapacity(int minCapacity) {
+		int cap = capacity();
+		if (minCapacity > cap) resize(Math.max(minCapacity, cap + (cap >> 1) + 1));
+	}
+
+	/**
+	 * Join all elements' string representations
+	 */
+	public abstract String join(String sep);
+
+	/**
+	 * Move 'len' elements from 'srcPos' to 'destPos'
+	 */
+	protected abstract void move(int srcPos, int destPos, int len);
+
+	protected void rangeCheck(int idx, int max) {
+		if (idx < 0 || idx >= max) throw new IndexOutOfBoundsException("Index: " + idx + ", size: " + size);
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		int idx = indexOf(o);
+		if (idx < 0) return false;
+		remove(idx);
+		return true;
+	}
+
+	/**
+	 * Change array's capacity
+	 */
+	protected abstract void resize(int capacity);
+
+	/**
+	 * Reverse elements (in place)
+	 */
+	public abstract void reverse();
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Sort elements (in place)
+	 */
+	public abstract void sort();
+
+}
@@ -0,0 +1,106 @@
+package org.bds.lang.value;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Storage for a 'list<int>' created by 'range()': An arithmetic sequence
+ * that is never materialized, elements are calculated when read.
+ *
+ * It is immutable: ValueList converts it to a ListInt before any
+ * modification. This means that iterating a range in a 'for' loop
+ * does not allocate the whole list.
+ *
+ * @author pcingola
+ */
+public class ListRangeInt extends AbstractList<Value> implements RandomAccess, Serializable {
+
+	private static final long serialVersionUID = -2235800434914002643L;
+
+	int size;
+	long start;
+	long step;
+
+	/**
+	 * Range [min, max] (both inclusive), using increments of 'step'
+	 */
+	public ListRangeInt(long min, long max, long step) {
+		start = min;
+		this.step = step;
+
+		if (max < min) {
+			size = 0;
+		} else {
+			if (step <= 0) throw new RuntimeException("Range step must be positive, step: " + step);
+			// Note: Use unsigned division in case 'max - min' overflows
+			long len = Long.divideUnsigned(max - min, step) + 1;
+			if (len <= 0 || len > Integer.MAX_VALUE - 8) throw new RuntimeException("Range too large, min: " + min + ", max: " + max + ", step: " + step);
+			size = (int) len;
+		}
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	@Override
+	public Value get(int idx) {
+		return new ValueInt(getLong(idx));
+	}
+
+	public long getLong(int idx) {
+		if (idx < 0 || idx >= size) throw new IndexOutOfBoundsException("Index: " + idx + ", size: " + size);
+		return start + idx * step;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++)
+			hash = 31 * hash + Long.hashCode(start + i * step);
+		return hash;
+	}
+
+	/**
+	 * Index of a value: O(1)
+	 */
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof ValueInt)) return -1;
+		long diff = ((ValueInt) o).asInt() - start;
+		if (diff < 0 || diff % step != 0) return -1;
+		long idx = diff / step;
+		return idx < size ? (int) idx : -1;
+	}
+
+	public String join(String sep) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			if (i > 0) sb.append(sep);
+			sb.append(start + i * step);
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		return indexOf(o);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Materialize the range
+	 */
+	public ListInt toListInt() {
+		ListInt li = new ListInt(size);
+		li.addAllPrimitive(this);
+		return li;
+	}
+
+}
@@ -0,0 +1,155 @@
+package org.bds.lang.value;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Storage for 'list<real>': A dense array of doubles
+ *
+ * @author pcingola
+ */
+public class ListReal extends ListPrimitive {
+
+	private static final long serialVersionUID = 6015392884715210362L;
+
+	transient double[] values;
+
+	public ListReal(int capacity) {
+		values = new double[capacity > 0 ? capacity : INITIAL_CAPACITY];
+	}
+
+	@Override
+	public boolean accepts(Value v) {
+		return v instanceof ValueReal;
+	}
+
+	@Override
+	public void add(int idx, Value v) {
+		add(idx, v.asReal());
+	}
+
+	public void add(int idx, double v) {
+		rangeCheck(idx, size + 1);
+		ensureCapacity(size + 1);
+		move(idx, idx + 1, size - idx);
+		values[idx] = v;
+		size++;
+		modCount++;
+	}
+
+	public void add(double v) {
+		add(size, v);
+	}
+
+	@Override
+	public boolean addAllPrimitive(List<Value> list) {
+		if (!(list instanceof ListReal)) return false;
+
+		ListReal lr = (ListReal) list;
+		int len = lr.size; // Note: 'list' could be 'this'
+		ensureCapacity(size + len);
+		System.arraycopy(lr.values, 0, values, size, len);
+		size += len;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	protected int capacity() {
+		return values.length;
+	}
+
+	@Override
+	public Value get(int idx) {
+		return new ValueReal(getDouble(idx));
+	}
+
+	public double getDouble(int idx) {
+		rangeCheck(idx, size);
+		return values[idx];
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++)
+			hash = 31 * hash + Double.hashCode(values[i]);
+		return hash;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof ValueReal)) return -1;
+		double v = ((ValueReal) o).asReal();
+		for (int i = 0; i < size; i++)
+			if (values[i] == v) return i;
+		return -1;
+	}
+
+	@Override
+	public String join(String sep) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			if (i > 0) sb.append(sep);
+			sb.append(Double.toString(values[i]));
+		}
+		return sb.toString();
+	}
+
+	@Override
+	protected void move(int srcPos, int destPos, int len) {
+		if (len > 0) System.arraycopy(values, srcPos, values, destPos, len);
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		values = new double[Math.max(size, INITIAL_CAPACITY)];
+		for (int i = 0; i < size; i++)
+			values[i] = in.readDouble();
+	}
+
+	@Override
+	public Value remove(int idx) {
+		double v = getDouble(idx);
+		move(idx + 1, idx, size - idx - 1);
+		size--;
+		modCount++;
+		return new ValueReal(v);
+	}
+
+	@Override
+	protected void resize(int capacity) {
+		values = Arrays.copyOf(values, capacity);
+	}
+
+	@Override
+	public void reverse() {
+		for (int i = 0, j = size - 1; i < j; i++, j--) {
+			double tmp = values[i];
+			values[i] = values[j];
+			values[j] = tmp;
+		}
+	}
+
+	@Override
+	public Value set(int idx, Value v) {
+		double prev = getDouble(idx);
+		values[idx] = v.asReal();
+		return new ValueReal(prev);
+	}
+
+	@Override
+	public void sort() {
+		Arrays.sort(values, 0, size);
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		for (int i = 0; i < size; i++)
+			out.writeDouble(values[i]);
+	}
+
+}
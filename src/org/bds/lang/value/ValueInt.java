@@ -46,7 +46,7 @@ public class ValueInt extends ValuePrimitive {
 
 	@Override
 	public int compareTo(Value v) {
-		if (v instanceof ValueInt) return (int) (value - ((ValueInt) v).value);
+		if (v instanceof ValueInt) return Long.compare(value, ((ValueInt) v).value);
 		return super.compareTo(v);
 	}
 
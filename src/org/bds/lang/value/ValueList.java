@@ -14,11 +14,17 @@ import org.bds.lang.type.TypeList;
  *
  * Note: This is a list of 'Value', meaning that each element in the list is itself a value
  *
+ * Storage: Lists of 'int', 'real' and 'bool' are stored as primitive arrays (see
+ * ListPrimitive), lists created by 'range()' are lazy (see ListRangeInt). Any other
+ * list uses an ArrayList. If a value that cannot be stored in a primitive array is
+ * added, the list switches to an ArrayList.
+ *
  * @author pcingola
  */
 public class ValueList extends ValueComposite implements Iterable<Value> {
 
 	List<Value> list;
+	int modCount; // Modification counter, used to detect concurrent modifications when iterating (e.g. in 'for' loops). Not transient: 'for' loops save a copy in checkpoints
 
 	private static final long serialVersionUID = -9220660671873943097L;
 
@@ -28,25 +34,39 @@ public class ValueList extends ValueComposite implements Iterable<Value> {
 
 	public ValueList(Type type, int len) {
 		super(type);
-		list = len > 0 ? new ArrayList<>(len) : new ArrayList<>();
+		list = newList(len);
+	}
+
+	/**
+	 * Create a list using 'list' as storage (e.g. a range)
+	 */
+	public ValueList(Type type, List<Value> list) {
+		super(type);
+		this.list = list;
 	}
 
 	public void add(int idx, Value v) {
-		list.add(idx, v);
+		modCount++;
+		mutable(v).add(idx, v);
 	}
 
 	public boolean add(Value v) {
-		return list.add(v);
+		modCount++;
+		return mutable(v).add(v);
 	}
 
 	public void addAll(Collection<? extends Value> vcol) {
+		modCount++;
 		for (Value v : vcol)
-			list.add(v);
+			mutable(v).add(v);
 	}
 
 	public void addAll(ValueList vlist) {
+		modCount++;
+		List<Value> l = mutable(null);
+		if (l instanceof ListPrimitive && ((ListPrimitive) l).addAllPrimitive(vlist.list)) return;
 		for (Value v : vlist)
-			list.add(v);
+			mutable(v).add(v);
 	}
 
 	/**
@@ -59,6 +79,7 @@ public class ValueList extends ValueComposite implements Iterable<Value> {
 
 	@Override
 	public Value clone() {
+		if (list instanceof ListRangeInt) return new ValueList(type, list); // Ranges are immutable, no need to copy
 		ValueList vl = new ValueList(type, list.size());
 		vl.addAll(this);
 		return vl;
@@ -95,6 +116,13 @@ public class ValueList extends ValueComposite implements Iterable<Value> {
 		return getType().getElementType();
 	}
 
+	/**
+	 * Modification counter: Changes every time the list is modified
+	 */
+	public int getModCount() {
+		return modCount;
+	}
+
 	@Override
 	public TypeList getType() {
 		return (TypeList) type;
@@ -128,40 +156,84 @@ public class ValueList extends ValueComposite implements Iterable<Value> {
 		return list.iterator();
 	}
 
+	/**
+	 * Join all elements' string representations using 'sep' as separator
+	 */
+	public String join(String sep) {
+		if (list instanceof ListPrimitive) return ((ListPrimitive) list).join(sep);
+		if (list instanceof ListRangeInt) return ((ListRangeInt) list).join(sep);
+
+		StringBuilder sb = new StringBuilder();
+		int i = 0;
+		for (Value v : list) {
+			if (i++ > 0) sb.append(sep);
+			sb.append(v.asString());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Get storage that can be modified and can hold value 'v' (null: any value already in the list)
+	 */
+	List<Value> mutable(Value v) {
+		if (list instanceof ListRangeInt) list = ((ListRangeInt) list).toListInt();
+		if (v != null && list instanceof ListPrimitive && !((ListPrimitive) list).accepts(v)) list = new ArrayList<>(list);
+		return list;
+	}
+
+	/**
+	 * Create list storage (depends on the element type)
+	 */
+	List<Value> newList(int len) {
+		Type elemType = (type instanceof TypeList ? ((TypeList) type).getElementType() : null);
+		if (elemType != null) {
+			if (elemType.isInt()) return new ListInt(len);
+			if (elemType.isReal()) return new ListReal(len);
+			if (elemType.isBool()) return new ListBool(len);
+		}
+		return len > 0 ? new ArrayList<>(len) : new ArrayList<>();
+	}
+
 	/**
 	 * Remove element number 'idx' from the list
 	 */
 	public Value remove(int idx) {
-		return list.remove(idx);
+		modCount++;
+		return mutable(null).remove(idx);
 	}
 
 	public boolean remove(Value v) {
-		return list.remove(v);
+		modCount++;
+		return mutable(null).remove(v);
 	}
 
 	public void reverse() {
-		Collections.reverse(list);
+		modCount++;
+		List<Value> l = mutable(null);
+		if (l instanceof ListPrimitive) ((ListPrimitive) l).reverse();
+		else Collections.reverse(l);
 	}
 
 	public void setValue(long idx, Value value) {
-		ArrayList<Value> list = (ArrayList<Value>) this.list;
-
-		int iidx = (int) idx;
 		if (idx < 0) throw new RuntimeException("Cannot set list element indexed with negative index value: " + idx);
+		modCount++;
+		List<Value> list = mutable(value);
 
 		// Make sure the array is big enough to hold the data
+		int iidx = (int) idx;
 		if (iidx >= list.size()) {
-			list.ensureCapacity(iidx + 1);
+			if (list instanceof ArrayList) ((ArrayList<Value>) list).ensureCapacity(iidx + 1);
 			Type elemType = ((TypeList) type).getElementType();
 			while (list.size() <= iidx)
 				list.add(elemType.newDefaultValue());
 		}
 
-		list.set((int) idx, value);
+		list.set(iidx, value);
 	}
 
 	@Override
 	public void setValue(Value value) {
+		modCount++;
 		list = ((ValueList) value).list;
 	}
 
@@ -170,7 +242,10 @@ public class ValueList extends ValueComposite implements Iterable<Value> {
 	}
 
 	public void sort() {
-		Collections.sort(list);
+		modCount++;
+		List<Value> l = mutable(null);
+		if (l instanceof ListPrimitive) ((ListPrimitive) l).sort();
+		else Collections.sort(l);
 	}
 
 	@Override
@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.bds.lang.type.Type;
 
@@ -15,6 +16,10 @@ import org.bds.lang.type.Type;
  *
  * Note: It is a map of 'value'
  *
+ * Note: Maps are hash based. A range query (e.g. 'subMap') switches the map
+ *       to sorted storage (a TreeMap), after that, keys are kept sorted so
+ *       range queries are O(log(n)) and iteration follows key order.
+ *
  * @author pcingola
  */
 public class ValueMap extends ValueComposite {
@@ -22,6 +27,7 @@ public class ValueMap extends ValueComposite {
 	private static final long serialVersionUID = -4576221958237314363L;
 
 	Map<Value, Value> map;
+	int modCount; // Modification counter, used to detect concurrent modifications when iterating (e.g. in 'for' loops). Not transient: 'for' loops save a copy in checkpoints
 
 	public ValueMap(Type type) {
 		super(type);
@@ -33,6 +39,11 @@ public class ValueMap extends ValueComposite {
 		map = new HashMap<>(size);
 	}
 
+	ValueMap(Type type, Map<Value, Value> map) {
+		super(type);
+		this.map = map;
+	}
+
 	/**
 	 * Convert to 'bool': !isEmpty()
 	 */
@@ -43,6 +54,7 @@ public class ValueMap extends ValueComposite {
 
 	@Override
 	public ValueMap clone() {
+		if (isSorted()) return new ValueMap(type, new TreeMap<>(map));
 		ValueMap vm = new ValueMap(type, map.size());
 		vm.map.putAll(map);
 		return vm;
@@ -52,6 +64,21 @@ public class ValueMap extends ValueComposite {
 		return map.containsValue(val);
 	}
 
+	/**
+	 * First (lowest) key
+	 */
+	public Value firstKey() {
+		if (isEmpty()) throw new RuntimeException("Invoking 'firstKey' on an empty map.");
+		return sorted().firstKey();
+	}
+
+	/**
+	 * Modification counter: Changes every time the map is modified
+	 */
+	public int getModCount() {
+		return modCount;
+	}
+
 	/**
 	 * Get element 'key' (which is a 'Value' object)
 	 */
@@ -68,18 +95,38 @@ public class ValueMap extends ValueComposite {
 		return map.containsKey(key);
 	}
 
+	/**
+	 * A new (sorted) map having all entries whose keys are less than 'toKey'
+	 */
+	public ValueMap headMap(Value toKey) {
+		return new ValueMap(type, new TreeMap<>(sorted().headMap(toKey)));
+	}
+
 	public boolean isEmpty() {
 		return map.isEmpty();
 	}
 
+	public boolean isSorted() {
+		return map instanceof TreeMap;
+	}
+
 	public Set<Value> keySet() {
 		return map.keySet();
 	}
 
+	/**
+	 * Last (highest) key
+	 */
+	public Value lastKey() {
+		if (isEmpty()) throw new RuntimeException("Invoking 'lastKey' on an empty map.");
+		return sorted().lastKey();
+	}
+
 	/**
 	 * Put (set) entry 'key'
 	 */
 	public void put(Value key, Value val) {
+		modCount++;
 		map.put(key, val);
 	}
 
@@ -87,11 +134,13 @@ public class ValueMap extends ValueComposite {
 	 * Get element 'key' (which is a 'Value' object)
 	 */
 	public boolean remove(Value key) {
+		modCount++;
 		return map.remove(key) != null;
 	}
 
 	@Override
 	public void setValue(Value vmap) {
+		modCount++;
 		map = ((ValueMap) vmap).map;
 	}
 
@@ -99,6 +148,29 @@ public class ValueMap extends ValueComposite {
 		return map.size();
 	}
 
+	/**
+	 * Switch to sorted storage (if not already sorted)
+	 */
+	TreeMap<Value, Value> sorted() {
+		if (!isSorted()) map = new TreeMap<>(map);
+		return (TreeMap<Value, Value>) map;
+	}
+
+	/**
+	 * A new (sorted) map having all entries whose keys are in [fromKey, toKey)
+	 */
+	public ValueMap subMap(Value fromKey, Value toKey) {
+		if (fromKey.compareTo(toKey) > 0) return new ValueMap(type, new TreeMap<>());
+		return new ValueMap(type, new TreeMap<>(sorted().subMap(fromKey, toKey)));
+	}
+
+	/**
+	 * A new (sorted) map having all entries whose keys are greater than or equal to 'fromKey'
+	 */
+	public ValueMap tailMap(Value fromKey) {
+		return new ValueMap(type, new TreeMap<>(sorted().tailMap(fromKey)));
+	}
+
 	@Override
 	protected void toString(StringBuilder sb) {
 		if (isEmpty()) {
@@ -108,7 +180,7 @@ public class ValueMap extends ValueComposite {
 
 		List<Value> keys = new ArrayList<>();
 		keys.addAll(map.keySet());
-		Collections.sort(keys);
+		if (!isSorted()) Collections.sort(keys);
 		int i = 0;
 		sb.append("{");
 		for (Value key : keys) {
@@ -0,0 +1,167 @@
+package org.bds.lang.value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bds.lang.type.Type;
+
+/**
+ * Define a value of type set
+ *
+ * Note: It is a hash set of 'value', iteration
+ *       follows insertion order
+ *
+ * @author pcingola
+ */
+public class ValueSet extends ValueComposite implements Iterable<Value> {
+
+	private static final long serialVersionUID = 2958512035174394735L;
+
+	Set<Value> set;
+	int modCount; // Modification counter, used to detect concurrent modifications when iterating (e.g. in 'for' loops). Not transient: 'for' loops save a copy in checkpoints
+
+	public ValueSet(Type type) {
+		super(type);
+		set = new LinkedHashSet<>();
+	}
+
+	public ValueSet(Type type, int size) {
+		super(type);
+		set = new LinkedHashSet<>(Math.max(16, (int) (size / 0.75f) + 1));
+	}
+
+	/**
+	 * Add an element, return true if it was not in the set
+	 */
+	public boolean add(Value v) {
+		modCount++;
+		return set.add(v);
+	}
+
+	public void addAll(Iterable<Value> values) {
+		modCount++;
+		for (Value v : values)
+			set.add(v);
+	}
+
+	/**
+	 * Convert to 'bool': !isEmpty()
+	 */
+	@Override
+	public boolean asBool() {
+		return !isEmpty();
+	}
+
+	@Override
+	public ValueSet clone() {
+		ValueSet vs = new ValueSet(type, set.size());
+		vs.set.addAll(set);
+		return vs;
+	}
+
+	public boolean contains(Value v) {
+		return set.contains(v);
+	}
+
+	/**
+	 * A new set having elements in this set that are not in 'vs'
+	 */
+	public ValueSet difference(ValueSet vs) {
+		ValueSet diff = new ValueSet(type, size());
+		for (Value v : set)
+			if (!vs.set.contains(v)) diff.set.add(v);
+		return diff;
+	}
+
+	/**
+	 * Modification counter: Changes every time the set is modified
+	 */
+	public int getModCount() {
+		return modCount;
+	}
+
+	@Override
+	public int hashCode() {
+		return set.hashCode();
+	}
+
+	/**
+	 * A new set having elements in both sets
+	 * Note: We iterate on the smallest set
+	 */
+	public ValueSet intersection(ValueSet vs) {
+		ValueSet small = size() <= vs.size() ? this : vs;
+		ValueSet large = small == this ? vs : this;
+		ValueSet inter = new ValueSet(type, small.size());
+		for (Value v : small.set)
+			if (large.set.contains(v)) inter.set.add(v);
+		return inter;
+	}
+
+	public boolean isEmpty() {
+		return set.isEmpty();
+	}
+
+	@Override
+	public Iterator<Value> iterator() {
+		return set.iterator();
+	}
+
+	/**
+	 * Remove an element, return true if it was in the set
+	 */
+	public boolean remove(Value v) {
+		modCount++;
+		return set.remove(v);
+	}
+
+	@Override
+	public void setValue(Value vset) {
+		modCount++;
+		set = ((ValueSet) vset).set;
+	}
+
+	public int size() {
+		return set.size();
+	}
+
+	@Override
+	protected void toString(StringBuilder sb) {
+		if (isEmpty()) {
+			sb.append("{}");
+			return;
+		}
+
+		// Show sorted values, so that equal sets have the same string
+		List<Value> values = new ArrayList<>(set);
+		Collections.sort(values);
+		int i = 0;
+		sb.append('{');
+		for (Value v : values) {
+			if (i > 0) sb.append(", ");
+			if (sb.length() < MAX_TO_STRING_LEN) {
+				v.toString(sb);
+			} else {
+				sb.append("...}");
+				return;
+			}
+			i++;
+		}
+		sb.append('}');
+	}
+
+	/**
+	 * A new set having elements in either set
+	 */
+	public ValueSet union(ValueSet vs) {
+		ValueSet union = new ValueSet(type, size() + vs.size());
+		union.set.addAll(set);
+		union.set.addAll(vs.set);
+		return union;
+	}
+
+}
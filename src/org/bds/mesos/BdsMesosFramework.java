@@ -134,6 +134,13 @@ public class BdsMesosFramework extends Thread {
 		return schedulerDriver != null;
 	}
 
+	/**
+	 * Launch pending tasks on held offers
+	 */
+	public void launch() {
+		if (scheduler != null) scheduler.launch();
+	}
+
 	/**
 	 * Kill framework driver
 	 */
@@ -142,9 +149,11 @@ public class BdsMesosFramework extends Thread {
 	}
 
 	/**
-	 * Kill framework driver
+	 * Kill a task
 	 */
 	public void kill(Task task) {
+		if (scheduler != null) scheduler.remove(task); // Not launched yet?
+
 		if (schedulerDriver != null) {
 			String taskId = taskIdMesos(task);
 			schedulerDriver.killTask(TaskID.newBuilder().setValue(taskId).build());
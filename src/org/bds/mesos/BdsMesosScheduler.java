@@ -19,10 +19,8 @@ package org.bds.mesos;
  */
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,10 +41,10 @@ import org.apache.mesos.Scheduler;
 import org.apache.mesos.SchedulerDriver;
 import org.bds.cluster.ComputerSystem;
 import org.bds.cluster.host.Host;
-import org.bds.cluster.host.HostInifinte;
 import org.bds.cluster.host.HostResources;
 import org.bds.executioner.Executioner;
 import org.bds.executioner.ExecutionerMesos;
+import org.bds.mesos.OfferMatcher.Match;
 import org.bds.task.Task;
 import org.bds.task.TaskState;
 import org.bds.util.Gpr;
@@ -62,24 +60,26 @@ public class BdsMesosScheduler implements Scheduler {
 
 	static final long MB = 1024 * 1024;
 	static final long GB = 1024 * MB;
-	public static final String OFFER_CPUS = "cpus";
-	public static final String OFFER_MEM = "mem";
+	public static final long DEFAULT_TASK_MEM_MB = 64; // Memory requested for tasks that do not specify it
+	public static final String OFFER_CPUS = OfferMatcher.OFFER_CPUS;
+	public static final String OFFER_MEM = OfferMatcher.OFFER_MEM;
 
 	private final ExecutorInfo executor;
 	protected boolean verbose = false;
 	protected ComputerSystem cluster;
+	protected SchedulerDriver driver;
 	protected HashMap<String, Task> taskById;
 	protected ExecutionerMesos executionerMesos;
+	protected OfferMatcher offerMatcher;
 	protected Map<String, Set<Offer>> offersByHost;
 	protected Map<String, Offer> offersById;
-	protected Set<Task> taskToLaunch;
 
 	public BdsMesosScheduler(ExecutionerMesos executionerMesos, ExecutorInfo executor) {
 		this.executionerMesos = executionerMesos;
 		this.executor = executor;
 		cluster = executionerMesos.getSystem();
 		taskById = new HashMap<>();
-		taskToLaunch = new HashSet<>();
+		offerMatcher = new OfferMatcher(executionerMesos.getOfferHoldTime());
 		offersByHost = new HashMap<>();
 		offersById = new HashMap<>();
 	}
@@ -115,32 +115,14 @@ public class BdsMesosScheduler implements Scheduler {
 
 		// Update offer by Id
 		offersById.put(offerId, offer);
+		offerMatcher.add(offer, System.currentTimeMillis());
 	}
 
 	/**
 	 * Add a task to be launched
 	 */
 	public synchronized void add(Task task) {
-		taskToLaunch.add(task);
-	}
-
-	/**
-	 * Decline all pending offers
-	 */
-	void declineAllOffers(SchedulerDriver driver) {
-		if (offersById.isEmpty()) return;
-		if (verbose) Gpr.debug("No tasks to run: Declining all remaining offers");
-
-		// Create a new collection to avoid 'concurrent modification'
-		List<Offer> offers = new LinkedList<>();
-		offers.addAll(offersById.values());
-
-		// Decline all
-		for (Offer offer : offers) {
-			if (verbose) Gpr.debug("Declining offer: " + offer.getId());
-			driver.declineOffer(offer.getId());
-		}
-
+		offerMatcher.add(task, System.currentTimeMillis());
 	}
 
 	/**
@@ -186,55 +168,77 @@ public class BdsMesosScheduler implements Scheduler {
 		);
 	}
 
-	protected boolean matchTask(Task task, Collection<OfferID> offerIds, Collection<TaskInfo> taskInfos) {
-		for (Host host : cluster) {
-			if (host instanceof HostInifinte) {
-				// This represents the head node (skip)
-			} else if (matchTask(task, host, offerIds, taskInfos)) {
-				// Can this task be run on this host?
-				return true;
-			}
-		}
+	public OfferMatcher getOfferMatcher() {
+		return offerMatcher;
+	}
 
-		return false;
+	/**
+	 * Launch pending tasks on held offers (if it's time to do so)
+	 * and decline offers that have been held for too long
+	 */
+	public void launch() {
+		SchedulerDriver driver;
+		synchronized (this) {
+			driver = this.driver;
+		}
+		if (driver != null) launch(driver, System.currentTimeMillis());
 	}
 
 	/**
-	 * Match a task to the offer/s
+	 * Launch pending tasks on held offers (if it's time to do so)
+	 * and decline offers that have been held for too long
+	 *
+	 * Note: Tasks and offers are matched while holding this object's lock, but
+	 *       the executioner is notified (and tasks are launched) after releasing
+	 *       it. Otherwise we could deadlock with the executioner, which calls
+	 *       'remove(task)' while holding its own lock (e.g. when killing tasks)
 	 */
-	protected synchronized boolean matchTask(Task task, Host host, Collection<OfferID> offerIds, Collection<TaskInfo> taskInfos) {
-		// Not enough resources in this host?
-		if (!host.hasResourcesAvailable(task.getResources())) return false;
+	public void launch(SchedulerDriver driver, long now) {
+		List<Match> matches;
+		List<List<TaskInfo>> taskInfosByMatch = new ArrayList<>();
+		List<OfferID> expired;
+
+		synchronized (this) {
+			// Match tasks to offers: All tasks matched to a slave are launched at once
+			matches = offerMatcher.match(now);
+			for (Match match : matches) {
+				Offer offer = match.getOffers().get(0);
+				Host host = cluster.getHost(offer.getHostname());
+				List<TaskInfo> taskInfos = new ArrayList<>();
+				for (Task task : match.getTasks()) {
+					taskInfos.add(taskInfo(offer, task));
+					if (host != null) host.add(task); // Account used resources
+				}
+				taskInfosByMatch.add(taskInfos);
 
-		if (verbose) Gpr.debug("Matching task: " + task.getId() + "\t resources: " + task.getResources() + "\thost:" + host.getHostName() + ", resources: " + host.getResourcesAvaialble());
+				// Offers have been used (unused resources return to Mesos' master)
+				for (OfferID offerId : match.getOfferIds())
+					remove(offerId.getValue());
+			}
 
-		// OK, we should be able to run 'task' in hostName
-		String hostName = host.toString();
-		Set<Offer> offers = offersByHost.get(hostName);
-		if (offers == null) {
-			Gpr.debug("Offer accounting problem in host '" + hostName + "': This should ever happen!");
-			cluster.remove(host); // Remove any resources since we don't really seem to have any
-			return false;
+			// Offers held for too long
+			expired = offerMatcher.expired(now);
+			for (OfferID offerId : expired)
+				remove(offerId.getValue());
 		}
 
-		// Select offers and add taskInfo
-		HostResources tr = new HostResources(task.getResources());
-		for (Offer offer : offers) {
-			// Consume resources until offers fulfill task requirements
-			HostResources or = parseOffer(offer);
-			tr.consume(or);
-
-			// Add offer and taskInfo to collections
-			offerIds.add(offer.getId());
-			TaskInfo taskInfo = taskInfo(offer, task);
-			taskInfos.add(taskInfo);
+		// Launch tasks
+		for (int i = 0; i < matches.size(); i++) {
+			Match match = matches.get(i);
+			for (Task task : match.getTasks())
+				executionerMesos.taskStarted(task); // Jump to 'started' state
 
-			// Are all resources needed for this task satisfied?
-			if (tr.isConsumed()) return true;
+			List<OfferID> offerIds = match.getOfferIds();
+			List<TaskInfo> taskInfos = taskInfosByMatch.get(i);
+			if (verbose) Gpr.debug("Launching tasks: offers: " + offerIds.size() + "\ttasks: " + taskInfos.size() + "\thost: " + match.getOffers().get(0).getHostname());
+			driver.launchTasks(offerIds, taskInfos);
 		}
 
-		Gpr.debug("Resource accounting problem in host '" + hostName + "': This should ever happen!");
-		return false;
+		// Decline offers held for too long
+		for (OfferID offerId : expired) {
+			if (verbose) Gpr.debug("Declining offer: " + offerId.getValue());
+			driver.declineOffer(offerId);
+		}
 	}
 
 	/**
@@ -255,26 +259,7 @@ public class BdsMesosScheduler implements Scheduler {
 	 * Convert offer to hostResources
 	 */
 	HostResources parseOffer(Offer offer) {
-		HostResources hr = new HostResources();
-
-		hr.setMem(0);
-		hr.setCpus(0);
-
-		for (Resource r : offer.getResourcesList()) {
-			String resourceName = r.getName();
-			int value = (int) r.getScalar().getValue();
-
-			switch (resourceName) {
-			case OFFER_MEM:
-				hr.setMem(MB * value);
-				break;
-			case OFFER_CPUS:
-				hr.setCpus(value);
-				break;
-			}
-		}
-
-		return hr;
+		return OfferMatcher.resources(offer);
 	}
 
 	/**
@@ -289,10 +274,11 @@ public class BdsMesosScheduler implements Scheduler {
 	}
 
 	/**
-	 * Add resource offered
+	 * Remove resource offered
 	 */
 	public synchronized void remove(String offerId) {
 		// Update offer by Id
+		offerMatcher.remove(offerId);
 		Offer offer = offersById.remove(offerId);
 
 		// Offer not found? Nothing to remove
@@ -325,6 +311,13 @@ public class BdsMesosScheduler implements Scheduler {
 		}
 	}
 
+	/**
+	 * Remove a task that has not been launched yet
+	 */
+	public synchronized void remove(Task task) {
+		offerMatcher.remove(task);
+	}
+
 	/**
 	 * Invoked when the scheduler re-registers with a newly elected Mesos master.
 	 * This is only called when the scheduler has previously been registered.
@@ -355,79 +348,14 @@ public class BdsMesosScheduler implements Scheduler {
 	public void resourceOffers(SchedulerDriver driver, List<Offer> offers) {
 		if (verbose) Gpr.debug("Scheduler: Resource Offers");
 
-		//---
-		// Process offers
-		//---
-		// No tasks to run? Decline all offers
-		if (taskToLaunch.isEmpty()) {
-			for (Offer offer : offers) {
-				if (verbose) Gpr.debug("Declining offer: " + offer.getId());
-				driver.declineOffer(offer.getId());
-			}
-
-			// Also decline all remaining offers
-			declineAllOffers(driver);
-			return;
-		}
-
-		// Add offers
-		for (Offer offer : offers)
-			add(offer);
-
-		//---
-		// Match offers (and resources) to tasks
-		//---
-		Set<Task> assignedTasks = new HashSet<>();
-		Collection<TaskInfo> taskInfos = new HashSet<>();
-		Collection<OfferID> offerIds = new HashSet<>();
-		Set<OfferID> offerIdsUsed = new HashSet<>();
-
-		for (Host host : cluster) {
-			if (host instanceof HostInifinte) {
-				// Skip master node
-			} else {
-				// Try to match as many tasks as possible in this host
-				for (Task task : taskToLaunch) {
-					if (verbose) Gpr.debug("Trying to launch task " + task.getId());
-					if (matchTask(task, host, offerIds, taskInfos)) {
-						host.add(task); // Account used resources
-						assignedTasks.add(task); // Task was assigned
-						executionerMesos.taskStarted(task); // Jump to 'started' state
-
-						// No more resources? => No point on trying to match more tasks
-						if (!host.getResourcesAvaialble().isValid()) {
-							if (verbose) Gpr.debug("Host '" + host.getHostName() + "' has no more resources available");
-							break;
-						}
-					}
-				}
-
-				// Any task to launch?
-				if (!assignedTasks.isEmpty()) {
-					// Do we need to check driver status?
-					if (verbose) Gpr.debug("Launching tasks: offer: " + offerIds.size() + "\ttasks:" + taskInfos.size());
-					driver.launchTasks(offerIds, taskInfos);
-
-					// Remove assigned tasks
-					taskToLaunch.removeAll(assignedTasks);
-					offerIdsUsed.addAll(offerIds);
-
-					// Initialize for next round
-					taskInfos = new ArrayList<>();
-					offerIds = new ArrayList<>();
-					assignedTasks = new HashSet<>();
-				}
-			}
-		}
-
-		// Remove used offers
-		if (!offerIdsUsed.isEmpty()) {
-			for (OfferID offerId : offerIdsUsed)
-				remove(offerId.getValue());
+		// Add offers, they are held until there are tasks to launch (or they expire)
+		synchronized (this) {
+			this.driver = driver;
+			for (Offer offer : offers)
+				add(offer);
 		}
 
-		// No more task to launch? => decline all remaining offers
-		if (taskToLaunch.isEmpty()) declineAllOffers(driver);
+		launch(driver, System.currentTimeMillis());
 	}
 
 	/**
@@ -499,7 +427,7 @@ public class BdsMesosScheduler implements Scheduler {
 		int numCpus = task.getResources().getCpus() > 0 ? task.getResources().getCpus() : 1;
 		Resource cpus = Resource.newBuilder().setName(OFFER_CPUS).setType(Value.Type.SCALAR).setScalar(Value.Scalar.newBuilder().setValue(numCpus)).build(); // Number of CPUS
 
-		long memSize = (task.getResources().getMem() / MB) > 0 ? (task.getResources().getMem() / MB) : 64;
+		long memSize = (task.getResources().getMem() / MB) > 0 ? (task.getResources().getMem() / MB) : DEFAULT_TASK_MEM_MB;
 		Resource mem = Resource.newBuilder().setName(OFFER_MEM).setType(Value.Type.SCALAR).setScalar(Value.Scalar.newBuilder().setValue(memSize)).build(); // Memory in MB
 
 		// Executor
@@ -0,0 +1,262 @@
+package org.bds.mesos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.mesos.Protos.Offer;
+import org.apache.mesos.Protos.OfferID;
+import org.apache.mesos.Protos.Resource;
+import org.bds.BdsLog;
+import org.bds.cluster.host.HostResources;
+import org.bds.cluster.host.Resources;
+import org.bds.task.Task;
+
+/**
+ * Match pending tasks to Mesos resource offers.
+ *
+ * Offers and tasks are matched in batches, instead of one offer / task
+ * at a time:
+ *
+ * 	- Offers from the same slave are merged into a single 'bin', tasks are
+ * 	  packed into bins using 'best fit decreasing' (larger tasks first,
+ * 	  each task goes to the bin having the least resources left after
+ * 	  adding it). This way a large offer is not consumed by the first
+ * 	  small task, and many tasks can be launched on the same offer/s.
+ *
+ * 	- Offers are held for up to 'holdTime' milliseconds, so that tasks
+ * 	  arriving shortly after the offer can be packed together (Mesos
+ * 	  returns the unused part of an offer to the master once the offer
+ * 	  is used). Tasks are matched once the oldest pending task or the
+ * 	  oldest offer have been waiting for 'holdTime'. Offers that are
+ * 	  still unused after 'holdTime' are declined.
+ *
+ * Note: Time is always a parameter, so matching is deterministic
+ *       (e.g. for test cases)
+ *
+ * @author pcingola
+ */
+public class OfferMatcher implements BdsLog {
+
+	/**
+	 * Tasks to launch on a slave, using one or more offers from that slave
+	 */
+	public static class Match {
+		List<Offer> offers = new ArrayList<>();
+		List<Task> tasks = new ArrayList<>();
+
+		public List<OfferID> getOfferIds() {
+			List<OfferID> ids = new ArrayList<>();
+			for (Offer offer : offers)
+				ids.add(offer.getId());
+			return ids;
+		}
+
+		public List<Offer> getOffers() {
+			return offers;
+		}
+
+		public List<Task> getTasks() {
+			return tasks;
+		}
+
+		@Override
+		public String toString() {
+			return "slave: " + offers.get(0).getSlaveId().getValue() + ", offers: " + offers.size() + ", tasks: " + tasks.size();
+		}
+	}
+
+	public static final long DEFAULT_HOLD_TIME = 1000;
+	public static final long MB = 1024 * 1024;
+	public static final String OFFER_CPUS = "cpus";
+	public static final String OFFER_MEM = "mem";
+
+	long holdTime; // Time to hold offers and tasks before matching (milliseconds)
+	Map<String, Long> offerTimeById; // Time when each offer was received
+	Map<String, Offer> offersById; // Offers held (insertion order)
+	Map<Task, Long> tasks; // Pending tasks and the time they were added (insertion order)
+
+	/**
+	 * Convert offer to resources
+	 */
+	public static HostResources resources(Offer offer) {
+		HostResources hr = new HostResources();
+		hr.setMem(0);
+		hr.setCpus(0);
+
+		for (Resource r : offer.getResourcesList()) {
+			String resourceName = r.getName();
+			long value = (long) r.getScalar().getValue();
+
+			switch (resourceName) {
+			case OFFER_MEM:
+				hr.setMem(MB * value);
+				break;
+			case OFFER_CPUS:
+				hr.setCpus((int) value);
+				break;
+			}
+		}
+
+		return hr;
+	}
+
+	public OfferMatcher(long holdTime) {
+		this.holdTime = holdTime;
+		offersById = new LinkedHashMap<>();
+		offerTimeById = new LinkedHashMap<>();
+		tasks = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Add an offer
+	 */
+	public synchronized void add(Offer offer, long now) {
+		String id = offer.getId().getValue();
+		offersById.put(id, offer);
+		offerTimeById.put(id, now);
+	}
+
+	/**
+	 * Add a task to be launched
+	 */
+	public synchronized void add(Task task, long now) {
+		if (!tasks.containsKey(task)) tasks.put(task, now);
+	}
+
+	/**
+	 * Remove offers that have been held for 'holdTime' and are still unused
+	 * @return Offers to decline
+	 */
+	public synchronized List<OfferID> expired(long now) {
+		List<OfferID> expired = new ArrayList<>();
+		for (String id : new ArrayList<>(offersById.keySet())) {
+			if (now - offerTimeById.get(id) >= holdTime) {
+				expired.add(offersById.get(id).getId());
+				remove(id);
+			}
+		}
+		return expired;
+	}
+
+	public synchronized int getOffersSize() {
+		return offersById.size();
+	}
+
+	public synchronized int getTasksSize() {
+		return tasks.size();
+	}
+
+	/**
+	 * Should we match now or wait for more offers / tasks?
+	 */
+	boolean isMatchTime(long now) {
+		if (tasks.isEmpty() || offersById.isEmpty()) return false;
+
+		for (long t : tasks.values())
+			if (now - t >= holdTime) return true;
+
+		for (long t : offerTimeById.values())
+			if (now - t >= holdTime) return true;
+
+		return false;
+	}
+
+	/**
+	 * Match pending tasks to offers (best fit decreasing).
+	 * Matched tasks and the offers used are removed.
+	 *
+	 * @return Tasks to launch, grouped by slave (empty if it's not time to match yet)
+	 */
+	public synchronized List<Match> match(long now) {
+		List<Match> matches = new ArrayList<>();
+		if (!isMatchTime(now)) return matches;
+
+		// Merge offers from the same slave
+		Map<String, Match> matchBySlave = new LinkedHashMap<>();
+		Map<String, Resources> availBySlave = new LinkedHashMap<>();
+		for (Offer offer : offersById.values()) {
+			String slaveId = offer.getSlaveId().getValue();
+			Match match = matchBySlave.get(slaveId);
+			if (match == null) {
+				match = new Match();
+				matchBySlave.put(slaveId, match);
+				availBySlave.put(slaveId, new Resources(resources(offer)));
+			} else {
+				availBySlave.get(slaveId).add(resources(offer));
+			}
+			match.offers.add(offer);
+		}
+
+		// Larger tasks first (stable sort: same size tasks in arrival order)
+		List<Task> sorted = new ArrayList<>(tasks.keySet());
+		sorted.sort(Comparator.comparing((Task t) -> taskResources(t).getCpus()).thenComparing(t -> taskResources(t).getMem()).reversed());
+
+		// Assign each task to the slave having the least resources left after adding it
+		for (Task task : sorted) {
+			Resources tr = taskResources(task);
+			String best = null;
+			Resources bestLeft = null;
+
+			for (Map.Entry<String, Resources> e : availBySlave.entrySet()) {
+				Resources avail = e.getValue();
+				if (avail.getCpus() < tr.getCpus() || avail.getMem() < tr.getMem()) continue;
+
+				Resources left = new Resources(avail);
+				left.consume(tr);
+				if (bestLeft == null //
+						|| left.getCpus() < bestLeft.getCpus() //
+						|| (left.getCpus() == bestLeft.getCpus() && left.getMem() < bestLeft.getMem()) //
+				) {
+					best = e.getKey();
+					bestLeft = left;
+				}
+			}
+
+			if (best == null) continue; // Task does not fit, wait for more offers
+			availBySlave.get(best).consume(tr);
+			matchBySlave.get(best).tasks.add(task);
+			tasks.remove(task);
+		}
+
+		// Remove used offers
+		for (Match match : matchBySlave.values()) {
+			if (match.tasks.isEmpty()) continue;
+			for (Offer offer : match.offers)
+				remove(offer.getId().getValue());
+			matches.add(match);
+			debug("Match: " + match);
+		}
+
+		return matches;
+	}
+
+	/**
+	 * Remove an offer (e.g. rescinded)
+	 */
+	public synchronized Offer remove(String offerId) {
+		offerTimeById.remove(offerId);
+		return offersById.remove(offerId);
+	}
+
+	/**
+	 * Remove a pending task (e.g. killed before being launched)
+	 */
+	public synchronized boolean remove(Task task) {
+		return tasks.remove(task) != null;
+	}
+
+	/**
+	 * Task's resources, using Mesos' minimums (see BdsMesosScheduler.taskInfo)
+	 */
+	Resources taskResources(Task task) {
+		Resources tr = new Resources();
+		Resources res = task.getResources();
+		tr.setCpus(res != null && res.getCpus() > 0 ? res.getCpus() : 1);
+		tr.setMem(res != null && (res.getMem() / MB) > 0 ? res.getMem() : BdsMesosScheduler.DEFAULT_TASK_MEM_MB * MB);
+		return tr;
+	}
+
+}
@@ -0,0 +1,210 @@
+package org.bds.mesos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.mesos.Protos.ExecutorID;
+import org.apache.mesos.Protos.Filters;
+import org.apache.mesos.Protos.FrameworkID;
+import org.apache.mesos.Protos.Offer;
+import org.apache.mesos.Protos.Offer.Operation;
+import org.apache.mesos.Protos.OfferID;
+import org.apache.mesos.Protos.Request;
+import org.apache.mesos.Protos.Resource;
+import org.apache.mesos.Protos.SlaveID;
+import org.apache.mesos.Protos.Status;
+import org.apache.mesos.Protos.TaskID;
+import org.apache.mesos.Protos.TaskInfo;
+import org.apache.mesos.Protos.TaskStatus;
+import org.apache.mesos.Protos.Value;
+import org.apache.mesos.SchedulerDriver;
+
+/**
+ * An in-process stand-in for Mesos' scheduler driver, used to test (or
+ * debug) offer matching without a Mesos master or native libraries.
+ *
+ * Tasks are not executed, launched tasks and declined offers are just
+ * kept in memory.
+ *
+ * @author pcingola
+ */
+public class SchedulerDriverLocal implements SchedulerDriver {
+
+	public static final String FRAMEWORK_ID = "bds_local";
+
+	Set<String> declined; // Declined offer IDs
+	Set<String> killed; // Killed task IDs
+	List<Collection<TaskInfo>> launches; // Tasks launched on each 'launchTasks' invocation
+	Set<String> used; // Offer IDs used to launch tasks
+
+	/**
+	 * Create an offer
+	 * @param mem : Memory in MB
+	 */
+	public static Offer offer(String offerId, String slaveId, String hostName, int cpus, long mem) {
+		Resource rcpus = Resource.newBuilder().setName(OfferMatcher.OFFER_CPUS).setType(Value.Type.SCALAR).setScalar(Value.Scalar.newBuilder().setValue(cpus)).build();
+		Resource rmem = Resource.newBuilder().setName(OfferMatcher.OFFER_MEM).setType(Value.Type.SCALAR).setScalar(Value.Scalar.newBuilder().setValue(mem)).build();
+
+		return Offer.newBuilder() //
+				.setId(OfferID.newBuilder().setValue(offerId)) //
+				.setFrameworkId(FrameworkID.newBuilder().setValue(FRAMEWORK_ID)) //
+				.setSlaveId(SlaveID.newBuilder().setValue(slaveId)) //
+				.setHostname(hostName) //
+				.addResources(rcpus) //
+				.addResources(rmem) //
+				.build();
+	}
+
+	public SchedulerDriverLocal() {
+		declined = new LinkedHashSet<>();
+		killed = new LinkedHashSet<>();
+		launches = new ArrayList<>();
+		used = new LinkedHashSet<>();
+	}
+
+	@Override
+	public Status abort() {
+		return Status.DRIVER_ABORTED;
+	}
+
+	@Override
+	public Status acceptOffers(Collection<OfferID> offerIds, Collection<Operation> operations, Filters filters) {
+		throw new RuntimeException("Unimplemented method 'acceptOffers'");
+	}
+
+	@Override
+	public Status acknowledgeStatusUpdate(TaskStatus status) {
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public synchronized Status declineOffer(OfferID offerId) {
+		if (used.contains(offerId.getValue())) throw new RuntimeException("Declining offer '" + offerId.getValue() + "' that was already used");
+		declined.add(offerId.getValue());
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public Status declineOffer(OfferID offerId, Filters filters) {
+		return declineOffer(offerId);
+	}
+
+	public synchronized Set<String> getDeclined() {
+		return new LinkedHashSet<>(declined);
+	}
+
+	public synchronized Set<String> getKilled() {
+		return new LinkedHashSet<>(killed);
+	}
+
+	/**
+	 * Tasks launched on each 'launchTasks' invocation
+	 */
+	public synchronized List<Collection<TaskInfo>> getLaunches() {
+		return new ArrayList<>(launches);
+	}
+
+	/**
+	 * Total number of tasks launched
+	 */
+	public synchronized int getTasksLaunched() {
+		int count = 0;
+		for (Collection<TaskInfo> tis : launches)
+			count += tis.size();
+		return count;
+	}
+
+	public synchronized Set<String> getUsed() {
+		return new LinkedHashSet<>(used);
+	}
+
+	@Override
+	public Status join() {
+		return Status.DRIVER_STOPPED;
+	}
+
+	@Override
+	public synchronized Status killTask(TaskID taskId) {
+		killed.add(taskId.getValue());
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public synchronized Status launchTasks(Collection<OfferID> offerIds, Collection<TaskInfo> tasks) {
+		for (OfferID offerId : offerIds) {
+			String id = offerId.getValue();
+			if (used.contains(id) || declined.contains(id)) throw new RuntimeException("Offer '" + id + "' was already used or declined");
+			used.add(id);
+		}
+		launches.add(new ArrayList<>(tasks));
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public Status launchTasks(Collection<OfferID> offerIds, Collection<TaskInfo> tasks, Filters filters) {
+		return launchTasks(offerIds, tasks);
+	}
+
+	@Deprecated
+	@Override
+	public Status launchTasks(OfferID offerId, Collection<TaskInfo> tasks) {
+		List<OfferID> offerIds = new ArrayList<>();
+		offerIds.add(offerId);
+		return launchTasks(offerIds, tasks);
+	}
+
+	@Deprecated
+	@Override
+	public Status launchTasks(OfferID offerId, Collection<TaskInfo> tasks, Filters filters) {
+		return launchTasks(offerId, tasks);
+	}
+
+	@Override
+	public Status reconcileTasks(Collection<TaskStatus> statuses) {
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public Status requestResources(Collection<Request> requests) {
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public Status reviveOffers() {
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public Status run() {
+		return Status.DRIVER_STOPPED;
+	}
+
+	@Override
+	public Status sendFrameworkMessage(ExecutorID executorId, SlaveID slaveId, byte[] data) {
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public Status start() {
+		return Status.DRIVER_RUNNING;
+	}
+
+	@Override
+	public Status stop() {
+		return Status.DRIVER_STOPPED;
+	}
+
+	@Override
+	public Status stop(boolean failover) {
+		return Status.DRIVER_STOPPED;
+	}
+
+	@Override
+	public Status suppressOffers() {
+		return Status.DRIVER_RUNNING;
+	}
+
+}
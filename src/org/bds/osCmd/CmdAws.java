@@ -12,6 +12,7 @@ import org.bds.Config;
 import org.bds.cluster.host.TaskResourcesAws;
 import org.bds.data.DataFile;
 import org.bds.data.DataS3;
+import org.bds.executioner.AwsWorkerPool;
 import org.bds.run.BdsThread;
 import org.bds.run.BdsThreads;
 import org.bds.task.Task;
@@ -51,6 +52,7 @@ public class CmdAws extends Cmd {
 	protected String startupScriptFileName;
 	protected Task task;
 	protected String userData;
+	protected AwsWorkerPool workerPool; // Run the task on a (shared) worker instance, instead of a new instance
 
 	public CmdAws(Task task, String queueName) {
 		super(task.getId(), null);
@@ -137,12 +139,25 @@ public class CmdAws extends Cmd {
 		// If this is an improper task, we need to upload the checkpoint to S3
 		if (task.isImproper()) uploadCheckpointToS3();
 
+		// Send to a worker from the pool
+		if (workerPool != null) return runOnWorker();
+
 		// Run an instance (attempts many times before failing)
 		return runInstanceLoop();
 	}
 
+	public AwsWorkerPool getWorkerPool() {
+		return workerPool;
+	}
+
 	@Override
 	protected void killCmd() {
+		if (workerPool != null) {
+			// The instance is shared with other tasks, only kill this task
+			workerPool.kill(task);
+			return;
+		}
+
 		debug("Terminating instance '" + instanceId + "'");
 		StopInstancesRequest request = StopInstancesRequest.builder().instanceIds(instanceId).build();
 		Ec2Client ec2 = Ec2Client.create();
@@ -249,6 +264,25 @@ public class CmdAws extends Cmd {
 		throw new RuntimeException("Unable to create instance for taskId: '" + task.getId() + "' after " + START_FAIL_MAX_ATTEMPTS + "  attempts.");
 	}
 
+	/**
+	 * Send the task to a worker instance from the pool
+	 * @return true on success
+	 */
+	protected boolean runOnWorker() {
+		String script = "#!" + Config.get().getTaskShell() + "\n\n" + startupScriptMain();
+		if (DO_NOT_RUN_INSTANCE) instanceId = "DO_NOT_RUN_INSTANCE";
+		else instanceId = workerPool.submit(task, script);
+		if (instanceId == null) throw new RuntimeException("Unable to find or create a worker instance for taskId: '" + task.getId() + "'");
+
+		task.setPid(instanceId);
+		log("Task '" + task.getId() + "' sent to worker instance '" + instanceId + "'");
+		return true;
+	}
+
+	public void setWorkerPool(AwsWorkerPool workerPool) {
+		this.workerPool = workerPool;
+	}
+
 	/**
 	 * Creates the instance's startup script
 	 */
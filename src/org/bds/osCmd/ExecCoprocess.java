@@ -0,0 +1,217 @@
+package org.bds.osCmd;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.bds.BdsLog;
+
+/**
+ * Execute commands using a long-lived shell process (a 'coprocess').
+ *
+ * Creating a new shell process (and two StreamGobbler threads) for
+ * every 'sys' is expensive when a program runs many small commands.
+ * Here a single shell runs a loop that reads commands from its stdin.
+ * Each command runs in its own sub-shell, so it cannot change the
+ * coprocess' state (variables, current dir, shell options, etc.)
+ *
+ * Protocol:
+ *   - Java to shell: Current dir and command, each one terminated by a NUL character
+ *   - Shell to Java: Command's exit code (one line)
+ * The command's stdout and stderr are written to files in a temporary dir
+ *
+ * Commands that rely on running in their own process (see 'canRun') should
+ * be executed using 'Exec' instead.
+ *
+ * @author pcingola
+ */
+public class ExecCoprocess implements BdsLog {
+
+	public static final String SHELL_NAME = "bash"; // Driver uses bash's 'read -d'
+	public static final long WAIT_CLOSE = 1000; // Time to wait for shell to finish (milliseconds)
+
+	// Commands using the shell's PID or running background jobs are executed in their own process
+	static final Pattern ISOLATION_SENSITIVE = Pattern.compile("\\$\\$|\\$\\{\\$\\}|BASHPID|(?<![&>|<])&(?![&>])|\u0000");
+
+	// Shell options: flags (e.g. '-eu') or option names (e.g. 'pipefail' in '-o pipefail')
+	static final Pattern SHELL_OPTION = Pattern.compile("[-+][a-zA-Z]+|[a-z]+");
+
+	String shell;
+	String shellOptions;
+	Process process;
+	OutputStream toShell;
+	BufferedReader fromShell;
+	File tmpDir;
+	int count; // Number of commands executed
+
+	/**
+	 * Can 'cmds' be executed using a coprocess?
+	 */
+	public static boolean canRun(String cmds) {
+		return !ISOLATION_SENSITIVE.matcher(cmds).find();
+	}
+
+	/**
+	 * Create a coprocess for a 'sysShell' (e.g. '/bin/bash -euo pipefail -c')
+	 * @return A coprocess or null if the shell is not supported
+	 */
+	public static ExecCoprocess factory(String sysShell) {
+		String args[] = sysShell.trim().split("\\s+");
+		if (args.length < 2 || !args[args.length - 1].equals("-c")) return null;
+		if (!new File(args[0]).getName().equals(SHELL_NAME)) return null;
+
+		StringBuilder opts = new StringBuilder();
+		for (int i = 1; i < args.length - 1; i++) {
+			if (!SHELL_OPTION.matcher(args[i]).matches()) return null;
+			opts.append(opts.length() > 0 ? " " : "").append(args[i]);
+		}
+
+		return new ExecCoprocess(args[0], opts.toString());
+	}
+
+	public ExecCoprocess(String shell, String shellOptions) {
+		this.shell = shell;
+		this.shellOptions = shellOptions;
+	}
+
+	/**
+	 * Stop the shell process and delete temporary files
+	 */
+	public synchronized void close() {
+		if (process == null) return;
+		debug("Closing coprocess, commands executed: " + count);
+
+		try {
+			toShell.close(); // Shell exits when there are no more commands
+			if (!process.waitFor(WAIT_CLOSE, TimeUnit.MILLISECONDS)) process.destroy();
+		} catch (IOException e) {
+			process.destroy();
+		} catch (InterruptedException e) {
+			process.destroy();
+			Thread.currentThread().interrupt();
+		}
+
+		stdoutFile().delete();
+		stderrFile().delete();
+		tmpDir.delete();
+		process = null;
+	}
+
+	/**
+	 * Shell script that reads and executes commands
+	 */
+	String driver() {
+		return "__bds_tmp=\"$1\"\n" //
+				+ "while IFS= read -r -d '' __bds_dir && IFS= read -r -d '' __bds_cmd; do\n" //
+				+ "  (\n" //
+				+ "    cd \"$__bds_dir\" || exit 1\n" //
+				+ "    unset __bds_dir __bds_tmp\n" //
+				+ (shellOptions.isEmpty() ? "" : "    set " + shellOptions + "\n") //
+				+ "    eval \"$__bds_cmd\"\n" //
+				+ "  ) < /dev/null > \"$__bds_tmp/stdout\" 2> \"$__bds_tmp/stderr\"\n" //
+				+ "  echo $?\n" //
+				+ "done\n" //
+		;
+	}
+
+	/**
+	 * Execute commands in directory 'dir'
+	 */
+	public synchronized ExecResult exec(String dir, String cmds, boolean quiet) {
+		log("Executing command (coprocess): " + cmds);
+		try {
+			if (process == null) start();
+
+			// Send command
+			write(dir);
+			write(cmds);
+			toShell.flush();
+
+			// Wait for exit code
+			String line = fromShell.readLine();
+			if (line == null) throw new IOException("Shell process finished unexpectedly");
+			int exitValue = Integer.parseInt(line.trim());
+			count++;
+			debug("Exit value: " + exitValue);
+
+			// Collect output
+			String stdOut = readOutput(stdoutFile(), quiet ? null : System.out);
+			String stdErr = readOutput(stderrFile(), quiet ? null : System.err);
+			return new ExecResult(stdOut, stdErr, exitValue);
+		} catch (Exception e) {
+			close();
+			throw new RuntimeException("Cannot execute commnads: '" + cmds + "'", e);
+		}
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public boolean isRunning() {
+		return process != null;
+	}
+
+	/**
+	 * Read output file, show lines (unless 'out' is null)
+	 */
+	String readOutput(File file, PrintStream out) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+			for (String line; (line = reader.readLine()) != null;) {
+				if (out != null) out.println(line);
+				sb.append(line).append('\n');
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Start shell process
+	 */
+	void start() throws IOException {
+		tmpDir = Files.createTempDirectory("bds_sys_").toFile();
+
+		List<String> args = new ArrayList<>();
+		args.add(shell);
+		args.add("-c");
+		args.add(driver());
+		args.add("bds_sys");
+		args.add(tmpDir.getAbsolutePath());
+		debug("Starting coprocess, shell: '" + shell + "', options: '" + shellOptions + "'");
+
+		ProcessBuilder pb = new ProcessBuilder(args);
+		pb.redirectError(Redirect.INHERIT);
+		process = pb.start();
+		toShell = new BufferedOutputStream(process.getOutputStream());
+		fromShell = new BufferedReader(new InputStreamReader(process.getInputStream()));
+	}
+
+	File stderrFile() {
+		return new File(tmpDir, "stderr");
+	}
+
+	File stdoutFile() {
+		return new File(tmpDir, "stdout");
+	}
+
+	/**
+	 * Write a NUL terminated string to the shell
+	 */
+	void write(String str) throws IOException {
+		toShell.write(str.getBytes());
+		toShell.write(0);
+	}
+
+}
@@ -1,8 +1,16 @@
 package org.bds.report;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -21,6 +29,10 @@ import org.bds.util.Gpr;
  * 						... more text including {{variables}}
  * 					... final line }}}
  *
+ * Lines (or multi-line blocks) where all keys come from an RTemplateRows
+ * are repeated once per row. Rows are iterated while the output is written,
+ * so they are never held in memory all at once.
+ *
  * @author pcingola
  */
 public class RTemplate {
@@ -38,6 +50,7 @@ public class RTemplate {
 	Class baseClass;
 	String resourceName;
 	AutoHashMap<String, List<String>> keyValues;
+	RTemplateRows rows;
 
 	@SuppressWarnings("rawtypes")
 	public RTemplate(Class baseClass, String resourceName, String outFile) {
@@ -52,8 +65,17 @@ public class RTemplate {
 		else keyValues.getOrCreate(key).add(value.toString());
 	}
 
+	/**
+	 * Add a source of rows
+	 */
+	public void add(RTemplateRows rows) {
+		this.rows = rows;
+	}
+
 	/**
 	 * Create output file
+	 * Output is written to a temporary file which is then renamed, so
+	 * that a (periodically updated) report is never seen half written
 	 */
 	public void createOuptut() {
 		// Open input and read the whole file
@@ -66,24 +88,33 @@ public class RTemplate {
 		List<String> linesMulti = splitMultiLine(input);
 
 		// Parse input, line by line
-		StringBuilder out = new StringBuilder();
-		boolean isMultiLine = false;
-		for (String lines : linesMulti) {
-
-			if (isMultiLine) {
-				// Parse while block as multi-line
-				out.append(parseLine(lines));
-			} else {
-				// Parse each line independently
-				for (String line : lines.split("\n"))
-					out.append(parseLine(line));
+		File out = new File(outFile);
+		File outTmp = new File(outFile + ".tmp");
+		try (Writer writer = new BufferedWriter(new FileWriter(outTmp))) {
+			boolean isMultiLine = false;
+			for (String lines : linesMulti) {
+
+				if (isMultiLine) {
+					// Parse while block as multi-line
+					parseLine(lines, writer);
+				} else {
+					// Parse each line independently
+					for (String line : lines.split("\n"))
+						parseLine(line, writer);
+				}
+
+				isMultiLine = !isMultiLine;
 			}
-
-			isMultiLine = !isMultiLine;
+		} catch (IOException e) {
+			throw new RuntimeException("Error writing file '" + outFile + "'", e);
 		}
 
-		// Create output file
-		Gpr.toFile(outFile, out.toString());
+		// Move output file into place
+		try {
+			Files.move(outTmp.toPath(), out.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new RuntimeException("Error renaming file '" + outTmp + "' to '" + outFile + "'", e);
+		}
 	}
 
 	/**
@@ -99,10 +130,17 @@ public class RTemplate {
 		throw new RuntimeException(msg);
 	}
 
+	/**
+	 * Is this key provided by 'rows'?
+	 */
+	boolean isRowKey(String key) {
+		return rows != null && rows.getKeys().contains(key);
+	}
+
 	/**
 	 * Parse each input line
 	 */
-	String parseLine(String line) {
+	void parseLine(String line, Writer writer) throws IOException {
 		// Debug command from template?
 		if (line.startsWith("DEBUG")) {
 			debug = true;
@@ -139,16 +177,33 @@ public class RTemplate {
 			if (debug) Gpr.debug("\t\tpart: '" + linePart + "'");
 		}
 
-		if (!found) return line + "\n";
+		if (!found) {
+			writer.write(line + "\n");
+			return;
+		}
 
 		// Replace values
-		return replaceValues(lineParts, keys);
+		replaceValues(lineParts, keys, writer);
 	}
 
 	/**
 	 * Replace by values
 	 */
-	String replaceValues(ArrayList<String> lineParts, ArrayList<String> keys) {
+	void replaceValues(ArrayList<String> lineParts, ArrayList<String> keys, Writer writer) throws IOException {
+		// Are values provided by 'rows'?
+		int countRowKeys = 0;
+		for (String key : keys)
+			if (isRowKey(key)) countRowKeys++;
+
+		if (countRowKeys > 0) {
+			if (countRowKeys < keys.size()) error("Cannot mix row keys and other keys in the same line: " + keys);
+
+			// Repeat once per row
+			for (Map<String, String> row : rows)
+				writer.write(replaceValues(lineParts, keys, row) + "\n");
+			return;
+		}
+
 		// How many times do we repeat the line?
 		int maxLen = Integer.MAX_VALUE;
 
@@ -162,11 +217,8 @@ public class RTemplate {
 		if (debug) Gpr.debug("\t\tMax len: " + maxLen);
 
 		// Repeat
-		StringBuilder sb = new StringBuilder();
 		for (int i = 0; i < maxLen; i++)
-			sb.append(replaceValues(lineParts, keys, i) + "\n");
-
-		return sb.toString();
+			writer.write(replaceValues(lineParts, keys, i) + "\n");
 	}
 
 	/**
@@ -192,6 +244,24 @@ public class RTemplate {
 
 	}
 
+	/**
+	 * Replace by values from a row
+	 */
+	String replaceValues(ArrayList<String> lineParts, ArrayList<String> keys, Map<String, String> row) {
+		StringBuilder sb = new StringBuilder();
+
+		// Add all parts and values
+		for (int i = 0; i < keys.size(); i++) {
+			String value = row.get(keys.get(i));
+			sb.append(lineParts.get(i));
+			sb.append(value != null ? value : "");
+		}
+
+		// Add last part
+		sb.append(lineParts.get(lineParts.size() - 1));
+		return sb.toString();
+	}
+
 	/**
 	 * Split into multiple lines finding the corresponding delimiters '{{{' and '}}}'
 	 */
@@ -0,0 +1,22 @@
+package org.bds.report;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A source of rows (one map of key-values per row) for an RTemplate.
+ *
+ * Rows are iterated each time a template line (or multi-line block) only
+ * referencing these keys is rendered, so they don't need to be kept in
+ * memory (e.g. they can be read from disk).
+ *
+ * @author pcingola
+ */
+public interface RTemplateRows extends Iterable<Map<String, String>> {
+
+	/**
+	 * Keys available in every row
+	 */
+	public Set<String> getKeys();
+
+}
@@ -5,22 +5,32 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.bds.Bds;
 import org.bds.BdsLog;
+import org.bds.BdsLogger;
 import org.bds.Config;
+import org.bds.cluster.host.Host;
+import org.bds.cluster.host.HostLoad;
 import org.bds.cluster.host.Resources;
 import org.bds.data.Data;
+import org.bds.executioner.Executioner;
+import org.bds.executioner.Executioners;
+import org.bds.executioner.Utilization;
 import org.bds.lang.statement.Statement;
 import org.bds.lang.value.Value;
 import org.bds.run.BdsThread;
 import org.bds.run.BdsThreads;
 import org.bds.scope.GlobalScope;
 import org.bds.scope.Scope;
-import org.bds.task.TailFile;
 import org.bds.task.Task;
 import org.bds.task.TaskDependecies;
+import org.bds.task.TaskOutput;
 import org.bds.util.Gpr;
 import org.bds.util.GprString;
 import org.bds.util.Timer;
@@ -28,6 +38,11 @@ import org.bds.util.Timer;
 /**
  * Progress and final report (HTML & YAML)
  *
+ * Task details are the bulk of a report for large runs, so they are not
+ * kept in memory: Once a task is done, its values are calculated (in a
+ * bounded thread pool) and spooled to disk (see ReportSpool). Reports
+ * are then streamed, reading task details from the spool.
+ *
  * @author pcingola
  */
 public class Report implements BdsLog {
@@ -36,6 +51,7 @@ public class Report implements BdsLog {
 	public static final String DATE_FORMAT_CSV = "yyyy,MM,dd,HH,mm,ss";
 	public static final String DATE_FORMAT_HTML = "yyyy-MM-dd HH:mm:ss";
 	public static final String LINE = "--------------------";
+	public static final int MAX_THREADS = 8; // Maximum number of threads used to calculate task values
 	public static final int MAX_TASK_FAILED_NAMES = 10; // Maximum number of failed tasks to show in summary
 	public static final String REPORT_GREEN_COLOR = "style=\"background-color: #a2dc74\"";
 	public static final String REPORT_RED_COLOR = "style=\"background-color: #ff9696\"";
@@ -47,6 +63,8 @@ public class Report implements BdsLog {
 	public static final String REPORT_YELLOW_COLOR = "style=\"background-color: #fdff96\"";
 
 	protected static Timer timerReport = new Timer(); // Report timer (added by Jin Lee)
+	private static ExecutorService pool; // Calculate task values in parallel
+	private static ReportSpool spoolHtml, spoolYaml; // Spooled task values, for each report type
 
 	BdsThread bdsThread;
 
@@ -76,6 +94,223 @@ public class Report implements BdsLog {
 		}
 	}
 
+	/**
+	 * Close spool files and stop threads
+	 */
+	public static synchronized void kill() {
+		reset();
+		if (pool != null) pool.shutdownNow();
+		pool = null;
+	}
+
+	/**
+	 * Thread pool used to calculate task values
+	 */
+	static synchronized ExecutorService pool() {
+		if (pool == null) {
+			int numThreads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+			pool = Executors.newFixedThreadPool(numThreads, r -> {
+				Thread t = new Thread(r, "Report");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		return pool;
+	}
+
+	/**
+	 * Remove spooled task values (e.g. before running a new program)
+	 */
+	public static synchronized void reset() {
+		if (spoolHtml != null) spoolHtml.close();
+		if (spoolYaml != null) spoolYaml.close();
+		spoolHtml = spoolYaml = null;
+	}
+
+	/**
+	 * Signature of a task's report values: Values are
+	 * re-calculated if the signature changes (e.g. a task is re-tried)
+	 */
+	static String signature(Task task) {
+		return task.getTaskState() + ":" + task.getFailCount() + ":" + task.getExitValue();
+	}
+
+	/**
+	 * Spool for a report type
+	 */
+	static synchronized ReportSpool spool(boolean yaml) {
+		if (yaml) {
+			if (spoolYaml == null) spoolYaml = new ReportSpool(Config.get().getTmpDir());
+			return spoolYaml;
+		}
+
+		if (spoolHtml == null) spoolHtml = new ReportSpool(Config.get().getTmpDir());
+		return spoolHtml;
+	}
+
+	/**
+	 * Calculate task values and add them to the spool if the task is done
+	 */
+	static Map<String, String> spoolTask(Task task, boolean yaml, ReportSpool spool) {
+		// Note: Signature must be calculated before the values, in case the task changes while we calculate them
+		String signature = signature(task);
+		boolean done = task.isDone();
+
+		Map<String, String> values = taskValues(task, yaml);
+		if (done && spool != null) spool.put(task.getId(), signature, values);
+		return values;
+	}
+
+	/**
+	 * A task finished: Calculate and spool its report values in the background
+	 */
+	public static void taskDone(Task task) {
+		Config config = Config.get();
+		boolean html = config.isReportHtml() || config.isLog();
+		boolean yaml = config.isReportYaml() || config.isLog();
+		if (!html && !yaml) return;
+
+		ReportSpool sHtml = html ? spool(false) : null;
+		ReportSpool sYaml = yaml ? spool(true) : null;
+		pool().submit(() -> {
+			try {
+				if (sHtml != null && !sHtml.has(task.getId(), signature(task))) spoolTask(task, false, sHtml);
+				if (sYaml != null && !sYaml.has(task.getId(), signature(task))) spoolTask(task, true, sYaml);
+			} catch (Throwable t) {
+				// Not critical: values will be calculated when the report is created
+				BdsLogger.debug("Error spooling report values for task '" + task.getId() + "': " + t.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * Create map with task details
+	 */
+	static Map<String, String> taskValues(Task task, boolean yaml) {
+		SimpleDateFormat outFormat = new SimpleDateFormat(DATE_FORMAT_HTML);
+		Map<String, String> values = new LinkedHashMap<>();
+
+		values.put("taskId", Gpr.baseName(task.getId()));
+		values.put("taskName", task.getName());
+		values.put("taskPid", task.getPid());
+		values.put("taskOk", "" + task.isDoneOk());
+		values.put("taskExitCode", "" + task.getExitValue());
+		values.put("taskState", "" + task.getTaskState());
+		values.put("taskDepState", "" + task.dependencyState());
+
+		if (task.getFailCount() > 1) values.put("taskRetry", "" + (task.getFailCount() - 1) + "/" + (task.getMaxFailCount() - 1));
+		else values.put("taskRetry", "");
+
+		// Task status
+		if (!task.isDoneOk()) {
+			values.put("taskColor", taskColor(task));
+
+			String ch = task.checkOutputFiles();
+			if ((ch != null) && !ch.isEmpty()) values.put("taskCheckOut", multilineString("Check output files", ch, yaml));
+			else values.put("taskCheckOut", "");
+
+			if (task.getPostMortemInfo() != null && !task.getPostMortemInfo().isEmpty()) values.put("taskPostMortemInfo", multilineString("Post mortem info", task.getPostMortemInfo(), yaml));
+			else values.put("taskPostMortemInfo", "");
+
+			if (task.getErrorMsg() != null) values.put("taskErrMsg", multilineString("Error message", task.getErrorMsg(), yaml));
+			else values.put("taskErrMsg", "");
+		} else {
+			values.put("taskColor", "");
+			values.put("taskCheckOut", "");
+			values.put("taskPostMortemInfo", "");
+			values.put("taskErrMsg", "");
+		}
+
+		// Always show task's STDOUT/STDERR
+		String tailErr = TaskOutput.tail(task.getStderrFile(), Config.get().getTailLines());
+		if ((tailErr != null) && !tailErr.isEmpty()) values.put("taskStderr", multilineString("Stderr", tailErr, yaml));
+		else values.put("taskStderr", "");
+
+		String tailOut = TaskOutput.tail(task.getStdoutFile(), Config.get().getTailLines());
+		if ((tailOut != null) && !tailOut.isEmpty()) values.put("taskStdout", multilineString("Stdout", tailOut, yaml));
+		else values.put("taskStdout", "");
+
+		// Running times
+		Date start = task.getRunningStartTime();
+		if (start != null) {
+			values.put("taskStart", outFormat.format(start));
+			values.put("taskStartCsv", csvDate(start));
+		} else {
+			values.put("taskStart", "");
+			values.put("taskStartCsv", "");
+		}
+
+		Date end = task.getRunningEndTime();
+		if (end == null) end = start;
+		if (end != null) {
+			values.put("taskEnd", outFormat.format(end));
+			values.put("taskEndCsv", csvDate(end));
+		} else {
+			values.put("taskEnd", "");
+			values.put("taskEndCsv", "");
+		}
+
+		if (start != null && end != null) values.put("taskElapsed", Timer.toDDHHMMSS(end.getTime() - start.getTime()));
+		else values.put("taskElapsed", "");
+
+		// Program & hint
+		values.put("taskProgram", multilineString(null, task.getProgramTxt(), yaml));
+		values.put("taskHint", task.getProgramHint());
+
+		// Dependencies
+		StringBuilder sbdep = new StringBuilder();
+		if (task.getDependencies() != null) {
+			for (Task t : task.getDependencies()) {
+				sbdep.append(t.getName() + "\n");
+			}
+		}
+		values.put("taskDep", multilineString(null, sbdep.toString(), yaml));
+
+		// Input files
+		StringBuilder sbinf = new StringBuilder();
+		if (task.getInputs() != null) {
+			for (Data inFile : task.getInputs())
+				sbinf.append(inFile + "\n");
+		}
+		values.put("taskInFiles", multilineString(null, sbinf.toString(), yaml));
+
+		// Output files
+		StringBuilder sboutf = new StringBuilder();
+		if (task.getOutputs() != null) {
+			for (Data outf : task.getOutputs())
+				sboutf.append(outf + "\n");
+		}
+		values.put("taskOutFiles", multilineString(null, sboutf.toString(), yaml));
+
+		// Task resources
+		if (task.getResources() != null) {
+			Resources hr = task.getResources();
+			values.put("taskResources", multilineString(null, hr.toStringMultiline(), yaml));
+			values.put("taskTimeout", Timer.toDDHHMMSS(hr.getTimeout() * 1000));
+			values.put("taskWallTimeout", Timer.toDDHHMMSS(hr.getWallTimeout() * 1000));
+			values.put("taskCpus", (hr.getCpus() > 0 ? "" + hr.getCpus() : ""));
+			values.put("taskMem", (hr.getMem() > 0 ? Gpr.toStringMem(hr.getMem()) : ""));
+		} else {
+			values.put("taskResources", "");
+			values.put("taskTimeout", "");
+			values.put("taskWallTimeout", "");
+			values.put("taskCpus", "");
+			values.put("taskMem", "");
+		}
+
+		// Values are strings in the template (null is shown as an empty string)
+		for (Map.Entry<String, String> e : values.entrySet())
+			if (e.getValue() == null) e.setValue("");
+
+		return values;
+	}
+
+	static String threadIdNum(BdsThread bdsThread) {
+		if (bdsThread == null) return "None";
+		if (bdsThread.getParent() == null) return "thread_Root";
+		return "thread_" + bdsThread.getId();
+	}
+
 	public Report(BdsThread bdsThread, boolean yaml) {
 		if (!bdsThread.isRoot()) throw new RuntimeException("Cannot create report from non-root bdsThread");
 
@@ -138,20 +373,21 @@ public class Report implements BdsLog {
 		// Threads details
 		createReport(rTemplate, bdsThread);
 
-		// Add task details and time-line
-		int taskNum = 1;
+		// Add task details and time-line (rows are created while the report is written)
 		TaskDependecies taskDepsRoot = TaskDependecies.get();
-		for (Task task : taskDepsRoot.getTasks()) {
-			createReport(rTemplate, task, taskNum++, yaml);
-		}
+		ReportTasks reportTasks = new ReportTasks(taskDepsRoot.getTasks(), taskId2BdsThread, spool(yaml), yaml);
+		rTemplate.add(reportTasks);
 
 		// Number of tasks executed
 		rTemplate.add("taskCount", taskDepsRoot.size());
 		rTemplate.add("taskFailed", taskDepsRoot.countTaskFailed());
 		rTemplate.add("taskFailedNames", taskDepsRoot.taskFailedNames(MAX_TASK_FAILED_NAMES, "\n"));
 
+		// Resources utilization
+		rTemplate.add("utilization", utilization());
+
 		// Timeline height
-		int timelineHeight = REPORT_TIMELINE_HEIGHT * (1 + taskNum);
+		int timelineHeight = REPORT_TIMELINE_HEIGHT * (2 + reportTasks.size());
 		rTemplate.add("timelineHeight", timelineHeight);
 
 		//---
@@ -233,128 +469,10 @@ public class Report implements BdsLog {
 	}
 
 	/**
-	 * Create map with task details
+	 * Add task's graph information (DAG)
 	 */
-	void createReport(RTemplate rTemplate, Task task, int taskNum, boolean yaml) {
-		debug("CreateReport Task '" + task.getId() + "': Start");
-
+	void createReport(RTemplate rTemplate, Task task) {
 		BdsThread bdsTh = taskId2BdsThread.get(task.getId());
-		SimpleDateFormat outFormat = new SimpleDateFormat(DATE_FORMAT_HTML);
-
-		rTemplate.add("taskNum", "" + taskNum);
-		rTemplate.add("taskId", Gpr.baseName(task.getId()));
-		rTemplate.add("taskName", task.getName());
-		rTemplate.add("taskThreadId", (bdsTh != null ? bdsTh.getBdsThreadId() : ""));
-		rTemplate.add("taskThreadNum", threadIdNum(bdsTh));
-		rTemplate.add("taskPid", task.getPid());
-		rTemplate.add("taskOk", "" + task.isDoneOk());
-		rTemplate.add("taskExitCode", "" + task.getExitValue());
-		rTemplate.add("taskState", "" + task.getTaskState());
-		rTemplate.add("taskDepState", "" + task.dependencyState());
-
-		if (task.getFailCount() > 1) rTemplate.add("taskRetry", "" + (task.getFailCount() - 1) + "/" + (task.getMaxFailCount() - 1));
-		else rTemplate.add("taskRetry", "");
-
-		// Task status
-		if (!task.isDoneOk()) {
-			rTemplate.add("taskColor", taskColor(task));
-
-			String ch = task.checkOutputFiles();
-			if ((ch != null) && !ch.isEmpty()) rTemplate.add("taskCheckOut", multilineString("Check output files", ch, yaml));
-			else rTemplate.add("taskCheckOut", "");
-
-			if (task.getPostMortemInfo() != null && !task.getPostMortemInfo().isEmpty()) rTemplate.add("taskPostMortemInfo", multilineString("Post mortem info", task.getPostMortemInfo(), yaml));
-			else rTemplate.add("taskPostMortemInfo", "");
-
-			if (task.getErrorMsg() != null) rTemplate.add("taskErrMsg", multilineString("Error message", task.getErrorMsg(), yaml));
-			else rTemplate.add("taskErrMsg", "");
-		} else {
-			rTemplate.add("taskColor", "");
-			rTemplate.add("taskCheckOut", "");
-			rTemplate.add("taskPostMortemInfo", "");
-			rTemplate.add("taskErrMsg", "");
-		}
-
-		// Always show task's STDOUT/STDERR
-		String tailErr = TailFile.tail(task.getStderrFile(), Config.get().getTailLines());
-		if ((tailErr != null) && !tailErr.isEmpty()) rTemplate.add("taskStderr", multilineString("Stderr", tailErr, yaml));
-		else rTemplate.add("taskStderr", "");
-
-		String tailOut = TailFile.tail(task.getStdoutFile(), Config.get().getTailLines());
-		if ((tailOut != null) && !tailOut.isEmpty()) rTemplate.add("taskStdout", multilineString("Stdout", tailOut, yaml));
-		else rTemplate.add("taskStdout", "");
-
-		// Running times
-		Date start = task.getRunningStartTime();
-		if (start != null) {
-			rTemplate.add("taskStart", outFormat.format(start));
-			rTemplate.add("taskStartCsv", csvDate(start));
-		} else {
-			rTemplate.add("taskStart", "");
-			rTemplate.add("taskStartCsv", "");
-		}
-
-		Date end = task.getRunningEndTime();
-		if (end == null) end = start;
-		if (end != null) {
-			rTemplate.add("taskEnd", outFormat.format(end));
-			rTemplate.add("taskEndCsv", csvDate(end));
-		} else {
-			rTemplate.add("taskEnd", "");
-			rTemplate.add("taskEndCsv", "");
-		}
-
-		if (start != null && end != null) rTemplate.add("taskElapsed", Timer.toDDHHMMSS(end.getTime() - start.getTime()));
-		else rTemplate.add("taskElapsed", "");
-
-		// Program & hint
-		rTemplate.add("taskProgram", multilineString(null, task.getProgramTxt(), yaml));
-		rTemplate.add("taskHint", task.getProgramHint());
-
-		// Dependencies
-		StringBuilder sbdep = new StringBuilder();
-		if (task.getDependencies() != null) {
-			for (Task t : task.getDependencies()) {
-				sbdep.append(t.getName() + "\n");
-			}
-		}
-		rTemplate.add("taskDep", multilineString(null, sbdep.toString(), yaml));
-
-		// Input files
-		StringBuilder sbinf = new StringBuilder();
-		if (task.getInputs() != null) {
-			for (Data inFile : task.getInputs())
-				sbinf.append(inFile + "\n");
-		}
-		rTemplate.add("taskInFiles", multilineString(null, sbinf.toString(), yaml));
-
-		// Output files
-		StringBuilder sboutf = new StringBuilder();
-		if (task.getOutputs() != null) {
-			for (Data outf : task.getOutputs())
-				sboutf.append(outf + "\n");
-		}
-		rTemplate.add("taskOutFiles", multilineString(null, sboutf.toString(), yaml));
-
-		// Task resources
-		if (task.getResources() != null) {
-			Resources hr = task.getResources();
-			rTemplate.add("taskResources", multilineString(null, hr.toStringMultiline(), yaml));
-			rTemplate.add("taskTimeout", Timer.toDDHHMMSS(hr.getTimeout() * 1000));
-			rTemplate.add("taskWallTimeout", Timer.toDDHHMMSS(hr.getWallTimeout() * 1000));
-			rTemplate.add("taskCpus", (hr.getCpus() > 0 ? hr.getCpus() : ""));
-			rTemplate.add("taskMem", (hr.getMem() > 0 ? Gpr.toStringMem(hr.getMem()) : ""));
-		} else {
-			rTemplate.add("taskResources", "");
-			rTemplate.add("taskTimeout", "");
-			rTemplate.add("taskWallTimeout", "");
-			rTemplate.add("taskCpus", "");
-			rTemplate.add("taskMem", "");
-		}
-
-		//---
-		// Graph plot
-		//---
 		rTemplate.add("taskGraphName", task.getName());
 		rTemplate.add("taskGraphThreadNum", threadIdNum(bdsTh));
 		if (task.getDependencies() != null) {
@@ -366,8 +484,6 @@ public class Report implements BdsLog {
 				rTemplate.add("taskGraphEdgeTarget", taskName);
 			}
 		}
-
-		debug("CreateReport Task '" + task.getId() + "': End");
 	}
 
 	/**
@@ -382,11 +498,9 @@ public class Report implements BdsLog {
 		// Add thread information
 		createReport(rTemplate, bdsThread);
 
-		// Add task details for DAG
-		// Note: We need to add tasks again since we are creating another 'report' (the DAG file)
-		int taskNum = 1;
+		// Add tasks and dependencies (no task details are needed for the DAG)
 		for (Task task : TaskDependecies.get().getTasks())
-			createReport(rTemplate, task, taskNum++, false);
+			createReport(rTemplate, task);
 
 		// Add at least one fake edge, so rTemplate doesn't fail
 		rTemplate.add("threadGraphEdgeId", "threadid-threadid");
@@ -405,7 +519,7 @@ public class Report implements BdsLog {
 	 * Create a comma separated string representing a date (Summary report renders it via JavaScript)
 	 * Code contributed by Jin Lee (to fix a bug due to stupid javascript 0-based month concept)
 	 */
-	String csvDate(Date date) {
+	static String csvDate(Date date) {
 		SimpleDateFormat csvFormat = new SimpleDateFormat(DATE_FORMAT_CSV);
 
 		String strTaskStartCsv = (date != null) ? csvFormat.format(date) : csvFormat.format(new Date());
@@ -438,7 +552,7 @@ public class Report implements BdsLog {
 	/**
 	 * Convert multi-line string for report
 	 */
-	String multilineString(String title, String str, boolean yaml) {
+	static String multilineString(String title, String str, boolean yaml) {
 		if (yaml) {
 			// Convert to YAML multi-line
 			return Gpr.prependEachLine("        ", str).trim();
@@ -451,7 +565,7 @@ public class Report implements BdsLog {
 		return str;
 	}
 
-	String taskColor(Task task) {
+	static String taskColor(Task task) {
 		if (task.isDoneOk()) return "";
 		if (task.isStateRunning()) return REPORT_GREEN_COLOR;
 		if (task.getTaskState().isStartFailed()) return REPORT_YELLOW_COLOR;
@@ -469,10 +583,53 @@ public class Report implements BdsLog {
 			taskId2BdsThread(bdsThreadChild);
 	}
 
-	String threadIdNum(BdsThread bdsThread) {
-		if (bdsThread == null) return "None";
-		if (bdsThread.getParent() == null) return "thread_Root";
-		return "thread_" + bdsThread.getId();
+	/**
+	 * Summary of a host's load time series
+	 */
+	String utilization(List<HostLoad.Sample> samples) {
+		double cpuSum = 0, cpuMax = 0, memSum = 0, memMax = 0, loadMax = 0;
+		int cpuCount = 0, memCount = 0;
+		for (HostLoad.Sample s : samples) {
+			if (s.cpuUsage >= 0) {
+				cpuSum += s.cpuUsage;
+				cpuMax = Math.max(cpuMax, s.cpuUsage);
+				cpuCount++;
+			}
+			if (s.memUsage >= 0) {
+				memSum += s.memUsage;
+				memMax = Math.max(memMax, s.memUsage);
+				memCount++;
+			}
+			loadMax = Math.max(loadMax, s.loadAvg);
+		}
+
+		if (cpuCount == 0 && memCount == 0) return "";
+		return (cpuCount > 0 ? String.format("cpu: %.1f%% (peak %.1f%%), ", 100 * cpuSum / cpuCount, 100 * cpuMax) : "") //
+				+ (memCount > 0 ? String.format("mem: %.1f%% (peak %.1f%%), ", 100 * memSum / memCount, 100 * memMax) : "") //
+				+ String.format("max load: %.2f, samples: %d", loadMax, samples.size()) //
+		;
+	}
+
+	/**
+	 * Resources utilization for all executioners
+	 */
+	String utilization() {
+		StringBuilder sb = new StringBuilder();
+		if (Executioners.getInstance() == null) return "";
+		for (Executioner ex : Executioners.getInstance().getAll()) {
+			Utilization utilization = ex.getUtilization();
+			if (!utilization.isEmpty()) sb.append((sb.length() > 0 ? "\n" : "") + ex.getExecutionerName() + ": " + utilization);
+
+			// Hosts' real load
+			if (ex.getSystem() == null) continue;
+			for (Host host : ex.getSystem().getHosts()) {
+				HostLoad load = host.getLoad();
+				if (load == null) continue;
+				String loadStr = utilization(load.getSamples());
+				if (!loadStr.isEmpty()) sb.append((sb.length() > 0 ? "\n" : "") + "\t" + host + " load: " + loadStr);
+			}
+		}
+		return sb.toString();
 	}
 
 }
@@ -0,0 +1,158 @@
+package org.bds.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bds.BdsLog;
+
+/**
+ * Report values for finished tasks, spooled to a temporary file.
+ *
+ * Rendering a task's report section requires reading its stdout / stderr
+ * tails, checking output files, etc. For runs having many tasks, keeping
+ * all these values in memory (and re-calculating them every time a report
+ * is updated) is too expensive. Once a task is done its values do not change,
+ * so they are calculated once, appended to this file, and read back every
+ * time a report is created.
+ *
+ * Each entry has a 'signature' (e.g. task state and fail count), an entry
+ * is only valid if the signature matches (e.g. a task that was re-tried
+ * must be re-calculated).
+ *
+ * File format: A sequence of records
+ * 		int    : record length (bytes)
+ * 		int    : number of key-value pairs
+ * 		string : key   (int length, UTF-8 bytes)
+ * 		string : value (int length, UTF-8 bytes)
+ * 		...
+ *
+ * @author pcingola
+ */
+public class ReportSpool implements BdsLog {
+
+	File file;
+	Map<String, Long> offsetById; // Record offset, indexed by task ID
+	RandomAccessFile raf;
+	Map<String, String> signatureById; // Record signature, indexed by task ID
+
+	public ReportSpool(String tmpDir) {
+		offsetById = new HashMap<>();
+		signatureById = new HashMap<>();
+		try {
+			File dir = (tmpDir != null && !tmpDir.isEmpty() ? new File(tmpDir) : null);
+			if (dir != null && !dir.isDirectory()) dir = null;
+			file = File.createTempFile("bds_report_", ".spool", dir);
+			file.deleteOnExit();
+			raf = new RandomAccessFile(file, "rw");
+			debug("Created report spool file '" + file + "'");
+		} catch (IOException e) {
+			throw new RuntimeException("Cannot create report spool file", e);
+		}
+	}
+
+	/**
+	 * Close and delete spool file
+	 */
+	public synchronized void close() {
+		if (raf == null) return;
+		try {
+			raf.close();
+		} catch (IOException e) {
+			warning("Error closing report spool file '" + file + "': " + e.getMessage());
+		}
+		raf = null;
+		file.delete();
+		offsetById.clear();
+		signatureById.clear();
+	}
+
+	/**
+	 * Get values for a task
+	 * @return Values or null if the task is not in the spool (or the signature doesn't match)
+	 */
+	public synchronized Map<String, String> get(String id, String signature) {
+		if (raf == null) return null;
+		Long offset = offsetById.get(id);
+		if (offset == null || !signature.equals(signatureById.get(id))) return null;
+
+		try {
+			raf.seek(offset);
+			byte[] bytes = new byte[raf.readInt()];
+			raf.readFully(bytes);
+
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+			int count = in.readInt();
+			Map<String, String> values = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++)
+				values.put(readString(in), readString(in));
+			return values;
+		} catch (IOException e) {
+			throw new RuntimeException("Error reading report spool file '" + file + "'", e);
+		}
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Is there a valid entry for this task?
+	 */
+	public synchronized boolean has(String id, String signature) {
+		return offsetById.containsKey(id) && signature.equals(signatureById.get(id));
+	}
+
+	/**
+	 * Add (or replace) values for a task
+	 */
+	public synchronized void put(String id, String signature, Map<String, String> values) {
+		if (raf == null) return;
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(values.size());
+			for (Map.Entry<String, String> e : values.entrySet()) {
+				writeString(out, e.getKey());
+				writeString(out, e.getValue());
+			}
+			out.flush();
+
+			// Append record (replaced records are not reclaimed)
+			long offset = raf.length();
+			raf.seek(offset);
+			raf.writeInt(bytes.size());
+			raf.write(bytes.toByteArray());
+
+			offsetById.put(id, offset);
+			signatureById.put(id, signature);
+		} catch (IOException e) {
+			throw new RuntimeException("Error writing report spool file '" + file + "'", e);
+		}
+	}
+
+	String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	public synchronized int size() {
+		return offsetById.size();
+	}
+
+	void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = (str != null ? str : "").getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+}
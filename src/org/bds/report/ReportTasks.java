@@ -0,0 +1,132 @@
+package org.bds.report;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.bds.run.BdsThread;
+import org.bds.task.Task;
+
+/**
+ * Task details for a report, as template rows (one row per task).
+ *
+ * Rows are created in batches, while the report is being written:
+ * 		- Done tasks are read from the spool (see ReportSpool), if
+ * 		  they are not there, their values are calculated and spooled.
+ * 		- Values for tasks that are not done are calculated every time.
+ * Values are calculated in parallel (reading tails of stdout / stderr
+ * files is the main cost) using a bounded thread pool.
+ *
+ * @author pcingola
+ */
+public class ReportTasks implements RTemplateRows {
+
+	public static final int BATCH_SIZE = 1000;
+
+	// Keys calculated for each task (see Report.taskValues)
+	public static final String[] TASK_KEYS = { "taskId", "taskName", "taskPid", "taskOk", "taskExitCode", "taskState", "taskDepState", "taskRetry" //
+			, "taskColor", "taskCheckOut", "taskPostMortemInfo", "taskErrMsg", "taskStderr", "taskStdout" //
+			, "taskStart", "taskStartCsv", "taskEnd", "taskEndCsv", "taskElapsed", "taskProgram", "taskHint" //
+			, "taskDep", "taskInFiles", "taskOutFiles", "taskResources", "taskTimeout", "taskWallTimeout", "taskCpus", "taskMem" //
+	};
+
+	// Keys added when iterating (they depend on the task's position or the thread structure)
+	public static final String[] ROW_KEYS = { "taskNum", "taskThreadId", "taskThreadNum" };
+
+	Set<String> keys;
+	ReportSpool spool;
+	Map<String, BdsThread> taskId2BdsThread;
+	List<Task> tasks;
+	boolean yaml;
+
+	public ReportTasks(Collection<Task> tasks, Map<String, BdsThread> taskId2BdsThread, ReportSpool spool, boolean yaml) {
+		this.tasks = new ArrayList<>(tasks);
+		this.taskId2BdsThread = (taskId2BdsThread != null ? taskId2BdsThread : new HashMap<>());
+		this.spool = spool;
+		this.yaml = yaml;
+		keys = new HashSet<>(Arrays.asList(TASK_KEYS));
+		keys.addAll(Arrays.asList(ROW_KEYS));
+	}
+
+	@Override
+	public Set<String> getKeys() {
+		return keys;
+	}
+
+	@Override
+	public Iterator<Map<String, String>> iterator() {
+		return new Iterator<Map<String, String>>() {
+
+			List<Map<String, String>> batch;
+			int batchStart = 0;
+			int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < tasks.size();
+			}
+
+			@Override
+			public Map<String, String> next() {
+				if (!hasNext()) throw new NoSuchElementException();
+
+				// Create next batch
+				if (batch == null || next >= batchStart + batch.size()) {
+					batchStart = next;
+					batch = values(tasks.subList(next, Math.min(next + BATCH_SIZE, tasks.size())));
+				}
+
+				Task task = tasks.get(next);
+				Map<String, String> row = batch.set(next - batchStart, null); // Release memory as soon as the row is used
+				next++;
+
+				BdsThread bdsTh = taskId2BdsThread.get(task.getId());
+				row.put("taskNum", "" + next);
+				row.put("taskThreadId", (bdsTh != null ? bdsTh.getBdsThreadId() : ""));
+				row.put("taskThreadNum", Report.threadIdNum(bdsTh));
+				return row;
+			}
+		};
+	}
+
+	public int size() {
+		return tasks.size();
+	}
+
+	/**
+	 * Get (or calculate) values for a batch of tasks
+	 */
+	List<Map<String, String>> values(List<Task> batchTasks) {
+		List<Map<String, String>> values = new ArrayList<>(batchTasks.size());
+		Map<Integer, Future<Map<String, String>>> futures = new HashMap<>();
+
+		// Read from spool or calculate in parallel
+		for (int i = 0; i < batchTasks.size(); i++) {
+			Task task = batchTasks.get(i);
+			Map<String, String> vals = (spool != null && task.isDone() ? spool.get(task.getId(), Report.signature(task)) : null);
+			if (vals == null) futures.put(i, Report.pool().submit(() -> Report.spoolTask(task, yaml, spool)));
+			values.add(vals);
+		}
+
+		// Collect calculated values
+		try {
+			for (Map.Entry<Integer, Future<Map<String, String>>> e : futures.entrySet())
+				values.set(e.getKey(), new LinkedHashMap<>(e.getValue().get()));
+		} catch (InterruptedException | ExecutionException e) {
+			throw new RuntimeException("Error creating report values for tasks", e);
+		}
+
+		return values;
+	}
+
+}
@@ -1,13 +1,10 @@
 package org.bds.run;
 
 import java.io.BufferedReader;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
 
 import org.bds.Bds;
 import org.bds.BdsLog;
@@ -18,6 +15,7 @@ import org.bds.compile.BdsCompiler;
 import org.bds.compile.BdsNodeWalker;
 import org.bds.compile.CompilerMessages;
 import org.bds.data.Data;
+import org.bds.data.DataCache;
 import org.bds.data.FtpConnectionFactory;
 import org.bds.executioner.ExecutionerCloud;
 import org.bds.executioner.ExecutionerFileSystem;
@@ -39,9 +37,11 @@ import org.bds.lang.type.TypeClassException;
 import org.bds.lang.type.TypeClassExceptionConcurrentModification;
 import org.bds.lang.type.Types;
 import org.bds.osCmd.CmdAws;
+import org.bds.report.Report;
 import org.bds.scope.GlobalScope;
 import org.bds.scope.Scope;
 import org.bds.symbol.GlobalSymbolTable;
+import org.bds.task.TaskCache;
 import org.bds.task.TaskDependecies;
 import org.bds.util.Timer;
 import org.bds.vm.BdsVm;
@@ -103,6 +103,9 @@ public class BdsRun implements BdsLog {
 		GlobalScope.reset();
 		TaskDependecies.reset();
 		FtpConnectionFactory.kill();
+		DataCache.reset();
+		TaskCache.reset();
+		Report.reset();
 	}
 
 	public BdsRun() {
@@ -354,9 +357,7 @@ public class BdsRun implements BdsLog {
 			String localFile = d.isRemote() ? d.getLocalPath() : d.getAbsolutePath();
 			if (d.isRemote()) d.download();
 			// Load data from local file
-			ObjectInputStream in = new ObjectInputStream(new GZIPInputStream(new FileInputStream(localFile)));
-			bdsThreadRoot = (BdsThread) in.readObject();
-			in.close();
+			bdsThreadRoot = (BdsThread) CheckpointCodec.read(localFile);
 		} catch (Exception e) {
 			throw new RuntimeException("Error while reading checkpoint file '" + chekcpointRestoreFile + "'", e);
 		}
@@ -456,6 +457,9 @@ public class BdsRun implements BdsLog {
 
 		// Kill other timer tasks
 		FtpConnectionFactory.kill();
+		DataCache.kill(); // Show data cache statistics (if any)
+		TaskCache.kill(); // Show task cache statistics (if any)
+		Report.kill(); // Remove report spool files
 
 		config.kill(); // Kill 'tail' and 'monitor' threads
 
@@ -649,6 +653,13 @@ public class BdsRun implements BdsLog {
 		this.bdsThread = bdsThread;
 		if (bdsThread.getRunState().isFinished()) return 0;
 
+		// Profile bds code?
+		Profiler profiler = null;
+		if (config.isProfile()) {
+			profiler = new Profiler(bdsThread, config.getProfileInterval());
+			profiler.start();
+		}
+
 		bdsThread.start();
 
 		try {
@@ -657,6 +668,12 @@ public class BdsRun implements BdsLog {
 			// Nothing to do?
 			// May be checkpoint?
 			return 1;
+		} finally {
+			if (profiler != null) {
+				profiler.kill();
+				String baseName = config.getReportFileName() != null ? config.getReportFileName() : bdsThread.getBdsThreadId();
+				profiler.save(baseName);
+			}
 		}
 
 		// Check stack
@@ -1,8 +1,6 @@
 package org.bds.run;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -13,12 +11,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
-import java.util.zip.GZIPOutputStream;
 
 import org.bds.BdsLog;
 import org.bds.Config;
 import org.bds.compile.BdsNodeWalker;
 import org.bds.data.Data;
+import org.bds.data.DataDeleter;
 import org.bds.executioner.Executioner;
 import org.bds.executioner.Executioners;
 import org.bds.lang.BdsNode;
@@ -33,11 +31,13 @@ import org.bds.lang.value.Value;
 import org.bds.lang.value.ValueList;
 import org.bds.lang.value.ValueString;
 import org.bds.osCmd.Exec;
+import org.bds.osCmd.ExecCoprocess;
 import org.bds.report.Report;
 import org.bds.scope.Scope;
 import org.bds.task.Task;
 import org.bds.task.TaskDependecies;
 import org.bds.task.TaskVmOpcode;
+import org.bds.util.DeleteOnExit;
 import org.bds.util.Gpr;
 import org.bds.util.Timer;
 import org.bds.vm.BdsVm;
@@ -81,6 +81,8 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 	int bdsThreadNum; // Thread number
 	Map<String, BdsThread> bdsChildThreadsById; // Child threads
 	TaskDependecies taskDependecies;
+	transient volatile Profiler.State profileState; // What is this thread doing (used by profiler)
+	transient ExecCoprocess sysCoprocess; // Shell process used to run 'sys' commands (config option 'sysCoprocess')
 
 	/**
 	 * Get an ID for a node
@@ -184,6 +186,15 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 	 * Create a checkpoint
 	 */
 	public String checkpoint(String checkpointFileName) {
+		return checkpoint(checkpointFileName, false);
+	}
+
+	/**
+	 * Create a checkpoint
+	 * @param async : If true, the program only stops while its state is copied to memory,
+	 *                the checkpoint file is written (and uploaded) in the background
+	 */
+	public String checkpoint(String checkpointFileName, boolean async) {
 		// Default file name
 		if (checkpointFileName == null) {
 			checkpointFileName = statement.getFileNameCanonical() + ".chp";
@@ -196,32 +207,44 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 		// Save
 		if (isVerbose()) System.err.println("Creating checkpoint file: '" + checkpointFileName + "'");
 
+		// Checkpoints are written in order: Wait for pending (background) checkpoints on the same file
+		if (!async) CheckpointWriter.get().waitFor(filePath);
+
+		List<byte[]> snapshot = null;
+		Profiler.State profileStatePrev = setProfileState(Profiler.State.CHECKPOINT);
 		try {
 			// Freeze all threads (cannot serialize while running and changing state)
 			Freeze.freeze();
 
-			// Serialize root BdsThred to file
-			String localPath = d.isRemote() ? d.getLocalPath() : checkpointFileName;
+			if (async) {
+				// Serialize root BdsThred to memory, the file is written after un-freezing
+				snapshot = CheckpointCodec.snapshot(getRoot());
+			} else {
+				// Serialize root BdsThred to file
+				String localPath = d.isRemote() ? d.getLocalPath() : checkpointFileName;
 
-			// Make directory
-			File parent = (new File(localPath)).getParentFile();
-			if (parent != null) parent.mkdirs();
+				// Make directory
+				File parent = (new File(localPath)).getParentFile();
+				if (parent != null) parent.mkdirs();
 
-			// Save file
-			ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(new FileOutputStream(localPath)));
-			out.writeObject(getRoot());
-			out.close();
+				// Save file
+				CheckpointCodec.write(getRoot(), localPath);
 
-			// Upload remote file
-			if (d.isRemote()) d.upload();
+				// Upload remote file
+				if (d.isRemote()) d.upload();
+			}
 		} catch (Exception e) {
 			e.printStackTrace();
 			throw new RuntimeException("Error while serializing to file '" + checkpointFileName + "'", e);
 		} finally {
 			// Un-freeze all threads
 			Freeze.unfreeze();
+			setProfileState(profileStatePrev);
 		}
 
+		// Write checkpoint file in the background
+		if (async) CheckpointWriter.get().write(snapshot, d, filePath);
+
 		return filePath;
 	}
 
@@ -236,7 +259,7 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 		if (checkpointFileName.isEmpty()) {
 			checkpointFileName = generateId(node, "checkpoint", null, false, true) + ".chp";
 		}
-		checkpointFileName = checkpoint(checkpointFileName);
+		checkpointFileName = checkpoint(checkpointFileName, Config.get().isCheckpointAsync());
 		return checkpointFileName;
 	}
 
@@ -280,11 +303,27 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 		return chpFile.getAbsolutePath();
 	}
 
+	/**
+	 * Path to a checkpoint file being written in the background
+	 * @return Checkpoint file's path or null if 'checkpointFileName' is not being written
+	 */
+	String checkpointPath(String checkpointFileName) {
+		try {
+			Data d = Data.factory(checkpointFileName);
+			String filePath = d.isRemote() ? d.toString() : d.getAbsolutePath();
+			return CheckpointWriter.get().isPending(filePath) ? filePath : null;
+		} catch (Exception e) {
+			return null; // Not a valid file name
+		}
+	}
+
 	void cleanupBeforeReport() {
 		// We are completely done
 		setRunState(RunState.FINISHED);
 
 		// Finish up
+		if (sysCoprocess != null) sysCoprocess.close();
+		if (isRoot() && !CheckpointWriter.get().waitAll()) error("Error writing checkpoint files");
 		removeStaleData();
 		timer.end();
 	}
@@ -331,7 +370,7 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 		if (!logdir.exists()) logdir.mkdirs();
 
 		// No logging? Delete on exit
-		if ((config != null) && !config.isLog()) logdir.deleteOnExit();
+		if ((config != null) && !config.isLog()) DeleteOnExit.get().addDir(logdir.getAbsolutePath());
 	}
 
 	/**
@@ -461,7 +500,7 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 		return bdsThreadId;
 	}
 
-	public List<BdsThread> getBdsThreads() {
+	public synchronized List<BdsThread> getBdsThreads() {
 		List<BdsThread> list = new ArrayList<>();
 		list.addAll(bdsChildThreadsById.values());
 		return list;
@@ -495,6 +534,21 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 		return currentDir;
 	}
 
+	/**
+	 * Get (or create) a coprocess to run 'sys' commands
+	 * @return A coprocess or null if coprocesses are disabled or 'sysShell' is not supported
+	 */
+	public synchronized ExecCoprocess getSysCoprocess() {
+		if (sysCoprocess == null && Config.get().isSysCoprocess()) {
+			sysCoprocess = ExecCoprocess.factory(Config.get().getSysShell());
+			if (sysCoprocess == null) {
+				warning("Config option '" + Config.SYS_COPROCESS + "' is not supported for shell '" + Config.get().getSysShell() + "', using one process per 'sys' command");
+				Config.get().setSysCoprocess(false);
+			}
+		}
+		return sysCoprocess;
+	}
+
 	public int getExitValue() {
 		return exitValue;
 	}
@@ -532,6 +586,11 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 		return parent;
 	}
 
+	public Profiler.State getProfileState() {
+		Profiler.State state = profileState;
+		return state != null ? state : Profiler.State.VM;
+	}
+
 	public ProgramUnit getProgramUnit() {
 		return (ProgramUnit) statement;
 	}
@@ -808,11 +867,8 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 			if (config != null && config.isNoRmOnExit()) {
 				log("\tDeleting stale files: Cancelled ('noRmOnExit' is active).");
 			} else {
-				log("Deleting stale files");
-				for (Data dfile : removeOnExit) {
-					log("Deleting file '" + dfile + "'");
-					dfile.delete();
-				}
+				log("Deleting stale files: " + removeOnExit.size());
+				new DataDeleter(removeOnExit).delete();
 			}
 		}
 	}
@@ -908,6 +964,16 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 		this.freeze = freeze;
 	}
 
+	/**
+	 * Set profiler state
+	 * @return Previous state
+	 */
+	public Profiler.State setProfileState(Profiler.State profileState) {
+		Profiler.State prev = getProfileState();
+		this.profileState = profileState;
+		return prev;
+	}
+
 	public void setRandomSeed(long seed) {
 		random = new Random(seed);
 	}
@@ -981,16 +1047,26 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 	public boolean wait(String id) {
 		if (id == null) return true;
 
-		// Note: We could be waiting for another thread's taskID.
-		//       So we need to wait on the global TaskDependencies
-		if (TaskDependecies.get().hasTask(id)) return TaskDependecies.get().waitTask(id);
+		Profiler.State profileStatePrev = setProfileState(Profiler.State.WAIT);
+		try {
+			// Note: We could be waiting for another thread's taskID.
+			//       So we need to wait on the global TaskDependencies
+			if (TaskDependecies.get().hasTask(id)) return TaskDependecies.get().waitTask(id);
+
+			// Note: We could be waiting for a non-child thread to finish
+			//       So we have to wait on the 'root' BdsThread'
+			BdsThread bdsThRoot = getRoot();
+			BdsThread bdsTh = bdsThRoot.getThread(id);
+			if (bdsTh != null) return waitThread(bdsTh);
+
+			// Checkpoint file being written in the background?
+			String chpPath = checkpointPath(id);
+			if (chpPath != null) return CheckpointWriter.get().waitFor(chpPath);
 
-		// Note: We could be waiting for a non-child thread to finish
-		//       So we have to wait on the 'root' BdsThread'
-		BdsThread bdsThRoot = getRoot();
-		BdsThread bdsTh = bdsThRoot.getThread(id);
-		if (bdsTh != null) return waitThread(bdsTh);
-		return true; // Nothing to do (already finished)
+			return true; // Nothing to do (already finished)
+		} finally {
+			setProfileState(profileStatePrev);
+		}
 	}
 
 	/**
@@ -1010,9 +1086,15 @@ public class BdsThread extends Thread implements Serializable, BdsLog {
 	}
 
 	public boolean waitAll() {
-		boolean ok = taskDependecies.waitTasksAll();
-		ok &= waitThreadAll();
-		return ok;
+		Profiler.State profileStatePrev = setProfileState(Profiler.State.WAIT);
+		try {
+			boolean ok = taskDependecies.waitTasksAll();
+			ok &= waitThreadAll();
+			ok &= CheckpointWriter.get().waitAll();
+			return ok;
+		} finally {
+			setProfileState(profileStatePrev);
+		}
 	}
 
 	/**
@@ -1,25 +1,29 @@
 package org.bds.run;
 
-import java.io.ObjectStreamException;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * All BdsThreads are tracked here
  *
+ * The current thread's BdsThread is kept in a ThreadLocal, so looking it
+ * up (e.g. every time a string is converted to a 'Data' object) does not
+ * require any locking. This also works if BdsThreads are executed on
+ * pooled threads, since the entry is removed when the BdsThread finishes.
+ *
  * @author pcingola
  */
 public class BdsThreads {
 
 	public static boolean doNotRemoveThreads = false; // This is used in only for some test cases
 
-	private static BdsThreads bdsThreadsInstance = new BdsThreads();
+	private static volatile BdsThreads bdsThreadsInstance = new BdsThreads();
 
-	BdsThread bdsThreadRoot = null;
-	Map<Long, BdsThread> bdsThreadByThreadId = new HashMap<>();
-	Set<BdsThread> bdsThreadDone = new HashSet<>();
+	volatile BdsThread bdsThreadRoot = null;
+	Map<Long, BdsThread> bdsThreadByThreadId = new ConcurrentHashMap<>();
+	ThreadLocal<BdsThread> bdsThreadCurrent = new ThreadLocal<>();
+	Set<BdsThread> bdsThreadDone = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Get singleton
@@ -36,28 +40,27 @@ public class BdsThreads {
 	}
 
 	/**
-	 * Add a bdsThread
+	 * Add a bdsThread: It becomes the current thread's BdsThread
 	 */
-	public synchronized void add(BdsThread bdsThread) {
+	public void add(BdsThread bdsThread) {
 		long id = Thread.currentThread().getId();
 		if (bdsThreadRoot == null && bdsThread.isRoot()) bdsThreadRoot = bdsThread;
+		bdsThreadCurrent.set(bdsThread);
 		bdsThreadByThreadId.put(id, bdsThread);
 	}
 
 	/**
 	 * Get bdsThread
 	 */
-	public synchronized BdsThread get() {
-		long id = Thread.currentThread().getId();
-		return bdsThreadByThreadId.get(id);
+	public BdsThread get() {
+		return bdsThreadCurrent.get();
 	}
 
 	/**
 	 * Get current bds thread if found, otherwise return root thread
 	 */
-	public synchronized BdsThread getOrRoot() {
-		long id = Thread.currentThread().getId();
-		BdsThread bdsThread = bdsThreadByThreadId.get(id);
+	public BdsThread getOrRoot() {
+		BdsThread bdsThread = bdsThreadCurrent.get();
 		if (bdsThread != null) return bdsThread;
 		return bdsThreadRoot;
 	}
@@ -66,24 +69,17 @@ public class BdsThreads {
 		return bdsThreadRoot;
 	}
 
-	/**
-	 * Resolve un-serialization
-	 */
-	private Object readResolve() throws ObjectStreamException {
-		bdsThreadsInstance = this; // Replace singleton instance
-		return this;
-	}
-
 	/**
 	 * Remove a bdsThread
 	 */
-	public synchronized void remove() {
+	public void remove() {
 		if (doNotRemoveThreads) return;
 
 		long id = Thread.currentThread().getId();
 		BdsThread bdsThread = get();
-		if (bdsThreadByThreadId.get(id) == bdsThread) {
-			bdsThreadByThreadId.remove(id);
+		if (bdsThread == null) return; // Nothing to do
+		if (bdsThreadByThreadId.remove(id, bdsThread)) {
+			bdsThreadCurrent.remove(); // Make sure a pooled thread does not keep a reference
 			bdsThreadDone.add(bdsThread);
 		} else throw new RuntimeException("Cannot remove thread '" + bdsThread.getBdsThreadId() + "'");
 	}
@@ -91,8 +87,8 @@ public class BdsThreads {
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
-		for (Long thid : bdsThreadByThreadId.keySet())
-			sb.append(thid + "\t" + bdsThreadByThreadId.get(thid).getBdsThreadId() + "\n");
+		for (Map.Entry<Long, BdsThread> e : bdsThreadByThreadId.entrySet())
+			sb.append(e.getKey() + "\t" + e.getValue().getBdsThreadId() + "\n");
 		return sb.toString();
 	}
 
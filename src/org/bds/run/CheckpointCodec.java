@@ -0,0 +1,461 @@
+package org.bds.run;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Read and write checkpoint files
+ *
+ * File format (version 1):
+ *
+ * 		magic   : 'BDSCHP' (6 bytes)
+ * 		version : int
+ * 		blocks  : Sequence of independently compressed (deflate) blocks
+ * 		          	int    : Uncompressed length (-1 marks the end of the file)
+ * 		          	int    : Compressed length
+ * 		          	byte[] : Compressed data
+ *
+ * Uncompressed data is a Java serialization stream with two changes to
+ * make it more compact:
+ * 		- Class descriptors only have the class name, serialVersionUID and a
+ * 		  hash of the serializable fields (instead of the full field list).
+ * 		  As usual, each class descriptor is written once per stream.
+ * 		- Equal strings are written once (later occurrences are references).
+ *
+ * Blocks are compressed and decompressed in parallel, so both creating
+ * and restoring checkpoints scale with the number of cores.
+ *
+ * Old checkpoint files (a GZIP compressed Java serialization stream) can
+ * still be read.
+ *
+ * A checkpoint can also be created in two steps: 'snapshot' serializes the
+ * object to (uncompressed) memory blocks, then 'write' compresses and saves
+ * them. Only the first step requires the program to be stopped.
+ *
+ * @author pcingola
+ */
+public class CheckpointCodec {
+
+	/**
+	 * Read compressed blocks, decompress them in parallel (read-ahead)
+	 */
+	static class BlockInputStream extends InputStream {
+
+		byte[] block = new byte[0];
+		boolean eof;
+		DataInputStream in;
+		Deque<Future<byte[]>> pending = new ArrayDeque<>();
+		int pos;
+		ExecutorService pool;
+
+		BlockInputStream(DataInputStream in, ExecutorService pool) {
+			this.in = in;
+			this.pool = pool;
+		}
+
+		@Override
+		public void close() throws IOException {
+			for (Future<byte[]> f : pending)
+				f.cancel(true);
+			in.close();
+		}
+
+		/**
+		 * Load next uncompressed block
+		 * @return false if there are no more blocks
+		 */
+		boolean nextBlock() throws IOException {
+			readAhead();
+			if (pending.isEmpty()) return false;
+			try {
+				block = pending.poll().get();
+				pos = 0;
+				return true;
+			} catch (InterruptedException | ExecutionException e) {
+				throw new IOException("Error decompressing checkpoint block", e);
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (pos >= block.length && !nextBlock()) return -1;
+			return block[pos++] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) return 0;
+			if (pos >= block.length && !nextBlock()) return -1;
+			int n = Math.min(len, block.length - pos);
+			System.arraycopy(block, pos, b, off, n);
+			pos += n;
+			return n;
+		}
+
+		/**
+		 * Read compressed blocks and submit them for decompression
+		 */
+		void readAhead() throws IOException {
+			while (!eof && pending.size() < MAX_PENDING_BLOCKS) {
+				int len = in.readInt();
+				if (len < 0) {
+					eof = true;
+					break;
+				}
+
+				byte[] compressed = new byte[in.readInt()];
+				in.readFully(compressed);
+				pending.add(pool.submit(() -> inflate(compressed, len)));
+			}
+		}
+	}
+
+	/**
+	 * Split data into blocks, compress them in parallel
+	 */
+	static class BlockOutputStream extends OutputStream {
+
+		byte[] block;
+		DataOutputStream out;
+		Deque<Future<byte[][]>> pending = new ArrayDeque<>();
+		int pos;
+		ExecutorService pool;
+
+		BlockOutputStream(DataOutputStream out, ExecutorService pool) {
+			this.out = out;
+			this.pool = pool;
+			block = new byte[BLOCK_SIZE];
+		}
+
+		@Override
+		public void close() throws IOException {
+			submit();
+			while (!pending.isEmpty())
+				writeBlock();
+			out.writeInt(-1); // End of blocks
+			out.close();
+		}
+
+		/**
+		 * Compress current block
+		 */
+		void submit() throws IOException {
+			if (pos == 0) return;
+			byte[] data = Arrays.copyOf(block, pos);
+			pending.add(pool.submit(() -> new byte[][] { data, deflate(data) }));
+			pos = 0;
+
+			// Limit memory usage: Write blocks if too many are pending
+			while (pending.size() >= MAX_PENDING_BLOCKS)
+				writeBlock();
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				int n = Math.min(len, block.length - pos);
+				System.arraycopy(b, off, block, pos, n);
+				pos += n;
+				off += n;
+				len -= n;
+				if (pos >= block.length) submit();
+			}
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			block[pos++] = (byte) b;
+			if (pos >= block.length) submit();
+		}
+
+		/**
+		 * Write the oldest pending block (blocks are written in order)
+		 */
+		void writeBlock() throws IOException {
+			try {
+				byte[][] dataCompressed = pending.poll().get();
+				out.writeInt(dataCompressed[0].length);
+				out.writeInt(dataCompressed[1].length);
+				out.write(dataCompressed[1]);
+			} catch (InterruptedException | ExecutionException e) {
+				throw new IOException("Error compressing checkpoint block", e);
+			}
+		}
+	}
+
+	/**
+	 * Read compact class descriptors
+	 */
+	static class CompactObjectInputStream extends ObjectInputStream {
+
+		CompactObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+			String className = readUTF();
+			long serialVersionUID = readLong();
+			int fieldsHash = readInt();
+
+			Class<?> clazz = Class.forName(className, false, CheckpointCodec.class.getClassLoader());
+			ObjectStreamClass desc = ObjectStreamClass.lookup(clazz);
+			if (desc == null) throw new InvalidClassException(className, "Class is not serializable");
+			if (desc.getSerialVersionUID() != serialVersionUID || fieldsHash(desc) != fieldsHash) throw new InvalidClassException(className, "Class does not match the one used to create the checkpoint (created by a different bds version?)");
+			return desc;
+		}
+	}
+
+	/**
+	 * Write compact class descriptors and de-duplicate strings
+	 */
+	static class CompactObjectOutputStream extends ObjectOutputStream {
+
+		Map<String, String> strings = new HashMap<>();
+
+		CompactObjectOutputStream(OutputStream out) throws IOException {
+			super(out);
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) throws IOException {
+			if (!(obj instanceof String)) return obj;
+			String str = (String) obj;
+			String prev = strings.putIfAbsent(str, str);
+			return prev != null ? prev : str;
+		}
+
+		@Override
+		protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+			writeUTF(desc.getName());
+			writeLong(desc.getSerialVersionUID());
+			writeInt(fieldsHash(desc));
+		}
+	}
+
+	/**
+	 * Store data in memory, using blocks of BLOCK_SIZE bytes
+	 */
+	static class SnapshotOutputStream extends OutputStream {
+
+		byte[] block = new byte[BLOCK_SIZE];
+		List<byte[]> blocks = new ArrayList<>();
+		int pos;
+
+		@Override
+		public void close() {
+			if (pos > 0) blocks.add(Arrays.copyOf(block, pos));
+			pos = 0;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			while (len > 0) {
+				int n = Math.min(len, block.length - pos);
+				System.arraycopy(b, off, block, pos, n);
+				pos += n;
+				off += n;
+				len -= n;
+				if (pos >= block.length) {
+					blocks.add(block);
+					block = new byte[BLOCK_SIZE];
+					pos = 0;
+				}
+			}
+		}
+
+		@Override
+		public void write(int b) {
+			block[pos++] = (byte) b;
+			if (pos >= block.length) {
+				blocks.add(block);
+				block = new byte[BLOCK_SIZE];
+				pos = 0;
+			}
+		}
+	}
+
+	public static final int BLOCK_SIZE = 1024 * 1024;
+	public static final byte[] MAGIC = "BDSCHP".getBytes(StandardCharsets.US_ASCII);
+	public static final int MAX_PENDING_BLOCKS = 4 * Runtime.getRuntime().availableProcessors();
+	public static final int MAX_THREADS = 8;
+	public static final int VERSION = 1;
+
+	/**
+	 * Compress a block
+	 */
+	static byte[] deflate(byte[] data) {
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+			byte[] buffer = new byte[64 * 1024];
+			while (!deflater.finished()) {
+				int len = deflater.deflate(buffer);
+				out.write(buffer, 0, len);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * A hash of the class' serializable fields (names and types)
+	 */
+	static int fieldsHash(ObjectStreamClass desc) {
+		int hash = 1;
+		for (ObjectStreamField f : desc.getFields())
+			hash = 31 * hash + (f.getName() + ":" + f.getTypeCode() + (f.getTypeString() != null ? f.getTypeString() : "")).hashCode();
+		return hash;
+	}
+
+	/**
+	 * Decompress a block
+	 */
+	static byte[] inflate(byte[] compressed, int len) throws DataFormatException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] data = new byte[len];
+			int pos = 0;
+			while (pos < len) {
+				int n = inflater.inflate(data, pos, len - pos);
+				if (n == 0 && (inflater.finished() || inflater.needsInput())) break;
+				pos += n;
+			}
+			if (pos != len) throw new DataFormatException("Checkpoint block size mismatch: expected " + len + " bytes, got " + pos);
+			return data;
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Thread pool to compress / decompress blocks
+	 */
+	static ExecutorService newPool() {
+		int numThreads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+		return Executors.newFixedThreadPool(numThreads, r -> {
+			Thread t = new Thread(r, "Checkpoint");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/**
+	 * Create a checkpoint file, write header
+	 */
+	static BlockOutputStream open(String fileName, ExecutorService pool) throws IOException {
+		DataOutputStream dout = new DataOutputStream(new FileOutputStream(fileName));
+		dout.write(MAGIC);
+		dout.writeInt(VERSION);
+		return new BlockOutputStream(dout, pool);
+	}
+
+	/**
+	 * Read an object from a checkpoint file
+	 */
+	public static Object read(String fileName) throws IOException, ClassNotFoundException {
+		ExecutorService pool = null;
+		try (InputStream fin = new BufferedInputStream(new FileInputStream(fileName))) {
+			// Read header
+			fin.mark(MAGIC.length);
+			byte[] magic = new byte[MAGIC.length];
+			int len = fin.readNBytes(magic, 0, magic.length);
+			fin.reset();
+
+			// Old format: GZIP compressed serialization stream
+			if (len < MAGIC.length || !Arrays.equals(magic, MAGIC)) {
+				try (ObjectInputStream in = new ObjectInputStream(new GZIPInputStream(fin))) {
+					return in.readObject();
+				}
+			}
+
+			DataInputStream din = new DataInputStream(fin);
+			din.readFully(magic);
+			int version = din.readInt();
+			if (version != VERSION) throw new StreamCorruptedException("Unsupported checkpoint version " + version + " (expected version " + VERSION + ")");
+
+			// Read blocks
+			pool = newPool();
+			try (ObjectInputStream in = new CompactObjectInputStream(new BlockInputStream(din, pool))) {
+				return in.readObject();
+			}
+		} catch (EOFException e) {
+			throw new StreamCorruptedException("Unexpected end of checkpoint file '" + fileName + "'");
+		} finally {
+			if (pool != null) pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Serialize an object to memory (uncompressed blocks)
+	 */
+	public static List<byte[]> snapshot(Object obj) throws IOException {
+		SnapshotOutputStream sout = new SnapshotOutputStream();
+		try (ObjectOutputStream out = new CompactObjectOutputStream(sout)) {
+			out.writeObject(obj);
+		}
+		return sout.blocks;
+	}
+
+	/**
+	 * Write a snapshot (see 'snapshot') to a checkpoint file
+	 */
+	public static void write(List<byte[]> snapshot, String fileName) throws IOException {
+		ExecutorService pool = newPool();
+		try (OutputStream out = open(fileName, pool)) {
+			for (byte[] block : snapshot)
+				out.write(block, 0, block.length);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Write an object to a checkpoint file
+	 */
+	public static void write(Object obj, String fileName) throws IOException {
+		ExecutorService pool = newPool();
+		try (ObjectOutputStream out = new CompactObjectOutputStream(open(fileName, pool))) {
+			out.writeObject(obj);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,188 @@
+package org.bds.run;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.bds.BdsLog;
+import org.bds.data.Data;
+import org.bds.util.Timer;
+
+/**
+ * Write checkpoint files in the background.
+ *
+ * Creating a checkpoint only stops the program while its state is
+ * serialized to memory (see CheckpointCodec.snapshot). Compressing,
+ * writing and uploading the file (for remote checkpoint files) is
+ * done here, while the program continues.
+ *
+ * Checkpoints are written in order, one at a time. To limit memory
+ * usage, creating a new checkpoint waits if there are too many
+ * snapshots pending.
+ *
+ * @author pcingola
+ */
+public class CheckpointWriter implements BdsLog {
+
+	/**
+	 * A checkpoint being written
+	 */
+	static class Pending {
+		String filePath;
+		Future<Boolean> future;
+
+		Pending(String filePath, Future<Boolean> future) {
+			this.filePath = filePath;
+			this.future = future;
+		}
+	}
+
+	public static final int MAX_PENDING = 2; // Maximum number of snapshots waiting to be written
+
+	private static CheckpointWriter checkpointWriter;
+
+	ExecutorService executor;
+	Deque<Pending> pending;
+
+	/**
+	 * Get singleton
+	 */
+	public static synchronized CheckpointWriter get() {
+		if (checkpointWriter == null) checkpointWriter = new CheckpointWriter();
+		return checkpointWriter;
+	}
+
+	CheckpointWriter() {
+		pending = new ArrayDeque<>();
+	}
+
+	/**
+	 * Is a checkpoint file being written?
+	 */
+	public synchronized boolean isPending(String filePath) {
+		removeDone();
+		for (Pending p : pending)
+			if (p.filePath.equals(filePath)) return true;
+		return false;
+	}
+
+	/**
+	 * Oldest pending checkpoint, if there are too many pending
+	 */
+	synchronized Pending oldest() {
+		removeDone();
+		return pending.size() >= MAX_PENDING ? pending.peekFirst() : null;
+	}
+
+	/**
+	 * Remove finished checkpoints from the 'pending' queue
+	 */
+	synchronized void removeDone() {
+		while (!pending.isEmpty() && pending.peekFirst().future.isDone())
+			pending.pollFirst();
+	}
+
+	/**
+	 * Wait until all checkpoint files are written
+	 * @return true if all checkpoint files were written OK
+	 */
+	public boolean waitAll() {
+		List<Pending> toWait;
+		synchronized (this) {
+			toWait = new ArrayList<>(pending);
+		}
+
+		boolean ok = true;
+		for (Pending p : toWait)
+			ok &= waitFor(p);
+		removeDone();
+		return ok;
+	}
+
+	/**
+	 * Wait for a pending checkpoint
+	 * @return true if the checkpoint was written OK
+	 */
+	boolean waitFor(Pending p) {
+		try {
+			return p.future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Wait until checkpoint file 'filePath' is written
+	 * @return true if the checkpoint file was written OK (or there was nothing to wait for)
+	 */
+	public boolean waitFor(String filePath) {
+		List<Pending> toWait = new ArrayList<>();
+		synchronized (this) {
+			for (Pending p : pending)
+				if (p.filePath.equals(filePath)) toWait.add(p);
+		}
+
+		boolean ok = true;
+		for (Pending p : toWait)
+			ok &= waitFor(p);
+		removeDone();
+		return ok;
+	}
+
+	/**
+	 * Write a snapshot to a checkpoint file in the background
+	 * @param snapshot : State serialized by CheckpointCodec.snapshot()
+	 * @param d : Checkpoint file
+	 * @param filePath : Checkpoint file's absolute path (or URL)
+	 */
+	public void write(List<byte[]> snapshot, Data d, String filePath) {
+		// Too many snapshots in memory? Wait for the oldest one
+		for (Pending oldest; (oldest = oldest()) != null;)
+			waitFor(oldest);
+
+		synchronized (this) {
+			if (executor == null) {
+				executor = Executors.newSingleThreadExecutor(r -> {
+					Thread t = new Thread(r, "CheckpointWriter");
+					t.setDaemon(true);
+					return t;
+				});
+			}
+			pending.add(new Pending(filePath, executor.submit(() -> write(snapshot, d))));
+		}
+	}
+
+	/**
+	 * Write a snapshot to a checkpoint file
+	 */
+	boolean write(List<byte[]> snapshot, Data d) {
+		Timer timer = new Timer();
+		String localPath = d.isRemote() ? d.getLocalPath() : d.getAbsolutePath();
+		try {
+			// Make directory
+			File parent = (new File(localPath)).getParentFile();
+			if (parent != null) parent.mkdirs();
+
+			// Save file and upload it (if remote)
+			CheckpointCodec.write(snapshot, localPath);
+			if (d.isRemote() && !d.upload()) throw new RuntimeException("Cannot upload checkpoint file '" + d + "'");
+
+			debug("Checkpoint file '" + d + "' written, elapsed time: " + timer);
+			return true;
+		} catch (Throwable t) {
+			error("Error while writing checkpoint file '" + d + "': " + t.getMessage());
+			if (isDebug()) t.printStackTrace();
+			return false;
+		}
+	}
+
+}
@@ -1,6 +1,7 @@
 package org.bds.run;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -22,7 +23,7 @@ public class Coverage {
 	static String TABLE_SEPARATOR_LINE = "+----------------------------------------------------+-------------------+---------+------------------------";
 
 	Set<BdsNode> bdsNodes;
-	Map<Integer, Integer> coverageCounter;
+	int[] coverageCounter; // Count how many times a nodeId was traversed (indexed by nodeId)
 	Map<String, Boolean[]> coverageByFile;
 	int countLines = -1, countCovered = -1;
 	double coverageRatio = -1;
@@ -36,7 +37,7 @@ public class Coverage {
 
 	public Coverage() {
 		bdsNodes = new HashSet<>();
-		coverageCounter = new HashMap<>();
+		coverageCounter = new int[0];
 	}
 
 	/**
@@ -47,11 +48,17 @@ public class Coverage {
 		bdsNodes.addAll(vm.findNodes());
 
 		// Update node coverage counters
-		Map<Integer, Integer> vmcov = vm.getCoverageCounter();
-		for (Integer nodeId : vmcov.keySet()) {
-			int count = coverageCounter.getOrDefault(nodeId, 0);
-			coverageCounter.put(nodeId, count + vmcov.get(nodeId));
-		}
+		int[] vmcov = vm.getCoverageCounter();
+		if (vmcov.length > coverageCounter.length) coverageCounter = Arrays.copyOf(coverageCounter, vmcov.length);
+		for (int nodeId = 0; nodeId < vmcov.length; nodeId++)
+			coverageCounter[nodeId] += vmcov[nodeId];
+	}
+
+	/**
+	 * Coverage count for a node
+	 */
+	int coverageCount(int nodeId) {
+		return nodeId >= 0 && nodeId < coverageCounter.length ? coverageCounter[nodeId] : 0;
 	}
 
 	/**
@@ -63,7 +70,7 @@ public class Coverage {
 
 		// Set all the ones that have coverage count
 		for (BdsNode bdsNode : bdsNodes) {
-			int covcount = coverageCounter.getOrDefault(bdsNode.getId(), 0);
+			int covcount = coverageCount(bdsNode.getId());
 			String fileName = bdsNode.getFileNameCanonical();
 			int lineNum = bdsNode.getLineNum();
 			setCoverageByFile(fileName, lineNum, (covcount > 0));
@@ -80,7 +87,7 @@ public class Coverage {
 		// still not covered. But the 'if' NODE, has already set this line as
 		// covered, so we now undo that
 		for (BdsNode bdsNode : bdsNodes) {
-			int covcount = coverageCounter.getOrDefault(bdsNode.getId(), 0);
+			int covcount = coverageCount(bdsNode.getId());
 			String fileName = bdsNode.getFileNameCanonical();
 			int lineNum = bdsNode.getLineNum();
 			if (covcount == 0) setCoverageByFile(fileName, lineNum, false);
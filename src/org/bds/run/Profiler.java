@@ -0,0 +1,277 @@
+package org.bds.run;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bds.BdsLog;
+import org.bds.lang.BdsNode;
+import org.bds.lang.BdsNodeFactory;
+import org.bds.lang.statement.FunctionDeclaration;
+import org.bds.util.Gpr;
+import org.bds.util.TextTable;
+
+/**
+ * A sampling profiler for bds code (i.e. 'bds -profile ...')
+ *
+ * Every 'interval' milliseconds, each running BdsThread is sampled:
+ * 		- Current node (i.e. source code line)
+ * 		- Call stack (call sites in each CallFrame)
+ * 		- State (what the thread is doing: running VM code, waiting for a
+ * 		  'sys' command, waiting for tasks / threads, creating a checkpoint
+ * 		  or transferring remote files)
+ *
+ * Two files are created after the program finishes:
+ * 		- 'baseName.profile.collapsed': Collapsed stacks, one per line
+ * 		  ('frame1;frame2;...;frameN count'). This is the input format for
+ * 		  flame-graph tools (e.g. 'flamegraph.pl').
+ * 		- 'baseName.profile.txt': Number of samples per source line,
+ * 		  broken down by state.
+ *
+ * Note: Sampling reads VM state from another thread without any locking,
+ *       so the VM is not slowed down. A sample may be slightly inconsistent
+ *       (e.g. a function returning while it's being sampled), which is
+ *       fine for statistical profiling.
+ *
+ * @author pcingola
+ */
+public class Profiler extends Thread implements BdsLog {
+
+	/**
+	 * What a BdsThread is doing
+	 */
+	public enum State {
+		VM, SYS, WAIT, CHECKPOINT, IO;
+
+		/**
+		 * Frame name used in collapsed stacks (null for plain VM execution)
+		 */
+		public String frameName() {
+			return this == VM ? null : "[" + toString().toLowerCase() + "]";
+		}
+	}
+
+	public static final long DEFAULT_INTERVAL = 10; // Default sampling interval (milliseconds)
+	public static final String EXT_COLLAPSED = ".profile.collapsed";
+	public static final String EXT_TABLE = ".profile.txt";
+	public static final String NODE_UNKNOWN = "[unknown]";
+
+	Map<String, Integer> countByStack; // Number of samples for each (collapsed) stack
+	Map<String, int[]> countByLineState; // Number of samples for each source line (leaf of the call stack), by state
+	long interval;
+	Map<Integer, String> frameNameByNodeId; // Cache frame names
+	Map<Integer, String> lineByNodeId; // Cache source lines ('file:line')
+	BdsThread bdsThreadRoot;
+	volatile boolean running;
+	long samples; // Number of samples (one sample per BdsThread)
+
+	public Profiler(BdsThread bdsThreadRoot, long interval) {
+		super("Profiler");
+		setDaemon(true);
+		this.bdsThreadRoot = bdsThreadRoot;
+		this.interval = interval > 0 ? interval : DEFAULT_INTERVAL;
+		countByStack = new HashMap<>();
+		countByLineState = new HashMap<>();
+		frameNameByNodeId = new HashMap<>();
+		lineByNodeId = new HashMap<>();
+	}
+
+	/**
+	 * Add a sample
+	 * @param nodeIds : Call stack (callers first, current node last)
+	 */
+	public synchronized void add(int[] nodeIds, State state) {
+		int nodeId = nodeIds[nodeIds.length - 1];
+		if (nodeId < 0) return; // VM not running any code yet
+		samples++;
+
+		// Collapsed stack
+		StringBuilder sb = new StringBuilder();
+		for (int nid : nodeIds)
+			sb.append((sb.length() > 0 ? ";" : "") + frameName(nid));
+		if (state.frameName() != null) sb.append(";" + state.frameName());
+		countByStack.merge(sb.toString(), 1, Integer::sum);
+
+		// Counts by source line and state
+		String line = line(nodeId);
+		int[] counts = countByLineState.get(line);
+		if (counts == null) {
+			counts = new int[State.values().length];
+			countByLineState.put(line, counts);
+		}
+		counts[state.ordinal()]++;
+	}
+
+	/**
+	 * Frame name for a node: Enclosing function's name, file and line number
+	 */
+	String frameName(int nodeId) {
+		String name = frameNameByNodeId.get(nodeId);
+		if (name != null) return name;
+
+		BdsNode node = BdsNodeFactory.get().getNode(nodeId);
+		if (node == null) {
+			name = NODE_UNKNOWN;
+		} else {
+			String function = "main";
+			for (BdsNode n = node; n != null; n = n.getParent())
+				if (n instanceof FunctionDeclaration) {
+					function = ((FunctionDeclaration) n).getFunctionName();
+					break;
+				}
+			String line = line(nodeId);
+			name = function + " (" + line.substring(line.lastIndexOf('/') + 1) + ")";
+		}
+
+		frameNameByNodeId.put(nodeId, name);
+		return name;
+	}
+
+	public synchronized long getSamples() {
+		return samples;
+	}
+
+	/**
+	 * Stop sampling
+	 */
+	public void kill() {
+		running = false;
+		interrupt();
+		try {
+			join();
+		} catch (InterruptedException e) {
+			// Nothing to do
+		}
+	}
+
+	/**
+	 * Source line for a node ('file:line')
+	 */
+	String line(int nodeId) {
+		String line = lineByNodeId.get(nodeId);
+		if (line != null) return line;
+
+		BdsNode node = BdsNodeFactory.get().getNode(nodeId);
+		line = (node != null ? node.getFileName() + ":" + node.getLineNum() : NODE_UNKNOWN);
+		lineByNodeId.put(nodeId, line);
+		return line;
+	}
+
+	@Override
+	public void run() {
+		running = true;
+		while (running) {
+			try {
+				sample();
+			} catch (RuntimeException e) {
+				// A sample may be inconsistent (VM state is read without locking), do not stop profiling
+				debug("Error sampling threads: " + e);
+			}
+
+			try {
+				sleep(interval);
+			} catch (InterruptedException e) {
+				// Finished
+			}
+		}
+	}
+
+	/**
+	 * Sample all running BdsThreads
+	 */
+	void sample() {
+		List<BdsThread> bdsThreads = new ArrayList<>();
+		threads(bdsThreadRoot, bdsThreads);
+
+		for (BdsThread bdsThread : bdsThreads) {
+			if (!bdsThread.isAlive() || bdsThread.getVm() == null) continue;
+			int[] nodeIds = bdsThread.getVm().stackNodeIds();
+			add(nodeIds, bdsThread.getProfileState());
+		}
+	}
+
+	/**
+	 * Save collapsed stacks and per-line table
+	 */
+	public synchronized void save(String baseName) {
+		String collapsedFile = baseName + EXT_COLLAPSED;
+		String tableFile = baseName + EXT_TABLE;
+		log("Writing profile files '" + collapsedFile + "' and '" + tableFile + "', samples: " + samples);
+
+		try (BufferedWriter out = new BufferedWriter(new FileWriter(collapsedFile))) {
+			List<String> stacks = new ArrayList<>(countByStack.keySet());
+			stacks.sort(null);
+			for (String stack : stacks)
+				out.write(stack + " " + countByStack.get(stack) + "\n");
+		} catch (IOException e) {
+			throw new RuntimeException("Error writing profile file '" + collapsedFile + "'", e);
+		}
+
+		Gpr.toFile(tableFile, toStringTable());
+	}
+
+	/**
+	 * Add all threads (recursively)
+	 */
+	void threads(BdsThread bdsThread, List<BdsThread> bdsThreads) {
+		bdsThreads.add(bdsThread);
+		for (BdsThread child : bdsThread.getBdsThreads())
+			threads(child, bdsThreads);
+	}
+
+	@Override
+	public String toString() {
+		return "Profiler: interval " + interval + " ms, samples: " + samples + ", stacks: " + countByStack.size() + ", lines: " + countByLineState.size();
+	}
+
+	/**
+	 * Samples per source line (sorted by number of samples)
+	 */
+	public synchronized String toStringTable() {
+		State[] states = State.values();
+
+		// Column names
+		String[] columns = new String[3 + states.length];
+		columns[0] = "Line";
+		columns[1] = "Samples";
+		columns[2] = "%";
+		for (State s : states)
+			columns[3 + s.ordinal()] = s.toString().toLowerCase();
+
+		if (countByLineState.isEmpty()) return String.join("\t", columns) + "\n";
+
+		// Sort lines by number of samples
+		List<String> lines = new ArrayList<>(countByLineState.keySet());
+		Map<String, Integer> totalByLine = new HashMap<>();
+		for (String line : lines) {
+			int total = 0;
+			for (int c : countByLineState.get(line))
+				total += c;
+			totalByLine.put(line, total);
+		}
+		lines.sort((l1, l2) -> totalByLine.get(l2) - totalByLine.get(l1));
+
+		// Create rows
+		String[][] data = new String[lines.size()][];
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i);
+			int total = totalByLine.get(line);
+			int[] counts = countByLineState.get(line);
+
+			String[] row = new String[columns.length];
+			row[0] = line;
+			row[1] = "" + total;
+			row[2] = String.format("%.1f", 100.0 * total / samples);
+			for (State s : states)
+				row[3 + s.ordinal()] = "" + counts[s.ordinal()];
+			data[i] = row;
+		}
+
+		return new TextTable(columns, data).toString();
+	}
+
+}
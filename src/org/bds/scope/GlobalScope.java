@@ -48,6 +48,7 @@ public class GlobalScope extends Scope {
 	public static final String GLOBAL_VAR_TASK_OPTION_MEM = "mem";
 	public static final String GLOBAL_VAR_TASK_OPTION_NODE = "node";
 	public static final String GLOBAL_VAR_TASK_OPTION_PHYSICAL_PATH = "ppwd";
+	public static final String GLOBAL_VAR_TASK_OPTION_PRIORITY = "priority";
 	public static final String GLOBAL_VAR_TASK_OPTION_QUEUE = "queue";
 	public static final String GLOBAL_VAR_TASK_OPTION_RETRY = "retry";
 	public static final String GLOBAL_VAR_TASK_OPTION_SYSTEM = "system";
@@ -157,6 +158,7 @@ public class GlobalScope extends Scope {
 		add(GLOBAL_VAR_TASK_OPTION_DETACHED, false); // Tasks are running detached
 		add(GLOBAL_VAR_TASK_OPTION_MEM, mem); // Default amount of memory (unrestricted)
 		add(GLOBAL_VAR_TASK_OPTION_NODE, node); // Default node: none
+		add(GLOBAL_VAR_TASK_OPTION_PRIORITY, 0L); // Default priority
 		add(GLOBAL_VAR_TASK_OPTION_TIMEOUT, timeout); // Task default timeout
 		add(GLOBAL_VAR_TASK_OPTION_WALL_TIMEOUT, wallTimeout); // Task default wall-timeout
 
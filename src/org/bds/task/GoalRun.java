@@ -0,0 +1,57 @@
+package org.bds.task;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import org.bds.data.Data;
+import org.bds.data.DataTask;
+
+/**
+ * A goal being analyzed by 'TaskDependecies.goalRun()'
+ *
+ * This is an explicit 'stack frame', so that very deep dependency
+ * graphs can be analyzed without recursion
+ *
+ * @author pcingola
+ */
+class GoalRun {
+
+	LinkedList<Object> pending; // Pending dependencies for current task (either 'Data' or 'Task')
+	List<Task> tasks; // Tasks required to satisfy the goal
+	int taskIdx; // Next task to analyze
+
+	GoalRun(List<Task> tasks) {
+		this.tasks = new ArrayList<>(tasks);
+	}
+
+	/**
+	 * Next dependency to satisfy (input file or task ID)
+	 * @return A goal or null if all dependencies have been analyzed
+	 */
+	Data next(Set<Task> addedTasks) {
+		while (true) {
+			// Pending dependencies for current task
+			if (pending != null && !pending.isEmpty()) {
+				Object dep = pending.removeFirst();
+				if (dep instanceof Task) {
+					Task taskDep = (Task) dep;
+					if (addedTasks.contains(taskDep)) continue;
+					return new DataTask(taskDep.getId());
+				}
+				return (Data) dep;
+			}
+
+			// Next task
+			if (taskIdx >= tasks.size()) return null;
+			Task t = tasks.get(taskIdx++);
+			if (!addedTasks.add(t)) continue; // Don't analyze twice
+
+			pending = new LinkedList<>();
+			if (t.getInputs() != null) pending.addAll(t.getInputs());
+			if (t.getDependencies() != null) pending.addAll(t.getDependencies());
+		}
+	}
+
+}
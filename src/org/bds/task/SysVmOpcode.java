@@ -3,14 +3,18 @@ package org.bds.task;
 import java.io.File;
 import java.io.IOException;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bds.BdsLogger;
 import org.bds.Config;
 import org.bds.lang.BdsNode;
 import org.bds.lang.expression.ExpressionSys;
 import org.bds.osCmd.Exec;
+import org.bds.osCmd.ExecCoprocess;
 import org.bds.osCmd.ExecResult;
 import org.bds.run.BdsThread;
+import org.bds.run.Profiler;
 import org.bds.scope.GlobalScope;
 import org.bds.util.Gpr;
 
@@ -21,6 +25,8 @@ import org.bds.util.Gpr;
  */
 public class SysVmOpcode {
 
+	private static Map<String, String> canonicalDirs = new ConcurrentHashMap<>(); // Cache canonical paths for directories
+
 	protected BdsThread bdsThread;
 	protected BdsNode bdsNode;
 	protected String commands;
@@ -31,6 +37,21 @@ public class SysVmOpcode {
 		this.usePid = usePid;
 	}
 
+	/**
+	 * Canonical path for a directory.
+	 * Paths are cached: All files created by a bdsThread are in the same directory
+	 */
+	static String canonicalDir(String dir) {
+		if (dir == null) dir = ".";
+		return canonicalDirs.computeIfAbsent(dir, d -> {
+			try {
+				return (new File(d)).getCanonicalPath();
+			} catch (IOException e) {
+				throw new RuntimeException("Cannot get cannonical path for dir '" + d + "'");
+			}
+		});
+	}
+
 	/**
 	 * Try to find the current bdsNode
 	 */
@@ -69,11 +90,9 @@ public class SysVmOpcode {
 		// To avoid file name collision, we use the PID
 		String sysFileName = execId + (usePid ? ".pid_" + ProcessHandle.current().pid() : "") + ".sh";
 		File f = new File(sysFileName);
-		try {
-			return f.getCanonicalPath();
-		} catch (IOException e) {
-			throw new RuntimeException("Cannot get cannonical path for file '" + sysFileName + "'");
-		}
+		String dir = canonicalDir(f.getParent());
+		String shard = shardDir(f.getName());
+		return dir + "/" + (shard != null ? shard + "/" : "") + f.getName();
 	}
 
 	/**
@@ -117,7 +136,16 @@ public class SysVmOpcode {
 		if (Config.get().isLog()) saveProgramFile(cmds);
 
 		// Run command line
-		ExecResult execResult = Exec.exec(args, bdsThread.getConfig().isQuiet());
+		Profiler.State profileStatePrev = bdsThread.setProfileState(Profiler.State.SYS);
+		ExecResult execResult;
+		try {
+			// Use a coprocess, unless the command needs its own process
+			ExecCoprocess coprocess = ExecCoprocess.canRun(cmds) ? bdsThread.getSysCoprocess() : null;
+			if (coprocess != null) execResult = coprocess.exec(bdsThread.getCurrentDir(), cmds, bdsThread.getConfig().isQuiet());
+			else execResult = Exec.exec(args, bdsThread.getConfig().isQuiet());
+		} finally {
+			bdsThread.setProfileState(profileStatePrev);
+		}
 
 		// Error running process?
 		int exitValue = execResult.exitValue;
@@ -151,13 +179,8 @@ public class SysVmOpcode {
 		BdsLogger.debug("Task: Saving file '" + programFileName + "'");
 
 		// Create dir
-		try {
-			File dir = new File(programFileName);
-			dir = dir.getCanonicalFile().getParentFile();
-			if (dir != null) dir.mkdirs();
-		} catch (IOException e) {
-			// Nothing to do
-		}
+		File dir = (new File(programFileName)).getParentFile();
+		if (dir != null) dir.mkdirs();
 
 		// Show 'sys' shell execution
 		programTxt = "# Execution shell: " + Config.get().getSysShell() + "\n\n" + programTxt;
@@ -168,6 +191,18 @@ public class SysVmOpcode {
 		return programFileName;
 	}
 
+	/**
+	 * Shard sub-directory for a file (null if sharding is disabled).
+	 * Using 'taskDirShards' sub-directories avoids having millions of files in a single directory
+	 */
+	protected String shardDir(String fileName) {
+		int shards = bdsThread.getConfig() != null ? bdsThread.getConfig().getTaskDirShards() : 0;
+		if (shards <= 1) return null;
+		int width = Integer.toHexString(shards - 1).length();
+		int shard = (fileName.hashCode() & Integer.MAX_VALUE) % shards;
+		return String.format("%0" + width + "x", shard);
+	}
+
 	protected String sysId() {
 		return id("sys");
 	}
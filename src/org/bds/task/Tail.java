@@ -1,9 +1,21 @@
 package org.bds.task;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
 
 import org.bds.BdsLog;
 
@@ -13,6 +25,16 @@ import org.bds.BdsLog;
  * Can 'follow' several files
  * If a file does not exist, tail waits until the file is created
  *
+ * Files are only read when the operating system notifies a change in
+ * the file's directory (WatchService). Since notifications are not
+ * available on all file systems (e.g. files written by other hosts on
+ * a shared file system), all files are also checked every SLEEP_TIME_SCAN.
+ * Streams cannot be watched, so they are polled every SLEEP_TIME_DEFAULT.
+ *
+ * Each file is read at most one buffer at a time (round robin), so a
+ * file producing a lot of output cannot starve the others and reading
+ * never gets ahead of writing to the console.
+ *
  * @author pcingola
  */
 public class Tail extends Thread implements Serializable, BdsLog {
@@ -20,15 +42,27 @@ public class Tail extends Thread implements Serializable, BdsLog {
 	private static final long serialVersionUID = 3971573486965684116L;
 
 	public static final int SLEEP_TIME_DEFAULT = 100;
+	public static final int SLEEP_TIME_SCAN = 1000;
 
+	transient byte[] buffer; // Read buffer, shared by all files
+	transient TailChannelPool channelPool; // Open files
 	boolean debug, verbose, quiet;
-	boolean running;
+	HashSet<String> dirty; // Files that may have new data
 	HashMap<String, TailFile> files;
+	long lastScan; // Last time all files were checked
+	transient HashMap<Path, String> nameByPath; // File name indexed by absolute path
+	int numPolled; // Number of entries that must be polled (streams)
+	volatile boolean running;
 	HashSet<String> toRemove;
+	transient HashMap<Path, WatchKey> watchKeyByDir;
+	transient HashMap<Path, Integer> watchCountByDir; // Number of files followed in each directory
+	transient WatchService watchService;
 
 	public Tail() {
 		files = new HashMap<>();
 		toRemove = new HashSet<>();
+		dirty = new HashSet<>();
+		init();
 		setDaemon(true);
 	}
 
@@ -43,9 +77,7 @@ public class Tail extends Thread implements Serializable, BdsLog {
 
 		TailFile tf = new TailStream(input, showStderr, tailId);
 		debug("Adding (" + tf.getClass().getSimpleName() + ") '" + tailId + "'");
-		tf.setDebug(debug);
-		tf.setVerbose(verbose);
-		files.put(tailId, tf);
+		add(tailId, tf);
 	}
 
 	/**
@@ -58,23 +90,83 @@ public class Tail extends Thread implements Serializable, BdsLog {
 		if (inputFileName == null) return;
 		if (quiet) return; // Quiet mode? Nothing to do
 
-		TailFile tf = new TailFileMulti(inputFileName, showStderr);
+		TailFileMulti tf = new TailFileMulti(inputFileName, showStderr);
 		debug("Adding (" + tf.getClass().getSimpleName() + ") '" + inputFileName + "'");
+		tf.setChannelPool(channelPool);
+		add(inputFileName, tf);
+	}
+
+	void add(String name, TailFile tf) {
 		tf.setDebug(debug);
 		tf.setVerbose(verbose);
-		files.put(inputFileName, tf);
+		tf.setBuffer(buffer);
+
+		TailFile old = files.put(name, tf);
+		if (old != null) remove(name, old);
+
+		if (tf.isPolled()) numPolled++;
+		else watch(name);
+		dirty.add(name);
+		notify();
 	}
 
 	/**
 	 * Close all files
 	 */
-	void close() {
+	synchronized void close() {
 		debug("Closing all files");
 
 		// Close all files
 		for (TailFile tf : files.values())
 			tf.close();
 		files = new HashMap<>();
+		dirty.clear();
+		nameByPath.clear();
+		numPolled = 0;
+		channelPool.closeAll();
+
+		// Stop watching
+		watchKeyByDir.clear();
+		watchCountByDir.clear();
+		if (watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				// Nothing to do
+			}
+			watchService = null;
+		}
+	}
+
+	/**
+	 * Process file change notifications: Mark changed files as 'dirty'
+	 */
+	synchronized void events(WatchKey key) {
+		do {
+			Path dir = (Path) key.watchable();
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+					dirty.addAll(files.keySet());
+					continue;
+				}
+
+				String name = nameByPath.get(dir.resolve((Path) event.context()));
+				if (name != null) dirty.add(name);
+			}
+			key.reset();
+			key = (watchService != null ? watchService.poll() : null);
+		} while (key != null);
+	}
+
+	/**
+	 * Initialize transient fields
+	 */
+	void init() {
+		nameByPath = new HashMap<>();
+		watchKeyByDir = new HashMap<>();
+		watchCountByDir = new HashMap<>();
+		buffer = new byte[TailFile.READ_BUFFER_SIZE];
+		channelPool = new TailChannelPool();
 	}
 
 	@Override
@@ -92,8 +184,39 @@ public class Tail extends Thread implements Serializable, BdsLog {
 	 */
 	public void kill() {
 		debug("Killed");
-		close();
 		running = false;
+		close();
+	}
+
+	Path path(String fileName) {
+		return Paths.get(fileName).toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Re-create transient fields after a checkpoint is restored
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		init();
+		running = false; // Thread is not running until 'start()' is invoked
+
+		// Files followed before the checkpoint
+		// Note: Streams belong to processes that are no longer running, so they are dropped
+		numPolled = 0;
+		for (Iterator<String> it = files.keySet().iterator(); it.hasNext();) {
+			String name = it.next();
+			TailFile tf = files.get(name);
+			if (tf.isPolled()) {
+				it.remove();
+				dirty.remove(name);
+				continue;
+			}
+
+			tf.setBuffer(buffer);
+			if (tf instanceof TailFileMulti) ((TailFileMulti) tf).setChannelPool(channelPool);
+			watch(name);
+			dirty.add(name);
+		}
 	}
 
 	/**
@@ -101,29 +224,52 @@ public class Tail extends Thread implements Serializable, BdsLog {
 	 */
 	public synchronized void remove(String fileName) {
 		try {
-			TailFile tf = files.get(fileName);
-			if (tf != null) {
-				debug("Removing (" + tf.getClass().getSimpleName() + ") '" + fileName + "'");
-				tf.close();
-			}
-			files.remove(fileName);
+			TailFile tf = files.remove(fileName);
+			if (tf != null) remove(fileName, tf);
 		} catch (Exception e) {
 			// Nothing to do
 			e.printStackTrace();
 		}
 	}
 
+	void remove(String fileName, TailFile tf) {
+		debug("Removing (" + tf.getClass().getSimpleName() + ") '" + fileName + "'");
+		tf.close();
+		dirty.remove(fileName);
+		if (tf.isPolled()) numPolled--;
+		else unwatch(fileName);
+	}
+
 	@Override
 	public void run() {
 		try {
 			running = true;
 
+			// Create a watch service (if not available, we scan periodically)
+			try {
+				watchService = FileSystems.getDefault().newWatchService();
+			} catch (IOException | UnsupportedOperationException e) {
+				debug("Cannot create watch service, files will be polled: " + e.getMessage());
+			}
+			scan(System.currentTimeMillis()); // Watch directories of files added before starting
+
 			// Loop until kill()
 			while (running) {
-				if (!quiet) tail();
-				sleep(SLEEP_TIME_DEFAULT);
+				if (quiet) {
+					sleep(SLEEP_TIME_DEFAULT);
+					continue;
+				}
+
+				// Check all files periodically
+				long now = System.currentTimeMillis();
+				if (now - lastScan >= SLEEP_TIME_SCAN) scan(now);
+
+				// Read from files. Only wait if there is nothing else pending
+				if (!tail()) waitChanges();
 			}
 
+		} catch (ClosedWatchServiceException | InterruptedException e) {
+			// Killed while waiting
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		} finally {
@@ -131,6 +277,20 @@ public class Tail extends Thread implements Serializable, BdsLog {
 		}
 	}
 
+	/**
+	 * Mark all files as 'dirty' (i.e. check them) and retry watching directories
+	 */
+	synchronized void scan(long now) {
+		lastScan = now;
+		dirty.addAll(files.keySet());
+
+		// Directories that did not exist when the file was added may exist now
+		if (watchService != null) {
+			for (Path dir : watchCountByDir.keySet())
+				if (!watchKeyByDir.containsKey(dir)) watchDir(dir);
+		}
+	}
+
 	public void setDebug(boolean debug) {
 		this.debug = debug;
 	}
@@ -145,19 +305,23 @@ public class Tail extends Thread implements Serializable, BdsLog {
 
 	/**
 	 * Check if there is output available on any file
+	 * @return true if there is (probably) more data to read
 	 */
 	synchronized boolean tail() {
-		boolean anyOutput = false;
+		boolean more = false;
 
-		// Try to read form all buffers
+		// Try to read from all buffers
 		for (String name : files.keySet()) {
 			TailFile tf = files.get(name);
+			if (tf == null) continue;
+			if (!tf.isPolled() && !dirty.contains(name)) continue;
 
 			// Try to 'tail'. Any problems? => Remove the entry
-			int bytes = (tf != null ? tf.tail() : -1);
+			int bytes = tf.tail();
 
 			if (bytes < 0) toRemove.add(name); // Problems? Remove the file from this list
-			else if (bytes > 0) anyOutput = true; // There was an output of 'bytes' number of bytes
+			else if (bytes >= buffer.length) more = true; // Buffer full, there might be more data
+			else dirty.remove(name); // Everything read
 		}
 
 		// Remove  entries (if any)
@@ -167,6 +331,74 @@ public class Tail extends Thread implements Serializable, BdsLog {
 			toRemove = new HashSet<>();
 		}
 
-		return anyOutput;
+		return more;
+	}
+
+	/**
+	 * Stop watching a file
+	 */
+	void unwatch(String fileName) {
+		Path path = path(fileName);
+		nameByPath.remove(path);
+
+		Path dir = path.getParent();
+		int count = watchCountByDir.getOrDefault(dir, 0) - 1;
+		if (count > 0) {
+			watchCountByDir.put(dir, count);
+			return;
+		}
+
+		// No more files in this directory
+		watchCountByDir.remove(dir);
+		WatchKey key = watchKeyByDir.remove(dir);
+		if (key != null) key.cancel();
+	}
+
+	/**
+	 * Wait until a file changes or it's time to poll / scan
+	 */
+	void waitChanges() throws InterruptedException {
+		long timeout = SLEEP_TIME_SCAN - (System.currentTimeMillis() - lastScan);
+		synchronized (this) {
+			if (numPolled > 0 || watchService == null) timeout = Math.min(timeout, SLEEP_TIME_DEFAULT);
+		}
+		if (timeout <= 0) return;
+
+		WatchService ws = watchService;
+		if (ws == null) {
+			synchronized (this) {
+				if (dirty.isEmpty()) wait(timeout); // Woken up when a file is added
+			}
+			return;
+		}
+
+		WatchKey key = ws.poll(timeout, TimeUnit.MILLISECONDS);
+		if (key != null) events(key);
+	}
+
+	/**
+	 * Watch a file's directory for changes
+	 */
+	void watch(String fileName) {
+		Path path = path(fileName);
+		nameByPath.put(path, fileName);
+
+		Path dir = path.getParent();
+		watchCountByDir.put(dir, watchCountByDir.getOrDefault(dir, 0) + 1);
+		if (!watchKeyByDir.containsKey(dir)) watchDir(dir);
+	}
+
+	/**
+	 * Register a directory in the watch service
+	 */
+	void watchDir(Path dir) {
+		if (watchService == null) return;
+		try {
+			WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+			watchKeyByDir.put(dir, key);
+			debug("Watching directory '" + dir + "'");
+		} catch (IOException | ClosedWatchServiceException e) {
+			// Directory may not exist yet, we'll try again later (see 'scan')
+		}
 	}
 }
@@ -0,0 +1,97 @@
+package org.bds.task;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bds.BdsLog;
+
+/**
+ * A bounded pool of open file channels used by 'Tail'
+ *
+ * Files are kept open between reads, the least recently used channel
+ * is closed when the pool is full (to avoid operating systems limits on
+ * number of opened file descriptors, see 'ulimit' unix command)
+ *
+ * Note: This class is not thread safe, it's only used from 'Tail' (synchronized)
+ *
+ * @author pcingola
+ */
+public class TailChannelPool implements BdsLog {
+
+	public static final int MAX_OPEN_FILES_DEFAULT = 128;
+
+	LinkedHashMap<String, FileChannel> channels; // Access ordered: Least recently used first
+	int maxOpenFiles;
+
+	public TailChannelPool() {
+		this(MAX_OPEN_FILES_DEFAULT);
+	}
+
+	public TailChannelPool(int maxOpenFiles) {
+		this.maxOpenFiles = maxOpenFiles;
+		channels = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Close a file's channel (if open)
+	 */
+	public void close(String fileName) {
+		close(channels.remove(fileName));
+	}
+
+	void close(FileChannel channel) {
+		if (channel == null) return;
+		try {
+			channel.close();
+		} catch (IOException e) {
+			// Nothing to do
+		}
+	}
+
+	/**
+	 * Close all channels
+	 */
+	public void closeAll() {
+		for (FileChannel ch : channels.values())
+			close(ch);
+		channels.clear();
+	}
+
+	/**
+	 * Get an open channel for 'fileName', open the file if needed
+	 */
+	public FileChannel get(String fileName) throws IOException {
+		FileChannel channel = channels.get(fileName);
+		if (channel != null && channel.isOpen()) return channel;
+
+		// Make room (close least recently used)
+		for (Iterator<Map.Entry<String, FileChannel>> it = channels.entrySet().iterator(); it.hasNext() && channels.size() >= maxOpenFiles;) {
+			Map.Entry<String, FileChannel> lru = it.next();
+			debug("Closing least recently used file '" + lru.getKey() + "'");
+			close(lru.getValue());
+			it.remove();
+		}
+
+		channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		channels.put(fileName, channel);
+		return channel;
+	}
+
+	/**
+	 * Get a file's channel only if it is already open (do not open the file)
+	 */
+	public FileChannel peek(String fileName) {
+		FileChannel channel = channels.get(fileName);
+		return channel != null && channel.isOpen() ? channel : null;
+	}
+
+	public int size() {
+		return channels.size();
+	}
+
+}
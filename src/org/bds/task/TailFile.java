@@ -18,8 +18,10 @@ public abstract class TailFile implements Serializable, BdsLog {
 
 	public static final int DEFAULT_TAIL = 10;
 	public static final int MAX_BUFFER_SIZE = 1024 * 1024;
+	public static final int READ_BUFFER_SIZE = 64 * 1024;
 	private static final long serialVersionUID = -3331375637614242861L;
 
+	transient byte[] buffer; // Read buffer (can be shared by all files in a 'Tail', since they are read by only one thread)
 	boolean debug, verbose;
 	String inputFileName; // Read (tail -f) from this file
 	boolean showStderr; // Do we show on STDERR? (default STDOUT)
@@ -36,6 +38,19 @@ public abstract class TailFile implements Serializable, BdsLog {
 
 	}
 
+	/**
+	 * Last 'linesToRead' lines in a string (a negative number means "ALL lines")
+	 */
+	public static String lastLines(String str, int linesToRead) {
+		if (str == null || linesToRead < 0) return str;
+		if (linesToRead == 0) return "";
+
+		int count = 0;
+		for (int i = str.length() - 2; i >= 0; i--)
+			if (str.charAt(i) == '\n' && ++count >= linesToRead) return str.substring(i + 1);
+		return str;
+	}
+
 	public static String tail(String fileName) {
 		return tail(fileName, DEFAULT_TAIL);
 	}
@@ -137,6 +152,14 @@ public abstract class TailFile implements Serializable, BdsLog {
 		this.showStderr = showStderr;
 	}
 
+	/**
+	 * Read buffer, create one if needed
+	 */
+	protected byte[] buffer() {
+		if (buffer == null) buffer = new byte[READ_BUFFER_SIZE];
+		return buffer;
+	}
+
 	public synchronized void close() {
 		close(true);
 	}
@@ -151,6 +174,14 @@ public abstract class TailFile implements Serializable, BdsLog {
 		return debug;
 	}
 
+	/**
+	 * Does this file need to be polled?
+	 * If false, the file is only read when 'Tail' is notified of a change (or periodically)
+	 */
+	public boolean isPolled() {
+		return true;
+	}
+
 	@Override
 	public boolean isVerbose() {
 		return verbose;
@@ -161,6 +192,10 @@ public abstract class TailFile implements Serializable, BdsLog {
 	 */
 	protected abstract boolean open();
 
+	public void setBuffer(byte[] buffer) {
+		this.buffer = buffer;
+	}
+
 	public void setDebug(boolean debug) {
 		this.debug = debug;
 	}
@@ -169,8 +204,17 @@ public abstract class TailFile implements Serializable, BdsLog {
 		this.verbose = verbose;
 	}
 
+	/**
+	 * Show bytes (on STDOUT or STDERR)
+	 */
+	protected void show(byte[] bytes, int count) {
+		if (showStderr) System.err.write(bytes, 0, count);
+		else System.out.write(bytes, 0, count);
+	}
+
 	/**
 	 * Check if there is output available on any file
+	 * Reads at most one buffer: If the number of bytes read is the buffer's size, there might be more to read
 	 * @returns Number of bytes read. Negative number of there were problems
 	 */
 	protected abstract int tail();
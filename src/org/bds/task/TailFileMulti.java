@@ -1,24 +1,36 @@
 package org.bds.task;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
  * A file to use with 'Tail'
  *
- * Allows to 'follow' thousands of files by not opening the files unless is needed
+ * Allows to 'follow' thousands of files by keeping only a bounded number of files
+ * open (see TailChannelPool), files are only read when they grow.
  * This is to avoid operating systems limits on number of opened file descriptors (see 'ulimit' unix command)
  *
+ * Files can be rotated (renamed and re-created, e.g. task output segments, see
+ * TaskOutputStream) or truncated: When the file is replaced (different file key,
+ * i.e. inode) or shrinks, anything left in the open channel is read and the new
+ * file is followed from the beginning.
+ *
  * @author pcingola
  */
 public class TailFileMulti extends TailFile {
 
 	private static final long serialVersionUID = -6234980266728470190L;
 
+	transient TailChannelPool channelPool; // Open channels (if null, the file is opened and closed on every read)
 	long inputPos = 0; // Latest position read
 	File inputFile;
+	transient Object inputKey; // File key (e.g. inode) of the file being read, used to detect rotation
 	boolean exists = false;
 
 	public TailFileMulti(String inputFileName, boolean showStderr) {
@@ -37,10 +49,33 @@ public class TailFileMulti extends TailFile {
 	@Override
 	protected synchronized void close(boolean attemptTail) {
 		try {
-			if (attemptTail) tail();
+			// Read everything left in the file
+			if (attemptTail) {
+				while (tail() >= buffer().length);
+			}
 		} catch (Exception e) {
 			// Nothing to do
 		}
+		if (channelPool != null) channelPool.close(inputFileName);
+	}
+
+	/**
+	 * File key (e.g. inode), null if not available
+	 */
+	Object fileKey() {
+		try {
+			return Files.readAttributes(inputFile.toPath(), BasicFileAttributes.class).fileKey();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * File changes are notified by 'Tail', no need to poll
+	 */
+	@Override
+	public boolean isPolled() {
+		return false;
 	}
 
 	/**
@@ -52,6 +87,50 @@ public class TailFileMulti extends TailFile {
 		return true;
 	}
 
+	/**
+	 * Read from the channel at the current position
+	 */
+	int read(FileChannel channel, int len) throws IOException {
+		ByteBuffer bb = ByteBuffer.wrap(buffer(), 0, len);
+		int count = channel.read(bb, inputPos);
+		if (count <= 0) return 0;
+
+		inputPos += count;
+		show(buffer(), count);
+		return count;
+	}
+
+	/**
+	 * File was rotated or truncated: Read anything left in the open channel
+	 * (i.e. written before the file was renamed), close it and start reading
+	 * the new file from the beginning
+	 * @return Number of bytes read
+	 */
+	int rotate() {
+		debug("File rotated or truncated '" + inputFileName + "'");
+		int count = 0;
+		if (channelPool != null) {
+			FileChannel channel = channelPool.peek(inputFileName);
+			try {
+				if (channel != null) {
+					for (int len; (len = read(channel, buffer().length)) > 0;)
+						count += len;
+				}
+			} catch (IOException e) {
+				// Nothing to do
+			}
+			channelPool.close(inputFileName);
+		}
+
+		inputPos = 0;
+		inputKey = null;
+		return count;
+	}
+
+	public void setChannelPool(TailChannelPool channelPool) {
+		this.channelPool = channelPool;
+	}
+
 	/**
 	 * Check if there is output available on any file
 	 * @returns Number of bytes read. Negative number of there were problems
@@ -63,43 +142,24 @@ public class TailFileMulti extends TailFile {
 			if (!exists) return 0;
 		}
 
-		// File size
+		// File rotated (replaced by a new file) or truncated?
 		long size = inputFile.length();
-		if (size <= inputPos) return 0;
-
-		int avail = (int) (size - inputPos);
+		Object key = fileKey(); // Note: Read after size, in case the file is rotated in between
 		int count = 0;
-		try {
-			// Open input
-			FileInputStream fis = new FileInputStream(inputFileName);
-			fis.skip(inputPos);
-			BufferedInputStream input = new BufferedInputStream(fis);
-
-			BufferedOutputStream output = null;
-			avail = input.available();
-
-			while (avail > 0) {
-				// Read all available bytes
-				avail = Math.min(avail, MAX_BUFFER_SIZE); // Limit buffer size (some systems return MAX_INT when the file is growing)
-				byte[] bytes = new byte[avail];
-				count = input.read(bytes);
-				inputPos += count;
+		if ((key != null && inputKey != null && !key.equals(inputKey)) || size < inputPos) count = rotate();
+		if (inputKey == null) inputKey = key;
+		if (size <= inputPos) return count;
 
-				// Show bytes
-				if (showStderr) System.err.write(bytes, 0, count);
-				else System.out.write(bytes, 0, count);
-
-				// Write to output
-				if (output != null) output.write(bytes, 0, count);
+		int len = (int) Math.min(size - inputPos, buffer().length);
+		try {
+			if (channelPool != null) return count + read(channelPool.get(inputFileName), len);
 
-				avail = input.available(); // Something more to read?
+			// No pool: Open and close the file
+			try (FileChannel channel = FileChannel.open(Paths.get(inputFileName), StandardOpenOption.READ)) {
+				return count + read(channel, len);
 			}
-
-			// Close input and output
-			input.close();
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
-		return count;
 	}
 }
@@ -34,7 +34,10 @@ public class TailStream extends TailFile {
 	@Override
 	protected synchronized void close(boolean attemptTail) {
 		try {
-			if (attemptTail) tail();
+			// Read everything left in the stream
+			if (attemptTail) {
+				while (tail() >= buffer().length);
+			}
 
 			// Is it still open?
 			if (input != null) {
@@ -81,17 +84,14 @@ public class TailStream extends TailFile {
 			// Any bytes available on this buffer?
 			int avail = input.available();
 			if (avail > 0) {
-				avail = Math.min(avail, MAX_BUFFER_SIZE); // Limit buffer size (some systems return MAX_INT when the file is growing)
-
-				// Read all available bytes
-				byte[] bytes = new byte[avail];
-				count = input.read(bytes);
+				// Read available bytes (at most one buffer)
+				byte[] bytes = buffer();
+				count = input.read(bytes, 0, Math.min(avail, bytes.length));
+				if (count <= 0) return 0;
 
 				// Show bytes
-				if (showStderr) System.err.write(bytes, 0, count);
-				else System.out.write(bytes, 0, count);
-
-				debug("Reading '" + (new String(bytes, 0, count)) + "'");
+				show(bytes, count);
+				if (debug) debug("Reading '" + (new String(bytes, 0, count)) + "'");
 			}
 
 			return count;
@@ -1,7 +1,6 @@
 package org.bds.task;
 
 import java.io.File;
-import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
@@ -16,6 +15,7 @@ import org.bds.data.Data;
 import org.bds.executioner.Executioner;
 import org.bds.lang.BdsNode;
 import org.bds.run.BdsThread;
+import org.bds.util.DeleteOnExit;
 import org.bds.util.Gpr;
 
 /**
@@ -33,6 +33,7 @@ public class Task implements Serializable, BdsLog {
 	public static final int MAX_HINT_LEN = 150;
 
 	protected boolean allowEmpty; // Allow empty output file/s
+	protected boolean cacheChecked; // Has the task cache been checked for this task's results?
 	protected boolean canFail; // Allow execution to fail
 	protected boolean debug;
 	protected boolean dependency; // This is a 'dependency' task. Run only if required
@@ -42,8 +43,10 @@ public class Task implements Serializable, BdsLog {
 	protected int bdsLineNum; // Program's line number that created this task (used for reporting errors)
 	protected int exitValue; // Exit (error) code
 	protected int failCount, maxFailCount; // Number of times that this task failed
+	protected int priority; // Task priority: Higher priority tasks are executed first (when resources are limited)
 	protected String id; // Task ID
 	protected String bdsFileName; // Program file that created this task (used for reporting errors)
+	protected String cacheKey; // Task cache key (null if the task's results cannot be cached)
 	protected String checkpointLocalFile; // Local file for checkpoint (only valid in improper tasks)
 	protected String currentDir; // Program's 'current directoy' (cd)
 	protected String pid; // PID (if any)
@@ -187,16 +190,11 @@ public class Task implements Serializable, BdsLog {
 	public void createProgramFile() {
 		debug("Task: Saving file '" + programFileName + "'");
 
-		try {
-			// Create dir
-			File dir = new File(programFileName);
-			dir = dir.getCanonicalFile().getParentFile();
-			if (dir != null) {
-				dir.mkdirs();
-				programFileDir = dir.getCanonicalPath();
-			}
-		} catch (IOException e) {
-			// Nothing to do
+		// Create dir. Note: File name is already canonical (see SysVmOpcode.getSysFileName)
+		File dir = (new File(programFileName)).getAbsoluteFile().getParentFile();
+		if (dir != null) {
+			dir.mkdirs();
+			programFileDir = dir.getPath();
 		}
 
 		// Create file
@@ -222,12 +220,12 @@ public class Task implements Serializable, BdsLog {
 	 * Remove tmp files on exit
 	 */
 	public void deleteOnExit() {
-		// Files are deleted in reverse order. So dir has to be first to make sure it is empty when deleted (otherwise it will not be deleted)
-		if (programFileDir != null) (new File(programFileDir)).deleteOnExit();
-		if (stdoutFile != null) (new File(stdoutFile)).deleteOnExit();
-		if (stderrFile != null) (new File(stderrFile)).deleteOnExit();
-		if (exitCodeFile != null) (new File(exitCodeFile)).deleteOnExit();
-		if (programFileName != null) (new File(programFileName)).deleteOnExit();
+		// Directories are deleted after all files (only if empty)
+		DeleteOnExit deleteOnExit = DeleteOnExit.get();
+		deleteOnExit.addDir(programFileDir);
+		String base = (programFileName != null ? Gpr.removeExt(programFileName) : null);
+		deleteOnExit.addTaskFiles(base, programFileName, stdoutFile, stderrFile, exitCodeFile);
+		if (Config.get().getTaskOutputMaxSize() > 0) deleteOnExit.setTaskOutputSegments(true);
 	}
 
 	public void deleteOutputFilesOnExit() {
@@ -306,6 +304,10 @@ public class Task implements Serializable, BdsLog {
 		}
 	}
 
+	public String getCacheKey() {
+		return cacheKey;
+	}
+
 	public String getCheckpointLocalFile() {
 		return checkpointLocalFile;
 	}
@@ -368,6 +370,10 @@ public class Task implements Serializable, BdsLog {
 		return postMortemInfo;
 	}
 
+	public int getPriority() {
+		return priority;
+	}
+
 	public String getProgramFileName() {
 		return programFileName;
 	}
@@ -445,6 +451,10 @@ public class Task implements Serializable, BdsLog {
 		return allowEmpty;
 	}
 
+	public boolean isCacheChecked() {
+		return cacheChecked;
+	}
+
 	public boolean isCanFail() {
 		return canFail;
 	}
@@ -557,12 +567,35 @@ public class Task implements Serializable, BdsLog {
 		runningEndTime = null;
 		postMortemInfo = null;
 		errorMsg = null;
+		cacheChecked = false;
+	}
+
+	/**
+	 * Restore this task's output files from the task cache (if enabled).
+	 * The cache is checked only once, when the task is ready to run
+	 * (i.e. all dependencies have finished). Note: The task's state
+	 * is not changed, the executioner finishes the task
+	 * @return true if the results were restored, i.e. the task does not need to be executed
+	 */
+	public synchronized boolean restoreFromCache() {
+		if (cacheChecked) return false;
+		cacheChecked = true;
+
+		TaskCache taskCache = TaskCache.get();
+		if (taskCache == null || !taskCache.restore(this)) return false;
+
+		log("Task results restored from cache, task Id '" + getId() + "'");
+		return true;
 	}
 
 	public void setAllowEmpty(boolean allowEmpty) {
 		this.allowEmpty = allowEmpty;
 	}
 
+	public void setCacheKey(String cacheKey) {
+		this.cacheKey = cacheKey;
+	}
+
 	public void setCanFail(boolean canFail) {
 		this.canFail = canFail;
 	}
@@ -611,6 +644,10 @@ public class Task implements Serializable, BdsLog {
 		this.pid = pid;
 	}
 
+	public void setPriority(int priority) {
+		this.priority = priority;
+	}
+
 	public void setPostMortemInfo(String postMortemInfo) {
 		this.postMortemInfo = postMortemInfo;
 	}
@@ -0,0 +1,393 @@
+package org.bds.task;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bds.BdsLog;
+import org.bds.BdsLogger;
+import org.bds.Config;
+import org.bds.cluster.host.TaskResources;
+import org.bds.data.Data;
+import org.bds.data.DataRemote;
+import org.bds.util.Gpr;
+
+/**
+ * A persistent, cross-run, cache of task results (memoization).
+ *
+ * The key is a hash of:
+ * 		- The task's program (i.e. the final shell commands, after remote
+ * 		  file names have been replaced by local paths)
+ * 		- Resources that may affect the output (cpus and memory)
+ * 		- The content of every input file (a digest of the file for local
+ * 		  files, the data cache ID for remote files)
+ *
+ * The value is a copy of the task's output files, in the same order as
+ * the task's output list. When a task having the same key is executed,
+ * the output files are restored from the cache instead of running it.
+ *
+ * Cache layout:
+ *
+ * 		cacheDir/ab/abcdef0123.../0    : First output file
+ * 		cacheDir/ab/abcdef0123.../1    : Second output file
+ * 		...
+ *
+ * Entries are created in a temporary directory which is then renamed,
+ * so other bds processes never see partially written entries.
+ *
+ * The entry directory's 'last modified' time is updated on every access,
+ * which is used to evict the least recently used entries when the
+ * cache grows beyond 'maxSize'.
+ *
+ * Note: Output files are copied (both when storing and restoring) instead
+ *       of hard linked. A task re-writing an existing output file in place
+ *       (e.g. 'cmd > out.txt') would otherwise corrupt the cache entry.
+ *
+ * @author pcingola
+ */
+public class TaskCache implements BdsLog {
+
+	public static final int BUFFER_SIZE = 1024 * 1024;
+	public static final String TMP_EXT = ".tmp";
+
+	private static TaskCache instance = null;
+
+	AtomicLong bytesRestored; // Bytes restored from the cache
+	AtomicLong bytesStored; // Bytes stored into the cache
+	File cacheDir;
+	Map<String, String> digestByFile; // Digests of local files, indexed by path, size and modification time
+	AtomicLong evictions;
+	AtomicLong hits;
+	long maxSize;
+	AtomicLong misses;
+	AtomicLong stores;
+
+	/**
+	 * Get cache instance (null if the cache is disabled)
+	 */
+	public static synchronized TaskCache get() {
+		if (instance == null) {
+			String dir = Config.get().getTaskCacheDir();
+			if (dir == null || dir.isEmpty()) return null;
+			BdsLogger.debug("Creating new TaskCache instance, dir '" + dir + "'");
+			instance = new TaskCache(dir, Config.get().getTaskCacheMaxSize());
+		}
+		return instance;
+	}
+
+	/**
+	 * Show statistics (if the cache was used) and reset the instance
+	 */
+	public static synchronized void kill() {
+		if (instance != null && instance.isUsed()) instance.log("Task cache: " + instance);
+		instance = null;
+	}
+
+	public static synchronized void reset() {
+		instance = null;
+	}
+
+	public TaskCache(String cacheDir, long maxSize) {
+		if (cacheDir.startsWith("~")) cacheDir = Gpr.HOME + cacheDir.substring(1);
+		this.cacheDir = new File(cacheDir);
+		this.maxSize = maxSize;
+		bytesRestored = new AtomicLong();
+		bytesStored = new AtomicLong();
+		digestByFile = new ConcurrentHashMap<>();
+		evictions = new AtomicLong();
+		hits = new AtomicLong();
+		misses = new AtomicLong();
+		stores = new AtomicLong();
+	}
+
+	/**
+	 * Can the results of this task be cached?
+	 */
+	boolean canCache(Task task) {
+		if (task.isDetached() || task.isImproper()) return false;
+		if (task.getProgramTxt() == null) return false;
+
+		// Only tasks having local output files can be restored from the cache
+		List<Data> outputs = task.getOutputs();
+		if (outputs == null || outputs.isEmpty()) return false;
+		for (Data out : outputs)
+			if (out.isRemote()) return false;
+
+		return true;
+	}
+
+	/**
+	 * Digest of a local file (digests are cached as long as the
+	 * file's size and modification time do not change)
+	 */
+	String digest(File file) throws IOException {
+		String id = file.getAbsolutePath() + "\t" + file.length() + "\t" + file.lastModified();
+		String digest = digestByFile.get(id);
+		if (digest != null) return digest;
+
+		MessageDigest md = messageDigest();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		try (InputStream is = Files.newInputStream(file.toPath())) {
+			for (int len; (len = is.read(buffer)) > 0;)
+				md.update(buffer, 0, len);
+		}
+
+		digest = toHex(md.digest());
+		digestByFile.put(id, digest);
+		return digest;
+	}
+
+	/**
+	 * Directory holding a cache entry
+	 */
+	File entryDir(String key) {
+		return new File(new File(cacheDir, key.substring(0, 2)), key);
+	}
+
+	/**
+	 * Evict least recently used entries until the cache is smaller than 'maxSize'
+	 * @param keep : Do not evict this entry (the one we just created)
+	 */
+	synchronized void evict(String keep) {
+		if (maxSize <= 0) return;
+
+		// Find all entries and total size
+		List<File> entries = new ArrayList<>();
+		long total = 0;
+		File[] shards = cacheDir.listFiles(File::isDirectory);
+		if (shards == null) return;
+		for (File shard : shards) {
+			File[] dirs = shard.listFiles(File::isDirectory);
+			if (dirs == null) continue;
+			for (File dir : dirs) {
+				if (dir.getName().contains(TMP_EXT)) continue; // Entry being created
+				entries.add(dir);
+				total += size(dir);
+			}
+		}
+		if (total <= maxSize) return;
+
+		// Remove oldest entries first
+		entries.sort(Comparator.comparingLong(File::lastModified));
+		for (File dir : entries) {
+			if (total <= maxSize) break;
+			if (dir.getName().equals(keep)) continue;
+
+			long len = size(dir);
+			if (remove(dir)) {
+				total -= len;
+				evictions.incrementAndGet();
+				debug("Evicted task cache entry '" + dir + "', size " + len);
+			}
+		}
+	}
+
+	boolean isUsed() {
+		return hits.get() + misses.get() > 0;
+	}
+
+	/**
+	 * Cache key for this task
+	 * @return A key or null if the task cannot be cached (e.g. an input file does not exist)
+	 */
+	public String key(Task task) {
+		if (!canCache(task)) return null;
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("program:\n" + task.getProgramTxt() + "\n");
+
+		TaskResources res = task.getResources();
+		if (res != null) sb.append("cpus:" + res.getCpus() + "\nmem:" + res.getMem() + "\n");
+
+		sb.append("outputs:" + task.getOutputs().size() + "\n");
+
+		try {
+			List<Data> inputs = task.getInputs();
+			if (inputs != null) {
+				for (Data in : inputs) {
+					String digest;
+					if (in.isRemote()) {
+						digest = ((DataRemote) in).cacheId();
+					} else {
+						File file = new File(in.getAbsolutePath());
+						digest = file.isFile() ? digest(file) : null;
+					}
+
+					if (digest == null) {
+						debug("Task '" + task.getId() + "' cannot be cached, input '" + in + "' is not a file");
+						return null;
+					}
+					sb.append("input:" + digest + "\n");
+				}
+			}
+		} catch (IOException e) {
+			debug("Task '" + task.getId() + "' cannot be cached, error reading input files: " + e.getMessage());
+			return null;
+		}
+
+		return toHex(messageDigest().digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	MessageDigest messageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Store task's output files in the cache
+	 * @return True if the entry was created
+	 */
+	public boolean put(Task task) {
+		String key = task.getCacheKey();
+		if (key == null) return false;
+
+		File entryDir = entryDir(key);
+		if (entryDir.exists()) return false; // Already in the cache
+
+		List<Data> outputs = task.getOutputs();
+		for (Data out : outputs)
+			if (!new File(out.getAbsolutePath()).isFile()) return false; // Only files can be cached
+
+		// Copy outputs to a temporary directory
+		File tmpDir = new File(entryDir.getParentFile(), key + TMP_EXT + "." + ProcessHandle.current().pid() + "." + Thread.currentThread().getId());
+		try {
+			remove(tmpDir);
+			tmpDir.mkdirs();
+
+			long bytes = 0;
+			for (int i = 0; i < outputs.size(); i++) {
+				File out = new File(outputs.get(i).getAbsolutePath());
+				File entryFile = new File(tmpDir, Integer.toString(i));
+				Files.copy(out.toPath(), entryFile.toPath());
+				entryFile.setWritable(false, false);
+				bytes += entryFile.length();
+			}
+
+			// Move into place. If another process created the same entry, keep that one
+			try {
+				Files.move(tmpDir.toPath(), entryDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				debug("Task cache entry '" + entryDir + "' could not be created (created by another process?): " + e.getMessage());
+				remove(tmpDir);
+				return false;
+			}
+
+			stores.incrementAndGet();
+			bytesStored.addAndGet(bytes);
+			debug("Stored results for task '" + task.getId() + "' in cache entry '" + entryDir + "'");
+		} catch (IOException e) {
+			warning("Could not store results for task '" + task.getId() + "' in task cache '" + cacheDir + "': " + e.getMessage());
+			remove(tmpDir);
+			return false;
+		}
+
+		evict(key);
+		return true;
+	}
+
+	/**
+	 * Remove an entry (or temporary) directory
+	 */
+	boolean remove(File dir) {
+		File[] files = dir.listFiles();
+		if (files != null) for (File f : files)
+			f.delete();
+		return dir.delete() || !dir.exists();
+	}
+
+	/**
+	 * Restore task's output files from the cache
+	 * @return True if the output files were restored (i.e. the task does not need to be executed)
+	 */
+	public boolean restore(Task task) {
+		String key = key(task);
+		task.setCacheKey(key);
+		if (key == null) return false;
+
+		File entryDir = entryDir(key);
+		if (!entryDir.isDirectory()) {
+			misses.incrementAndGet();
+			debug("Task cache miss for task '" + task.getId() + "', key '" + key + "'");
+			return false;
+		}
+
+		List<Data> outputs = task.getOutputs();
+		long bytes = 0;
+		try {
+			for (int i = 0; i < outputs.size(); i++) {
+				File entryFile = new File(entryDir, Integer.toString(i));
+				File out = new File(outputs.get(i).getAbsolutePath());
+				File parent = out.getParentFile();
+				if (parent != null) parent.mkdirs();
+
+				// Note: The copy is not read-only and is newer than the input files
+				Files.copy(entryFile.toPath(), out.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				out.setWritable(true, true);
+				bytes += out.length();
+			}
+		} catch (IOException e) {
+			// Entry evicted (by another process) while restoring?
+			misses.incrementAndGet();
+			debug("Task cache entry '" + entryDir + "' could not be restored: " + e.getMessage());
+			return false;
+		}
+
+		touch(entryDir);
+		hits.incrementAndGet();
+		bytesRestored.addAndGet(bytes);
+		debug("Task cache hit for task '" + task.getId() + "', entry '" + entryDir + "'");
+		return true;
+	}
+
+	/**
+	 * Total size of all files in a directory
+	 */
+	long size(File dir) {
+		long size = 0;
+		File[] files = dir.listFiles();
+		if (files != null) for (File f : files)
+			size += f.length();
+		return size;
+	}
+
+	String toHex(byte[] digest) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : digest)
+			sb.append(String.format("%02x", b));
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "dir: '" + cacheDir + "'" //
+				+ ", hits: " + hits //
+				+ ", misses: " + misses //
+				+ ", stored: " + stores //
+				+ ", evictions: " + evictions //
+				+ ", bytes restored: " + Gpr.toStringMem(bytesRestored.get()) //
+				+ ", bytes stored: " + Gpr.toStringMem(bytesStored.get()) //
+		;
+	}
+
+	/**
+	 * Update entry's access time (used for LRU eviction)
+	 */
+	void touch(File entryDir) {
+		entryDir.setLastModified(System.currentTimeMillis());
+	}
+
+}
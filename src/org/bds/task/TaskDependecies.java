@@ -37,6 +37,7 @@ public class TaskDependecies implements Serializable, BdsLog {
 	Map<String, Task> tasksById;
 	AutoHashMap<Data, List<Task>> tasksByOutput;
 	Map<String, String> canonicalPath;
+	transient TaskDependency taskDepEmpty;
 
 	public static TaskDependecies get() {
 		return taskDependeciesInstance;
@@ -147,80 +148,6 @@ public class TaskDependecies implements Serializable, BdsLog {
 		}
 	}
 
-	/**
-	 * Find 'leaf' nodes (i.e. nodes that do not have dependent tasks)
-	 */
-	Set<Data> findLeafNodes(Data out) {
-		Set<Data> nodes = findNodes(out); // Find all nodes, including 'out'
-
-		// Only add nodes that do not have dependent tasks (i.e. are leaves)
-		Set<Data> leaves = new HashSet<>();
-		for (Data n : nodes) {
-			if (!hasTasksByOutput(n)) leaves.add(n);
-		}
-
-		return leaves;
-	}
-
-	/**
-	 * Find all leaf nodes required for goal 'out'
-	 */
-	Set<Data> findNodes(Data out) {
-		// A set of 'goal' nodes
-		Set<Data> goals = new HashSet<>();
-		goals.add(out); // We need 'out' in goals, otherwise the evaluation in empty, we'll remove it at the end
-
-		// Loop until there is no change in this set
-		int oldSize, newSize;
-		do {
-			Set<Data> newGoals = findNodes(goals);
-			oldSize = goals.size();
-			newSize = newGoals.size();
-			goals = newGoals;
-		} while (oldSize < newSize);
-
-		// Original 'out' node is not a leaf dependency
-		goals.remove(out);
-		return goals;
-	}
-
-	/**
-	 * Create a new set including all dependencies from each goal
-	 */
-	Set<Data> findNodes(Set<Data> goals) {
-		// We need a new set to avoid 'concurrent modification'
-		Set<Data> newGoals = new HashSet<>();
-		newGoals.addAll(goals);
-
-		// For each goal
-		for (Data goal : goals) {
-			// Find all tasks required for this goal
-			List<Task> tasks = getTasksByOutput(goal);
-			if (tasks == null) continue;
-
-			// Add all task's inputs
-			for (Task t : tasks) {
-				// Add all inputs
-				if (t.getInputs() != null) {
-					for (Data in : t.getInputs())
-						newGoals.add(in); // Add each node
-				}
-
-				// Add all taskIds
-				List<Task> depTasks = t.getDependencies();
-				if (depTasks != null) {
-					for (Task depTask : depTasks) {
-						// Add each task ID, mark as changed if not already added
-						DataTask dtask = new DataTask(depTask.getId());
-						newGoals.add(dtask);
-					}
-				}
-			}
-		}
-
-		return newGoals;
-	}
-
 	protected Task getTask(Data dataTask) {
 		return getTask(dataTask.getUrlOri());
 	}
@@ -273,10 +200,35 @@ public class TaskDependecies implements Serializable, BdsLog {
 		return tasks;
 	}
 
+	/**
+	 * All nodes that a goal directly depends on: inputs of the tasks
+	 * producing the goal and task IDs of their dependencies
+	 */
+	List<Data> goalInputs(Data goal) {
+		List<Data> inputs = new ArrayList<>();
+
+		// Find all tasks required for this goal
+		List<Task> tasks = getTasksByOutput(goal);
+		if (tasks == null) return inputs;
+
+		for (Task t : tasks) {
+			// Add all inputs
+			if (t.getInputs() != null) inputs.addAll(t.getInputs());
+
+			// Add all taskIds
+			if (t.getDependencies() != null) {
+				for (Task depTask : t.getDependencies())
+					inputs.add(new DataTask(depTask.getId()));
+			}
+		}
+
+		return inputs;
+	}
+
 	/**
 	 * Does this goal need to be updated respect to the leaves
 	 */
-	boolean goalNeedsUpdate(Data out) {
+	boolean goalNeedsUpdate(Data out, Map<Data, Long> modifiedByGoal) {
 		// Is 'out' a taskId?
 		if (isTask(out)) {
 			// Needs update if the task has not been scheduled
@@ -284,71 +236,123 @@ public class TaskDependecies implements Serializable, BdsLog {
 			return t != null && !t.isScheduled();
 		}
 
-		// Find all 'leaf nodes' (files) required for this goal
-		Set<Data> leaves = findLeafNodes(out);
-		TaskDependency tasDep = new TaskDependency(null);
-		tasDep.addOutput(out);
-		tasDep.addInputs(leaves);
+		// This is equivalent to evaluating the dependency operator 'out <- leaves'
+		TaskDependency taskDep = new TaskDependency(null);
+		taskDep.addOutput(out);
+		long minModifiedLeft = taskDep.minModifiedLeft();
+		if (minModifiedLeft < 0) return true;
+
+		long maxModifiedRight = goalModifiedRight(out, modifiedByGoal);
+		if (maxModifiedRight < 0) return true;
+
+		boolean ret = (minModifiedLeft < maxModifiedRight);
+		debug("Goal: " + out + ", modification times minModifiedLeft (" + minModifiedLeft + ") < maxModifiedRight (" + maxModifiedRight + "): " + ret);
+		return ret;
+	}
+
+	/**
+	 * Maximum modification time of all leaf nodes required for goal 'out'
+	 * (i.e. the 'right hand side' of 'out <- leaves').
+	 *
+	 * Values are calculated bottom-up and memoized in 'modifiedByGoal', so
+	 * evaluating all goals in a sub-graph is linear in the sub-graph's size.
+	 *
+	 * @return Max modification time, negative if the goal must be updated
+	 */
+	long goalModifiedRight(Data out, Map<Data, Long> modifiedByGoal) {
+		Long modOut = modifiedByGoal.get(out);
+		if (modOut != null) return modOut;
+
+		// Iterative post-order DFS (dependency graphs can be too deep for recursion)
+		Set<Data> expanded = new HashSet<>();
+		LinkedList<Data> stack = new LinkedList<>();
+		stack.push(out);
+		while (!stack.isEmpty()) {
+			Data goal = stack.peek();
+			if (modifiedByGoal.containsKey(goal)) {
+				stack.pop();
+				continue;
+			}
+
+			// First visit: Analyze inputs before this node
+			List<Data> inputs = goalInputs(goal);
+			if (expanded.add(goal)) {
+				for (Data in : inputs)
+					if (!modifiedByGoal.containsKey(in) && !expanded.contains(in)) stack.push(in);
+				continue;
+			}
 
-		if (debug) {
-			debug("Goal: " + out + "\n\tLeaf nodes:");
-			for (Data n : leaves)
-				System.err.println("\t\t'" + n + "'");
+			// All inputs have been analyzed
+			stack.pop();
+			long mod = Long.MIN_VALUE;
+			for (Data in : inputs) {
+				// Leaf node? Note that task IDs are not considered leaves in a dependency operator
+				if (!hasTasksByOutput(in) && !(in instanceof DataTask)) mod = maxModified(mod, taskDep().modifiedRight(in));
+
+				Long modIn = modifiedByGoal.get(in); // Could be null on circular dependencies
+				if (modIn != null) mod = maxModified(mod, modIn);
+			}
+			modifiedByGoal.put(goal, mod);
 		}
 
-		return tasDep.depOperator();
+		return modifiedByGoal.get(out);
 	}
 
 	/**
 	 * Find all tasks required for satisfying goal 'out' and run them
 	 */
 	boolean goalRun(BdsThread bdsThread, Data goal, Set<Task> addedTasks) {
+		Map<Data, Long> modifiedByGoal = new HashMap<>();
+
+		// Iterative DFS: Tasks are executed after all their dependencies have been satisfied
+		LinkedList<GoalRun> stack = new LinkedList<>();
+		GoalRun goalRun = goalRunCreate(goal, modifiedByGoal);
+		if (goalRun == null) return false;
+		stack.push(goalRun);
+
+		while (!stack.isEmpty()) {
+			GoalRun gr = stack.peek();
+
+			// Satisfy all dependencies before running
+			Data next = gr.next(addedTasks);
+			if (next != null) {
+				GoalRun grNext = goalRunCreate(next, modifiedByGoal);
+				if (grNext != null) stack.push(grNext);
+				continue;
+			}
+
+			// Run all tasks required to satisfy the goal
+			stack.pop();
+			for (Task t : gr.tasks) {
+				if (!t.isScheduled()) {
+					debug("Goal run: Running task '" + t.getId() + "'");
+					t.setDependency(false); // We are executing this task, so it it no longer a 'dep'
+					TaskVmOpcode.execute(bdsThread, t);
+				} else debug("Goal run: Task '" + t.getId() + "' is already scheduled, not running");
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Create a 'goal run' if the goal needs to be updated
+	 * @return A GoalRun or null if there is nothing to do
+	 */
+	GoalRun goalRunCreate(Data goal, Map<Data, Long> modifiedByGoal) {
 		// Check if we really need to update this goal with respect to the leaf nodes
 		// Important: If the middle nodes are not present (e.g. temp files have
 		// been deleted), but the output nodes are ok respect to first input
 		// nodes (i.e. the input nodes), then we don't need to execute this goal
-		if (!goalNeedsUpdate(goal)) {
+		if (!goalNeedsUpdate(goal, modifiedByGoal)) {
 			debug("Goal '" + goal + "' does not need update, skipping");
-			return false;
+			return null;
 		}
 
 		// Find all tasks that must be executed
 		List<Task> tasks = getTasksByOutput(goal);
-		if (tasks == null) return false;
-
-		// Satisfy all goals before running
-		for (Task t : tasks) {
-			if (addedTasks.contains(t)) continue; // Don't analyze twice
-			addedTasks.add(t);
-
-			// Recursively analyze all input file dependencies
-			if (t.getInputs() != null) {
-				for (Data in : t.getInputs()) {
-					goalRun(bdsThread, in, addedTasks);
-				}
-			}
-
-			// Recursively analyze all task dependencies
-			if (t.getDependencies() != null) {
-				for (Task taskDep : t.getDependencies()) {
-					if (addedTasks.contains(taskDep)) continue;
-					DataTask dtask = new DataTask(taskDep.getId());
-					goalRun(bdsThread, dtask, addedTasks);
-				}
-			}
-		}
-
-		// Run all tasks required to satisfy the goal
-		for (Task t : tasks) {
-			if (!t.isScheduled()) {
-				debug("Goal run: Running task '" + t.getId() + "'");
-				t.setDependency(false); // We are executing this task, so it it no longer a 'dep'
-				TaskVmOpcode.execute(bdsThread, t);
-			} else debug("Goal run: Task '" + t.getId() + "' is already scheduled, not running");
-
-		}
-
-		return true;
+		if (tasks == null) return null;
+		return new GoalRun(tasks);
 	}
 
 	public synchronized boolean hasTask(String taskId) {
@@ -438,6 +442,14 @@ public class TaskDependecies implements Serializable, BdsLog {
 		return verbose;
 	}
 
+	/**
+	 * Combine modification times, a negative value means 'needs update'
+	 */
+	long maxModified(long mod1, long mod2) {
+		if (mod1 == -1 || mod2 == -1) return -1;
+		return Math.max(mod1, mod2);
+	}
+
 	/**
 	 * Resolve un-serialization
 	 */
@@ -481,6 +493,14 @@ public class TaskDependecies implements Serializable, BdsLog {
 		return sb.toString();
 	}
 
+	/**
+	 * An empty task dependency, used for evaluating single files
+	 */
+	TaskDependency taskDep() {
+		if (taskDepEmpty == null) taskDepEmpty = new TaskDependency(null);
+		return taskDepEmpty;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
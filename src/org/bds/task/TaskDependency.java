@@ -221,34 +221,10 @@ public class TaskDependency implements Serializable, BdsLog {
 	protected long maxModifiedRight() {
 		long maxModifiedRight = Long.MIN_VALUE;
 		for (Data dataIn : inputs) {
-			// Is this file scheduled to be modified by a pending task?
-			// If so, file time will change, thus we'll need to update
-			List<Task> taskOutList = TaskDependecies.get().getTasksByOutput(dataIn);
-			if (taskOutList != null && !taskOutList.isEmpty()) {
-				for (Task t : taskOutList) {
-					// If the task modifying 'file' is not finished, we'll need to update
-					if (!t.isDone()) {
-						debug("Right hand side: file '" + dataIn + "' will be modified by task '" + t.getId() + "' (task state: '" + t.getTaskState() + "')");
-						return -1;
-					}
-				}
-			}
-
-			if (dataIn.exists()) {
-				// Update max time
-				long modTime = dataIn.getLastModified().getTime();
-				maxModifiedRight = Math.max(maxModifiedRight, modTime);
-				debug("Right hand side: file '" + dataIn + "' modified on " + modTime + ". Max modification time: " + maxModifiedRight);
-			} else if (isDataTask(dataIn)) {
-				// A task must be always executed to satisfy the dependency
-				return -1;
-			} else {
-				// Make sure that we schedule the task if the input file doesn't exits
-				// The reason to do this, is that probably the input file was defined
-				// by some other task that is pending execution.
-				debug("Right hand side: file '" + dataIn + "' doesn't exist");
-				return -1;
-			}
+			long modTime = modifiedRight(dataIn);
+			if (modTime < 0) return -1;
+			maxModifiedRight = Math.max(maxModifiedRight, modTime);
+			debug("Right hand side: file '" + dataIn + "' modified on " + modTime + ". Max modification time: " + maxModifiedRight);
 		}
 		return maxModifiedRight;
 	}
@@ -289,6 +265,36 @@ public class TaskDependency implements Serializable, BdsLog {
 		return minModifiedLeft;
 	}
 
+	/**
+	 * Modification time of a single right hand side file
+	 * @return The modified time for the file, or negative if the dependency must be true
+	 */
+	protected long modifiedRight(Data dataIn) {
+		// Is this file scheduled to be modified by a pending task?
+		// If so, file time will change, thus we'll need to update
+		List<Task> taskOutList = TaskDependecies.get().getTasksByOutput(dataIn);
+		if (taskOutList != null && !taskOutList.isEmpty()) {
+			for (Task t : taskOutList) {
+				// If the task modifying 'file' is not finished, we'll need to update
+				if (!t.isDone()) {
+					debug("Right hand side: file '" + dataIn + "' will be modified by task '" + t.getId() + "' (task state: '" + t.getTaskState() + "')");
+					return -1;
+				}
+			}
+		}
+
+		if (dataIn.exists()) return dataIn.getLastModified().getTime();
+
+		// A task must be always executed to satisfy the dependency
+		if (isDataTask(dataIn)) return -1;
+
+		// Make sure that we schedule the task if the input file doesn't exits
+		// The reason to do this, is that probably the input file was defined
+		// by some other task that is pending execution.
+		debug("Right hand side: file '" + dataIn + "' doesn't exist");
+		return -1;
+	}
+
 	public void setDebug(boolean debug) {
 		this.debug = debug;
 	}
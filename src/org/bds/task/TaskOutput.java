@@ -0,0 +1,237 @@
+package org.bds.task;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import org.bds.util.Gpr;
+import org.bds.util.GprFile;
+
+/**
+ * Read a task's output (STDOUT / STDERR) file, which may be split into segments.
+ *
+ * When 'taskOutputMaxSize' is set, task's output is written into rotating
+ * segments (see 'bds exec' launcher and TaskOutputStream):
+ *   - 'file'        : Live segment, latest output (never compressed)
+ *   - 'file.N[.gz]' : Rotated segments, N = 1, 2, 3, ...
+ * Old segments are deleted to keep the total size below the limit, except
+ * for segment number 1 (the beginning of the output). So the head and the
+ * tail of the output are always available.
+ *
+ * Segments are read lazily (one at a time) and a TRUNCATED mark is added
+ * where segments were deleted.
+ *
+ * @author pcingola
+ */
+public class TaskOutput {
+
+	public static final String COMPRESSED_EXT = ".gz";
+	public static final String TRUNCATED = "\n[... output truncated ...]\n";
+
+	/**
+	 * Delete all rotated segments, e.g. left by a previous run of the same task
+	 * (a re-executed task uses the same STDOUT / STDERR file names)
+	 */
+	public static void deleteSegments(String fileName) {
+		for (File segment : listSegments(fileName).values())
+			segment.delete();
+	}
+
+	/**
+	 * Does the file (or any of its segments) exist?
+	 */
+	public static boolean exists(String fileName) {
+		return fileName != null && (Gpr.exists(fileName) || isSegmented(fileName));
+	}
+
+	/**
+	 * Has the output been split into segments?
+	 * Segment number 1 is never deleted, so we only need to check for it.
+	 */
+	public static boolean isSegmented(String fileName) {
+		return segment(fileName, 1, false).exists() || segment(fileName, 1, true).exists();
+	}
+
+	/**
+	 * Find all segment files in the directory
+	 * @return Segments sorted by number
+	 */
+	static TreeMap<Integer, File> listSegments(String fileName) {
+		TreeMap<Integer, File> segments = new TreeMap<>();
+		File file = new File(fileName);
+		File dir = file.getAbsoluteFile().getParentFile();
+		Pattern pattern = Pattern.compile(Pattern.quote(file.getName()) + "\\.(\\d+)(" + Pattern.quote(COMPRESSED_EXT) + ")?");
+		String names[] = dir.list();
+		if (names == null) return segments;
+		for (String name : names) {
+			Matcher m = pattern.matcher(name);
+			if (m.matches()) segments.put(Gpr.parseIntSafe(m.group(1)), new File(dir, name));
+		}
+		return segments;
+	}
+
+	/**
+	 * Number of lines (newline characters) in a string
+	 */
+	static int numLines(String str) {
+		int count = 0;
+		for (int i = 0; i < str.length(); i++)
+			if (str.charAt(i) == '\n') count++;
+		return count;
+	}
+
+	/**
+	 * Input stream for a segment
+	 */
+	static InputStream open(File segment) throws IOException {
+		InputStream is = new FileInputStream(segment);
+		return segment.getName().endsWith(COMPRESSED_EXT) ? new GZIPInputStream(is) : is;
+	}
+
+	/**
+	 * Input stream for all segments, in order
+	 */
+	public static InputStream open(String fileName) throws IOException {
+		TreeMap<Integer, File> segments = segments(fileName);
+		if (segments.isEmpty()) return new FileInputStream(fileName); // Not split into segments
+
+		// Add live segment as the last one
+		List<File> files = new ArrayList<>(segments.values());
+		List<Integer> nums = new ArrayList<>(segments.keySet());
+		File live = new File(fileName);
+		if (live.exists()) {
+			files.add(live);
+			nums.add(segments.lastKey() + 1);
+		}
+
+		// Open segments lazily, add 'truncated' marks where segments are missing
+		Iterator<File> itFiles = files.iterator();
+		Iterator<Integer> itNums = nums.iterator();
+		Enumeration<InputStream> streams = new Enumeration<InputStream>() {
+			int prevNum = 0;
+			InputStream pending;
+
+			@Override
+			public boolean hasMoreElements() {
+				return pending != null || itFiles.hasNext();
+			}
+
+			@Override
+			public InputStream nextElement() {
+				if (pending != null) {
+					InputStream is = pending;
+					pending = null;
+					return is;
+				}
+
+				File segment = itFiles.next();
+				int num = itNums.next();
+				InputStream is;
+				try {
+					is = open(segment);
+				} catch (IOException e) {
+					// Segment deleted after listing segments (e.g. by a running task): Same as a missing segment
+					return new ByteArrayInputStream(itFiles.hasNext() ? new byte[0] : TRUNCATED.getBytes());
+				}
+
+				boolean gap = num > prevNum + 1;
+				prevNum = num;
+				if (!gap) return is;
+				pending = is;
+				return new ByteArrayInputStream(TRUNCATED.getBytes());
+			}
+		};
+
+		return new SequenceInputStream(streams);
+	}
+
+	/**
+	 * Read a task's output file (all segments)
+	 * @return File's contents or an empty string on error
+	 */
+	public static String read(String fileName) {
+		if (fileName == null) return "";
+		if (!isSegmented(fileName)) return GprFile.readFile(fileName, false);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream is = open(fileName)) {
+			byte buf[] = new byte[TailFile.READ_BUFFER_SIZE];
+			for (int len; (len = is.read(buf)) >= 0;)
+				out.write(buf, 0, len);
+		} catch (IOException e) {
+			return "";
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Segment file name
+	 */
+	public static File segment(String fileName, int num, boolean compressed) {
+		return new File(fileName + "." + num + (compressed ? COMPRESSED_EXT : ""));
+	}
+
+	/**
+	 * Find all rotated segments (does not include the live segment)
+	 * @return Segments sorted by number
+	 */
+	public static TreeMap<Integer, File> segments(String fileName) {
+		if (!isSegmented(fileName)) return new TreeMap<>();
+		return listSegments(fileName);
+	}
+
+	/**
+	 * Show the last 'linesToRead' lines of a task's output.
+	 * Only the latest segments are read
+	 */
+	public static String tail(String fileName, int linesToRead) {
+		if (fileName == null || !isSegmented(fileName)) return TailFile.tail(fileName, linesToRead);
+		if (linesToRead == 0) return "";
+		if (linesToRead < 0) return read(fileName);
+
+		// Read live segment
+		// Note: The first line in a segment may be incomplete, so we read one more line than needed
+		StringBuilder sb = new StringBuilder();
+		String live = TailFile.tail(fileName, linesToRead + 1);
+		if (live != null) sb.append(live);
+		boolean complete = live != null && live.getBytes().length < new File(fileName).length();
+
+		// Not enough lines in the live segment? Read previous segments
+		TreeMap<Integer, File> segments = segments(fileName);
+		int nextNum = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+		for (int num : segments.descendingKeySet()) {
+			if (complete) break;
+			if (num < nextNum - 1) sb.insert(0, TRUNCATED);
+			nextNum = num;
+
+			File segment = segments.get(num);
+			int linesMissing = linesToRead - numLines(sb.toString()) + 1;
+			String str;
+			if (segment.getName().endsWith(COMPRESSED_EXT)) {
+				String content = Gpr.readFile(segment.getPath(), false);
+				str = TailFile.lastLines(content, linesMissing);
+				complete = str.length() < content.length();
+			} else {
+				str = TailFile.tail(segment.getPath(), linesMissing);
+				if (str == null) str = "";
+				complete = str.getBytes().length < segment.length();
+			}
+			sb.insert(0, str);
+		}
+
+		return TailFile.lastLines(sb.toString(), linesToRead);
+	}
+
+}
@@ -0,0 +1,132 @@
+package org.bds.task;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Write a task's output (STDOUT / STDERR) into rotating, optionally
+ * compressed, segments having a maximum total size.
+ *
+ * Segment naming and size limits are the same as in 'bds exec' launcher
+ * (see TaskOutput for details)
+ *
+ * @author pcingola
+ */
+public class TaskOutputStream extends OutputStream {
+
+	public static final int SEGMENTS = 8; // Output is split into (at most) this many segments
+
+	boolean compress; // Compress rotated segments
+	String fileName;
+	long liveSize; // Live segment's size
+	long maxSize; // Maximum size of all segments
+	OutputStream out; // Live segment
+	Deque<File> rotated; // Rotated segments (excluding segment number 1, which is never deleted)
+	long rotatedSize; // Total size of rotated segments (including segment number 1)
+	int segmentNum; // Number of the latest rotated segment
+	long segmentSize; // Maximum size of a segment
+
+	/**
+	 * Create an output stream for 'fileName'
+	 * @param maxSize : Maximum output size, a non-positive number means 'unlimited' (no segments)
+	 */
+	public static OutputStream factory(String fileName, long maxSize, boolean compress) throws IOException {
+		if (maxSize <= 0) {
+			TaskOutput.deleteSegments(fileName); // Segments from a previous run
+			return new BufferedOutputStream(new FileOutputStream(fileName));
+		}
+		return new TaskOutputStream(fileName, maxSize, compress);
+	}
+
+	public TaskOutputStream(String fileName, long maxSize, boolean compress) throws IOException {
+		this.fileName = fileName;
+		this.maxSize = maxSize;
+		this.compress = compress;
+		segmentSize = Math.max(1, maxSize / SEGMENTS);
+		rotated = new ArrayDeque<>();
+		TaskOutput.deleteSegments(fileName); // Segments from a previous run (e.g. task is re-executed) would be read as part of this output
+		out = new BufferedOutputStream(new FileOutputStream(fileName));
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	/**
+	 * Compress live segment into 'segment' and delete it
+	 */
+	void gzip(File live, File segment) throws IOException {
+		try (InputStream in = new FileInputStream(live); OutputStream gz = new GZIPOutputStream(new FileOutputStream(segment))) {
+			byte buf[] = new byte[TailFile.READ_BUFFER_SIZE];
+			for (int len; (len = in.read(buf)) >= 0;)
+				gz.write(buf, 0, len);
+		}
+		live.delete();
+	}
+
+	/**
+	 * Delete oldest segments until we are below 'maxSize' (segment number 1 is never deleted)
+	 */
+	void limitSize() {
+		while (!rotated.isEmpty() && rotatedSize + segmentSize > maxSize) {
+			File segment = rotated.removeFirst();
+			rotatedSize -= segment.length();
+			segment.delete();
+		}
+	}
+
+	/**
+	 * Rotate live segment
+	 */
+	void rotate() throws IOException {
+		out.close();
+
+		segmentNum++;
+		File live = new File(fileName);
+		File segment = TaskOutput.segment(fileName, segmentNum, compress);
+		if (compress) gzip(live, segment);
+		else if (!live.renameTo(segment)) throw new IOException("Cannot rename file '" + live + "' to '" + segment + "'");
+
+		rotatedSize += segment.length();
+		if (segmentNum > 1) rotated.add(segment);
+		limitSize();
+
+		// New live segment
+		out = new BufferedOutputStream(new FileOutputStream(fileName));
+		liveSize = 0;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			if (liveSize >= segmentSize) rotate();
+			int n = (int) Math.min(len, segmentSize - liveSize);
+			out.write(b, off, n);
+			liveSize += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (liveSize >= segmentSize) rotate();
+		out.write(b);
+		liveSize++;
+	}
+
+}
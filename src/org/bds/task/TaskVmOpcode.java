@@ -145,6 +145,7 @@ public class TaskVmOpcode extends SysVmOpcode {
 		task.setNode(bdsThread.getString(GlobalScope.GLOBAL_VAR_TASK_OPTION_NODE));
 		task.setMaxFailCount((int) bdsThread.getInt(GlobalScope.GLOBAL_VAR_TASK_OPTION_RETRY) + 1); // Note: Max fail count is the number of retries plus one (we always run at least once)
 		task.setDetached(bdsThread.getBool(GlobalScope.GLOBAL_VAR_TASK_OPTION_DETACHED));
+		task.setPriority((int) bdsThread.getInt(GlobalScope.GLOBAL_VAR_TASK_OPTION_PRIORITY));
 
 		// Set task options: Resources
 		String runSystem = bdsThread.getString(GlobalScope.GLOBAL_VAR_TASK_OPTION_SYSTEM);
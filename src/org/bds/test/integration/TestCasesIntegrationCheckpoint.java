@@ -1,6 +1,10 @@
 package org.bds.test.integration;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 
 import org.bds.Bds;
@@ -411,4 +415,44 @@ public class TestCasesIntegrationCheckpoint extends TestCasesBase {
 		runAndCheckpoint("test/checkpoint_28.bds", "test/checkpoint_28.chp", "out", 47);
 	}
 
+	@Test
+	public void test31_set_sorted_map() {
+		Gpr.debug("Test");
+		runAndCheckpoint("test/checkpoint_31.bds", "test/checkpoint_31.chp", "out", "4,0,a,b,c");
+	}
+
+	/**
+	 * Checkpoint file written in the background, program waits for it
+	 */
+	@Test
+	public void test32_async() {
+		Gpr.debug("Test");
+		runAndCheckpoint("test/checkpoint_32.bds", "test/checkpoint_32.chp", "out", "1,true");
+	}
+
+	/**
+	 * Checkpoint inside 'for' loops: Modification counters must be restored
+	 */
+	@Test
+	public void test33_for_loop_mod_count() {
+		Gpr.debug("Test");
+		runAndCheckpoint("test/checkpoint_33.bds", "test/checkpoint_33.chp", "out", "one,two,three,1,2,xy");
+	}
+
+	/**
+	 * Recover from an old format checkpoint (GZIP compressed serialization stream)
+	 * File 'test/checkpoint_34.legacy.chp.gz' was written by an older version
+	 */
+	@Test
+	public void test34_legacy_format() {
+		Gpr.debug("Test");
+		runAndCheckpoint("test/checkpoint_34.bds", "test/checkpoint_34.chp", "out", "[1, 2, 3, 4];[1.5, 2.5, 3.5];[true, false, true];[a, b, c];a,b", () -> {
+			try {
+				Files.copy(Paths.get("test/checkpoint_34.legacy.chp.gz"), Paths.get("test/checkpoint_34.chp"), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+	}
+
 }
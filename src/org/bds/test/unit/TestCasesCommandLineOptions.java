@@ -1,14 +1,25 @@
 package org.bds.test.unit;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.bds.Bds;
 import org.bds.Config;
+import org.bds.executioner.Executioner;
+import org.bds.executioner.Executioners;
+import org.bds.executioner.Executioners.ExecutionerType;
 import org.bds.run.BdsRun;
 import org.bds.run.BdsThread;
+import org.bds.run.Profiler;
+import org.bds.task.Task;
 import org.bds.test.BdsTest;
 import org.bds.test.TestCasesBase;
 import org.bds.util.Gpr;
@@ -63,4 +74,125 @@ public class TestCasesCommandLineOptions extends TestCasesBase {
 			Assert.assertTrue("Log file starting with '" + prefix + "' and ending with '" + ext + "' not found in dir '" + dir + "'", ok);
 		}
 	}
+
+	@Test
+	public void test02_profile() {
+		Gpr.debug("Test");
+		Config.reset();
+
+		// Create command line
+		String args[] = { "-profile" };
+		BdsTest bdsTest = new BdsTest("test/cmdLineOptions_03.bds", args, verbose, debug);
+
+		// Run script
+		bdsTest.run();
+		bdsTest.checkRunOk();
+
+		// Check profile files
+		BdsThread bdsThread = bdsTest.bds.getBdsRun().getBdsThread();
+		String baseName = bdsThread.getBdsThreadId();
+		File collapsedFile = new File(baseName + Profiler.EXT_COLLAPSED);
+		File tableFile = new File(baseName + Profiler.EXT_TABLE);
+		collapsedFile.deleteOnExit();
+		tableFile.deleteOnExit();
+
+		String collapsed = Gpr.readFile(collapsedFile.getPath());
+		if (verbose) Gpr.debug("Collapsed stacks:\n" + collapsed);
+		Assert.assertTrue("Expected 'sys' samples in function 'waitSys':\n" + collapsed, collapsed.contains("main (cmdLineOptions_03.bds:7);waitSys (cmdLineOptions_03.bds:4);[sys] "));
+
+		String table = Gpr.readFile(tableFile.getPath());
+		if (verbose) Gpr.debug("Profile table:\n" + table);
+		Assert.assertTrue("Expected line 4 in profile table:\n" + table, table.contains("cmdLineOptions_03.bds:4"));
+	}
+
+	/**
+	 * Task files in sharded sub-directories (config option 'taskDirShards')
+	 */
+	@Test
+	public void test03_taskDirShards() {
+		Gpr.debug("Test");
+		Config.reset();
+
+		String args[] = { "-log", "-c", "test/cmdLineOptions_04.config" };
+		BdsTest bdsTest = new BdsTest("test/cmdLineOptions_01.bds", args, verbose, debug);
+		bdsTest.run();
+		bdsTest.checkRunOk();
+
+		// Task's program file should be in a shard sub-directory
+		BdsThread bdsThread = bdsTest.bds.getBdsRun().getBdsThread();
+		Task task = bdsThread.getTasks().iterator().next();
+		File programFile = new File(task.getProgramFileName());
+		File shardDir = programFile.getParentFile();
+		Assert.assertTrue("Program file not found: " + programFile, programFile.exists());
+		Assert.assertTrue("Unexpected shard sub-directory name '" + shardDir.getName() + "'", shardDir.getName().matches("[0-9a-f]"));
+		Assert.assertEquals(new File(bdsThread.getBdsThreadId()).getAbsolutePath(), shardDir.getParentFile().getAbsolutePath());
+
+		// All task files are in the same sub-directory
+		String exts[] = { "sh", "exitCode", "stderr", "stdout" };
+		String base = Gpr.removeExt(programFile.getPath());
+		for (String ext : exts)
+			Assert.assertTrue("Task file '" + base + "." + ext + "' not found", new File(base + "." + ext).exists());
+	}
+
+	/**
+	 * Run 'sys' commands using a coprocess (config option 'sysCoprocess')
+	 */
+	@Test
+	public void test04_sysCoprocess() {
+		Gpr.debug("Test");
+		Config.reset();
+
+		String args[] = { "-c", "test/cmdLineOptions_05.config" };
+		BdsTest bdsTest = new BdsTest("test/cmdLineOptions_05.bds", args, verbose, debug);
+		bdsTest.run();
+		bdsTest.checkRunOk();
+
+		// Same results as running each command in its own process
+		bdsTest.checkVariable("out", "0\n1\n2\n3\n4\n5\n6\n7\n8\n9\n");
+		bdsTest.checkVariable("pwd", new File(".").getAbsoluteFile().getParent() + "\n");
+		bdsTest.checkVariable("env", "none\n");
+		bdsTest.checkVariable("lines", "a\nb\n");
+		bdsTest.checkVariable("after", "ok\n");
+		Assert.assertTrue("Expected a PID", bdsTest.getValue("pid").asString().trim().matches("\\d+"));
+
+		// Commands were executed by the coprocess (except the one using '$$')
+		BdsThread bdsThread = bdsTest.bds.getBdsRun().getBdsThread();
+		Assert.assertEquals(17, bdsThread.getSysCoprocess().getCount());
+		Assert.assertFalse("Coprocess should be closed", bdsThread.getSysCoprocess().isRunning());
+	}
+
+	/**
+	 * Task results restored from the task cache (config option 'taskCacheDir')
+	 */
+	@Test
+	public void test05_taskCache() throws IOException {
+		Gpr.debug("Test");
+		String args[] = { "-c", "test/cmdLineOptions_06.config" };
+		try {
+			for (int i = 0; i < 2; i++) {
+				Config.reset();
+				BdsTest bdsTest = new BdsTest("test/cmdLineOptions_06.bds", args, verbose, debug);
+				bdsTest.run();
+				bdsTest.checkRunOk();
+				bdsTest.checkVariable("res", "HELLO");
+
+				// Second run: Task is finished without being executed
+				BdsThread bdsThread = bdsTest.bds.getBdsRun().getBdsThread();
+				Task task = bdsThread.getTasks().iterator().next();
+				Assert.assertTrue("Task not finished: " + task.getTaskState(), task.isStateFinished() && task.isDoneOk());
+				String exitCodeFile = task.getExitCodeFile();
+				Assert.assertEquals("Task executed: " + task.getId(), i == 0, exitCodeFile != null && new File(exitCodeFile).exists());
+
+				// Executioner's bookkeeping was updated
+				Executioner executioner = Executioners.getInstance().getRaw(ExecutionerType.LOCAL);
+				Assert.assertTrue("Task not in executioner's 'done' list: " + task.getId(), executioner.getTaskIdsDone().contains(task.getId()));
+			}
+		} finally {
+			new File("tmp_cmdLineOptions_06.in").delete();
+			new File("tmp_cmdLineOptions_06.out").delete();
+			try (Stream<Path> paths = Files.walk(Paths.get("tmp_cmdLineOptions_06.cache"))) {
+				paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+			}
+		}
+	}
 }
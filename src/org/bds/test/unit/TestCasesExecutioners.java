@@ -1,12 +1,54 @@
 package org.bds.test.unit;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
+import org.apache.mesos.Protos.CommandInfo;
+import org.apache.mesos.Protos.ExecutorID;
+import org.apache.mesos.Protos.ExecutorInfo;
+import org.apache.mesos.Protos.Offer;
 import org.bds.Config;
+import org.bds.cluster.ComputerSystem;
+import org.bds.cluster.host.CpuTopology;
+import org.bds.cluster.host.Host;
+import org.bds.cluster.host.HostLoad;
+import org.bds.cluster.host.HostLocal;
+import org.bds.cluster.host.TaskResources;
+import org.bds.cluster.host.TaskResourcesAws;
+import org.bds.executioner.AwsWorkerCloudLocal;
+import org.bds.executioner.AwsWorkerPool;
 import org.bds.executioner.CheckTasksRunningCmd;
+import org.bds.executioner.ClusterSubmitter;
+import org.bds.executioner.CpuAllocator;
 import org.bds.executioner.Executioner;
+import org.bds.executioner.ExecutionerMesos;
 import org.bds.executioner.Executioners;
 import org.bds.executioner.Executioners.ExecutionerType;
+import org.bds.executioner.QueueMessage;
+import org.bds.executioner.QueueThread;
+import org.bds.executioner.TaskPlacement;
+import org.bds.executioner.TaskPlacementBestFit;
+import org.bds.executioner.TaskPlacementFirstFit;
+import org.bds.mesos.BdsMesosScheduler;
+import org.bds.mesos.OfferMatcher;
+import org.bds.mesos.OfferMatcher.Match;
+import org.bds.mesos.SchedulerDriverLocal;
+import org.bds.osCmd.Cmd;
+import org.bds.task.Task;
+import org.bds.task.TaskCache;
+import org.bds.task.TaskDependency;
 import org.bds.test.TestCasesBase;
 import org.bds.util.Gpr;
 import org.junit.Test;
@@ -87,4 +129,540 @@ public class TestCasesExecutioners extends TestCasesBase {
 		if (verbose) System.out.println("Done");
 	}
 
+	/**
+	 * AWS worker pool: Pack tasks into instances, reuse idle instances and
+	 * terminate them after 'idleTimeout'. Uses an in-process stand-in for EC2/SQS
+	 */
+	@Test
+	public void test03_awsWorkerPool() {
+		Gpr.debug("Test");
+		AwsWorkerCloudLocal cloud = new AwsWorkerCloudLocal();
+		AwsWorkerPool pool = new AwsWorkerPool(cloud, "bds_test");
+
+		// Five single-CPU tasks, each instance has 4 CPUs
+		Task[] tasks = new Task[5];
+		for (int i = 0; i < tasks.length; i++) {
+			TaskResourcesAws res = new TaskResourcesAws();
+			res.setCpus(1);
+			res.setWorkerPool(true);
+			res.setWorkerCpus(4);
+			res.setWorkerIdleTimeout(0);
+			tasks[i] = new Task("task_" + i);
+			tasks[i].setResources(res);
+			pool.submit(tasks[i], "echo " + i);
+		}
+
+		// Two instances: four tasks packed in the first one, one task in the second one
+		Assert.assertEquals(2, pool.size());
+		Assert.assertEquals(2, cloud.getInstancesRunning().size());
+		Assert.assertEquals(4, cloud.getMessages(pool.getWorkers().get(0).getQueueUrl()).size());
+		Assert.assertEquals(1, cloud.getMessages(pool.getWorkers().get(1).getQueueUrl()).size());
+
+		// Finish one task: the next task reuses the first instance (best fit)
+		pool.remove(tasks[0]);
+		TaskResourcesAws res = new TaskResourcesAws();
+		res.setCpus(1);
+		res.setWorkerPool(true);
+		res.setWorkerCpus(4);
+		Task task = new Task("task_5");
+		task.setResources(res);
+		String instanceId = pool.submit(task, "echo 5");
+		Assert.assertEquals(pool.getWorkers().get(0).getInstanceId(), instanceId);
+		Assert.assertEquals(2, cloud.getInstancesRunning().size());
+
+		// Finish all tasks in the second instance: An idle worker cannot run a task larger than the instance either
+		pool.remove(tasks[4]);
+		TaskResourcesAws resBig = new TaskResourcesAws();
+		resBig.setCpus(8);
+		resBig.setWorkerPool(true);
+		resBig.setWorkerCpus(4);
+		resBig.setWorkerIdleTimeout(0);
+		Task taskBig = new Task("task_big");
+		taskBig.setResources(resBig);
+		Assert.assertTrue(pool.getWorkers().get(1).isIdle());
+		Assert.assertFalse(pool.getWorkers().get(1).canRun(taskBig));
+		Assert.assertNull(pool.submit(taskBig, "echo big"));
+		Assert.assertTrue(pool.getWorkers().get(1).isIdle());
+		Assert.assertEquals(2, cloud.getInstancesRunning().size());
+
+		// Idle instance is terminated
+		pool.terminateIdle();
+		Assert.assertEquals(1, pool.size());
+		Assert.assertEquals(1, cloud.getInstancesRunning().size());
+		Assert.assertEquals(1, cloud.getQueues().size());
+
+		// Kill pool: all instances terminated, all queues deleted, clients released
+		pool.kill();
+		Assert.assertEquals(0, cloud.getInstancesRunning().size());
+		Assert.assertEquals(0, cloud.getQueues().size());
+		Assert.assertTrue(cloud.isClosed());
+	}
+
+	/**
+	 * Queue messages: Old and compressed formats, outputs delivered in sequence order
+	 */
+	@Test
+	public void test04_queueMessageSequence() throws IOException {
+		Gpr.debug("Test");
+		Base64.Encoder b64 = Base64.getEncoder();
+
+		// Old format (no sequence number)
+		QueueMessage qm = QueueMessage.parse("task_1\t" + b64.encodeToString("hello".getBytes()) + "\t\t" + b64.encodeToString("0".getBytes()));
+		Assert.assertEquals("hello", new String(qm.getStdout()));
+		Assert.assertNull(qm.getStderr());
+		Assert.assertEquals("0", qm.getExit());
+		Assert.assertFalse(qm.hasSequence());
+
+		// Compressed
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (GZIPOutputStream gz = new GZIPOutputStream(bytes)) {
+			gz.write("compressed".getBytes());
+		}
+		qm = QueueMessage.parse("task_1\t" + b64.encodeToString(bytes.toByteArray()) + "\t\t\t7\t" + QueueMessage.ENCODING_GZIP);
+		Assert.assertEquals("compressed", new String(qm.getStdout()));
+		Assert.assertEquals(7, qm.getSequence());
+
+		// Messages out of order (and duplicated) are delivered in order
+		List<Long> delivered = new ArrayList<>();
+		Config config = new Config();
+		QueueThread qt = new QueueThread(config, null, null) {
+
+			@Override
+			public boolean createQueue() {
+				return false;
+			}
+
+			@Override
+			public boolean deleteQueue() {
+				return false;
+			}
+
+			@Override
+			protected void deliverNow(QueueMessage qm) {
+				delivered.add(qm.getSequence());
+			}
+
+			@Override
+			public String getQueueId() {
+				return null;
+			}
+
+			@Override
+			protected boolean hasQueue() {
+				return false;
+			}
+
+			@Override
+			public String osDeleteQueueCommand() {
+				return null;
+			}
+
+			@Override
+			protected void runLoop() {
+			}
+		};
+
+		for (int seq : new int[] { 2, 0, 0, 3, 1, 2 })
+			qt.deliver(QueueMessage.parse("task_2\t\t\t\t" + seq));
+		Assert.assertEquals("[0, 1, 2, 3]", delivered.toString());
+	}
+
+	/**
+	 * Best fit placement: Select host, priorities and host reservation (backfill)
+	 * Note: Executioner uses 'TaskPlacement.queue' for its queue and 'TaskPlacement.select' for host selection
+	 */
+	@Test
+	public void test05_taskPlacementBestFit() {
+		Gpr.debug("Test");
+		ComputerSystem system = new ComputerSystem();
+		Host hostBig = new Host(system, "big");
+		hostBig.getResources().setCpus(16);
+		hostBig.updateResourcesAvailable();
+		Host hostSmall = new Host(system, "small");
+		hostSmall.getResources().setCpus(4);
+		hostSmall.updateResourcesAvailable();
+
+		// Default policy is 'first fit'
+		Config config = new Config();
+		config.load();
+		Assert.assertEquals(TaskPlacement.FIRST_FIT, config.getTaskPlacement());
+		Task small = newTask("small", 1, 0);
+		Assert.assertEquals(hostBig, TaskPlacement.factory(config).select(small, system));
+
+		// Small tasks are packed into the small host (big host is not fragmented)
+		config.setTaskPlacement(TaskPlacement.BEST_FIT);
+		config.setTaskAgingTime(0);
+		TaskPlacementBestFit placement = (TaskPlacementBestFit) TaskPlacement.factory(config);
+		Assert.assertEquals(hostSmall, placement.select(small, system));
+
+		// Higher priority tasks first, same priority tasks keep queue order
+		List<Task> tasks = new ArrayList<>();
+		placement.queue(tasks, small);
+		placement.queue(tasks, newTask("low", 1, 0));
+		placement.queue(tasks, newTask("high", 1, 5));
+		placement.queue(tasks, newTask("low2", 1, 0));
+		Assert.assertEquals("[high, small, low, low2]", tasks.stream().map(t -> t.getId()).collect(Collectors.toList()).toString());
+
+		// Big host is partially used, a big task cannot run now: the big host is reserved for it
+		Task medium = newTask("medium", 12, 0);
+		hostBig.add(medium);
+		Task big = newTask("big", 16, 0);
+		placement.queue(tasks, big);
+		Assert.assertNull(placement.select(big, system));
+		placement.blocked(big, system);
+		Assert.assertEquals(big, placement.getReservedTask());
+
+		// Small tasks cannot use the reserved host, but they can still run on other hosts (backfill)
+		Task small2 = newTask("small2", 2, 0);
+		Assert.assertEquals(hostSmall, placement.select(small2, system));
+		Task small3 = newTask("small3", 3, 0);
+		hostSmall.add(small2);
+		Assert.assertNull(placement.select(small3, system));
+
+		// Medium task finishes: big task runs on the reserved host
+		hostBig.remove(medium);
+		Assert.assertEquals(hostBig, placement.select(big, system));
+		placement.selected(big, hostBig);
+		Assert.assertNull(placement.getReservedTask());
+
+		// Reserved task removed from the queue (e.g. killed): reservation is released
+		hostBig.add(medium);
+		placement.blocked(big, system);
+		Assert.assertEquals(big, placement.getReservedTask());
+		tasks.remove(big);
+		placement.dequeue(big);
+		Assert.assertNull(placement.getReservedTask());
+	}
+
+	/**
+	 * Host load: Parse '/proc' files, resources used by other processes are not available
+	 */
+	@Test
+	public void test06_hostLoad() {
+		Gpr.debug("Test");
+		ComputerSystem system = new ComputerSystem();
+		HostLocal host = new HostLocal(system);
+		host.getResources().setCpus(8);
+		host.getResources().setMem(16L * 1024 * 1024 * 1024);
+
+		// Two samples: 6 out of 8 cpus busy, 12G out of 16G used
+		HostLoad load = new HostLoad();
+		String meminfo = "MemTotal:       16777216 kB\nMemFree:         1048576 kB\nMemAvailable:    4194304 kB\n";
+		load.update("cpu  1000 0 1000 8000 0 0 0 0 0 0\ncpu0 1 2 3 4\n", meminfo, "0.50 0.40 0.30 1/100 123\n");
+		load.update("cpu  1300 0 1300 8200 0 0 0 0 0 0\n", meminfo, "6.10 3.40 2.30 7/100 124\n");
+		Assert.assertEquals(0.75, load.getCpuUsage(), 1e-6);
+		Assert.assertEquals(0.75, load.getMemUsage(), 1e-6);
+		Assert.assertEquals(6.1, load.getLoadAvg(), 1e-6);
+		Assert.assertEquals(2, load.getSamples().size());
+		host.setLoad(load);
+
+		// No tasks running: Resources used by other processes are not available
+		host.updateResourcesAvailable();
+		Assert.assertEquals(2, host.getResourcesAvaialble().getCpus());
+		Assert.assertEquals(4L * 1024 * 1024 * 1024, host.getResourcesAvaialble().getMem());
+
+		// Task does not fit, but the host is idle: It can run (a task can always run eventually)
+		TaskPlacement taskPlacement = new TaskPlacementFirstFit();
+		Task big = newTask("big", 4, 0);
+		Assert.assertEquals(host, taskPlacement.select(big, system));
+
+		// One task using 2 cpus and 4G: other processes use 4 cpus and 8G
+		Task task = newTask("task", 2, 0);
+		task.getResources().setMem(4L * 1024 * 1024 * 1024);
+		host.add(task);
+		Assert.assertEquals(2, host.getResourcesAvaialble().getCpus());
+		Assert.assertEquals(4L * 1024 * 1024 * 1024, host.getResourcesAvaialble().getMem());
+
+		// Host is no longer idle: Task has to wait
+		Assert.assertNull(taskPlacement.select(big, system));
+	}
+
+	/**
+	 * CPU pinning: Tasks are assigned CPUs within a single NUMA node when possible
+	 */
+	@Test
+	public void test07_cpuAllocator() {
+		Gpr.debug("Test");
+		Assert.assertEquals("[0, 1, 2, 3, 8, 10, 11]", CpuTopology.parseCpuList("0-3,8,10-11\n").toString());
+		Assert.assertEquals("0-3,8,10-11", CpuTopology.toCpuList(CpuTopology.parseCpuList("8,0-3,11,10")));
+
+		// Two NUMA nodes, 4 CPUs each
+		CpuTopology topology = new CpuTopology();
+		topology.add(CpuTopology.parseCpuList("0-3"));
+		topology.add(CpuTopology.parseCpuList("4-7"));
+		CpuAllocator allocator = new CpuAllocator(topology);
+
+		// Tasks fit in a single node
+		Assert.assertEquals("0-2", CpuTopology.toCpuList(allocator.allocate("t1", 3)));
+		Assert.assertEquals("4-6", CpuTopology.toCpuList(allocator.allocate("t2", 3)));
+		Assert.assertEquals("3", CpuTopology.toCpuList(allocator.allocate("t3", 1)));
+
+		// Task does not fit in a single node
+		allocator.release("t1");
+		Assert.assertEquals("0-2,7", CpuTopology.toCpuList(allocator.allocate("t4", 4)));
+		Assert.assertNull(allocator.allocate("t5", 1));
+
+		// Release all
+		allocator.release("t2");
+		allocator.release("t3");
+		allocator.release("t4");
+		Assert.assertEquals(8, allocator.getFree());
+	}
+
+	/**
+	 * Task cache: Restore task results having the same program and inputs
+	 */
+	@Test
+	public void test08_taskCache() throws IOException {
+		Gpr.debug("Test");
+		Path tmpDir = Files.createTempDirectory("bds_test08_taskCache");
+		String dir = tmpDir.toString();
+		String in = dir + "/in.txt";
+		String out = dir + "/out.txt";
+		Gpr.toFile(in, "hello");
+
+		TaskCache cache = new TaskCache(dir + "/cache", 0);
+
+		// Not in the cache: Run task (i.e. create output) and store it
+		Task task = newTaskCache("t1", in, out);
+		Assert.assertFalse(cache.restore(task));
+		Assert.assertNotNull(task.getCacheKey());
+		Gpr.toFile(out, "HELLO");
+		Assert.assertTrue(cache.put(task));
+
+		// Same program and inputs: Output is restored
+		Gpr.toFile(out, "");
+		task = newTaskCache("t2", in, out);
+		Assert.assertTrue(cache.restore(task));
+		Assert.assertEquals("HELLO", Gpr.readFile(out));
+
+		// Input changed: Not in the cache
+		Gpr.toFile(in, "bye");
+		task = newTaskCache("t3", in, out);
+		Assert.assertFalse(cache.restore(task));
+
+		// Missing input: Cannot be cached
+		task = newTaskCache("t4", dir + "/no_such_file.txt", out);
+		Assert.assertFalse(cache.restore(task));
+		Assert.assertNull(task.getCacheKey());
+
+		// Cleanup
+		try (Stream<Path> paths = Files.walk(tmpDir)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	/**
+	 * Mesos offers: Tasks are packed into offers (larger tasks first), several tasks per offer
+	 */
+	@Test
+	public void test09_mesosOfferMatcher() {
+		Gpr.debug("Test");
+		Config config = new Config();
+		config.load();
+		config.set(ExecutionerMesos.MESOS_OFFER_HOLD_TIME_PROPERTY_NAME, "0");
+		ExecutionerMesos executioner = new ExecutionerMesos(config);
+		ExecutorInfo executorInfo = ExecutorInfo.newBuilder() //
+				.setExecutorId(ExecutorID.newBuilder().setValue("test")) //
+				.setCommand(CommandInfo.newBuilder().setValue("bds")) //
+				.build();
+		BdsMesosScheduler scheduler = new BdsMesosScheduler(executioner, executorInfo);
+		SchedulerDriverLocal driver = new SchedulerDriverLocal();
+
+		// Tasks arrive before offers
+		for (int i = 0; i < 4; i++)
+			scheduler.add(newTask("small" + i, 1, 0));
+		scheduler.add(newTask("big", 6, 0));
+
+		List<Offer> offers = new ArrayList<>();
+		offers.add(SchedulerDriverLocal.offer("o1", "s1", "host1", 8, 16 * 1024));
+		offers.add(SchedulerDriverLocal.offer("o2", "s2", "host2", 2, 4 * 1024));
+		scheduler.resourceOffers(driver, offers);
+
+		// All tasks launched, one 'launchTasks' per slave
+		Assert.assertEquals(5, driver.getTasksLaunched());
+		Assert.assertEquals(2, driver.getLaunches().size());
+		Assert.assertEquals(3, driver.getLaunches().get(0).size()); // Task 'big' and two small tasks
+		Assert.assertEquals(2, driver.getLaunches().get(1).size());
+		Assert.assertTrue(driver.getDeclined().isEmpty());
+
+		// No more tasks: Offers are declined when the hold time expires
+		offers.clear();
+		offers.add(SchedulerDriverLocal.offer("o3", "s1", "host1", 8, 16 * 1024));
+		scheduler.resourceOffers(driver, offers);
+		Assert.assertEquals("[o3]", driver.getDeclined().toString());
+
+		// Offers are held, so that tasks can accumulate
+		OfferMatcher matcher = new OfferMatcher(1000);
+		matcher.add(SchedulerDriverLocal.offer("o4", "s1", "host1", 4, 8 * 1024), 0);
+		matcher.add(newTask("t1", 1, 0), 100);
+		Assert.assertTrue(matcher.match(500).isEmpty());
+		Assert.assertTrue(matcher.expired(500).isEmpty());
+		matcher.add(newTask("t2", 2, 0), 600);
+		matcher.add(newTask("t3", 2, 0), 700);
+		List<Match> matches = matcher.match(1000);
+		Assert.assertEquals(1, matches.size());
+		Assert.assertEquals("[t2, t3]", matches.get(0).getTasks().stream().map(t -> t.getId()).collect(Collectors.toList()).toString());
+		Assert.assertEquals(0, matcher.getOffersSize());
+		Assert.assertEquals(1, matcher.getTasksSize()); // Task 't1' does not fit, it waits for the next offer
+	}
+
+	/**
+	 * Cluster submissions: Concurrent submissions, adapt concurrency on failure
+	 */
+	@Test
+	public void test10_clusterSubmitter() throws InterruptedException {
+		Gpr.debug("Test");
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		ClusterSubmitter submitter = new ClusterSubmitter(4, 1000);
+
+		// Fast submissions: Concurrency increases up to the maximum
+		for (int i = 0; i < 40; i++)
+			submitter.submit(newCmdSubmit("cmd_" + i, 20, false, running, maxRunning));
+		while (submitter.getCount() < 40)
+			Thread.sleep(10);
+
+		if (verbose) Gpr.debug(submitter);
+		Assert.assertEquals(0, submitter.getCountFailed());
+		Assert.assertEquals(4, submitter.getLimit());
+		Assert.assertTrue("Max concurrent submissions: " + maxRunning, maxRunning.get() > 1 && maxRunning.get() <= 4);
+		Assert.assertTrue(submitter.latencyPercentile(0.5) >= 20);
+		Assert.assertTrue(submitter.latencyPercentile(0.99) >= submitter.latencyPercentile(0.5));
+
+		// Failed submission: Concurrency is halved, next submission is delayed
+		submitter.submit(newCmdSubmit("cmd_fail", 0, true, running, maxRunning));
+		while (submitter.getCount() < 41)
+			Thread.sleep(10);
+		Assert.assertEquals(1, submitter.getCountFailed());
+		Assert.assertEquals(2, submitter.getLimit());
+
+		long start = System.currentTimeMillis();
+		submitter.submit(newCmdSubmit("cmd_after", 0, false, running, maxRunning));
+		Assert.assertTrue(System.currentTimeMillis() - start >= ClusterSubmitter.BACKOFF_MIN / 2);
+		submitter.shutdown();
+	}
+
+	/**
+	 * Mesos: Offers arriving while tasks are being killed must not deadlock.
+	 * Killing holds the executioner's lock and calls the scheduler, launching
+	 * must not hold the scheduler's lock while notifying the executioner
+	 */
+	@Test
+	public void test11_mesosLaunchWhileKilling() throws InterruptedException {
+		Gpr.debug("Test");
+		Config config = new Config();
+		config.load();
+		config.set(ExecutionerMesos.MESOS_OFFER_HOLD_TIME_PROPERTY_NAME, "0");
+		ExecutionerMesos executioner = new ExecutionerMesos(config);
+		ExecutorInfo executorInfo = ExecutorInfo.newBuilder() //
+				.setExecutorId(ExecutorID.newBuilder().setValue("test")) //
+				.setCommand(CommandInfo.newBuilder().setValue("bds")) //
+				.build();
+		BdsMesosScheduler scheduler = new BdsMesosScheduler(executioner, executorInfo);
+		SchedulerDriverLocal driver = new SchedulerDriverLocal();
+
+		Task task = newTask("t1", 1, 0);
+		Task taskKill = newTask("t2", 1, 0);
+		scheduler.add(task);
+		List<Offer> offers = new ArrayList<>();
+		offers.add(SchedulerDriverLocal.offer("o1", "s1", "host1", 1, 4 * 1024));
+
+		Thread offersThread = new Thread(() -> scheduler.resourceOffers(driver, offers));
+		Thread killThread = new Thread(() -> scheduler.remove(taskKill));
+		synchronized (executioner) {
+			// Offer is matched, launching waits for the executioner's lock ('taskStarted')
+			offersThread.start();
+			Thread.sleep(200);
+
+			// Kill a task while holding the executioner's lock (as in 'Executioner.killTask')
+			killThread.start();
+			killThread.join(2000);
+			Assert.assertFalse("Deadlock: Cannot remove task while offers are being launched", killThread.isAlive());
+		}
+
+		offersThread.join(2000);
+		Assert.assertFalse(offersThread.isAlive());
+		Assert.assertEquals(1, driver.getTasksLaunched());
+	}
+
+	/**
+	 * CPU topology: Only CPUs the process is allowed to run on are used (e.g. cgroups / taskset)
+	 */
+	@Test
+	public void test12_cpuTopologyAllowed() throws IOException {
+		Gpr.debug("Test");
+		Path tmpDir = Files.createTempDirectory("bds_test12_cpuTopology");
+		String dir = tmpDir.toString();
+		Gpr.toFile(dir + "/online", "0-7\n");
+		new File(dir + "/node/node0").mkdirs();
+		new File(dir + "/node/node1").mkdirs();
+		Gpr.toFile(dir + "/node/node0/cpulist", "0-3\n");
+		Gpr.toFile(dir + "/node/node1/cpulist", "4-7\n");
+
+		// Restricted to CPUs 2 to 5
+		Gpr.toFile(dir + "/status", "Name:\tjava\nCpus_allowed:\t3c\nCpus_allowed_list:\t2-5\nMems_allowed_list:\t0-1\n");
+		CpuTopology topology = CpuTopology.read(dir + "/online", dir + "/node", dir + "/status");
+		Assert.assertEquals("node0: 2-3, node1: 4-5", topology.toString());
+		Assert.assertEquals(4, topology.getCpusCount());
+
+		// Restricted to a single node
+		Gpr.toFile(dir + "/status", "Cpus_allowed_list:\t5,7\n");
+		topology = CpuTopology.read(dir + "/online", dir + "/node", dir + "/status");
+		Assert.assertEquals("node0: 5,7", topology.toString());
+
+		// Not available: All online CPUs
+		Assert.assertNull(CpuTopology.parseCpusAllowed("Name:\tjava\n"));
+		topology = CpuTopology.read(dir + "/online", dir + "/node", dir + "/no_such_file");
+		Assert.assertEquals("node0: 0-3, node1: 4-7", topology.toString());
+
+		// Cleanup
+		try (Stream<Path> paths = Files.walk(tmpDir)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	/**
+	 * A command that simulates a cluster submission
+	 */
+	Cmd newCmdSubmit(String id, long latency, boolean fail, AtomicInteger running, AtomicInteger maxRunning) {
+		return new Cmd(id, new String[] { "qsub" }) {
+			@Override
+			protected void execCmd() throws Exception {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				Thread.sleep(latency);
+				running.decrementAndGet();
+				exitValue = fail ? 1 : 0;
+			}
+
+			@Override
+			protected boolean execPrepare() {
+				return true;
+			}
+
+			@Override
+			protected void killCmd() {
+			}
+		};
+	}
+
+	Task newTask(String id, int cpus, int priority) {
+		TaskResources res = new TaskResources();
+		res.setCpus(cpus);
+		Task task = new Task(id);
+		task.setResources(res);
+		task.setPriority(priority);
+		return task;
+	}
+
+	Task newTaskCache(String id, String in, String out) {
+		Task task = new Task(id, null, null, "tr a-z A-Z < '" + in + "' > '" + out + "'");
+		TaskDependency taskDependency = new TaskDependency();
+		taskDependency.addInput(in);
+		taskDependency.addOutput(out);
+		task.setTaskDependency(taskDependency);
+		task.setResources(new TaskResources());
+		return task;
+	}
+
 }
@@ -2,15 +2,22 @@ package org.bds.test.unit;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bds.Config;
 import org.bds.data.Data;
+import org.bds.data.DataCache;
 import org.bds.data.DataFile;
 import org.bds.data.DataHttp;
 import org.bds.data.DataS3;
 import org.bds.run.BdsRun;
 import org.bds.test.TestCasesBase;
 import org.bds.util.Gpr;
+import org.bds.util.Timer;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -23,6 +30,47 @@ import org.junit.Test;
  */
 public class TestCasesRemote extends TestCasesBase {
 
+	/**
+	 * A remote file that does not require network access (used to test the data cache)
+	 */
+	static class DataRemoteFake extends DataHttp {
+
+		private static final long serialVersionUID = 1L;
+
+		String content;
+		long delay; // Simulate slow downloads (milliseconds)
+		AtomicInteger downloads;
+
+		DataRemoteFake(String url, String content, AtomicInteger downloads) {
+			super(url);
+			this.content = content;
+			this.downloads = downloads;
+		}
+
+		@Override
+		public boolean download(Data local) {
+			downloads.incrementAndGet();
+			try {
+				if (delay > 0) Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				return false;
+			}
+			Gpr.toFile(local.getAbsolutePath(), content);
+			return true;
+		}
+
+		@Override
+		protected boolean updateInfo() {
+			latestUpdate = new Timer(CACHE_TIMEOUT);
+			canRead = true;
+			exists = true;
+			isDir = false;
+			lastModified = new Date(1000000000000L);
+			size = content.length();
+			return true;
+		}
+	}
+
 	@Before
 	public void beforeEachTest() {
 		BdsRun.reset();
@@ -30,6 +78,13 @@ public class TestCasesRemote extends TestCasesBase {
 		Config.get().load();
 	}
 
+	void deleteDir(File dir) {
+		File files[] = dir.listFiles();
+		if (files != null) for (File f : files)
+			deleteDir(f);
+		dir.delete();
+	}
+
 	String getCurrPath() {
 		try {
 			return (new File(".")).getCanonicalPath();
@@ -394,4 +449,105 @@ public class TestCasesRemote extends TestCasesBase {
 		Assert.assertFalse(dpath.isDirectory());
 	}
 
+	/**
+	 * Data cache: Download once, then serve from cache using a hard link
+	 */
+	@Test
+	public void test110_data_cache_hit() throws Exception {
+		Gpr.debug("Test");
+		File dir = Files.createTempDirectory("bds_test_cache").toFile();
+		DataCache cache = new DataCache(dir.getPath() + "/cache", 0);
+		AtomicInteger downloads = new AtomicInteger();
+		DataRemoteFake remote = new DataRemoteFake("http://fake.example.com/data/file_110.txt", "Hello cache", downloads);
+
+		Data local1 = Data.factory(dir.getPath() + "/local1.txt");
+		Data local2 = Data.factory(dir.getPath() + "/local2.txt");
+		Assert.assertTrue(cache.download(remote, local1));
+		Assert.assertTrue(cache.download(remote, local2));
+
+		Assert.assertEquals(1, downloads.get());
+		Assert.assertEquals(1, cache.getMisses());
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals("Hello cache", Gpr.readFile(local1.getAbsolutePath()));
+		Assert.assertEquals("Hello cache", Gpr.readFile(local2.getAbsolutePath()));
+
+		// Local files have the remote file's modification time
+		Assert.assertEquals(remote.getLastModified().getTime(), new File(local2.getAbsolutePath()).lastModified());
+
+		deleteDir(dir);
+	}
+
+	/**
+	 * Data cache: Least recently used entries are evicted, lock files are removed with their entries
+	 */
+	@Test
+	public void test111_data_cache_eviction() throws Exception {
+		Gpr.debug("Test");
+		File dir = Files.createTempDirectory("bds_test_cache").toFile();
+		File cacheDir = new File(dir, "cache");
+		DataCache cache = new DataCache(cacheDir.getPath(), 25); // Room for two entries
+		AtomicInteger downloads = new AtomicInteger();
+
+		List<DataRemoteFake> remotes = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			remotes.add(new DataRemoteFake("http://fake.example.com/data/file_111_" + i + ".txt", "0123456789", downloads));
+			Assert.assertTrue(cache.download(remotes.get(i), Data.factory(dir.getPath() + "/local_" + i + ".txt")));
+			Thread.sleep(20); // Make sure access times are different
+		}
+
+		Assert.assertEquals(4, downloads.get());
+		Assert.assertEquals(2, cache.getEvictions());
+
+		// Only the two most recent entries (and their lock files) are left
+		int dataFiles = 0, lockFiles = 0;
+		for (File shard : cacheDir.listFiles())
+			for (File entry : shard.listFiles()) {
+				if (new File(entry, DataCache.DATA_FILE).exists()) dataFiles++;
+				if (new File(entry, DataCache.LOCK_FILE).exists()) lockFiles++;
+			}
+		Assert.assertEquals(2, dataFiles);
+		Assert.assertEquals(2, lockFiles);
+
+		// Most recent entry is a hit, the oldest one is downloaded again
+		Assert.assertTrue(cache.download(remotes.get(3), Data.factory(dir.getPath() + "/local_3b.txt")));
+		Assert.assertEquals(4, downloads.get());
+		Assert.assertTrue(cache.download(remotes.get(0), Data.factory(dir.getPath() + "/local_0b.txt")));
+		Assert.assertEquals(5, downloads.get());
+
+		deleteDir(dir);
+	}
+
+	/**
+	 * Data cache: Several threads requesting the same entry only download it once
+	 */
+	@Test
+	public void test112_data_cache_concurrent() throws Exception {
+		Gpr.debug("Test");
+		File dir = Files.createTempDirectory("bds_test_cache").toFile();
+		DataCache cache = new DataCache(dir.getPath() + "/cache", 0);
+		AtomicInteger downloads = new AtomicInteger();
+		AtomicInteger ok = new AtomicInteger();
+
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			DataRemoteFake remote = new DataRemoteFake("http://fake.example.com/data/file_112.txt", "Concurrent", downloads);
+			remote.delay = 200;
+			Data local = Data.factory(dir.getPath() + "/local_" + i + ".txt");
+			Thread t = new Thread(() -> {
+				if (cache.download(remote, local) && Gpr.readFile(local.getAbsolutePath()).equals("Concurrent")) ok.incrementAndGet();
+			});
+			threads.add(t);
+			t.start();
+		}
+		for (Thread t : threads)
+			t.join();
+
+		Assert.assertEquals(1, downloads.get());
+		Assert.assertEquals(8, ok.get());
+		Assert.assertEquals(1, cache.getMisses());
+		Assert.assertEquals(7, cache.getHits());
+
+		deleteDir(dir);
+	}
+
 }
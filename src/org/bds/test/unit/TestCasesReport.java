@@ -1,5 +1,9 @@
 package org.bds.test.unit;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bds.report.ReportSpool;
 import org.bds.test.TestCasesBase;
 import org.bds.util.Gpr;
 import org.junit.Test;
@@ -22,4 +26,41 @@ public class TestCasesReport extends TestCasesBase {
 		Assert.assertTrue("Yaml report doesn't have the expected 'tasksFailed' entry", report.indexOf("tasksFailed: 0") > 0);
 	}
 
+	/**
+	 * Spooled task values are read back only if the signature matches
+	 */
+	@Test
+	public void test02_reportSpool() {
+		Gpr.debug("Test");
+		ReportSpool spool = new ReportSpool(null);
+
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("taskId", "task_1");
+		values.put("taskStdout", "line 1\nline 2 \u00e9\n");
+		values.put("taskEmpty", "");
+		spool.put("task_1", "FINISHED:0:0", values);
+
+		values.put("taskId", "task_2");
+		spool.put("task_2", "ERROR:1:1", values);
+
+		Assert.assertEquals(2, spool.size());
+		Map<String, String> v1 = spool.get("task_1", "FINISHED:0:0");
+		Assert.assertEquals("task_1", v1.get("taskId"));
+		Assert.assertEquals("line 1\nline 2 \u00e9\n", v1.get("taskStdout"));
+		Assert.assertEquals("", v1.get("taskEmpty"));
+		Assert.assertEquals("task_2", spool.get("task_2", "ERROR:1:1").get("taskId"));
+
+		// Signature changed (e.g. task re-tried)
+		Assert.assertNull(spool.get("task_2", "FINISHED:2:0"));
+		Assert.assertNull(spool.get("task_3", "FINISHED:0:0"));
+
+		// Replace entry
+		values.put("taskId", "task_2_retry");
+		spool.put("task_2", "FINISHED:2:0", values);
+		Assert.assertEquals("task_2_retry", spool.get("task_2", "FINISHED:2:0").get("taskId"));
+
+		spool.close();
+		Assert.assertFalse(spool.getFile().exists());
+	}
+
 }
@@ -1,10 +1,17 @@
 package org.bds.test.unit;
 
+import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.bds.Config;
+import org.bds.run.BdsThread;
+import org.bds.run.BdsThreads;
 import org.bds.test.TestCasesBase;
 import org.bds.util.Gpr;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -499,4 +506,171 @@ public class TestCasesRun3 extends TestCasesBase {
 		runAndCheck("test/run_257.bds", "r", "0");
 	}
 
+	@Test
+	public void test258_primitive_lists() {
+		Gpr.debug("Test");
+		HashMap<String, Object> expectedValues = new HashMap<>();
+		expectedValues.put("sum", 5000050000L);
+		expectedValues.put("rsize", 5);
+		expectedValues.put("rhas", true);
+		expectedValues.put("rhasNot", false);
+		expectedValues.put("ridx", 2);
+		expectedValues.put("rjoin", "0,5,10,15,20");
+		expectedValues.put("rsorted", "-1,0,5,10,15,20,99");
+		expectedValues.put("lijoin", "5,3,9,1,0,0,7");
+		expectedValues.put("lisort", "0,0,1,3,5,7,9");
+		expectedValues.put("lirev", "7,0,0,1,9,3,5");
+		expectedValues.put("lipop", 7);
+		expectedValues.put("liidx", 2);
+		expectedValues.put("licount", 2);
+		expectedValues.put("lrjoin", "0.0,0.25,0.5,0.75,1.0");
+		expectedValues.put("lrsort", "-1.0,2.25,3.5");
+		expectedValues.put("lrhas", true);
+		expectedValues.put("lbsort", "false,false,true,true");
+		expectedValues.put("lbidx", 1);
+		runAndCheck("test/run_258.bds", expectedValues);
+	}
+
+	@Test
+	public void test259_rmOnExit_many() {
+		Gpr.debug("Test");
+		String dir = "tmp_run_259";
+		runAndCheck("test/run_259.bds", "nfiles", 100L);
+
+		// All files should have been deleted on exit
+		for (int i = 0; i < 100; i++)
+			Assert.assertFalse("File " + i + " not deleted", new File(dir + "/file_" + i + ".txt").exists());
+		new File(dir).delete();
+	}
+
+	@Test
+	public void test260_set() {
+		Gpr.debug("Test");
+		HashMap<String, Object> expectedValues = new HashMap<>();
+		expectedValues.put("ssize", 4L);
+		expectedValues.put("sstr", "{a, b, c, d}");
+		expectedValues.put("union", "a,b,c,d,x");
+		expectedValues.put("inter", "b,c");
+		expectedValues.put("diff", "a,d");
+		expectedValues.put("has", true);
+		expectedValues.put("hasNot", false);
+		expectedValues.put("removed", true);
+		expectedValues.put("removedNot", false);
+		expectedValues.put("iter", "bcd");
+		expectedValues.put("lsize", 2L);
+		expectedValues.put("isEmpty", true);
+		runAndCheck("test/run_260.bds", expectedValues);
+	}
+
+	@Test
+	public void test261_map_range() {
+		Gpr.debug("Test");
+		HashMap<String, Object> expectedValues = new HashMap<>();
+		expectedValues.put("first", 0L);
+		expectedValues.put("last", 57L);
+		expectedValues.put("sub", "12,15,18");
+		expectedValues.put("head", "0,3");
+		expectedValues.put("tail", "54,57");
+		expectedValues.put("subEmpty", 0L);
+		expectedValues.put("firstKey", -1L);
+		expectedValues.put("secondKey", 3L);
+		expectedValues.put("mshead", "a,b");
+		runAndCheck("test/run_261.bds", expectedValues);
+	}
+
+	@Test
+	public void test262_include_parallel() {
+		Gpr.debug("Test");
+		HashMap<String, Object> expectedValues = new HashMap<>();
+		expectedValues.put("a", 9L);
+		expectedValues.put("b", 10L);
+		expectedValues.put("c", 6L);
+		runAndCheck("test/run_262.bds", expectedValues);
+	}
+
+	@Test
+	public void test263_local_file_copy() {
+		Gpr.debug("Test");
+		HashMap<String, Object> expectedValues = new HashMap<>();
+		expectedValues.put("lines", 1000L);
+		expectedValues.put("okDown", true);
+		expectedValues.put("okUp", true);
+		expectedValues.put("same", true);
+		runAndCheck("test/run_263.bds", expectedValues);
+	}
+
+	@Test
+	public void test264_concurrent_modification_set() {
+		Gpr.debug("Test");
+		runAndCheckException("test/run_264.bds", "ConcurrentModificationException");
+	}
+
+	@Test
+	public void test265_concurrent_modification_nested() {
+		Gpr.debug("Test");
+		HashMap<String, Object> expectedValues = new HashMap<>();
+		expectedValues.put("sum", 30L);
+		expectedValues.put("count", 5L);
+		expectedValues.put("listChanged", true);
+		runAndCheck("test/run_265.bds", expectedValues);
+	}
+
+	@Test
+	public void test266_set_unknown_type() {
+		Gpr.debug("Test");
+		compileErrors("test/run_266.bds", "Unknown type 'list<string>'");
+	}
+
+	/**
+	 * BdsThreads registry: The current BdsThread is tracked per (Java) thread and
+	 * removed when it finishes, so a pooled thread does not keep a stale reference
+	 */
+	@Test
+	public void test267_bds_threads() throws Exception {
+		Gpr.debug("Test");
+		BdsThreads.reset();
+		BdsThreads bdsThreads = BdsThreads.getInstance();
+		Config config = new Config();
+		BdsThread root = new BdsThread(null, config, null);
+		BdsThread other = new BdsThread(null, config, null);
+
+		bdsThreads.add(root);
+		Assert.assertEquals(root, bdsThreads.get());
+		Assert.assertEquals(root, bdsThreads.getRoot());
+
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			// Another BdsThread running on a pooled thread
+			BdsThread[] current = new BdsThread[4];
+			pool.submit(() -> {
+				current[0] = bdsThreads.get();
+				bdsThreads.add(other);
+				current[1] = bdsThreads.get();
+				bdsThreads.remove();
+			}).get();
+
+			// Same pooled thread, after 'other' finished
+			pool.submit(() -> {
+				current[2] = bdsThreads.get();
+				current[3] = bdsThreads.getOrRoot();
+			}).get();
+
+			Assert.assertNull(current[0]);
+			Assert.assertEquals(other, current[1]);
+			Assert.assertNull(current[2]);
+			Assert.assertEquals(root, current[3]);
+			Assert.assertEquals(root, bdsThreads.get()); // Not affected by other threads
+			Assert.assertEquals(root, bdsThreads.getRoot());
+		} finally {
+			pool.shutdown();
+		}
+
+		// Remove root: Nothing left in the registry
+		bdsThreads.remove();
+		Assert.assertNull(bdsThreads.get());
+		Assert.assertEquals(root, bdsThreads.getOrRoot());
+		Assert.assertEquals("", bdsThreads.toString());
+		BdsThreads.reset();
+	}
+
 }
@@ -1,8 +1,23 @@
 package org.bds.test.unit;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+
 import junit.framework.Assert;
 
+import org.bds.task.Tail;
 import org.bds.task.TailFile;
+import org.bds.task.TaskOutput;
+import org.bds.task.TaskOutputStream;
 import org.bds.test.TestCasesBase;
 import org.junit.Test;
 
@@ -57,4 +72,274 @@ public class TestCasesTail extends TestCasesBase {
 		Assert.assertEquals("line 11\nline 12\nline 13\nline 14\nline 15\nline 16\nline 17\nline 18\nline 19\nline 20\n", tail);
 	}
 
+	/**
+	 * Follow a growing file
+	 */
+	@Test
+	public void test07_follow() throws Exception {
+		File file = File.createTempFile("bds_tail_07", ".txt");
+		file.deleteOnExit();
+
+		PrintStream stdout = System.out;
+		ByteArrayOutputStream captured = new ByteArrayOutputStream();
+		Tail tail = new Tail();
+		try {
+			System.setOut(new PrintStream(captured, true));
+			tail.start();
+			tail.add(file.getAbsolutePath(), false);
+
+			// Append lines, make sure they are shown
+			try (FileOutputStream fos = new FileOutputStream(file, true)) {
+				for (int i = 0; i < 3; i++) {
+					String line = "line " + i + "\n";
+					fos.write(line.getBytes());
+					fos.flush();
+
+					for (int j = 0; j < 50 && !captured.toString().contains(line); j++)
+						Thread.sleep(100);
+					Assert.assertTrue("Line not found: " + line, captured.toString().contains(line));
+				}
+			}
+		} finally {
+			tail.kill();
+			System.setOut(stdout);
+		}
+		Assert.assertEquals("line 0\nline 1\nline 2\n", captured.toString());
+	}
+
+	/**
+	 * Task output split into segments
+	 */
+	@Test
+	public void test08_taskOutputSegments() throws IOException {
+		checkTaskOutputSegments(false);
+	}
+
+	/**
+	 * Task output split into compressed segments
+	 */
+	@Test
+	public void test09_taskOutputSegmentsCompressed() throws IOException {
+		checkTaskOutputSegments(true);
+	}
+
+	/**
+	 * Follow a file after a checkpoint is restored (Tail is serialized as part of 'Config')
+	 */
+	@Test
+	public void test10_checkpoint() throws Exception {
+		File file = File.createTempFile("bds_tail_10", ".txt");
+		file.deleteOnExit();
+
+		PrintStream stdout = System.out;
+		ByteArrayOutputStream captured = new ByteArrayOutputStream();
+		Tail tail = new Tail();
+		Tail restored = null;
+		try {
+			System.setOut(new PrintStream(captured, true));
+			tail.start();
+			tail.add(file.getAbsolutePath(), false);
+			appendAndWait(file, "before\n", captured);
+
+			// Checkpoint and restore
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+				oos.writeObject(tail);
+			}
+			tail.kill();
+			try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				restored = (Tail) ois.readObject();
+			}
+
+			// Restored 'tail' continues from the latest position
+			restored.start();
+			appendAndWait(file, "after\n", captured);
+
+			// Add and remove files
+			File file2 = File.createTempFile("bds_tail_10", ".txt");
+			file2.deleteOnExit();
+			restored.add(file2.getAbsolutePath(), false);
+			appendAndWait(file2, "other\n", captured);
+			restored.remove(file2.getAbsolutePath());
+		} finally {
+			tail.kill();
+			if (restored != null) restored.kill();
+			System.setOut(stdout);
+		}
+		Assert.assertEquals("before\nafter\nother\n", captured.toString());
+	}
+
+	/**
+	 * Follow a task output file across rotations
+	 */
+	@Test
+	public void test11_followRotation() throws Exception {
+		checkFollowRotation(false);
+	}
+
+	/**
+	 * Follow a task output file across rotations (compressed segments)
+	 */
+	@Test
+	public void test12_followRotationCompressed() throws Exception {
+		checkFollowRotation(true);
+	}
+
+	/**
+	 * Segment deleted while reading (e.g. by a running task): Output is shown as truncated
+	 */
+	@Test
+	public void test13_taskOutputSegmentDeleted() throws IOException {
+		File dir = Files.createTempDirectory("bds_tail_segments").toFile();
+		String fileName = new File(dir, "task.stdout").getPath();
+
+		// Write 30 lines (270 bytes), limit is 800 bytes (segments of 100 bytes): No segments deleted
+		StringBuilder full = new StringBuilder();
+		try (TaskOutputStream out = new TaskOutputStream(fileName, 800, false)) {
+			for (int i = 0; i < 30; i++) {
+				String line = String.format("line %03d\n", i);
+				full.append(line);
+				out.write(line.getBytes());
+			}
+		}
+		Assert.assertEquals(full.toString(), TaskOutput.read(fileName));
+
+		// Delete segment 2 after opening (segments are opened lazily)
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream is = TaskOutput.open(fileName)) {
+			TaskOutput.segment(fileName, 2, false).delete();
+			byte buf[] = new byte[1024];
+			for (int len; (len = is.read(buf)) >= 0;)
+				out.write(buf, 0, len);
+		}
+		Assert.assertEquals(full.substring(0, 100) + TaskOutput.TRUNCATED + full.substring(200), out.toString());
+
+		for (File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+
+	/**
+	 * Task is re-executed (e.g. retry or checkpoint recovery): Output files
+	 * have the same names, segments from the previous run must be removed
+	 */
+	@Test
+	public void test14_taskOutputRerun() throws IOException {
+		File dir = Files.createTempDirectory("bds_tail_segments").toFile();
+		String fileName = new File(dir, "task.stdout").getPath();
+
+		for (boolean compress : new boolean[] { false, true }) {
+			for (long maxSize : new long[] { 800, 0 }) {
+				// First run: Output is split into segments
+				try (OutputStream out = TaskOutputStream.factory(fileName, 800, compress)) {
+					for (int i = 0; i < 1000; i++)
+						out.write(String.format("line %03d\n", i).getBytes());
+				}
+				Assert.assertTrue(TaskOutput.isSegmented(fileName));
+
+				// Re-run: Short output, only the new output is read
+				try (OutputStream out = TaskOutputStream.factory(fileName, maxSize, compress)) {
+					out.write("rerun\n".getBytes());
+				}
+				Assert.assertFalse(TaskOutput.isSegmented(fileName));
+				Assert.assertEquals("rerun\n", TaskOutput.read(fileName));
+				Assert.assertEquals("rerun\n", TaskOutput.tail(fileName, 10));
+				Assert.assertEquals(1, dir.listFiles().length);
+			}
+		}
+
+		for (File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+
+	/**
+	 * Append a line to a file and wait until 'tail' shows it
+	 */
+	void appendAndWait(File file, String line, ByteArrayOutputStream captured) throws Exception {
+		try (FileOutputStream fos = new FileOutputStream(file, true)) {
+			fos.write(line.getBytes());
+		}
+		for (int j = 0; j < 50 && !captured.toString().contains(line); j++)
+			Thread.sleep(100);
+		Assert.assertTrue("Line not found: " + line, captured.toString().contains(line));
+	}
+
+	void checkFollowRotation(boolean compress) throws Exception {
+		File dir = Files.createTempDirectory("bds_tail_rotation").toFile();
+		String fileName = new File(dir, "task.stdout").getPath();
+
+		PrintStream stdout = System.out;
+		ByteArrayOutputStream captured = new ByteArrayOutputStream();
+		StringBuilder full = new StringBuilder();
+		Tail tail = new Tail();
+		try (TaskOutputStream out = new TaskOutputStream(fileName, 800, compress)) {
+			System.setOut(new PrintStream(captured, true));
+			tail.start();
+			tail.add(fileName, false);
+
+			// Write 30 lines (segments of 100 bytes, so the file is rotated several times)
+			// Lines are split between segments when the file is rotated
+			for (int i = 0; i < 30; i++) {
+				String line = String.format("line %03d\n", i);
+				full.append(line);
+				out.write(line.getBytes());
+				out.flush();
+
+				for (int j = 0; j < 50 && !captured.toString().contains(line); j++)
+					Thread.sleep(100);
+				Assert.assertTrue("Line not found: " + line, captured.toString().contains(line));
+			}
+		} finally {
+			tail.kill();
+			System.setOut(stdout);
+		}
+		Assert.assertTrue(TaskOutput.isSegmented(fileName));
+		Assert.assertEquals(full.toString(), captured.toString());
+
+		for (File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+
+	void checkTaskOutputSegments(boolean compress) throws IOException {
+		File dir = Files.createTempDirectory("bds_tail_segments").toFile();
+		String fileName = new File(dir, "task.stdout").getPath();
+
+		// Write 1000 lines (9000 bytes), limit is 800 bytes (segments of 100 bytes)
+		StringBuilder full = new StringBuilder();
+		try (TaskOutputStream out = new TaskOutputStream(fileName, 800, compress)) {
+			for (int i = 0; i < 1000; i++) {
+				String line = String.format("line %03d\n", i);
+				full.append(line);
+				out.write(line.getBytes());
+			}
+		}
+
+		// Check segments
+		Assert.assertTrue(TaskOutput.isSegmented(fileName));
+		Assert.assertTrue(TaskOutput.segment(fileName, 1, compress).exists());
+		Assert.assertFalse(TaskOutput.segment(fileName, 2, compress).exists());
+		long size = new File(fileName).length();
+		for (File segment : TaskOutput.segments(fileName).values())
+			size += segment.length();
+		if (!compress) Assert.assertTrue("Output size " + size + " exceeds limit", size <= 800);
+
+		// Read: Beginning of the output, a 'truncated' mark and the end of the output
+		String head = full.substring(0, 100) + TaskOutput.TRUNCATED;
+		String out = TaskOutput.read(fileName);
+		if (debug) System.err.println(out);
+		Assert.assertTrue(out.startsWith(head));
+		Assert.assertTrue(full.toString().endsWith(out.substring(head.length())));
+
+		// Tail
+		Assert.assertEquals("line 997\nline 998\nline 999\n", TaskOutput.tail(fileName, 3));
+		Assert.assertEquals(TailFile.lastLines(full.toString(), 20), TaskOutput.tail(fileName, 20)); // Read more than one segment
+		Assert.assertEquals(out, TaskOutput.tail(fileName, -1));
+
+		for (File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+
 }
@@ -0,0 +1,179 @@
+package org.bds.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Files and directories to delete when the program exits.
+ *
+ * This replaces 'File.deleteOnExit()' for temporary task files: The JVM
+ * keeps one entry per file (five per task) and deletes them one by one
+ * on exit, which is too slow for runs having millions of tasks.
+ *
+ * Here, task files that follow the default naming ('base.sh', 'base.stdout',
+ * 'base.stderr', 'base.exitCode') are stored as a single 'base' entry.
+ * On exit, files are deleted in parallel and then directories are deleted
+ * (deepest first, only if they are empty).
+ *
+ * Task STDOUT / STDERR files can be split into segments (see TaskOutput),
+ * in that case segments are found by listing each directory once.
+ *
+ * @author pcingola
+ */
+public class DeleteOnExit {
+
+	public static final String[] TASK_FILE_EXTENSIONS = { ".sh", ".stdout", ".stderr", ".exitCode" };
+	public static final Pattern TASK_OUTPUT_SEGMENT = Pattern.compile("(.*)\\.(stdout|stderr)\\.\\d+(\\.gz)?"); // Task output segments, e.g. 'base.stdout.1.gz'
+
+	private static DeleteOnExit deleteOnExit;
+
+	Set<String> dirs; // Directories to delete (only if empty)
+	Set<String> files; // Files to delete
+	Set<String> taskBases; // Task files base names (expanded using TASK_FILE_EXTENSIONS)
+	boolean taskOutputSegments; // Task STDOUT / STDERR files may be split into segments
+
+	/**
+	 * Get singleton (register a shutdown hook the first time)
+	 */
+	public static synchronized DeleteOnExit get() {
+		if (deleteOnExit == null) {
+			deleteOnExit = new DeleteOnExit();
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteOnExit.delete(), "DeleteOnExit"));
+		}
+		return deleteOnExit;
+	}
+
+	DeleteOnExit() {
+		dirs = new HashSet<>();
+		files = new LinkedHashSet<>();
+		taskBases = new HashSet<>();
+	}
+
+	/**
+	 * Add a file
+	 */
+	public synchronized void add(String file) {
+		if (file != null) files.add(file);
+	}
+
+	/**
+	 * Add a directory (it's deleted after all files, only if it is empty)
+	 */
+	public synchronized void addDir(String dir) {
+		if (dir != null) dirs.add(dir);
+	}
+
+	/**
+	 * Add a task's files.
+	 * Files named 'base + ext' (for each ext in TASK_FILE_EXTENSIONS) are only
+	 * stored as 'base', other files are added individually
+	 */
+	public synchronized void addTaskFiles(String base, String... fileNames) {
+		if (base != null) taskBases.add(base);
+		for (String fileName : fileNames)
+			if (fileName != null && !isTaskFile(base, fileName)) files.add(fileName);
+	}
+
+	/**
+	 * Delete all files and directories
+	 * @return Number of files and directories deleted
+	 */
+	public int delete() {
+		List<String> toDelete;
+		List<String> dirsToDelete;
+		synchronized (this) {
+			toDelete = new ArrayList<>(files.size() + TASK_FILE_EXTENSIONS.length * taskBases.size());
+			toDelete.addAll(files);
+			for (String base : taskBases)
+				for (String ext : TASK_FILE_EXTENSIONS)
+					toDelete.add(base + ext);
+			if (taskOutputSegments) toDelete.addAll(taskOutputSegments(taskBases));
+			dirsToDelete = new ArrayList<>(dirs);
+			files.clear();
+			taskBases.clear();
+			dirs.clear();
+		}
+
+		// Delete files in parallel
+		long count = toDelete.parallelStream().filter(f -> new File(f).delete()).count();
+
+		// Delete directories, deepest first (a directory can only be deleted if it is empty).
+		// Paths may be a mix of absolute and canonical paths, so we iterate while some directories are deleted
+		dirsToDelete.sort((d1, d2) -> depth(d2) - depth(d1));
+		for (boolean deleted = true; deleted && !dirsToDelete.isEmpty();) {
+			deleted = false;
+			for (int i = 0; i < dirsToDelete.size();) {
+				File dir = new File(dirsToDelete.get(i));
+				if (dir.delete()) {
+					count++;
+					deleted = true;
+					dirsToDelete.remove(i);
+				} else if (!dir.exists()) {
+					dirsToDelete.remove(i);
+				} else i++;
+			}
+		}
+
+		return (int) count;
+	}
+
+	int depth(String path) {
+		int depth = 0;
+		for (int i = 0; i < path.length(); i++)
+			if (path.charAt(i) == File.separatorChar) depth++;
+		return depth;
+	}
+
+	boolean isTaskFile(String base, String fileName) {
+		if (base == null || !fileName.startsWith(base)) return false;
+		for (String ext : TASK_FILE_EXTENSIONS)
+			if (fileName.length() == base.length() + ext.length() && fileName.endsWith(ext)) return true;
+		return false;
+	}
+
+	public synchronized void setTaskOutputSegments(boolean taskOutputSegments) {
+		this.taskOutputSegments = taskOutputSegments;
+	}
+
+	public synchronized int size() {
+		return dirs.size() + files.size() + TASK_FILE_EXTENSIONS.length * taskBases.size();
+	}
+
+	/**
+	 * Find segments of task output files (e.g. 'base.stdout.1.gz')
+	 * Each directory is listed only once
+	 */
+	List<String> taskOutputSegments(Collection<String> bases) {
+		Map<File, Set<String>> namesByDir = new HashMap<>();
+		for (String base : bases) {
+			File file = new File(base);
+			namesByDir.computeIfAbsent(file.getAbsoluteFile().getParentFile(), d -> new HashSet<>()).add(file.getName());
+		}
+
+		List<String> segments = new ArrayList<>();
+		for (Map.Entry<File, Set<String>> e : namesByDir.entrySet()) {
+			String names[] = e.getKey().list();
+			if (names == null) continue;
+			for (String name : names) {
+				Matcher m = TASK_OUTPUT_SEGMENT.matcher(name);
+				if (m.matches() && e.getValue().contains(m.group(1))) segments.add(new File(e.getKey(), name).getPath());
+			}
+		}
+		return segments;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "DeleteOnExit: files: " + files.size() + ", task files: " + taskBases.size() + ", dirs: " + dirs.size();
+	}
+
+}
@@ -1,5 +1,8 @@
 package org.bds.vm;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,7 +65,8 @@ public class BdsVm implements Serializable, BdsLog {
 	CallFrame[] callFrames; // Call Frame stack
 	int code[]; // Compile assembly code (OopCodes)
 	List<Object> constants;
-	Map<Integer, Integer> coverageCounter; // Count how many times a nodeId was traversed
+	transient int[] coverage; // Count how many times a nodeId was traversed (indexed by nodeId)
+	Map<Integer, Integer> coverageCounter; // Only used to serialize 'coverage' (same format as older checkpoints)
 	Map<Object, Integer> constantsByObject;
 	boolean debug;
 	ExceptionHandler exceptionHandler; // Current Exception handler (null if we are not in a 'try/catch' statement)
@@ -89,7 +93,7 @@ public class BdsVm implements Serializable, BdsLog {
 	public BdsVm() {
 		constants = new ArrayList<>();
 		constantsByObject = new HashMap<>();
-		coverageCounter = new HashMap<>();
+		coverage = new int[0];
 		labels = new HashMap<>();
 		labelsByPc = new AutoHashMap<>(new LinkedList<String>());
 		functionsBySignature = new HashMap<>();
@@ -530,8 +534,8 @@ public class BdsVm implements Serializable, BdsLog {
 		return constants.get(idx);
 	}
 
-	public Map<Integer, Integer> getCoverageCounter() {
-		return coverageCounter;
+	public int[] getCoverageCounter() {
+		return coverage;
 	}
 
 	public ValueClass getExceptionValue() {
@@ -852,6 +856,24 @@ public class BdsVm implements Serializable, BdsLog {
 		return superMethodDecl;
 	}
 
+	/**
+	 * Coverage counters are serialized as a map, so that checkpoints
+	 * from older versions can be restored
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		coverage = new int[0];
+		if (coverageCounter != null) {
+			for (Map.Entry<Integer, Integer> e : coverageCounter.entrySet()) {
+				int id = e.getKey();
+				if (id >= coverage.length) coverage = Arrays.copyOf(coverage, id + 1);
+				coverage[id] = e.getValue();
+			}
+		}
+		coverageCounter = null;
+	}
+
+
 	/**
 	 * Run the program in 'code'
 	 */
@@ -1313,7 +1335,8 @@ public class BdsVm implements Serializable, BdsLog {
 
 			case NODE_COVERAGE:
 				nodeId = paramInt();
-				coverageCounter.put(nodeId, coverageCounter.getOrDefault(nodeId, 0) + 1); // Increment node counter
+				if (nodeId >= coverage.length) coverage = Arrays.copyOf(coverage, Math.max(nodeId + 1, 2 * coverage.length));
+				coverage[nodeId]++; // Increment node counter
 				if (vmDebugger != null) vmDebugger.node();
 				break;
 
@@ -1657,6 +1680,20 @@ public class BdsVm implements Serializable, BdsLog {
 		}
 	}
 
+	/**
+	 * Node IDs in the call stack: callers first, current node last
+	 * Note: This is invoked from other threads (profiler), so it is
+	 *       only a 'best effort' snapshot
+	 */
+	public int[] stackNodeIds() {
+		int fp = Math.max(0, Math.min(this.fp, callFrames.length));
+		int[] nodeIds = new int[fp + 1];
+		for (int i = 0; i < fp; i++)
+			nodeIds[i] = callFrames[i].nodeId;
+		nodeIds[fp] = nodeId;
+		return nodeIds;
+	}
+
 	/**
 	 * Show stack trace
 	 */
@@ -1902,4 +1939,12 @@ public class BdsVm implements Serializable, BdsLog {
 		vmState.set(fp, nodeId, pc - 1, sp, scope);
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		coverageCounter = new HashMap<>();
+		for (int id = 0; id < coverage.length; id++)
+			if (coverage[id] > 0) coverageCounter.put(id, coverage[id]);
+		out.defaultWriteObject();
+		coverageCounter = null;
+	}
+
 }